@@ -0,0 +1,105 @@
+package com.cleanconfig.benchmarks;
+
+import com.cleanconfig.core.ConfigDiff;
+import com.cleanconfig.core.OverlayPropertyMap;
+import com.cleanconfig.core.PropertyMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ConfigDiff} on 100,000 properties of which 10 changed.
+ *
+ * <p>Compares diffing plain copies, property maps derived with {@code with}, and overlays over
+ * the same base with the equals-then-loop comparison it replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfigDiffBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int CHANGES = 10;
+
+    private Map<String, String> oldHashMap;
+    private Map<String, String> newHashMap;
+    private PropertyMap oldPropertyMap;
+    private PropertyMap newPropertyMap;
+    private OverlayPropertyMap oldOverlay;
+    private OverlayPropertyMap newOverlay;
+
+    @Setup
+    public void setup() {
+        PropertyMap.Builder builder = PropertyMap.builder(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            builder.put("service." + i + ".url", "https://service-" + i + ".internal");
+        }
+        oldPropertyMap = builder.build();
+
+        PropertyMap changed = oldPropertyMap;
+        Map<String, String> oldDefaults = new HashMap<>();
+        Map<String, String> newDefaults = new HashMap<>();
+        for (int i = 0; i < CHANGES; i++) {
+            String key = "service." + (i * (SIZE / CHANGES)) + ".url";
+            changed = changed.with(key, "https://replacement-" + i + ".internal");
+            oldDefaults.put("service." + i + ".timeout", "30s");
+            newDefaults.put("service." + i + ".timeout", i % 2 == 0 ? "30s" : "60s");
+        }
+        newPropertyMap = changed;
+
+        oldHashMap = new HashMap<>(oldPropertyMap);
+        newHashMap = new HashMap<>(newPropertyMap);
+        oldOverlay = OverlayPropertyMap.of(oldPropertyMap, oldDefaults);
+        newOverlay = OverlayPropertyMap.of(oldPropertyMap, newDefaults);
+    }
+
+    @Benchmark
+    public Set<String> equalsThenLoop() {
+        Set<String> changed = new HashSet<>();
+        if (oldHashMap.equals(newHashMap)) {
+            return changed;
+        }
+        for (Map.Entry<String, String> entry : newHashMap.entrySet()) {
+            if (!entry.getValue().equals(oldHashMap.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String key : oldHashMap.keySet()) {
+            if (!newHashMap.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+
+    @Benchmark
+    public ConfigDiff diffHashMaps() {
+        return ConfigDiff.between(oldHashMap, newHashMap);
+    }
+
+    @Benchmark
+    public ConfigDiff diffDerivedPropertyMaps() {
+        return ConfigDiff.between(oldPropertyMap, newPropertyMap);
+    }
+
+    @Benchmark
+    public ConfigDiff diffOverlaysOverSameBase() {
+        return ConfigDiff.between(oldOverlay, newOverlay);
+    }
+}
@@ -0,0 +1,98 @@
+package com.cleanconfig.benchmarks;
+
+import com.cleanconfig.core.ConditionalDefaultValue;
+import com.cleanconfig.core.ConfigSnapshot;
+import com.cleanconfig.core.DefaultValueApplier;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.PropertyRegistryBuilder;
+import com.cleanconfig.core.PropertyValidator;
+import com.cleanconfig.core.impl.CompiledDefaultValueApplier;
+import com.cleanconfig.core.impl.CompiledPropertyValidator;
+import com.cleanconfig.core.impl.ConfigPipeline;
+import com.cleanconfig.core.validation.Rules;
+import com.cleanconfig.core.validation.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing the fused {@link ConfigPipeline} with applying defaults, validating
+ * and snapshotting in three separate steps.
+ *
+ * <p>The registry has 1,000 properties: a third are durations, a third are strings and a
+ * third are integers, half of which have a computed default that reads a duration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfigPipelineBenchmark {
+
+    private static final int GROUPS = 333;
+
+    private PropertyRegistry registry;
+    private DefaultValueApplier applier;
+    private PropertyValidator validator;
+    private ConfigPipeline pipeline;
+    private Map<String, String> userProperties;
+
+    @Setup
+    public void setup() {
+        PropertyRegistryBuilder builder = PropertyRegistry.builder();
+        userProperties = new HashMap<>();
+        for (int i = 0; i < GROUPS; i++) {
+            String timeout = "service." + i + ".timeout";
+            builder.register(PropertyDefinition.builder(Duration.class).name(timeout).build());
+            builder.register(PropertyDefinition.builder(String.class)
+                    .name("service." + i + ".host")
+                    .validationRule(Rules.notBlank())
+                    .build());
+            builder.register(PropertyDefinition.builder(Integer.class)
+                    .name("service." + i + ".retries")
+                    .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                            ctx.getTypedProperty(timeout, Duration.class)
+                                    .map(duration -> (int) Math.max(1, duration.getSeconds() / 10))))
+                    .dependsOnForValidation(timeout)
+                    .validationRule(Rules.integerBetween(1, 100))
+                    .build());
+            userProperties.put(timeout, "PT" + (30 + i % 60) + "S");
+            userProperties.put("service." + i + ".host", "host-" + i + ".internal");
+            if (i % 2 == 0) {
+                userProperties.put("service." + i + ".retries", "3");
+            }
+        }
+        registry = builder.build();
+
+        applier = new CompiledDefaultValueApplier(registry);
+        validator = new CompiledPropertyValidator(registry);
+        pipeline = new ConfigPipeline(registry);
+    }
+
+    @Benchmark
+    public Optional<ConfigSnapshot> separateSteps() {
+        Map<String, String> properties = applier.applyDefaults(userProperties).getPropertiesWithDefaults();
+        ValidationResult result = validator.validate(properties);
+        return result.isValid() ? Optional.of(ConfigSnapshot.of(registry, properties)) : Optional.empty();
+    }
+
+    @Benchmark
+    public Optional<ConfigSnapshot> pipeline() {
+        return pipeline.process(userProperties).getSnapshot();
+    }
+}
@@ -0,0 +1,109 @@
+package com.cleanconfig.benchmarks;
+
+import com.cleanconfig.core.ConfigSnapshot;
+import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyKey;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.PropertyRegistryBuilder;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.impl.DefaultPropertyContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing reads of typed values from a {@link ConfigSnapshot} with converting
+ * them on every read through a {@link PropertyContext}, as request handlers do today.
+ *
+ * <p>Each invocation reads one int, one long, one boolean and one string property out of
+ * a registry of 200 properties. Snapshots are read by definition and by key.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConfigSnapshotBenchmark {
+
+    private static final int FILLER_PROPERTIES = 196;
+
+    private PropertyDefinition<Integer> port;
+    private PropertyDefinition<Long> timeout;
+    private PropertyDefinition<Boolean> enabled;
+    private PropertyDefinition<String> host;
+    private PropertyKey portKey;
+    private PropertyKey timeoutKey;
+    private PropertyKey enabledKey;
+    private PropertyKey hostKey;
+    private ConfigSnapshot snapshot;
+    private PropertyContext context;
+
+    @Setup
+    public void setup() {
+        port = PropertyDefinition.builder(Integer.class).name("server.port").build();
+        timeout = PropertyDefinition.builder(Long.class).name("server.timeout.ms").build();
+        enabled = PropertyDefinition.builder(Boolean.class).name("feature.enabled").build();
+        host = PropertyDefinition.builder(String.class).name("server.host").build();
+
+        PropertyRegistryBuilder builder = PropertyRegistry.builder()
+                .register(port)
+                .register(timeout)
+                .register(enabled)
+                .register(host);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.port", "8080");
+        properties.put("server.timeout.ms", "30000");
+        properties.put("feature.enabled", "true");
+        properties.put("server.host", "localhost");
+        for (int i = 0; i < FILLER_PROPERTIES; i++) {
+            builder.register(PropertyDefinition.builder(String.class).name("filler." + i).build());
+            properties.put("filler." + i, "value" + i);
+        }
+        PropertyRegistry registry = builder.build();
+        portKey = registry.getKey("server.port").get();
+        timeoutKey = registry.getKey("server.timeout.ms").get();
+        enabledKey = registry.getKey("feature.enabled").get();
+        hostKey = registry.getKey("server.host").get();
+
+        snapshot = ConfigSnapshot.of(registry, properties);
+        context = new DefaultPropertyContext(properties, TypeConverterRegistry.getInstance());
+    }
+
+    @Benchmark
+    public void snapshotRead(Blackhole blackhole) {
+        blackhole.consume(snapshot.getInt(port));
+        blackhole.consume(snapshot.getLong(timeout));
+        blackhole.consume(snapshot.getBoolean(enabled));
+        blackhole.consume(snapshot.get(host));
+    }
+
+    @Benchmark
+    public void snapshotReadByKey(Blackhole blackhole) {
+        blackhole.consume(snapshot.getInt(portKey));
+        blackhole.consume(snapshot.getLong(timeoutKey));
+        blackhole.consume(snapshot.getBoolean(enabledKey));
+        blackhole.consume(snapshot.get(hostKey, String.class));
+    }
+
+    @Benchmark
+    public void contextRead(Blackhole blackhole) {
+        blackhole.consume(context.getTypedProperty("server.port", Integer.class).get().intValue());
+        blackhole.consume(context.getTypedProperty("server.timeout.ms", Long.class).get().longValue());
+        blackhole.consume(context.getTypedProperty("feature.enabled", Boolean.class).get().booleanValue());
+        blackhole.consume(context.getProperty("server.host"));
+    }
+}
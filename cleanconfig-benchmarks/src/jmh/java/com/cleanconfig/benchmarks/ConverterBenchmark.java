@@ -0,0 +1,149 @@
+package com.cleanconfig.benchmarks;
+
+import com.cleanconfig.core.converter.TypeConverter;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing the built-in primitive converters with the trim-and-catch
+ * converters they replaced, for valid and invalid input.
+ *
+ * <p>Each invocation converts a batch of 16 values, so the results are per batch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConverterBenchmark {
+
+    private static final String[] VALID_INTEGERS = {
+        "8080", " 443 ", "-1", "30000", "0", "65535", "12", "-2147483648",
+        "100", "7", " 250", "99999", "1", "-42", "2147483647", "512"
+    };
+
+    private static final String[] INVALID_INTEGERS = {
+        "eighty", "443ms", "", "3e4", "0x10", "65,535", "twelve", "-",
+        "1.5", "seven", "25O", "99 999", "one", "--42", "2147483648", "5l2"
+    };
+
+    private static final String[] VALID_DOUBLES = {
+        "0.75", " 1.5 ", "-3.25", "100", "0.001", "2.5e3", "99.9", "1e-6",
+        "0.1", "42.0", "3.14159", "-0.5", "7", "12.75", "0.333", "1000000.5"
+    };
+
+    private static final String[] INVALID_DOUBLES = {
+        "high", "0.75%", "", "1.2.3", "e5", "1,5", "none", "-",
+        "ten", "42x", "3.14.15", "--0.5", "seven", "12 .75", "n/a", "1e"
+    };
+
+    private static final String[] VALID_BOOLEANS = {
+        "true", "FALSE", " yes ", "no", "1", "0", "True", "No",
+        "true", "false", "YES", "NO", "1", "0", "tRuE", "fAlSe"
+    };
+
+    private static final String[] INVALID_BOOLEANS = {
+        "enabled", "off", "", "2", "y", "n", "t", "f",
+        "truee", "nope", "on", "-1", "disabled", "null", "maybe", "10"
+    };
+
+    @Param({"Integer", "Double", "Boolean"})
+    private String type;
+
+    private TypeConverter<?> current;
+    private TypeConverter<?> legacy;
+    private String[] valid;
+    private String[] invalid;
+
+    @Setup
+    public void setup() {
+        TypeConverterRegistry registry = TypeConverterRegistry.getInstance();
+        switch (type) {
+            case "Integer":
+                current = registry.getConverter(Integer.class).get();
+                legacy = (TypeConverter<Integer>) ConverterBenchmark::legacyInteger;
+                valid = VALID_INTEGERS;
+                invalid = INVALID_INTEGERS;
+                break;
+            case "Double":
+                current = registry.getConverter(Double.class).get();
+                legacy = (TypeConverter<Double>) ConverterBenchmark::legacyDouble;
+                valid = VALID_DOUBLES;
+                invalid = INVALID_DOUBLES;
+                break;
+            default:
+                current = registry.getConverter(Boolean.class).get();
+                legacy = (TypeConverter<Boolean>) ConverterBenchmark::legacyBoolean;
+                valid = VALID_BOOLEANS;
+                invalid = INVALID_BOOLEANS;
+                break;
+        }
+    }
+
+    @Benchmark
+    public void currentValid(Blackhole blackhole) {
+        convertAll(current, valid, blackhole);
+    }
+
+    @Benchmark
+    public void currentInvalid(Blackhole blackhole) {
+        convertAll(current, invalid, blackhole);
+    }
+
+    @Benchmark
+    public void legacyValid(Blackhole blackhole) {
+        convertAll(legacy, valid, blackhole);
+    }
+
+    @Benchmark
+    public void legacyInvalid(Blackhole blackhole) {
+        convertAll(legacy, invalid, blackhole);
+    }
+
+    private static void convertAll(TypeConverter<?> converter, String[] values, Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(converter.convert(value));
+        }
+    }
+
+    private static Optional<Integer> legacyInteger(String value) {
+        try {
+            return Optional.of(Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Double> legacyDouble(String value) {
+        try {
+            return Optional.of(Double.parseDouble(value.trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Boolean> legacyBoolean(String value) {
+        String trimmed = value.trim().toLowerCase();
+        if ("true".equals(trimmed) || "yes".equals(trimmed) || "1".equals(trimmed)) {
+            return Optional.of(Boolean.TRUE);
+        } else if ("false".equals(trimmed) || "no".equals(trimmed) || "0".equals(trimmed)) {
+            return Optional.of(Boolean.FALSE);
+        }
+        return Optional.empty();
+    }
+}
@@ -6,6 +6,7 @@ import com.cleanconfig.core.DefaultValueApplier;
 import com.cleanconfig.core.PropertyDefinition;
 import com.cleanconfig.core.PropertyRegistry;
 import com.cleanconfig.core.PropertyRegistryBuilder;
+import com.cleanconfig.core.impl.CompiledDefaultValueApplier;
 import com.cleanconfig.core.impl.DefaultValueApplierImpl;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -37,6 +38,8 @@ public class DefaultApplicationBenchmark {
     private PropertyRegistry registryWithComputedDefaults;
     private DefaultValueApplier applier;
     private DefaultValueApplier computedApplier;
+    private DefaultValueApplier compiledApplier;
+    private DefaultValueApplier compiledComputedApplier;
 
     private Map<String, String> partialProperties;
 
@@ -53,6 +56,7 @@ public class DefaultApplicationBenchmark {
         }
         registryWithStaticDefaults = staticBuilder.build();
         applier = new DefaultValueApplierImpl(registryWithStaticDefaults);
+        compiledApplier = new CompiledDefaultValueApplier(registryWithStaticDefaults);
 
         // Registry with computed defaults
         PropertyRegistryBuilder computedBuilder = PropertyRegistry.builder();
@@ -68,6 +72,7 @@ public class DefaultApplicationBenchmark {
         }
         registryWithComputedDefaults = computedBuilder.build();
         computedApplier = new DefaultValueApplierImpl(registryWithComputedDefaults);
+        compiledComputedApplier = new CompiledDefaultValueApplier(registryWithComputedDefaults);
 
         // Partial properties (only half provided, rest use defaults)
         partialProperties = new HashMap<>();
@@ -86,6 +91,16 @@ public class DefaultApplicationBenchmark {
         return computedApplier.applyDefaults(partialProperties);
     }
 
+    @Benchmark
+    public DefaultApplicationResult compiledStaticDefaults() {
+        return compiledApplier.applyDefaults(partialProperties);
+    }
+
+    @Benchmark
+    public DefaultApplicationResult compiledComputedDefaults() {
+        return compiledComputedApplier.applyDefaults(partialProperties);
+    }
+
     @Benchmark
     public DefaultApplicationResult repeatedApplication() {
         // Simulate repeated application (cache scenario)
@@ -0,0 +1,95 @@
+package com.cleanconfig.benchmarks;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyMap;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.PropertyRegistryBuilder;
+import com.cleanconfig.core.source.MappedPropertiesFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reading 100 registered properties from a large generated {@code .properties}
+ * file, with {@link MappedPropertiesFile} vs loading the whole file into {@link Properties}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertiesFileBenchmark {
+
+    private static final int REGISTERED = 100;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Path file;
+    private PropertyRegistry registry;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("cleanconfig-benchmark", ".properties");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < size; i++) {
+                writer.write("service." + i + ".endpoint.url = https://service-" + i + ".internal:8443/api\n");
+            }
+        }
+
+        PropertyRegistryBuilder builder = PropertyRegistry.builder();
+        for (int i = 0; i < REGISTERED; i++) {
+            builder.register(PropertyDefinition.builder(String.class)
+                    .name("service." + (i * (size / REGISTERED)) + ".endpoint.url")
+                    .build());
+        }
+        registry = builder.build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Map<String, String> propertiesLoad() throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> result = new HashMap<>();
+        for (String name : registry.getAllPropertyNames()) {
+            String value = properties.getProperty(name);
+            if (value != null) {
+                result.put(name, value);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public PropertyMap mappedResolve() throws IOException {
+        return MappedPropertiesFile.open(file).resolve(registry);
+    }
+}
@@ -0,0 +1,75 @@
+package com.cleanconfig.benchmarks;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyDefinitionBuilder;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.PropertyRegistryBuilder;
+import com.cleanconfig.core.PropertyValidator;
+import com.cleanconfig.core.impl.DefaultPropertyValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for registry build and validator construction time.
+ *
+ * <p>Properties are generated per tenant: every tenant has one root property and nine
+ * properties that depend on it, so both topological sorts see a realistic number of edges.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RegistryBuildBenchmark {
+
+    private static final int PROPERTIES_PER_TENANT = 10;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<PropertyDefinition<?>> definitions;
+    private PropertyRegistry registry;
+
+    @Setup
+    public void setup() {
+        definitions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PropertyDefinitionBuilder<String> builder = PropertyDefinition.builder(String.class)
+                    .name("tenant." + i);
+            int root = i - i % PROPERTIES_PER_TENANT;
+            if (i != root) {
+                builder.dependsOnForValidation("tenant." + root);
+            }
+            definitions.add(builder.build());
+        }
+        registry = buildRegistry();
+    }
+
+    @Benchmark
+    public PropertyRegistry buildRegistry() {
+        PropertyRegistryBuilder builder = PropertyRegistry.builder();
+        for (PropertyDefinition<?> definition : definitions) {
+            builder.register(definition);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public PropertyValidator createValidator() {
+        return new DefaultPropertyValidator(registry);
+    }
+}
@@ -5,7 +5,9 @@ import com.cleanconfig.core.PropertyDefinition;
 import com.cleanconfig.core.PropertyRegistry;
 import com.cleanconfig.core.PropertyRegistryBuilder;
 import com.cleanconfig.core.PropertyValidator;
+import com.cleanconfig.core.impl.CompiledPropertyValidator;
 import com.cleanconfig.core.impl.DefaultPropertyValidator;
+import com.cleanconfig.core.impl.ParallelPropertyValidator;
 import com.cleanconfig.core.validation.Rules;
 import com.cleanconfig.core.validation.ValidationResult;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -14,6 +16,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -85,7 +88,46 @@ public class ValidationBenchmark {
         return mediumValidator.validate(mediumProperties);
     }
 
-    private PropertyRegistry createRegistry(int count) {
+    @Benchmark
+    public ValidationResult scaledDefault(ScaledConfig config) {
+        return config.defaultValidator.validate(config.properties);
+    }
+
+    @Benchmark
+    public ValidationResult scaledCompiled(ScaledConfig config) {
+        return config.compiledValidator.validate(config.properties);
+    }
+
+    @Benchmark
+    public ValidationResult scaledParallel(ScaledConfig config) {
+        return config.parallelValidator.validate(config.properties);
+    }
+
+    /**
+     * Default vs compiled vs parallel validation at larger config sizes.
+     */
+    @State(Scope.Benchmark)
+    public static class ScaledConfig {
+
+        @Param({"200", "2000", "20000"})
+        private int size;
+
+        private PropertyValidator defaultValidator;
+        private PropertyValidator compiledValidator;
+        private PropertyValidator parallelValidator;
+        private Map<String, String> properties;
+
+        @Setup
+        public void setup() {
+            PropertyRegistry registry = createRegistry(size);
+            defaultValidator = new DefaultPropertyValidator(registry);
+            compiledValidator = new CompiledPropertyValidator(registry);
+            parallelValidator = new ParallelPropertyValidator(registry);
+            properties = createProperties(size);
+        }
+    }
+
+    private static PropertyRegistry createRegistry(int count) {
         PropertyRegistryBuilder builder = PropertyRegistry.builder();
 
         for (int i = 0; i < count; i++) {
@@ -102,7 +144,7 @@ public class ValidationBenchmark {
         return builder.build();
     }
 
-    private Map<String, String> createProperties(int count) {
+    private static Map<String, String> createProperties(int count) {
         Map<String, String> props = new HashMap<>();
         for (int i = 0; i < count; i++) {
             props.put("property." + i, "value" + i);
@@ -47,6 +47,20 @@ public interface ConditionalDefaultValue<T> {
      */
     Optional<T> computeDefault(PropertyContext context);
 
+    /**
+     * Gets the value of this default if it never depends on the context.
+     *
+     * <p>Defaults created with {@link #staticValue(Object)} return their value, so appliers can
+     * render it once instead of on every application. All other defaults return empty,
+     * including static defaults with a {@code when} override.
+     *
+     * @return the static value, or empty if the default is computed
+     * @since 0.4.0
+     */
+    default Optional<T> getStaticValue() {
+        return Optional.empty();
+    }
+
     /**
      * Creates a static default value.
      *
@@ -56,7 +70,7 @@ public interface ConditionalDefaultValue<T> {
      */
     static <T> ConditionalDefaultValue<T> staticValue(T value) {
         Objects.requireNonNull(value, "static value cannot be null");
-        return context -> Optional.of(value);
+        return new StaticDefaultValue<>(value);
     }
 
     /**
@@ -0,0 +1,372 @@
+package com.cleanconfig.core;
+
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The properties added, removed and modified between two configurations.
+ *
+ * <p>Example usage:
+ * <pre>
+ * ConfigDiff diff = ConfigDiff.between(oldProperties, newProperties, registry);
+ * for (PropertyChange&lt;?&gt; change : diff.getChanges()) {
+ *     audit.log(change);
+ * }
+ * result = validator.validateIncremental(result, newProperties, diff.getChangedKeys());
+ * </pre>
+ *
+ * <p>A diff takes time linear in the sizes of the two maps, and less when they share
+ * structure:
+ * <ul>
+ *   <li>Identical maps are not compared at all</li>
+ *   <li>{@link PropertyMap}s derived from one another with {@code with} share their arrays; the
+ *       entries they share are compared by position without hashing, or skipped entirely if
+ *       the values are shared too</li>
+ *   <li>{@link OverlayPropertyMap}s over the same base are compared only on their overlays,
+ *       and those with the same overlay only on their bases</li>
+ * </ul>
+ *
+ * <p>A property mapped to null counts as absent. Converted values are computed when a change
+ * is requested, only for registered properties; a value that cannot be converted is reported
+ * as empty.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ *
+ * @since 0.4.0
+ */
+public final class ConfigDiff {
+
+    private static final ConfigDiff EMPTY =
+            new ConfigDiff(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), null, null);
+
+    private final List<String> names;
+    private final List<String> oldValues;
+    private final List<String> newValues;
+    private final PropertyRegistry registry;
+    private final TypeConverterRegistry converterRegistry;
+    private final Map<String, Integer> indexByName;
+
+    private ConfigDiff(
+            List<String> names,
+            List<String> oldValues,
+            List<String> newValues,
+            PropertyRegistry registry,
+            TypeConverterRegistry converterRegistry) {
+        this.names = names;
+        this.oldValues = oldValues;
+        this.newValues = newValues;
+        this.registry = registry;
+        this.converterRegistry = converterRegistry;
+        this.indexByName = new HashMap<>(names.size() * 2);
+        for (int i = 0; i < names.size(); i++) {
+            indexByName.put(names.get(i), i);
+        }
+    }
+
+    /**
+     * Computes the raw differences between two property maps.
+     *
+     * @param oldProperties the properties before the change
+     * @param newProperties the properties after the change
+     * @return the diff, without converted values
+     */
+    public static ConfigDiff between(Map<String, String> oldProperties, Map<String, String> newProperties) {
+        return between(oldProperties, newProperties, null);
+    }
+
+    /**
+     * Computes the differences between two property maps, with converted values for the
+     * properties defined in the registry, using the default type converter registry.
+     *
+     * @param oldProperties the properties before the change
+     * @param newProperties the properties after the change
+     * @param registry the registry defining the property types, or null for raw values only
+     * @return the diff
+     */
+    public static ConfigDiff between(
+            Map<String, String> oldProperties,
+            Map<String, String> newProperties,
+            PropertyRegistry registry) {
+        return between(oldProperties, newProperties, registry, TypeConverterRegistry.getInstance());
+    }
+
+    /**
+     * Computes the differences between two property maps, with values of the properties
+     * defined in the registry converted by the given type converter registry.
+     *
+     * @param oldProperties the properties before the change
+     * @param newProperties the properties after the change
+     * @param registry the registry defining the property types, or null for raw values only
+     * @param converterRegistry the type converter registry
+     * @return the diff
+     */
+    public static ConfigDiff between(
+            Map<String, String> oldProperties,
+            Map<String, String> newProperties,
+            PropertyRegistry registry,
+            TypeConverterRegistry converterRegistry) {
+        Objects.requireNonNull(oldProperties, "Old properties cannot be null");
+        Objects.requireNonNull(newProperties, "New properties cannot be null");
+        Objects.requireNonNull(converterRegistry, "Converter registry cannot be null");
+        if (oldProperties == newProperties) {
+            return EMPTY;
+        }
+
+        Collector collector = new Collector(oldProperties, newProperties);
+        collector.diff(oldProperties, newProperties);
+        return new ConfigDiff(collector.names, collector.oldValues, collector.newValues, registry, converterRegistry);
+    }
+
+    /**
+     * Checks if the two configurations are equal.
+     *
+     * @return true if nothing changed
+     */
+    public boolean isEmpty() {
+        return names.isEmpty();
+    }
+
+    /**
+     * Gets the number of changed properties.
+     *
+     * @return the number of properties added, removed or modified
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Gets the names of all changed properties, for example to pass to
+     * {@link PropertyValidator#validateIncremental}.
+     *
+     * @return unmodifiable set of the properties added, removed or modified
+     */
+    public Set<String> getChangedKeys() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(names));
+    }
+
+    /**
+     * Gets the names of the properties that had no value before.
+     *
+     * @return unmodifiable set of added properties
+     */
+    public Set<String> getAddedKeys() {
+        Set<String> added = new LinkedHashSet<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (oldValues.get(i) == null) {
+                added.add(names.get(i));
+            }
+        }
+        return Collections.unmodifiableSet(added);
+    }
+
+    /**
+     * Gets the names of the properties that have no value after.
+     *
+     * @return unmodifiable set of removed properties
+     */
+    public Set<String> getRemovedKeys() {
+        Set<String> removed = new LinkedHashSet<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (newValues.get(i) == null) {
+                removed.add(names.get(i));
+            }
+        }
+        return Collections.unmodifiableSet(removed);
+    }
+
+    /**
+     * Gets the names of the properties whose value was replaced.
+     *
+     * @return unmodifiable set of modified properties
+     */
+    public Set<String> getModifiedKeys() {
+        Set<String> modified = new LinkedHashSet<>();
+        for (int i = 0; i < names.size(); i++) {
+            if (oldValues.get(i) != null && newValues.get(i) != null) {
+                modified.add(names.get(i));
+            }
+        }
+        return Collections.unmodifiableSet(modified);
+    }
+
+    /**
+     * Gets every change, with converted values for registered properties.
+     *
+     * @return unmodifiable list of changes
+     */
+    public List<PropertyChange<?>> getChanges() {
+        List<PropertyChange<?>> changes = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            changes.add(changeAt(i));
+        }
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Gets the change of a property by name.
+     *
+     * @param name the property name
+     * @return the change, or empty if the property did not change
+     */
+    public Optional<PropertyChange<?>> getChange(String name) {
+        Integer index = indexByName.get(name);
+        return index == null ? Optional.empty() : Optional.of(changeAt(index));
+    }
+
+    /**
+     * Gets the typed change of a property.
+     *
+     * @param definition the property definition
+     * @param <T> the property value type
+     * @return the change, or empty if the property did not change
+     */
+    public <T> Optional<PropertyChange<T>> getChange(PropertyDefinition<T> definition) {
+        Objects.requireNonNull(definition, "Property definition cannot be null");
+        Integer index = indexByName.get(definition.getName());
+        return index == null ? Optional.empty() : Optional.of(typedChange(index, definition));
+    }
+
+    private PropertyChange<?> changeAt(int index) {
+        if (registry != null) {
+            Optional<PropertyDefinition<?>> definition = registry.getProperty(names.get(index));
+            if (definition.isPresent()) {
+                return typedChange(index, definition.get());
+            }
+        }
+        return PropertyChange.of(names.get(index), oldValues.get(index), newValues.get(index), null, null);
+    }
+
+    private <T> PropertyChange<T> typedChange(int index, PropertyDefinition<T> definition) {
+        return PropertyChange.of(
+                names.get(index),
+                oldValues.get(index),
+                newValues.get(index),
+                convert(oldValues.get(index), definition.getType()),
+                convert(newValues.get(index), definition.getType()));
+    }
+
+    private <T> T convert(String value, Class<T> type) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        return converterRegistry.convert(value, type).orElse(null);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("ConfigDiff{");
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            String oldValue = oldValues.get(i);
+            String newValue = newValues.get(i);
+            result.append(oldValue == null ? '+' : newValue == null ? '-' : '~').append(names.get(i));
+        }
+        return result.append('}').toString();
+    }
+
+    /**
+     * Walks two maps, descending into shared structure, and records the keys whose values differ.
+     */
+    private static final class Collector {
+        private final Map<String, String> oldRoot;
+        private final Map<String, String> newRoot;
+        private final List<String> names = new ArrayList<>();
+        private final List<String> oldValues = new ArrayList<>();
+        private final List<String> newValues = new ArrayList<>();
+
+        Collector(Map<String, String> oldRoot, Map<String, String> newRoot) {
+            this.oldRoot = oldRoot;
+            this.newRoot = newRoot;
+        }
+
+        /**
+         * Records the keys whose values differ between the roots, looking only at keys that
+         * differ between these two layers of them.
+         */
+        void diff(Map<String, String> oldMap, Map<String, String> newMap) {
+            if (oldMap == newMap) {
+                return;
+            }
+            if (oldMap instanceof PropertyMap && newMap instanceof PropertyMap) {
+                PropertyMap oldProperties = (PropertyMap) oldMap;
+                PropertyMap newProperties = (PropertyMap) newMap;
+                if (oldProperties.sharesKeysWith(newProperties)) {
+                    diffShared(oldProperties, newProperties);
+                    return;
+                }
+            }
+            if (oldMap instanceof OverlayPropertyMap && newMap instanceof OverlayPropertyMap) {
+                OverlayPropertyMap oldOverlay = (OverlayPropertyMap) oldMap;
+                OverlayPropertyMap newOverlay = (OverlayPropertyMap) newMap;
+                if (oldOverlay.getBase() == newOverlay.getBase()) {
+                    // Only keys in either overlay can resolve differently
+                    Set<String> candidates = new LinkedHashSet<>(oldOverlay.getOverlay().keySet());
+                    candidates.addAll(newOverlay.getOverlay().keySet());
+                    for (String key : candidates) {
+                        compare(key);
+                    }
+                    return;
+                }
+                if (oldOverlay.getOverlay() == newOverlay.getOverlay()) {
+                    // Keys in the shared overlay resolve to the same value in both roots
+                    diff(oldOverlay.getBase(), newOverlay.getBase());
+                    return;
+                }
+            }
+
+            for (Map.Entry<String, String> entry : newMap.entrySet()) {
+                compare(entry.getKey());
+            }
+            for (String key : oldMap.keySet()) {
+                if (!newMap.containsKey(key)) {
+                    compare(key);
+                }
+            }
+        }
+
+        /**
+         * Compares two property maps that hold the same names at the same positions.
+         */
+        private void diffShared(PropertyMap oldProperties, PropertyMap newProperties) {
+            int common = Math.min(oldProperties.size(), newProperties.size());
+            if (!oldProperties.sharesValuesWith(newProperties)) {
+                for (int i = 0; i < common; i++) {
+                    String oldValue = oldProperties.valueAt(i);
+                    String newValue = newProperties.valueAt(i);
+                    if (oldValue != newValue && !Objects.equals(oldValue, newValue)) {
+                        compare(oldProperties.keyAt(i));
+                    }
+                }
+            }
+            // Names past the smaller map are not in it: they were added to the larger one
+            for (int i = common; i < oldProperties.size(); i++) {
+                compare(oldProperties.keyAt(i));
+            }
+            for (int i = common; i < newProperties.size(); i++) {
+                compare(newProperties.keyAt(i));
+            }
+        }
+
+        private void compare(String key) {
+            String oldValue = oldRoot.get(key);
+            String newValue = newRoot.get(key);
+            if (!Objects.equals(oldValue, newValue)) {
+                names.add(key);
+                oldValues.add(oldValue);
+                newValues.add(newValue);
+            }
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.cleanconfig.core;
+
+import com.cleanconfig.core.converter.TypeConverter;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable, typed view of a configuration with every value converted up front.
+ *
+ * <p>Reading a value through {@link PropertyContext#getTypedProperty(String, Class)} looks up
+ * the raw string and converts it on every call. A snapshot converts each registered property
+ * once, when it is created, and stores the results in arrays indexed by the property's
+ * {@link PropertyKey} id. Reading a value by key is then an array load: no hashing, no
+ * parsing, and no boxing for {@link #getInt}, {@link #getLong}, {@link #getDouble} and
+ * {@link #getBoolean}.
+ *
+ * <p>Create a snapshot from properties that were validated and had defaults applied. The
+ * snapshot does not validate; it only converts.
+ *
+ * <p>Example usage:
+ * <pre>
+ * DefaultApplicationResult withDefaults = applier.applyDefaults(userProperties);
+ * ValidationResult result = validator.validate(withDefaults.getPropertiesWithDefaults());
+ * if (result.isValid()) {
+ *     ConfigSnapshot config = ConfigSnapshot.of(registry, withDefaults.getPropertiesWithDefaults());
+ *
+ *     // On the request path
+ *     int port = config.getInt(SERVER_PORT);
+ *     Optional&lt;String&gt; host = config.get(SERVER_HOST);
+ * }
+ * </pre>
+ *
+ * <p>Reads by definition first find the definition's slot by its name, one lookup of a
+ * string whose hash is cached; resolve keys once with {@link PropertyRegistry#getKey(String)}
+ * for the fastest reads. Snapshots of registries without keys are read by definition only.
+ *
+ * <p>Thread-safe: a snapshot never changes after it is created.
+ *
+ * @since 0.4.0
+ */
+public final class ConfigSnapshot {
+
+    private final PropertyDefinition<?>[] definitions;
+    // Key of each slot, so that slot i holds the key with id i; empty if the registry has no keys
+    private final PropertyKey[] keys;
+    private final Optional<?>[] values;
+    private final long[] primitives;
+    private final Map<String, String> properties;
+    private final Map<String, Integer> slotsByName;
+
+    private ConfigSnapshot(
+            PropertyRegistry registry,
+            Map<String, String> properties,
+            TypeConverterRegistry converterRegistry,
+            PropertyContext context) {
+        List<PropertyKey> registryKeys = registry.getKeys();
+        this.keys = registryKeys.toArray(new PropertyKey[0]);
+        if (keys.length > 0) {
+            this.definitions = new PropertyDefinition<?>[keys.length];
+            for (PropertyKey key : keys) {
+                definitions[key.getId()] = registry.getDefinition(key).orElseThrow(() ->
+                        new IllegalStateException("Registry has no definition for its key '" + key + "'"));
+            }
+        } else {
+            this.definitions = registry.getAllProperties().toArray(new PropertyDefinition<?>[0]);
+        }
+        int size = definitions.length;
+        this.values = new Optional<?>[size];
+        this.primitives = new long[size];
+        this.properties = PropertyMap.copyOf(properties);
+        this.slotsByName = new HashMap<>(size * 2);
+
+        for (int slot = 0; slot < size; slot++) {
+            PropertyDefinition<?> definition = definitions[slot];
+            slotsByName.put(definition.getName(), slot);
+            PropertyKey key = keys.length > 0 ? keys[slot] : null;
+            convert(slot, definition, key, properties.get(definition.getName()), converterRegistry, context);
+        }
+    }
+
+    /**
+     * Creates a snapshot using the default type converter registry.
+     *
+     * @param registry the property registry
+     * @param properties the validated properties, with defaults applied
+     * @return the snapshot
+     * @throws IllegalArgumentException if a value cannot be converted to its property's type
+     */
+    public static ConfigSnapshot of(PropertyRegistry registry, Map<String, String> properties) {
+        return of(registry, properties, TypeConverterRegistry.getInstance());
+    }
+
+    /**
+     * Creates a snapshot.
+     *
+     * <p>Properties without a value, or with an empty value, are absent from the snapshot.
+     * Values of properties that are not registered are kept in {@link #getProperties()} but
+     * are not converted.
+     *
+     * @param registry the property registry
+     * @param properties the validated properties, with defaults applied
+     * @param converterRegistry the type converter registry
+     * @return the snapshot
+     * @throws IllegalArgumentException if a value cannot be converted to its property's type
+     */
+    public static ConfigSnapshot of(
+            PropertyRegistry registry,
+            Map<String, String> properties,
+            TypeConverterRegistry converterRegistry) {
+        Objects.requireNonNull(registry, "Registry cannot be null");
+        Objects.requireNonNull(properties, "Properties cannot be null");
+        Objects.requireNonNull(converterRegistry, "Converter registry cannot be null");
+        return new ConfigSnapshot(registry, properties, converterRegistry, null);
+    }
+
+    /**
+     * Creates a snapshot whose values are converted through a property context.
+     *
+     * <p>Use this to reuse conversions that already happened: with a context that remembers
+     * conversions, such as the one a validator used for the same properties, values that
+     * were converted during validation are not converted again.
+     *
+     * @param registry the property registry
+     * @param properties the validated properties, with defaults applied
+     * @param context context over the same properties, used for typed reads
+     * @return the snapshot
+     * @throws IllegalArgumentException if a value cannot be converted to its property's type
+     * @see com.cleanconfig.core.impl.ConfigPipeline
+     */
+    public static ConfigSnapshot of(
+            PropertyRegistry registry,
+            Map<String, String> properties,
+            PropertyContext context) {
+        Objects.requireNonNull(registry, "Registry cannot be null");
+        Objects.requireNonNull(properties, "Properties cannot be null");
+        Objects.requireNonNull(context, "Context cannot be null");
+        return new ConfigSnapshot(registry, properties, null, context);
+    }
+
+    /**
+     * Gets the converted value of a property.
+     *
+     * @param definition the property definition
+     * @param <T> the property value type
+     * @return the value, or empty if the property has no value
+     * @throws IllegalArgumentException if the property is not part of this snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(PropertyDefinition<T> definition) {
+        return (Optional<T>) values[slotOf(definition)];
+    }
+
+    /**
+     * Gets the converted value of a property by key.
+     *
+     * @param key the property key
+     * @param type the property value type, or a supertype of it
+     * @param <T> the property value type
+     * @return the value, or empty if the property has no value
+     * @throws IllegalArgumentException if the key is not part of this snapshot or its property
+     *         is not of the given type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> get(PropertyKey key, Class<T> type) {
+        int slot = slotOf(key);
+        Class<?> actual = definitions[slot].getType();
+        if (!type.isAssignableFrom(actual)) {
+            throw typeMismatch(slot, type);
+        }
+        return (Optional<T>) values[slot];
+    }
+
+    /**
+     * Gets the value of an integer property without boxing.
+     *
+     * @param definition the property definition
+     * @return the value
+     * @throws IllegalArgumentException if the property is not part of this snapshot
+     * @throws NoSuchElementException if the property has no value
+     */
+    public int getInt(PropertyDefinition<Integer> definition) {
+        return (int) primitiveOf(slotOf(definition));
+    }
+
+    /**
+     * Gets the value of an integer property by key without boxing.
+     *
+     * @param key the property key
+     * @return the value
+     * @throws IllegalArgumentException if the key is not part of this snapshot or its property
+     *         is not an Integer property
+     * @throws NoSuchElementException if the property has no value
+     */
+    public int getInt(PropertyKey key) {
+        return (int) primitiveOf(slotOf(key, Integer.class));
+    }
+
+    /**
+     * Gets the value of a long property without boxing.
+     *
+     * @param definition the property definition
+     * @return the value
+     * @throws IllegalArgumentException if the property is not part of this snapshot
+     * @throws NoSuchElementException if the property has no value
+     */
+    public long getLong(PropertyDefinition<Long> definition) {
+        return primitiveOf(slotOf(definition));
+    }
+
+    /**
+     * Gets the value of a long property by key without boxing.
+     *
+     * @param key the property key
+     * @return the value
+     * @throws IllegalArgumentException if the key is not part of this snapshot or its property
+     *         is not a Long property
+     * @throws NoSuchElementException if the property has no value
+     */
+    public long getLong(PropertyKey key) {
+        return primitiveOf(slotOf(key, Long.class));
+    }
+
+    /**
+     * Gets the value of a double property without boxing.
+     *
+     * @param definition the property definition
+     * @return the value
+     * @throws IllegalArgumentException if the property is not part of this snapshot
+     * @throws NoSuchElementException if the property has no value
+     */
+    public double getDouble(PropertyDefinition<Double> definition) {
+        return Double.longBitsToDouble(primitiveOf(slotOf(definition)));
+    }
+
+    /**
+     * Gets the value of a double property by key without boxing.
+     *
+     * @param key the property key
+     * @return the value
+     * @throws IllegalArgumentException if the key is not part of this snapshot or its property
+     *         is not a Double property
+     * @throws NoSuchElementException if the property has no value
+     */
+    public double getDouble(PropertyKey key) {
+        return Double.longBitsToDouble(primitiveOf(slotOf(key, Double.class)));
+    }
+
+    /**
+     * Gets the value of a boolean property without unboxing.
+     *
+     * @param definition the property definition
+     * @return the value
+     * @throws IllegalArgumentException if the property is not part of this snapshot
+     * @throws NoSuchElementException if the property has no value
+     */
+    public boolean getBoolean(PropertyDefinition<Boolean> definition) {
+        return primitiveOf(slotOf(definition)) != 0;
+    }
+
+    /**
+     * Gets the value of a boolean property by key without unboxing.
+     *
+     * @param key the property key
+     * @return the value
+     * @throws IllegalArgumentException if the key is not part of this snapshot or its property
+     *         is not a Boolean property
+     * @throws NoSuchElementException if the property has no value
+     */
+    public boolean getBoolean(PropertyKey key) {
+        return primitiveOf(slotOf(key, Boolean.class)) != 0;
+    }
+
+    /**
+     * Checks if a property has a value.
+     *
+     * @param definition the property definition
+     * @return true if the property has a value
+     * @throws IllegalArgumentException if the property is not part of this snapshot
+     */
+    public boolean isPresent(PropertyDefinition<?> definition) {
+        return values[slotOf(definition)].isPresent();
+    }
+
+    /**
+     * Checks if a property has a value, by key.
+     *
+     * @param key the property key
+     * @return true if the property has a value
+     * @throws IllegalArgumentException if the key is not part of this snapshot
+     */
+    public boolean isPresent(PropertyKey key) {
+        return values[slotOf(key)].isPresent();
+    }
+
+    /**
+     * Gets the raw properties the snapshot was created from.
+     *
+     * @return immutable map of raw property values
+     */
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Gets the number of registered properties in this snapshot.
+     *
+     * @return number of registered properties, with or without a value
+     */
+    public int size() {
+        return definitions.length;
+    }
+
+    private long primitiveOf(int slot) {
+        if (!values[slot].isPresent()) {
+            throw new NoSuchElementException("Property '" + definitions[slot].getName() + "' has no value");
+        }
+        return primitives[slot];
+    }
+
+    private int slotOf(PropertyDefinition<?> definition) {
+        Integer slot = slotsByName.get(definition.getName());
+        if (slot == null || definitions[slot] != definition) {
+            throw new IllegalArgumentException(
+                    "Property '" + definition.getName() + "' is not part of this snapshot");
+        }
+        return slot;
+    }
+
+    private int slotOf(PropertyKey key) {
+        // Keys of this snapshot's registry are interned, so the key in the slot is the same instance
+        int slot = key.getId();
+        if (slot >= keys.length || keys[slot] != key) {
+            throw new IllegalArgumentException("Property '" + key.getName() + "' is not part of this snapshot");
+        }
+        return slot;
+    }
+
+    private int slotOf(PropertyKey key, Class<?> type) {
+        int slot = slotOf(key);
+        if (definitions[slot].getType() != type) {
+            throw typeMismatch(slot, type);
+        }
+        return slot;
+    }
+
+    private IllegalArgumentException typeMismatch(int slot, Class<?> type) {
+        return new IllegalArgumentException("Property '" + definitions[slot].getName() + "' is of type "
+                + definitions[slot].getType().getSimpleName() + ", not " + type.getSimpleName());
+    }
+
+    /**
+     * Converts the raw value of one property and stores it in its slot.
+     *
+     * <p>Converts with the converter registry if one is given, otherwise through the context,
+     * by key if the registry has keys.
+     */
+    private <T> void convert(
+            int slot,
+            PropertyDefinition<T> definition,
+            PropertyKey key,
+            String value,
+            TypeConverterRegistry converterRegistry,
+            PropertyContext context) {
+        if (value == null || value.isEmpty()) {
+            values[slot] = Optional.empty();
+            return;
+        }
+
+        Class<T> type = definition.getType();
+        Optional<T> converted;
+        if (converterRegistry != null) {
+            TypeConverter<T> converter = converterRegistry.getConverter(type)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "No converter registered for type " + type.getSimpleName()
+                                    + " of property '" + definition.getName() + "'"));
+            converted = converter.convert(value);
+        } else {
+            converted = key != null
+                    ? context.getTypedPropertyByKey(key, type)
+                    : context.getTypedProperty(definition.getName(), type);
+        }
+        if (!converted.isPresent()) {
+            throw new IllegalArgumentException(
+                    "Value '" + value + "' of property '" + definition.getName()
+                            + "' is not a valid " + type.getSimpleName());
+        }
+
+        T typed = converted.get();
+        values[slot] = converted;
+        if (typed instanceof Integer || typed instanceof Long) {
+            primitives[slot] = ((Number) typed).longValue();
+        } else if (typed instanceof Double) {
+            primitives[slot] = Double.doubleToRawLongBits((Double) typed);
+        } else if (typed instanceof Boolean) {
+            primitives[slot] = (Boolean) typed ? 1 : 0;
+        }
+    }
+}
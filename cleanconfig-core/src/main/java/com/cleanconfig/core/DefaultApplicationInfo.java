@@ -1,7 +1,6 @@
 package com.cleanconfig.core;
 
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -40,8 +39,8 @@ public class DefaultApplicationInfo {
      * @param appliedDefaults map of property names to their applied default values
      */
     public DefaultApplicationInfo(Map<String, String> appliedDefaults) {
-        this.appliedDefaults = Collections.unmodifiableMap(
-                new LinkedHashMap<>(Objects.requireNonNull(appliedDefaults, "Applied defaults cannot be null")));
+        this.appliedDefaults = PropertyMap.copyOf(
+                Objects.requireNonNull(appliedDefaults, "Applied defaults cannot be null"));
     }
 
     /**
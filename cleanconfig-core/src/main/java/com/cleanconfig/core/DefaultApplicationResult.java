@@ -1,7 +1,5 @@
 package com.cleanconfig.core;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -24,21 +22,34 @@ public class DefaultApplicationResult {
     /**
      * Creates a new default application result.
      *
+     * <p>The properties are copied into a {@link PropertyMap}, unless they are a property map
+     * already or an {@link OverlayPropertyMap}, which are unmodifiable and kept as given. An
+     * overlay reads through to its layers, which must not be changed while the result is used.
+     *
      * @param propertiesWithDefaults the properties with defaults applied
      * @param applicationInfo information about applied defaults
      */
     public DefaultApplicationResult(
             Map<String, String> propertiesWithDefaults,
             DefaultApplicationInfo applicationInfo) {
-        this.propertiesWithDefaults = Collections.unmodifiableMap(
-                new LinkedHashMap<>(Objects.requireNonNull(propertiesWithDefaults, "Properties cannot be null")));
+        Objects.requireNonNull(propertiesWithDefaults, "Properties cannot be null");
+        // Copying an overlay would undo the point of layering
+        this.propertiesWithDefaults = propertiesWithDefaults instanceof OverlayPropertyMap
+                ? propertiesWithDefaults
+                : PropertyMap.copyOf(propertiesWithDefaults);
         this.applicationInfo = Objects.requireNonNull(applicationInfo, "Application info cannot be null");
     }
 
     /**
      * Gets the properties with defaults applied.
      *
-     * @return immutable map of properties with defaults
+     * <p>Results of {@link DefaultValueApplier#applyDefaults(Map)} are an
+     * {@link OverlayPropertyMap} of the applied defaults over the user properties as given, with
+     * the user properties first in iteration order. The user properties are not copied, so
+     * changes to them while the result is in use show through; pass a {@link PropertyMap} for a
+     * result that never changes.
+     *
+     * @return unmodifiable map of properties with defaults
      */
     public Map<String, String> getPropertiesWithDefaults() {
         return propertiesWithDefaults;
@@ -0,0 +1,242 @@
+package com.cleanconfig.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Unmodifiable view of one property map layered over another, without copying either.
+ *
+ * <p>A property that is in the overlay has the overlay's value; every other property has the
+ * base's value. Iteration visits the base's properties first, in the base's order, then the
+ * overlay's properties that are not in the base, in the overlay's order.
+ *
+ * <p>The default value applier returns its result as an overlay of the applied defaults on
+ * top of the user properties. Applying defaults then costs work proportional to the number of
+ * defaults, not the size of the configuration:
+ * <pre>
+ * DefaultApplicationResult result = applier.applyDefaults(userProperties);
+ * Map&lt;String, String&gt; properties = result.getPropertiesWithDefaults();
+ *
+ * // Reads and iteration go through both layers
+ * String port = properties.get("server.port");
+ *
+ * // Copy into a single compact map when the layers should be released
+ * PropertyMap flat = ((OverlayPropertyMap) properties).toPropertyMap();
+ * </pre>
+ *
+ * <p>The view reads through to both layers. It is immutable only if both layers are, for
+ * example when they are {@link PropertyMap}s; changes to a mutable layer are visible through
+ * the view. Lookups check the overlay and then the base, and {@link #size()} checks each
+ * overlay property against the base, so both are cheapest with a small overlay. When both
+ * layers are property maps, the size is counted once and remembered.
+ *
+ * @since 0.4.0
+ */
+public final class OverlayPropertyMap extends AbstractMap<String, String> {
+
+    private final Map<String, String> base;
+    private final Map<String, String> overlay;
+    private final boolean immutable;
+
+    private Set<Map.Entry<String, String>> entrySet;
+    // Remembered size when both layers are immutable, or -1; racy but idempotent
+    private int size = -1;
+
+    private OverlayPropertyMap(Map<String, String> base, Map<String, String> overlay) {
+        this.base = base;
+        this.overlay = overlay;
+        this.immutable = base instanceof PropertyMap && overlay instanceof PropertyMap;
+    }
+
+    /**
+     * Creates a view of one map layered over another.
+     *
+     * @param base the bottom layer
+     * @param overlay the top layer, whose values take precedence
+     * @return the view
+     * @throws NullPointerException if either map is null
+     */
+    public static OverlayPropertyMap of(Map<String, String> base, Map<String, String> overlay) {
+        Objects.requireNonNull(base, "Base properties cannot be null");
+        Objects.requireNonNull(overlay, "Overlay properties cannot be null");
+        return new OverlayPropertyMap(base, overlay);
+    }
+
+    /**
+     * Gets the bottom layer.
+     *
+     * @return the base map, as given
+     */
+    public Map<String, String> getBase() {
+        return base;
+    }
+
+    /**
+     * Gets the top layer.
+     *
+     * @return the overlay map, as given
+     */
+    public Map<String, String> getOverlay() {
+        return overlay;
+    }
+
+    /**
+     * Copies both layers into a single property map, in this view's iteration order.
+     *
+     * @return a property map with the same entries as this view
+     */
+    public PropertyMap toPropertyMap() {
+        if (overlay.isEmpty()) {
+            return PropertyMap.copyOf(base);
+        }
+        return PropertyMap.builder(base.size() + overlay.size()).putAll(this).build();
+    }
+
+    @Override
+    public int size() {
+        int known = size;
+        if (known >= 0) {
+            return known;
+        }
+        int count = base.size();
+        for (String key : overlay.keySet()) {
+            if (!base.containsKey(key)) {
+                count++;
+            }
+        }
+        if (immutable) {
+            size = count;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return base.isEmpty() && overlay.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return overlay.containsKey(key) || base.containsKey(key);
+    }
+
+    @Override
+    public String get(Object key) {
+        String value = overlay.get(key);
+        if (value != null || overlay.containsKey(key)) {
+            return value;
+        }
+        return base.get(key);
+    }
+
+    @Override
+    public String put(String key, String value) {
+        throw new UnsupportedOperationException("OverlayPropertyMap is unmodifiable");
+    }
+
+    @Override
+    public String remove(Object key) {
+        throw new UnsupportedOperationException("OverlayPropertyMap is unmodifiable");
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends String> properties) {
+        throw new UnsupportedOperationException("OverlayPropertyMap is unmodifiable");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("OverlayPropertyMap is unmodifiable");
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super String> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        if (overlay.isEmpty()) {
+            base.forEach(action);
+            return;
+        }
+        base.forEach((key, value) -> action.accept(key, overlay.containsKey(key) ? overlay.get(key) : value));
+        overlay.forEach((key, value) -> {
+            if (!base.containsKey(key)) {
+                action.accept(key, value);
+            }
+        });
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        Set<Map.Entry<String, String>> entries = entrySet;
+        if (entries == null) {
+            entries = new EntrySet();
+            entrySet = entries;
+        }
+        return entries;
+    }
+
+    /**
+     * Entry view, iterating the base and then the overlay properties not in the base.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+        @Override
+        public int size() {
+            return OverlayPropertyMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return containsKey(entry.getKey()) && Objects.equals(get(entry.getKey()), entry.getValue());
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new Iterator<Map.Entry<String, String>>() {
+                private final Iterator<Map.Entry<String, String>> baseEntries = base.entrySet().iterator();
+                private final Iterator<Map.Entry<String, String>> overlayEntries = overlay.entrySet().iterator();
+                private Map.Entry<String, String> next = advance();
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Map.Entry<String, String> next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry<String, String> entry = next;
+                    next = advance();
+                    return entry;
+                }
+
+                private Map.Entry<String, String> advance() {
+                    if (baseEntries.hasNext()) {
+                        Map.Entry<String, String> entry = baseEntries.next();
+                        String key = entry.getKey();
+                        String value = overlay.containsKey(key) ? overlay.get(key) : entry.getValue();
+                        return new SimpleImmutableEntry<>(key, value);
+                    }
+                    while (overlayEntries.hasNext()) {
+                        Map.Entry<String, String> entry = overlayEntries.next();
+                        if (!base.containsKey(entry.getKey())) {
+                            return new SimpleImmutableEntry<>(entry);
+                        }
+                    }
+                    return null;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.cleanconfig.core;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A change to the value of one property between two configurations.
+ *
+ * <p>Holds the raw values and, where the property is registered, the converted values. A
+ * property that had no value before was added; one that has no value after was removed.
+ *
+ * <p>Example usage:
+ * <pre>
+ * config.addListener(POOL_MAX, change -&gt;
+ *     pool.resize(change.getNewValue().orElse(DEFAULT_POOL_MAX)));
+ * </pre>
+ *
+ * <p>Instances are immutable if the converted values are.
+ *
+ * @param <T> the property value type
+ * @since 0.4.0
+ */
+public final class PropertyChange<T> {
+
+    private final String name;
+    private final String oldRawValue;
+    private final String newRawValue;
+    private final T oldValue;
+    private final T newValue;
+
+    private PropertyChange(String name, String oldRawValue, String newRawValue, T oldValue, T newValue) {
+        this.name = Objects.requireNonNull(name, "Property name cannot be null");
+        this.oldRawValue = oldRawValue;
+        this.newRawValue = newRawValue;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    /**
+     * Creates a change.
+     *
+     * @param name the property name
+     * @param oldRawValue the raw value before the change, or null if there was none
+     * @param newRawValue the raw value after the change, or null if there is none
+     * @param oldValue the converted value before the change, or null if there was none
+     * @param newValue the converted value after the change, or null if there is none
+     * @param <T> the property value type
+     * @return the change
+     */
+    public static <T> PropertyChange<T> of(
+            String name,
+            String oldRawValue,
+            String newRawValue,
+            T oldValue,
+            T newValue) {
+        return new PropertyChange<>(name, oldRawValue, newRawValue, oldValue, newValue);
+    }
+
+    /**
+     * Gets the name of the changed property.
+     *
+     * @return the property name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the raw value before the change.
+     *
+     * @return the old raw value, or empty if the property was added
+     */
+    public Optional<String> getOldRawValue() {
+        return Optional.ofNullable(oldRawValue);
+    }
+
+    /**
+     * Gets the raw value after the change.
+     *
+     * @return the new raw value, or empty if the property was removed
+     */
+    public Optional<String> getNewRawValue() {
+        return Optional.ofNullable(newRawValue);
+    }
+
+    /**
+     * Gets the converted value before the change.
+     *
+     * @return the old value, or empty if there was none
+     */
+    public Optional<T> getOldValue() {
+        return Optional.ofNullable(oldValue);
+    }
+
+    /**
+     * Gets the converted value after the change.
+     *
+     * @return the new value, or empty if there is none
+     */
+    public Optional<T> getNewValue() {
+        return Optional.ofNullable(newValue);
+    }
+
+    /**
+     * Checks if the property had no value before the change.
+     *
+     * @return true if the property was added
+     */
+    public boolean isAdded() {
+        return oldRawValue == null;
+    }
+
+    /**
+     * Checks if the property has no value after the change.
+     *
+     * @return true if the property was removed
+     */
+    public boolean isRemoved() {
+        return newRawValue == null;
+    }
+
+    /**
+     * Checks if the property had a value before the change and still has one.
+     *
+     * @return true if the value was modified
+     */
+    public boolean isModified() {
+        return oldRawValue != null && newRawValue != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PropertyChange<?> that = (PropertyChange<?>) o;
+        return name.equals(that.name)
+                && Objects.equals(oldRawValue, that.oldRawValue)
+                && Objects.equals(newRawValue, that.newRawValue)
+                && Objects.equals(oldValue, that.oldValue)
+                && Objects.equals(newValue, that.newValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, oldRawValue, newRawValue, oldValue, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyChange{"
+                + "name='" + name + '\''
+                + ", oldValue=" + (oldRawValue == null ? "<none>" : "'" + oldRawValue + "'")
+                + ", newValue=" + (newRawValue == null ? "<none>" : "'" + newRawValue + "'")
+                + '}';
+    }
+}
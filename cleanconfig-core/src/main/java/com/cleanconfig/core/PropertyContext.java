@@ -73,4 +73,45 @@ public interface PropertyContext {
      * @return true if the property is present
      */
     boolean hasProperty(String propertyName);
+
+    /**
+     * Gets a property value as a string by key.
+     *
+     * <p>Contexts created by the validators for a registry built with
+     * {@link PropertyRegistryBuilder} answer from an array indexed by the key's id. The default
+     * implementation looks the value up by the key's name.
+     *
+     * @param key the property key
+     * @return optional containing the value, or empty if not present
+     * @since 0.4.0
+     */
+    default Optional<String> getPropertyByKey(PropertyKey key) {
+        return getProperty(key.getName());
+    }
+
+    /**
+     * Gets a property value by key with type conversion.
+     *
+     * <p>The default implementation looks the value up by the key's name.
+     *
+     * @param key the property key
+     * @param targetType the desired type
+     * @param <T> the type parameter
+     * @return optional containing the converted value, or empty if not present or conversion failed
+     * @since 0.4.0
+     */
+    default <T> Optional<T> getTypedPropertyByKey(PropertyKey key, Class<T> targetType) {
+        return getTypedProperty(key.getName(), targetType);
+    }
+
+    /**
+     * Checks if a property is present by key.
+     *
+     * @param key the property key
+     * @return true if the property is present
+     * @since 0.4.0
+     */
+    default boolean hasPropertyByKey(PropertyKey key) {
+        return hasProperty(key.getName());
+    }
 }
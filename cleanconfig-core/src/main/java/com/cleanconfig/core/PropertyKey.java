@@ -0,0 +1,60 @@
+package com.cleanconfig.core;
+
+/**
+ * Handle for a property of a registry, identified by a dense integer id.
+ *
+ * <p>A registry built with {@link PropertyRegistryBuilder} assigns every property an id from
+ * 0 to the number of properties minus one, in registration order, and creates exactly one
+ * key per property. Code that reads the same properties repeatedly can resolve their keys once
+ * and then pass keys instead of names: lookups by key index an array instead of hashing and
+ * comparing the name string.
+ *
+ * <p>Example usage:
+ * <pre>
+ * PropertyKey maxConnections = registry.getKey("db.pool.max").orElseThrow();
+ *
+ * // In a rule that runs on every validation
+ * Optional&lt;Integer&gt; max = context.getTypedProperty(maxConnections, Integer.class);
+ * </pre>
+ *
+ * <p>Keys are interned: a registry returns the same instance for a name on every call, so keys
+ * are compared by identity. A key's name is the same string instance as its definition's name,
+ * so holding keys does not duplicate names. Keys of different registries are never equal, even
+ * for the same name and id.
+ *
+ * @see PropertyRegistry#getKey(String)
+ * @since 0.4.0
+ */
+public final class PropertyKey {
+
+    private final String name;
+    private final int id;
+
+    PropertyKey(String name, int id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * Gets the property name.
+     *
+     * @return the property name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the id of the property within its registry.
+     *
+     * @return the id, from 0 to the number of properties in the registry minus one
+     */
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,543 @@
+package com.cleanconfig.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Compact, immutable, insertion-ordered map of property names to raw values.
+ *
+ * <p>A {@code HashMap} or {@code LinkedHashMap} allocates an entry object per property, which
+ * dominates memory for large flat configurations and is copied at every stage that builds a
+ * new map. This map keeps names and values in two parallel arrays, in insertion order, and
+ * locates them through an open-addressed table of array indexes. It allocates no objects per
+ * entry and caches its content hash, so comparing two maps that differ is usually a single
+ * comparison.
+ *
+ * <p>It is a regular {@link Map} and can be passed wherever a {@code Map<String, String>} is
+ * accepted. Mutating methods throw {@link UnsupportedOperationException}; derive new maps with
+ * {@link #with(String, String)}, {@link #without(String)} and {@link #withAll(Map)} instead.
+ *
+ * <p>Derived maps share structure with the map they were derived from:
+ * <ul>
+ *   <li>Adding a new name appends to the shared arrays in place when they have room and no
+ *       other map has appended to them yet, so building a map with repeated {@code with} calls
+ *       costs amortized constant time per entry</li>
+ *   <li>Replacing a value shares the names and the index table and copies only the values</li>
+ *   <li>Removing a name copies the remaining entries</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>
+ * PropertyMap base = PropertyMap.builder()
+ *     .put("server.port", "8080")
+ *     .put("server.host", "localhost")
+ *     .build();
+ *
+ * PropertyMap production = base.with("server.host", "0.0.0.0");
+ * validator.validate(production);
+ * </pre>
+ *
+ * <p>Names cannot be null; values can. Thread-safe: maps never change once created.
+ *
+ * @since 0.4.0
+ */
+public final class PropertyMap extends AbstractMap<String, String> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private static final PropertyMap EMPTY =
+            new PropertyMap(new String[0], new String[0], new int[1], 0, 0, new AtomicInteger());
+
+    // Names and values in insertion order; entries at and beyond size belong to other maps
+    private final String[] keys;
+    private final String[] values;
+    // Index plus one of the entry in each slot, 0 for an empty slot; at most half full
+    private final int[] table;
+    private final int size;
+    private final int hashCode;
+    // Number of entries claimed in the shared arrays by this map and the maps sharing them
+    private final AtomicInteger claimed;
+
+    private Set<Map.Entry<String, String>> entrySet;
+
+    private PropertyMap(
+            String[] keys,
+            String[] values,
+            int[] table,
+            int size,
+            int hashCode,
+            AtomicInteger claimed) {
+        this.keys = keys;
+        this.values = values;
+        this.table = table;
+        this.size = size;
+        this.hashCode = hashCode;
+        this.claimed = claimed;
+    }
+
+    /**
+     * Gets the empty property map.
+     *
+     * @return the empty property map
+     */
+    public static PropertyMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a property map with the entries of a map, in its iteration order.
+     *
+     * @param properties the properties to copy
+     * @return the given map if it is already a property map, otherwise a copy
+     * @throws NullPointerException if the map or any of its names is null
+     */
+    public static PropertyMap copyOf(Map<String, String> properties) {
+        Objects.requireNonNull(properties, "Properties cannot be null");
+        if (properties instanceof PropertyMap) {
+            return (PropertyMap) properties;
+        }
+        return builder(properties.size()).putAll(properties).build();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a new builder sized for an expected number of entries.
+     *
+     * @param expectedSize the expected number of entries
+     * @return a new builder
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public static Builder builder(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Returns a map with a property set to a value.
+     *
+     * <p>A new name is added at the end; an existing name keeps its position.
+     *
+     * @param key the property name
+     * @param value the value (may be null)
+     * @return a map with the property set, or this map if it already has that value
+     * @throws NullPointerException if key is null
+     */
+    public PropertyMap with(String key, String value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        int index = indexOf(keys, table, size, key);
+        if (index >= 0) {
+            String previous = values[index];
+            if (Objects.equals(previous, value)) {
+                return this;
+            }
+            String[] newValues = new String[values.length];
+            System.arraycopy(values, 0, newValues, 0, size);
+            newValues[index] = value;
+            int newHashCode = hashCode - entryHash(key, previous) + entryHash(key, value);
+            return new PropertyMap(keys, newValues, table, size, newHashCode, claimed);
+        }
+
+        int newHashCode = hashCode + entryHash(key, value);
+        if (size < keys.length && claimed.compareAndSet(size, size + 1)) {
+            // Nobody has appended past this map yet: append in place
+            keys[size] = key;
+            values[size] = value;
+            insert(table, key, size);
+            return new PropertyMap(keys, values, table, size + 1, newHashCode, claimed);
+        }
+
+        int capacity = Math.max(MIN_CAPACITY, size + 1 + (size >> 1));
+        String[] newKeys = new String[capacity];
+        String[] newValues = new String[capacity];
+        System.arraycopy(keys, 0, newKeys, 0, size);
+        System.arraycopy(values, 0, newValues, 0, size);
+        newKeys[size] = key;
+        newValues[size] = value;
+        return new PropertyMap(newKeys, newValues, buildTable(newKeys, size + 1, capacity), size + 1,
+                newHashCode, new AtomicInteger(size + 1));
+    }
+
+    /**
+     * Returns a map without a property.
+     *
+     * @param key the property name
+     * @return a map without the property, or this map if it has no such property
+     */
+    public PropertyMap without(String key) {
+        int index = indexOf(keys, table, size, key);
+        if (index < 0) {
+            return this;
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+
+        int newSize = size - 1;
+        String[] newKeys = new String[newSize];
+        String[] newValues = new String[newSize];
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(values, 0, newValues, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, newSize - index);
+        System.arraycopy(values, index + 1, newValues, index, newSize - index);
+        return new PropertyMap(newKeys, newValues, buildTable(newKeys, newSize, newSize), newSize,
+                hashCode - entryHash(key, values[index]), new AtomicInteger(newSize));
+    }
+
+    /**
+     * Returns a map with several properties set.
+     *
+     * @param properties the properties to set, applied in iteration order
+     * @return a map with the properties set
+     * @throws NullPointerException if any name is null
+     */
+    public PropertyMap withAll(Map<String, String> properties) {
+        Objects.requireNonNull(properties, "Properties cannot be null");
+        if (properties.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return copyOf(properties);
+        }
+        return new Builder(this, properties.size()).putAll(properties).build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(keys, table, size, key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        int index = indexOf(keys, table, size, key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public String getOrDefault(Object key, String defaultValue) {
+        int index = indexOf(keys, table, size, key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        throw new UnsupportedOperationException("PropertyMap is immutable; use with()");
+    }
+
+    @Override
+    public String remove(Object key) {
+        throw new UnsupportedOperationException("PropertyMap is immutable; use without()");
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends String> properties) {
+        throw new UnsupportedOperationException("PropertyMap is immutable; use withAll()");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PropertyMap is immutable; use empty()");
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super String> action) {
+        Objects.requireNonNull(action, "Action cannot be null");
+        for (int i = 0; i < size; i++) {
+            action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        Set<Map.Entry<String, String>> entries = entrySet;
+        if (entries == null) {
+            entries = new EntrySet();
+            entrySet = entries;
+        }
+        return entries;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof PropertyMap) {
+            PropertyMap other = (PropertyMap) o;
+            if (size != other.size || hashCode != other.hashCode) {
+                return false;
+            }
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Checks if this map shares its name array with another map.
+     *
+     * <p>Maps that share it hold the same names at the same positions, up to the size of the
+     * smaller one; see {@link ConfigDiff}.
+     */
+    boolean sharesKeysWith(PropertyMap other) {
+        return keys == other.keys;
+    }
+
+    /**
+     * Checks if this map shares its value array with another map, in which case they also hold
+     * the same values at the same positions, up to the size of the smaller one.
+     */
+    boolean sharesValuesWith(PropertyMap other) {
+        return values == other.values;
+    }
+
+    /**
+     * Gets the name at a position in insertion order.
+     */
+    String keyAt(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Gets the value at a position in insertion order.
+     */
+    String valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * Hash of an entry as defined by {@link Map.Entry#hashCode()}.
+     */
+    private static int entryHash(String key, String value) {
+        return key.hashCode() ^ Objects.hashCode(value);
+    }
+
+    private static int slotOf(Object key, int mask) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Finds the index of a key among the first {@code size} entries, or -1.
+     */
+    private static int indexOf(String[] keys, int[] table, int size, Object key) {
+        if (key == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        for (int slot = slotOf(key, mask); table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            // Entries at or beyond size were appended by other maps sharing the arrays
+            if (index < size && keys[index].equals(key)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static void insert(int[] table, String key, int index) {
+        int mask = table.length - 1;
+        int slot = slotOf(key, mask);
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    /**
+     * Builds an index table for the first {@code size} keys, with room for {@code capacity}.
+     */
+    private static int[] buildTable(String[] keys, int size, int capacity) {
+        int length = 2;
+        while (length < capacity * 2) {
+            length <<= 1;
+        }
+        int[] table = new int[length];
+        for (int i = 0; i < size; i++) {
+            insert(table, keys[i], i);
+        }
+        return table;
+    }
+
+    /**
+     * Entry view, iterating in insertion order.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            int index = indexOf(keys, table, size, entry.getKey());
+            return index >= 0 && Objects.equals(values[index], entry.getValue());
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new Iterator<Map.Entry<String, String>>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Map.Entry<String, String> next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry<String, String> entry = new SimpleImmutableEntry<>(keys[next], values[next]);
+                    next++;
+                    return entry;
+                }
+            };
+        }
+    }
+
+    /**
+     * Builder for {@link PropertyMap}.
+     *
+     * <p>Putting a name that was already put replaces its value and keeps its position.
+     * Not thread-safe.
+     */
+    public static final class Builder {
+        private String[] keys;
+        private String[] values;
+        private int[] table;
+        private int size;
+        private int hashCode;
+        // The arrays were handed to a built map and must be copied before the next change
+        private boolean shared;
+
+        private Builder(int capacity) {
+            this.keys = new String[capacity];
+            this.values = new String[capacity];
+            this.table = buildTable(keys, 0, capacity);
+        }
+
+        private Builder(PropertyMap base, int additional) {
+            int capacity = base.size + additional;
+            this.keys = new String[capacity];
+            this.values = new String[capacity];
+            System.arraycopy(base.keys, 0, keys, 0, base.size);
+            System.arraycopy(base.values, 0, values, 0, base.size);
+            this.size = base.size;
+            this.hashCode = base.hashCode;
+            this.table = buildTable(keys, size, capacity);
+        }
+
+        /**
+         * Sets a property.
+         *
+         * @param key the property name
+         * @param value the value (may be null)
+         * @return this builder
+         * @throws NullPointerException if key is null
+         */
+        public Builder put(String key, String value) {
+            Objects.requireNonNull(key, "Key cannot be null");
+            if (shared) {
+                resize(keys.length);
+            }
+            int index = indexOf(keys, table, size, key);
+            if (index >= 0) {
+                hashCode += entryHash(key, value) - entryHash(key, values[index]);
+                values[index] = value;
+                return this;
+            }
+            if (size == keys.length) {
+                resize(Math.max(MIN_CAPACITY, size + (size >> 1)));
+            }
+            keys[size] = key;
+            values[size] = value;
+            insert(table, key, size);
+            size++;
+            hashCode += entryHash(key, value);
+            return this;
+        }
+
+        /**
+         * Sets several properties, in the map's iteration order.
+         *
+         * @param properties the properties to set
+         * @return this builder
+         * @throws NullPointerException if any name is null
+         */
+        public Builder putAll(Map<String, String> properties) {
+            Objects.requireNonNull(properties, "Properties cannot be null");
+            properties.forEach(this::put);
+            return this;
+        }
+
+        /**
+         * Builds the property map.
+         *
+         * @return the property map
+         */
+        public PropertyMap build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            shared = true;
+            return new PropertyMap(keys, values, table, size, hashCode, new AtomicInteger(size));
+        }
+
+        private void resize(int capacity) {
+            String[] newKeys = new String[capacity];
+            String[] newValues = new String[capacity];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            System.arraycopy(values, 0, newValues, 0, size);
+            keys = newKeys;
+            values = newValues;
+            table = buildTable(keys, size, capacity);
+            shared = false;
+        }
+    }
+}
@@ -3,7 +3,11 @@ package com.cleanconfig.core;
 import com.cleanconfig.core.validation.PropertyGroup;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Registry for managing property definitions and property groups.
@@ -44,6 +48,46 @@ public interface PropertyRegistry {
      */
     Optional<PropertyDefinition<?>> getProperty(String propertyName);
 
+    /**
+     * Gets the key of a property.
+     *
+     * <p>Registries built with {@link PropertyRegistryBuilder} return the same key instance for
+     * a name on every call. The default implementation assigns no keys and returns empty.
+     *
+     * @param propertyName the property name
+     * @return the property key, or empty if the property is not defined or the registry has no keys
+     * @since 0.4.0
+     */
+    default Optional<PropertyKey> getKey(String propertyName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the keys of all properties, ordered by id, so that the key with id {@code i} is
+     * at position {@code i}.
+     *
+     * @return unmodifiable list of keys, empty if the registry has no keys
+     * @since 0.4.0
+     */
+    default List<PropertyKey> getKeys() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Gets a property definition by key.
+     *
+     * <p>Registries built with {@link PropertyRegistryBuilder} answer with an array load and
+     * only recognize their own keys. The default implementation looks the definition up by
+     * the key's name.
+     *
+     * @param key the property key
+     * @return the property definition, or empty if the key does not belong to this registry
+     * @since 0.4.0
+     */
+    default Optional<PropertyDefinition<?>> getDefinition(PropertyKey key) {
+        return getProperty(key.getName());
+    }
+
     /**
      * Checks if a property is defined in this registry.
      *
@@ -82,4 +126,25 @@ public interface PropertyRegistry {
      * @since 0.2.0
      */
     Collection<PropertyGroup> getAllPropertyGroups();
+
+    /**
+     * Gets the properties that declare a validation dependency on the given property.
+     *
+     * <p>This is the reverse of {@link PropertyDefinition#getDependsOnForValidation()}.
+     * Registries built with {@link PropertyRegistryBuilder} answer from an index computed
+     * at build time; the default implementation scans all property definitions.
+     *
+     * @param propertyName the property name
+     * @return unmodifiable set of dependent property names, empty if there are none
+     * @since 0.4.0
+     */
+    default Set<String> getDependents(String propertyName) {
+        Set<String> dependents = new LinkedHashSet<>();
+        for (PropertyDefinition<?> property : getAllProperties()) {
+            if (property.getDependsOnForValidation().contains(propertyName)) {
+                dependents.add(property.getName());
+            }
+        }
+        return Collections.unmodifiableSet(dependents);
+    }
 }
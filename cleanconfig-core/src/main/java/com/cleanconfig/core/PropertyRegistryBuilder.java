@@ -2,16 +2,19 @@ package com.cleanconfig.core;
 
 import com.cleanconfig.core.validation.PropertyGroup;
 
+import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Optional;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Builder for creating property registries.
@@ -85,10 +88,12 @@ public class PropertyRegistryBuilder {
      */
     public PropertyRegistry build() {
         validateNoDependencies();
-        detectCircularDependencies();
+        Map<String, Set<String>> dependents = indexDependents();
+        detectCircularDependencies(dependents);
         return new DefaultPropertyRegistry(
                 new LinkedHashMap<>(properties),
-                new LinkedHashMap<>(propertyGroups)
+                new LinkedHashMap<>(propertyGroups),
+                dependents
         );
     }
 
@@ -107,49 +112,58 @@ public class PropertyRegistryBuilder {
                 });
     }
 
+    /**
+     * Builds the reverse dependency index: property name to the properties that depend on it.
+     */
+    private Map<String, Set<String>> indexDependents() {
+        Map<String, Set<String>> dependents = new HashMap<>();
+        for (PropertyDefinition<?> property : properties.values()) {
+            for (String dependency : property.getDependsOnForValidation()) {
+                if (properties.containsKey(dependency)) {
+                    dependents.computeIfAbsent(dependency, name -> new LinkedHashSet<>())
+                            .add(property.getName());
+                }
+            }
+        }
+        dependents.replaceAll((name, names) -> Collections.unmodifiableSet(names));
+        return dependents;
+    }
+
     /**
      * Detects circular dependencies using topological sort.
      */
-    private void detectCircularDependencies() {
-        // Build dependency graph
-        Map<String, Set<String>> dependencies = properties.values().stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        PropertyDefinition::getName,
-                        definition -> definition.getDependsOnForValidation().stream()
-                                .filter(properties::containsKey)
-                                .collect(java.util.stream.Collectors.toSet())
-                ));
-
-        Set<String> allProperties = new HashSet<>(properties.keySet());
+    private void detectCircularDependencies(Map<String, Set<String>> dependents) {
+        // In-degree is the number of defined dependencies of each property
+        Map<String, Integer> inDegree = new HashMap<>(properties.size() * 2);
+        Queue<String> queue = new ArrayDeque<>();
+        for (PropertyDefinition<?> property : properties.values()) {
+            int degree = 0;
+            for (String dependency : property.getDependsOnForValidation()) {
+                if (properties.containsKey(dependency)) {
+                    degree++;
+                }
+            }
+            inDegree.put(property.getName(), degree);
+            if (degree == 0) {
+                queue.add(property.getName());
+            }
+        }
 
         // Topological sort using Kahn's algorithm
-        Map<String, Integer> inDegree = allProperties.stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        property -> property,
-                        property -> dependencies.get(property).size()
-                ));
-
-        Queue<String> queue = allProperties.stream()
-                .filter(property -> inDegree.get(property) == 0)
-                .collect(java.util.stream.Collectors.toCollection(LinkedList::new));
-
         int processed = 0;
         while (!queue.isEmpty()) {
             String current = queue.poll();
             processed++;
 
-            // Find all properties that depend on the current property
-            findDependents(current, dependencies).stream()
-                    .forEach(dependent -> {
-                        int newDegree = inDegree.get(dependent) - 1;
-                        inDegree.put(dependent, newDegree);
-                        if (newDegree == 0) {
-                            queue.add(dependent);
-                        }
-                    });
+            for (String dependent : dependents.getOrDefault(current, Collections.emptySet())) {
+                int newDegree = inDegree.merge(dependent, -1, Integer::sum);
+                if (newDegree == 0) {
+                    queue.add(dependent);
+                }
+            }
         }
 
-        if (processed != allProperties.size()) {
+        if (processed != properties.size()) {
             throw new IllegalStateException(
                     "Circular dependency detected in property validation dependencies");
         }
@@ -168,28 +182,36 @@ public class PropertyRegistryBuilder {
         }
     }
 
-    /**
-     * Finds all properties that depend on the given property.
-     */
-    private Set<String> findDependents(String property, Map<String, Set<String>> dependencies) {
-        return dependencies.entrySet().stream()
-                .filter(entry -> entry.getValue().contains(property))
-                .map(Map.Entry::getKey)
-                .collect(java.util.stream.Collectors.toSet());
-    }
-
     /**
      * Default implementation of PropertyRegistry.
      */
     private static class DefaultPropertyRegistry implements PropertyRegistry {
         private final Map<String, PropertyDefinition<?>> properties;
         private final Map<String, PropertyGroup> propertyGroups;
+        private final Map<String, Set<String>> dependents;
+        private final Map<String, PropertyKey> keysByName;
+        private final PropertyKey[] keys;
+        private final PropertyDefinition<?>[] definitionsById;
 
         DefaultPropertyRegistry(
                 Map<String, PropertyDefinition<?>> properties,
-                Map<String, PropertyGroup> propertyGroups) {
+                Map<String, PropertyGroup> propertyGroups,
+                Map<String, Set<String>> dependents) {
             this.properties = properties;
             this.propertyGroups = propertyGroups;
+            this.dependents = dependents;
+
+            // Ids follow registration order, and each key shares its definition's name string
+            this.keysByName = new HashMap<>(properties.size() * 2);
+            this.keys = new PropertyKey[properties.size()];
+            this.definitionsById = new PropertyDefinition<?>[properties.size()];
+            int id = 0;
+            for (PropertyDefinition<?> definition : properties.values()) {
+                keys[id] = new PropertyKey(definition.getName(), id);
+                definitionsById[id] = definition;
+                keysByName.put(definition.getName(), keys[id]);
+                id++;
+            }
         }
 
         @Override
@@ -197,6 +219,26 @@ public class PropertyRegistryBuilder {
             return Optional.ofNullable(properties.get(propertyName));
         }
 
+        @Override
+        public Optional<PropertyKey> getKey(String propertyName) {
+            return Optional.ofNullable(keysByName.get(propertyName));
+        }
+
+        @Override
+        public List<PropertyKey> getKeys() {
+            return Collections.unmodifiableList(Arrays.asList(keys));
+        }
+
+        @Override
+        public Optional<PropertyDefinition<?>> getDefinition(PropertyKey key) {
+            Objects.requireNonNull(key, "Property key cannot be null");
+            int id = key.getId();
+            if (id >= 0 && id < keys.length && keys[id] == key) {
+                return Optional.of(definitionsById[id]);
+            }
+            return Optional.empty();
+        }
+
         @Override
         public boolean isDefined(String propertyName) {
             return properties.containsKey(propertyName);
@@ -221,5 +263,10 @@ public class PropertyRegistryBuilder {
         public Collection<PropertyGroup> getAllPropertyGroups() {
             return Collections.unmodifiableCollection(propertyGroups.values());
         }
+
+        @Override
+        public Set<String> getDependents(String propertyName) {
+            return dependents.getOrDefault(propertyName, Collections.emptySet());
+        }
     }
 }
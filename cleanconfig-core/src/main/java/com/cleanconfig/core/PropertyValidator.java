@@ -4,6 +4,7 @@ import com.cleanconfig.core.validation.PropertyGroup;
 import com.cleanconfig.core.validation.ValidationResult;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Validates properties according to their definitions in a registry.
@@ -60,4 +61,39 @@ public interface PropertyValidator {
      * @since 0.2.0
      */
     ValidationResult validatePropertyGroup(PropertyGroup group, Map<String, String> properties);
+
+    /**
+     * Re-validates properties after some keys changed, reusing a previous result.
+     *
+     * <p>Implementations may re-run only the rules that a change can affect: the changed
+     * properties, their transitive dependents (see
+     * {@link PropertyDefinition#getDependsOnForValidation()}) and the property groups that
+     * contain any of them. Errors for unaffected properties are carried over from
+     * {@code previousResult}, so the result contains the same errors as
+     * {@link #validate(Map)}, although not necessarily in the same order.
+     *
+     * <p>Rules that read properties through the context without declaring them as
+     * dependencies are not re-run when those properties change.
+     *
+     * <p>The default implementation validates all properties again.
+     *
+     * <p>Example usage:
+     * <pre>
+     * ValidationResult result = validator.validate(properties);
+     * properties.put("db.pool.max", "50");
+     * result = validator.validateIncremental(result, properties, Collections.singleton("db.pool.max"));
+     * </pre>
+     *
+     * @param previousResult the result of validating the properties before the change
+     * @param properties all properties after the change
+     * @param changedKeys the keys that were added, removed or modified
+     * @return the validation result
+     * @since 0.4.0
+     */
+    default ValidationResult validateIncremental(
+            ValidationResult previousResult,
+            Map<String, String> properties,
+            Set<String> changedKeys) {
+        return validate(properties);
+    }
 }
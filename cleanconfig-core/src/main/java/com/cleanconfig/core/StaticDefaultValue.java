@@ -0,0 +1,29 @@
+package com.cleanconfig.core;
+
+import java.util.Optional;
+
+/**
+ * Default value that is the same in every context.
+ *
+ * @param <T> the type of the default value
+ * @see ConditionalDefaultValue#staticValue(Object)
+ * @since 0.4.0
+ */
+final class StaticDefaultValue<T> implements ConditionalDefaultValue<T> {
+
+    private final Optional<T> value;
+
+    StaticDefaultValue(T value) {
+        this.value = Optional.of(value);
+    }
+
+    @Override
+    public Optional<T> computeDefault(PropertyContext context) {
+        return value;
+    }
+
+    @Override
+    public Optional<T> getStaticValue() {
+        return value;
+    }
+}
@@ -0,0 +1,214 @@
+package com.cleanconfig.core.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the statistics of a {@link CachingPropertyValidator}.
+ *
+ * <p>All counts are cumulative since the validator was created; clearing the cache does not
+ * reset them. The weighted size is the total number of properties held by cached entries,
+ * which approximates the memory used by the cache better than the entry count.
+ *
+ * <p>Example usage:
+ * <pre>
+ * CacheStats stats = cachingValidator.getStats();
+ * if (stats.getHitRate() &lt; 0.5) {
+ *     logger.warn("Validation cache hit rate is low: " + stats);
+ * }
+ *
+ * // Publish to a metrics system
+ * stats.toMap().forEach((name, value) -&gt; gauge("cleanconfig.validation.cache." + name, value));
+ * </pre>
+ *
+ * @since 0.4.0
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long expirationCount;
+    private final long evictionCount;
+    private final long rejectedPutCount;
+    private final long totalLoadTimeNanos;
+    private final long weightedSize;
+
+    /**
+     * Creates a new statistics snapshot.
+     *
+     * @param hitCount number of lookups that returned a cached result
+     * @param missCount number of lookups that validated with the delegate
+     * @param expirationCount number of entries removed because their TTL elapsed
+     * @param evictionCount number of entries removed to make room or replaced by another configuration
+     * @param rejectedPutCount number of results not stored because an equal entry was already cached
+     * @param totalLoadTimeNanos total time spent in delegate validation, in nanoseconds
+     * @param weightedSize total number of properties held by cached entries
+     */
+    public CacheStats(
+            long hitCount,
+            long missCount,
+            long expirationCount,
+            long evictionCount,
+            long rejectedPutCount,
+            long totalLoadTimeNanos,
+            long weightedSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.expirationCount = expirationCount;
+        this.evictionCount = evictionCount;
+        this.rejectedPutCount = rejectedPutCount;
+        this.totalLoadTimeNanos = totalLoadTimeNanos;
+        this.weightedSize = weightedSize;
+    }
+
+    /**
+     * Gets the number of lookups that returned a cached result.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of lookups that validated with the delegate.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the total number of lookups.
+     *
+     * @return hits plus misses
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Gets the ratio of lookups that returned a cached result.
+     *
+     * @return the hit rate between 0.0 and 1.0, or 1.0 if there were no lookups
+     */
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Gets the number of entries removed because their TTL elapsed.
+     *
+     * @return the expiration count
+     */
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    /**
+     * Gets the number of entries evicted to stay within the maximum size, or replaced
+     * by a different configuration with the same fingerprint.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets the number of validation results that were not stored because another thread
+     * had already cached an equal configuration while this one was being validated.
+     *
+     * @return the rejected put count
+     */
+    public long getRejectedPutCount() {
+        return rejectedPutCount;
+    }
+
+    /**
+     * Gets the total time spent validating with the delegate on cache misses.
+     *
+     * @return the total load time in nanoseconds
+     */
+    public long getTotalLoadTimeNanos() {
+        return totalLoadTimeNanos;
+    }
+
+    /**
+     * Gets the average time spent validating with the delegate on a cache miss.
+     *
+     * @return the average load time in nanoseconds, or 0.0 if there were no misses
+     */
+    public double getAverageLoadTimeNanos() {
+        return missCount == 0 ? 0.0 : (double) totalLoadTimeNanos / missCount;
+    }
+
+    /**
+     * Gets the total number of properties held by cached entries.
+     *
+     * @return the weighted size
+     */
+    public long getWeightedSize() {
+        return weightedSize;
+    }
+
+    /**
+     * Gets the statistics as metric names and values, for publishing to metrics systems.
+     *
+     * @return unmodifiable map of metric names to values, in a stable order
+     */
+    public Map<String, Number> toMap() {
+        Map<String, Number> metrics = new LinkedHashMap<>();
+        metrics.put("hits", hitCount);
+        metrics.put("misses", missCount);
+        metrics.put("hitRate", getHitRate());
+        metrics.put("expirations", expirationCount);
+        metrics.put("evictions", evictionCount);
+        metrics.put("rejectedPuts", rejectedPutCount);
+        metrics.put("totalLoadTimeNanos", totalLoadTimeNanos);
+        metrics.put("averageLoadTimeNanos", getAverageLoadTimeNanos());
+        metrics.put("weightedSize", weightedSize);
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CacheStats that = (CacheStats) o;
+        return hitCount == that.hitCount
+                && missCount == that.missCount
+                && expirationCount == that.expirationCount
+                && evictionCount == that.evictionCount
+                && rejectedPutCount == that.rejectedPutCount
+                && totalLoadTimeNanos == that.totalLoadTimeNanos
+                && weightedSize == that.weightedSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hitCount, missCount, expirationCount, evictionCount,
+                rejectedPutCount, totalLoadTimeNanos, weightedSize);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{"
+                + "hits=" + hitCount
+                + ", misses=" + missCount
+                + ", expirations=" + expirationCount
+                + ", evictions=" + evictionCount
+                + ", rejectedPuts=" + rejectedPutCount
+                + ", totalLoadTimeNanos=" + totalLoadTimeNanos
+                + ", weightedSize=" + weightedSize
+                + '}';
+    }
+}
@@ -4,10 +4,12 @@ import com.cleanconfig.core.PropertyValidator;
 import com.cleanconfig.core.validation.ValidationResult;
 
 import java.time.Duration;
-import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Caching wrapper for PropertyValidator.
@@ -25,16 +27,41 @@ import java.util.concurrent.ConcurrentHashMap;
  * );
  * </pre>
  *
+ * <p>Entries are looked up by a 64-bit hash of the contents of every property name and value,
+ * and returned only if the cached copy of the map is equal to the one being validated, so
+ * configurations with colliding hashes never share a result. Computing the hash reads every
+ * character once, as comparing the maps does. Entries expire {@code ttl} after they were
+ * stored, measured with {@link System#nanoTime()}; with a negative {@code ttl} they expire
+ * at once. A {@code maxSize} of zero or less disables caching: every call is delegated.
+ *
+ * <p>Entries are spread by hash over up to 16 independently locked segments, so threads
+ * validating different configurations rarely wait for each other. Each segment holds its
+ * share of {@code maxSize} and evicts its own least recently used entry when full, so
+ * eviction is least-recently-used per segment rather than across the whole cache. Caches
+ * with fewer than 32 entries use a single segment.
+ *
+ * <p>Hits, misses, expirations, evictions and delegate validation time are recorded on
+ * striped counters and can be read at any time with {@link #getStats()}.
+ *
  * <p>Thread-safe and suitable for concurrent use.
  *
  * @since 0.1.0
  */
 public class CachingPropertyValidator implements PropertyValidator {
 
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 16;
+
     private final PropertyValidator delegate;
-    private final int maxSize;
-    private final Duration ttl;
-    private final ConcurrentHashMap<CacheKey, CacheEntry> cache;
+    private final long ttlNanos;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejectedPuts = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+    private final LongAdder weightedSize = new LongAdder();
 
     /**
      * Creates a caching validator with default settings.
@@ -54,40 +81,67 @@ public class CachingPropertyValidator implements PropertyValidator {
      */
     public CachingPropertyValidator(PropertyValidator delegate, int maxSize, Duration ttl) {
         this.delegate = Objects.requireNonNull(delegate, "Delegate validator cannot be null");
-        this.maxSize = maxSize;
-        this.ttl = Objects.requireNonNull(ttl, "TTL cannot be null");
-        this.cache = new ConcurrentHashMap<>();
+        Objects.requireNonNull(ttl, "TTL cannot be null");
+        this.ttlNanos = toNanos(ttl);
+
+        // A power of two, so a segment is picked by masking the hash; none when caching is disabled
+        int count = maxSize <= 0
+                ? 0
+                : Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
     }
 
     @Override
     public ValidationResult validate(Map<String, String> properties) {
         Objects.requireNonNull(properties, "Properties cannot be null");
+        if (segments.length == 0) {
+            misses.increment();
+            return load(properties);
+        }
 
-        CacheKey key = CacheKey.from(properties);
+        long fingerprint = fingerprint(properties);
+        Segment segment = segmentFor(fingerprint);
 
-        // Check cache
-        CacheEntry entry = cache.get(key);
-        if (entry != null && !entry.isExpired(ttl)) {
+        // Check cache; the lookup also marks the entry as most recently used
+        CacheEntry entry;
+        synchronized (segment) {
+            entry = segment.get(fingerprint);
+            if (entry != null && entry.isExpired(System.nanoTime(), ttlNanos)) {
+                segment.removeExpired(fingerprint, entry);
+                entry = null;
+            }
+        }
+        if (entry != null && entry.properties.equals(properties)) {
+            hits.increment();
             return entry.result;
         }
 
-        // Cache miss or expired - perform validation
-        ValidationResult result = delegate.validate(properties);
+        // Cache miss, expired or fingerprint collision - perform validation
+        misses.increment();
+        ValidationResult result = load(properties);
 
-        // Store in cache (with size limit)
-        if (cache.size() < maxSize) {
-            cache.put(key, new CacheEntry(result));
-        } else {
-            // Cache full - evict expired entries
-            evictExpired();
-            if (cache.size() < maxSize) {
-                cache.put(key, new CacheEntry(result));
-            }
+        // Store a copy of the properties so later changes to the caller's map cannot alias the entry
+        CacheEntry fresh = new CacheEntry(new HashMap<>(properties), result, System.nanoTime());
+        synchronized (segment) {
+            segment.store(fingerprint, fresh);
         }
 
         return result;
     }
 
+    @Override
+    public ValidationResult validateIncremental(
+            ValidationResult previousResult,
+            Map<String, String> properties,
+            Set<String> changedKeys) {
+        // Incremental results depend on the previous result, not only on the properties
+        // Delegate directly so the delegate can re-validate only what changed
+        return delegate.validateIncremental(previousResult, properties, changedKeys);
+    }
+
     @Override
     public ValidationResult validateProperty(String propertyName, String value, Map<String, String> properties) {
         // Single property validation doesn't benefit from caching as much
@@ -106,7 +160,14 @@ public class CachingPropertyValidator implements PropertyValidator {
      * Clears the validation cache.
      */
     public void clearCache() {
-        cache.clear();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (CacheEntry entry : segment.values()) {
+                    weightedSize.add(-entry.weight());
+                }
+                segment.clear();
+            }
+        }
     }
 
     /**
@@ -115,62 +176,169 @@ public class CachingPropertyValidator implements PropertyValidator {
      * @return number of cached entries
      */
     public int getCacheSize() {
-        return cache.size();
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
     }
 
     /**
-     * Evicts expired entries from the cache.
+     * Gets a snapshot of the cache statistics.
+     *
+     * <p>Reading statistics does not block validation.
+     *
+     * @return the current statistics
+     * @since 0.4.0
      */
-    private void evictExpired() {
-        cache.entrySet().removeIf(entry -> entry.getValue().isExpired(ttl));
+    public CacheStats getStats() {
+        return new CacheStats(
+                hits.sum(),
+                misses.sum(),
+                expirations.sum(),
+                evictions.sum(),
+                rejectedPuts.sum(),
+                loadTimeNanos.sum(),
+                weightedSize.sum());
+    }
+
+    private ValidationResult load(Map<String, String> properties) {
+        long start = System.nanoTime();
+        try {
+            return delegate.validate(properties);
+        } finally {
+            loadTimeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private Segment segmentFor(long fingerprint) {
+        return segments[(int) fingerprint & (segments.length - 1)];
     }
 
     /**
-     * Cache key based on property map hash code.
+     * Computes an order-independent 64-bit hash of the contents of a property map.
+     *
+     * <p>Each name and value is hashed over all its characters into 64 bits, so strings with
+     * equal 32-bit {@link String#hashCode()}s, such as {@code "50"} and {@code "4O"}, still
+     * get different hashes. Each entry mixes its name and value hashes, and the entries are
+     * summed so iteration order does not matter. Equality of the maps still decides a hit.
      */
-    private static class CacheKey {
-        private final int hashCode;
+    static long fingerprint(Map<String, String> properties) {
+        long fingerprint = properties.size();
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            long keyHash = contentHash(entry.getKey());
+            long valueHash = contentHash(entry.getValue());
+            fingerprint += mix(keyHash * 0x9E3779B97F4A7C15L + valueHash);
+        }
+        return mix(fingerprint);
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the characters of a string; zero for null.
+     */
+    private static long contentHash(String value) {
+        if (value == null) {
+            return 0;
+        }
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 64-bit finalizer from MurmurHash3.
+     */
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        mixed = (mixed ^ (mixed >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return mixed ^ (mixed >>> 33);
+    }
 
-        private CacheKey(int hashCode) {
-            this.hashCode = hashCode;
+    private static long toNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
         }
+    }
+
+    /**
+     * One independently locked part of the cache, in access order, evicting its least
+     * recently used entry beyond its capacity. Callers hold the segment's lock.
+     */
+    private final class Segment extends LinkedHashMap<Long, CacheEntry> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
 
-        static CacheKey from(Map<String, String> properties) {
-            return new CacheKey(properties.hashCode());
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
         }
 
         @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
+        protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry> eldest) {
+            if (size() <= capacity) {
                 return false;
             }
-            CacheKey cacheKey = (CacheKey) o;
-            return hashCode == cacheKey.hashCode;
+            evictions.increment();
+            weightedSize.add(-eldest.getValue().weight());
+            return true;
         }
 
-        @Override
-        public int hashCode() {
-            return hashCode;
+        /**
+         * Stores an entry unless another thread already cached an equal, live configuration.
+         */
+        void store(long fingerprint, CacheEntry fresh) {
+            CacheEntry existing = get(fingerprint);
+            if (existing != null) {
+                if (existing.isExpired(fresh.createdNanos, ttlNanos)) {
+                    removeExpired(fingerprint, existing);
+                } else if (existing.properties.equals(fresh.properties)) {
+                    rejectedPuts.increment();
+                    return;
+                } else {
+                    // Hash collision: the new configuration replaces the old one
+                    remove(fingerprint);
+                    evictions.increment();
+                    weightedSize.add(-existing.weight());
+                }
+            }
+            put(fingerprint, fresh);
+            weightedSize.add(fresh.weight());
+        }
+
+        void removeExpired(long fingerprint, CacheEntry entry) {
+            remove(fingerprint);
+            expirations.increment();
+            weightedSize.add(-entry.weight());
         }
     }
 
     /**
-     * Cache entry with timestamp.
+     * Cache entry with the cached properties and the time it was stored.
      */
     private static class CacheEntry {
+        private final Map<String, String> properties;
         private final ValidationResult result;
-        private final Instant timestamp;
+        private final long createdNanos;
 
-        CacheEntry(ValidationResult result) {
+        CacheEntry(Map<String, String> properties, ValidationResult result, long createdNanos) {
+            this.properties = properties;
             this.result = result;
-            this.timestamp = Instant.now();
+            this.createdNanos = createdNanos;
+        }
+
+        boolean isExpired(long nowNanos, long ttlNanos) {
+            return nowNanos - createdNanos > ttlNanos;
         }
 
-        boolean isExpired(Duration ttl) {
-            return Duration.between(timestamp, Instant.now()).compareTo(ttl) > 0;
+        long weight() {
+            return properties.size();
         }
     }
 }
@@ -0,0 +1,242 @@
+package com.cleanconfig.core.cache;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.converter.TypeConverter;
+import com.cleanconfig.core.validation.ValidationResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache of single-property validation results keyed by property definition, converter and
+ * raw value.
+ *
+ * <p>Unlike {@link CachingPropertyValidator}, which caches whole property maps and misses
+ * whenever any value differs, this cache remembers the result of validating each value
+ * of each property. Validating a map that shares most of its values with earlier maps
+ * then only runs rules for the values that were not seen before.
+ *
+ * <p>Only results that depend on nothing but the definition and the value may be cached:
+ * validators use this cache for properties whose rule is
+ * {@linkplain com.cleanconfig.core.validation.ValidationRule#isContextFree() context-free}.
+ * A result also depends on the converter that turned the raw value into the property type,
+ * so results are kept per converter: replacing a converter in the
+ * {@link com.cleanconfig.core.converter.TypeConverterRegistry} and building a new validator
+ * never reuses results of the old one. Definitions and converters are compared by identity,
+ * so one cache can be shared by several validators and registries that register the same
+ * definition instances.
+ *
+ * <p>Example usage:
+ * <pre>
+ * PropertyResultCache resultCache = new PropertyResultCache(100_000);
+ * PropertyValidator validator = new CompiledPropertyValidator(
+ *     registry, TypeConverterRegistry.getInstance(), resultCache);
+ * </pre>
+ *
+ * <p>Results are spread by hash over up to 16 independently locked segments, as in
+ * {@link CachingPropertyValidator}. Each segment holds its share of {@code maxSize} and evicts
+ * its own least recently used result when full, so results that keep being looked up stay
+ * cached while results that are no longer used are evicted. Caches with fewer than 32 results
+ * use a single segment. Thread-safe and suitable for concurrent use.
+ *
+ * @since 0.4.0
+ */
+public final class PropertyResultCache {
+
+    /**
+     * Default maximum number of cached results.
+     */
+    public static final int DEFAULT_MAX_SIZE = 100_000;
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 16;
+
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loadTimeNanos = new LongAdder();
+
+    /**
+     * Creates a result cache with the default maximum size.
+     */
+    public PropertyResultCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a result cache.
+     *
+     * @param maxSize maximum number of cached results
+     * @throws IllegalArgumentException if maxSize is not positive
+     */
+    public PropertyResultCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Max size must be positive");
+        }
+
+        // A power of two, so a segment is picked by masking the hash
+        int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maxSize / count + (i < maxSize % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * Gets the cached result for a value of a property, validating it on a miss.
+     *
+     * @param definition the property definition
+     * @param converter the converter for the property's type, or null if there is none
+     * @param value the raw property value
+     * @param validation computes the result when it is not cached
+     * @return the cached or computed result
+     */
+    public ValidationResult get(
+            PropertyDefinition<?> definition,
+            TypeConverter<?> converter,
+            String value,
+            Supplier<ValidationResult> validation) {
+        Objects.requireNonNull(definition, "Property definition cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        Key key = new Key(definition, converter, value);
+        Segment segment = segmentFor(key);
+
+        // The lookup also marks the result as most recently used
+        ValidationResult cached;
+        synchronized (segment) {
+            cached = segment.get(key);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        ValidationResult result;
+        try {
+            result = validation.get();
+        } finally {
+            loadTimeNanos.add(System.nanoTime() - start);
+        }
+
+        synchronized (segment) {
+            segment.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of cached results.
+     *
+     * @return number of cached results
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     *
+     * <p>The weighted size is the number of cached results. Results never expire and
+     * are never rejected, so those counts are always zero.
+     *
+     * @return the current statistics
+     */
+    public CacheStats getStats() {
+        return new CacheStats(
+                hits.sum(),
+                misses.sum(),
+                0,
+                evictions.sum(),
+                0,
+                loadTimeNanos.sum(),
+                size());
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * One independently locked part of the cache, in access order, evicting its least
+     * recently used result beyond its capacity. Callers hold the segment's lock.
+     */
+    private final class Segment extends LinkedHashMap<Key, ValidationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, ValidationResult> eldest) {
+            if (size() <= capacity) {
+                return false;
+            }
+            evictions.increment();
+            return true;
+        }
+    }
+
+    /**
+     * Cache key: a property definition and converter, compared by identity, and a raw value.
+     */
+    private static final class Key {
+        private final PropertyDefinition<?> definition;
+        private final TypeConverter<?> converter;
+        private final String value;
+        private final int hashCode;
+
+        Key(PropertyDefinition<?> definition, TypeConverter<?> converter, String value) {
+            this.definition = definition;
+            this.converter = converter;
+            this.value = value;
+            this.hashCode = 31 * (31 * System.identityHashCode(definition) + System.identityHashCode(converter))
+                    + value.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return definition == key.definition && converter == key.converter && value.equals(key.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.cleanconfig.core.converter;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * Type converter that produces {@code double} values without boxing them.
+ *
+ * <p>The built-in {@link Double} converter implements this interface. Validators use
+ * {@link #convertToDouble(String)} together with a
+ * {@link com.cleanconfig.core.validation.DoubleValidationRule} to validate double
+ * properties without boxing.
+ *
+ * <p>Example usage:
+ * <pre>
+ * TypeConverterRegistry.getInstance().register(Double.class, (DoubleTypeConverter) PrimitiveParsers::parseDouble);
+ * </pre>
+ *
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface DoubleTypeConverter extends TypeConverter<Double> {
+
+    /**
+     * Converts a string value to a double.
+     *
+     * @param value the string value to convert (never null)
+     * @return the converted value, or empty if conversion failed
+     */
+    OptionalDouble convertToDouble(String value);
+
+    @Override
+    default Optional<Double> convert(String value) {
+        OptionalDouble converted = convertToDouble(value);
+        return converted.isPresent() ? Optional.of(converted.getAsDouble()) : Optional.empty();
+    }
+
+    @Override
+    default Class<Double> getTargetType() {
+        return Double.class;
+    }
+}
@@ -0,0 +1,42 @@
+package com.cleanconfig.core.converter;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Type converter that produces {@code int} values without boxing them.
+ *
+ * <p>The built-in {@link Integer} converter implements this interface. Validators use
+ * {@link #convertToInt(String)} together with a
+ * {@link com.cleanconfig.core.validation.IntValidationRule} to validate int
+ * properties without boxing.
+ *
+ * <p>Example usage:
+ * <pre>
+ * TypeConverterRegistry.getInstance().register(Integer.class, (IntTypeConverter) PrimitiveParsers::parseInt);
+ * </pre>
+ *
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface IntTypeConverter extends TypeConverter<Integer> {
+
+    /**
+     * Converts a string value to an int.
+     *
+     * @param value the string value to convert (never null)
+     * @return the converted value, or empty if conversion failed
+     */
+    OptionalInt convertToInt(String value);
+
+    @Override
+    default Optional<Integer> convert(String value) {
+        OptionalInt converted = convertToInt(value);
+        return converted.isPresent() ? Optional.of(converted.getAsInt()) : Optional.empty();
+    }
+
+    @Override
+    default Class<Integer> getTargetType() {
+        return Integer.class;
+    }
+}
@@ -0,0 +1,42 @@
+package com.cleanconfig.core.converter;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Type converter that produces {@code long} values without boxing them.
+ *
+ * <p>The built-in {@link Long} converter implements this interface. Validators use
+ * {@link #convertToLong(String)} together with a
+ * {@link com.cleanconfig.core.validation.LongValidationRule} to validate long
+ * properties without boxing.
+ *
+ * <p>Example usage:
+ * <pre>
+ * TypeConverterRegistry.getInstance().register(Long.class, (LongTypeConverter) PrimitiveParsers::parseLong);
+ * </pre>
+ *
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface LongTypeConverter extends TypeConverter<Long> {
+
+    /**
+     * Converts a string value to a long.
+     *
+     * @param value the string value to convert (never null)
+     * @return the converted value, or empty if conversion failed
+     */
+    OptionalLong convertToLong(String value);
+
+    @Override
+    default Optional<Long> convert(String value) {
+        OptionalLong converted = convertToLong(value);
+        return converted.isPresent() ? Optional.of(converted.getAsLong()) : Optional.empty();
+    }
+
+    @Override
+    default Class<Long> getTargetType() {
+        return Long.class;
+    }
+}
@@ -0,0 +1,392 @@
+package com.cleanconfig.core.converter;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Parsers for primitive values that never throw and never create intermediate strings.
+ *
+ * <p>The JDK parsers signal invalid input with {@link NumberFormatException}, and callers
+ * usually trim the value first. When many values are invalid, filling in the stack trace
+ * of every exception dominates the cost of conversion. These parsers skip leading and
+ * trailing whitespace in place and report invalid input with an empty result.
+ *
+ * <p>They accept the same input as the converters built into {@link TypeConverterRegistry}:
+ * whitespace as removed by {@link String#trim()}, an optional sign, and the digits accepted
+ * by {@link Integer#parseInt(String)} for integral types or the decimal syntax accepted by
+ * {@link Double#parseDouble(String)} for doubles.
+ *
+ * <p>Example usage:
+ * <pre>
+ * OptionalInt port = PrimitiveParsers.parseInt(" 8080 ");      // OptionalInt[8080]
+ * OptionalInt invalid = PrimitiveParsers.parseInt("80eighty"); // empty, no exception
+ * </pre>
+ *
+ * @since 0.4.0
+ */
+public final class PrimitiveParsers {
+
+    /**
+     * Result of {@link #parseBounded(String, long, long)} for invalid input. It lies outside
+     * the range of every type parsed that way.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final Optional<Boolean> TRUE = Optional.of(Boolean.TRUE);
+    private static final Optional<Boolean> FALSE = Optional.of(Boolean.FALSE);
+
+    /**
+     * Number of significant digits that always fit in a long mantissa.
+     */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    /**
+     * Largest mantissa that is exactly representable as a double.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * Powers of ten that are exactly representable as doubles.
+     */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private PrimitiveParsers() {
+        // Utility class
+    }
+
+    /**
+     * Parses an int.
+     *
+     * @param value the value to parse (may be null)
+     * @return the parsed value, or empty if the value is null or not a valid int
+     */
+    public static OptionalInt parseInt(String value) {
+        long parsed = parseBounded(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return parsed == INVALID ? OptionalInt.empty() : OptionalInt.of((int) parsed);
+    }
+
+    /**
+     * Parses a short.
+     *
+     * @param value the value to parse (may be null)
+     * @return the parsed value, or empty if the value is null or not a valid short
+     */
+    public static OptionalInt parseShort(String value) {
+        long parsed = parseBounded(value, Short.MIN_VALUE, Short.MAX_VALUE);
+        return parsed == INVALID ? OptionalInt.empty() : OptionalInt.of((int) parsed);
+    }
+
+    /**
+     * Parses a byte.
+     *
+     * @param value the value to parse (may be null)
+     * @return the parsed value, or empty if the value is null or not a valid byte
+     */
+    public static OptionalInt parseByte(String value) {
+        long parsed = parseBounded(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        return parsed == INVALID ? OptionalInt.empty() : OptionalInt.of((int) parsed);
+    }
+
+    /**
+     * Parses a long.
+     *
+     * @param value the value to parse (may be null)
+     * @return the parsed value, or empty if the value is null or not a valid long
+     */
+    public static OptionalLong parseLong(String value) {
+        if (value == null) {
+            return OptionalLong.empty();
+        }
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+        if (start == end) {
+            return OptionalLong.empty();
+        }
+
+        boolean negative = false;
+        char first = value.charAt(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            start++;
+            if (start == end) {
+                return OptionalLong.empty();
+            }
+        }
+
+        // Accumulate negatively, as the JDK does, so that Long.MIN_VALUE can be represented
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = digit(value.charAt(i));
+            if (digit < 0 || result < multiplyLimit) {
+                return OptionalLong.empty();
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return OptionalLong.empty();
+            }
+            result -= digit;
+        }
+        return OptionalLong.of(negative ? result : -result);
+    }
+
+    /**
+     * Parses a double.
+     *
+     * <p>Decimal values with at most 18 significant digits and a small exponent, which covers
+     * almost all configuration values, are computed directly. Other syntactically valid
+     * values are passed to {@link Double#parseDouble(String)}, which then cannot fail.
+     * Hexadecimal floating-point literals are the only input for which the JDK parser may
+     * still throw; they are rare enough that the exception is caught.
+     *
+     * @param value the value to parse (may be null)
+     * @return the parsed value, or empty if the value is null or not a valid double
+     */
+    public static OptionalDouble parseDouble(String value) {
+        if (value == null) {
+            return OptionalDouble.empty();
+        }
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+        if (start == end) {
+            return OptionalDouble.empty();
+        }
+
+        int index = start;
+        boolean negative = false;
+        char first = value.charAt(index);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            index++;
+        }
+        if (value.startsWith("NaN", index) && index + 3 == end) {
+            return OptionalDouble.of(Double.NaN);
+        }
+        if (value.startsWith("Infinity", index) && index + 8 == end) {
+            return OptionalDouble.of(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+        if (isHexPrefix(value, index, end)) {
+            return parseHexDouble(value);
+        }
+
+        // Optional float/double suffix
+        char last = value.charAt(end - 1);
+        if (last == 'd' || last == 'D' || last == 'f' || last == 'F') {
+            end--;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        int digits = 0;
+
+        // Integer part
+        while (index < end && isAsciiDigit(value.charAt(index))) {
+            int digit = value.charAt(index) - '0';
+            if (significantDigits > 0 || digit != 0) {
+                significantDigits++;
+                if (significantDigits <= MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                } else {
+                    exponent++;
+                }
+            }
+            digits++;
+            index++;
+        }
+
+        // Fraction
+        if (index < end && value.charAt(index) == '.') {
+            index++;
+            while (index < end && isAsciiDigit(value.charAt(index))) {
+                int digit = value.charAt(index) - '0';
+                if (significantDigits > 0 || digit != 0) {
+                    significantDigits++;
+                    if (significantDigits <= MAX_MANTISSA_DIGITS) {
+                        mantissa = mantissa * 10 + digit;
+                        exponent--;
+                    }
+                } else {
+                    exponent--;
+                }
+                digits++;
+                index++;
+            }
+        }
+        if (digits == 0) {
+            return OptionalDouble.empty();
+        }
+
+        // Exponent
+        if (index < end && (value.charAt(index) == 'e' || value.charAt(index) == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < end && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+                negativeExponent = value.charAt(index) == '-';
+                index++;
+            }
+            if (index == end) {
+                return OptionalDouble.empty();
+            }
+            int explicitExponent = 0;
+            while (index < end && isAsciiDigit(value.charAt(index))) {
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + (value.charAt(index) - '0');
+                }
+                index++;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (index != end) {
+            return OptionalDouble.empty();
+        }
+
+        if (mantissa == 0) {
+            return OptionalDouble.of(negative ? -0.0 : 0.0);
+        }
+        if (significantDigits <= MAX_MANTISSA_DIGITS
+                && mantissa <= MAX_EXACT_MANTISSA
+                && exponent >= -22 && exponent <= 22) {
+            // Both operands are exact, so one multiplication or division rounds correctly
+            double result = exponent >= 0
+                    ? mantissa * EXACT_POWERS_OF_TEN[exponent]
+                    : mantissa / EXACT_POWERS_OF_TEN[-exponent];
+            return OptionalDouble.of(negative ? -result : result);
+        }
+
+        // Valid syntax, so the JDK parser does not throw
+        return OptionalDouble.of(Double.parseDouble(value));
+    }
+
+    /**
+     * Parses a boolean.
+     *
+     * <p>Accepts {@code true}, {@code yes} and {@code 1} as true, and {@code false},
+     * {@code no} and {@code 0} as false, ignoring case.
+     *
+     * @param value the value to parse (may be null)
+     * @return the parsed value, or empty if the value is null or not a recognized boolean
+     */
+    public static Optional<Boolean> parseBoolean(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        int start = trimStart(value);
+        int length = trimEnd(value, start) - start;
+        switch (length) {
+            case 1:
+                char c = value.charAt(start);
+                if (c == '1') {
+                    return TRUE;
+                }
+                return c == '0' ? FALSE : Optional.empty();
+            case 2:
+                return value.regionMatches(true, start, "no", 0, 2) ? FALSE : Optional.empty();
+            case 3:
+                return value.regionMatches(true, start, "yes", 0, 3) ? TRUE : Optional.empty();
+            case 4:
+                return value.regionMatches(true, start, "true", 0, 4) ? TRUE : Optional.empty();
+            case 5:
+                return value.regionMatches(true, start, "false", 0, 5) ? FALSE : Optional.empty();
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses an integral value within {@code [min, max]}, where min is not less than
+     * {@link Integer#MIN_VALUE}.
+     *
+     * @return the parsed value, or {@link #INVALID}
+     */
+    static long parseBounded(String value, long min, long max) {
+        if (value == null) {
+            return INVALID;
+        }
+        int start = trimStart(value);
+        int end = trimEnd(value, start);
+        if (start == end) {
+            return INVALID;
+        }
+
+        boolean negative = false;
+        char first = value.charAt(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            start++;
+            if (start == end) {
+                return INVALID;
+            }
+        }
+
+        // The bounds are far from the long range, so accumulating cannot overflow
+        long limit = negative ? min : -max;
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = digit(value.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            result = result * 10 - digit;
+            if (result < limit) {
+                return INVALID;
+            }
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Returns the index of the first character that {@link String#trim()} would keep.
+     */
+    private static int trimStart(String value) {
+        int start = 0;
+        int length = value.length();
+        while (start < length && value.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the index after the last character that {@link String#trim()} would keep.
+     */
+    private static int trimEnd(String value, int start) {
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the decimal value of a digit as {@link Character#digit(char, int)} does, with a
+     * fast path for ASCII digits.
+     */
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : Character.digit(c, 10);
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexPrefix(String value, int index, int end) {
+        return index + 1 < end
+                && value.charAt(index) == '0'
+                && (value.charAt(index + 1) == 'x' || value.charAt(index + 1) == 'X');
+    }
+
+    private static OptionalDouble parseHexDouble(String value) {
+        try {
+            return OptionalDouble.of(Double.parseDouble(value));
+        } catch (NumberFormatException e) {
+            return OptionalDouble.empty();
+        }
+    }
+}
@@ -99,6 +99,22 @@ public final class TypeConverterRegistry {
         return (Optional<T>) converter.convert(value);
     }
 
+    /**
+     * Gets the converter registered for the given type.
+     *
+     * <p>Callers that convert many values of the same type can resolve the converter
+     * once and reuse it instead of looking it up on every conversion.
+     *
+     * @param targetType the target type
+     * @param <T> the type parameter
+     * @return optional containing the converter, or empty if no converter registered
+     * @since 0.4.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<TypeConverter<T>> getConverter(Class<T> targetType) {
+        return Optional.ofNullable((TypeConverter<T>) converters.get(targetType));
+    }
+
     /**
      * Checks if a converter is registered for the given type.
      *
@@ -111,37 +127,23 @@ public final class TypeConverterRegistry {
 
     /**
      * Registers all built-in converters.
+     *
+     * <p>Integer, Long, Short, Byte, Double and Boolean values are parsed with
+     * {@link PrimitiveParsers}, which neither throw on invalid input nor trim into new strings.
+     * The Integer, Long and Double converters also convert to primitives without boxing.
      */
     private void registerBuiltInConverters() {
         // String (identity)
         register(String.class, Optional::of);
 
         // Integer
-        register(Integer.class, value -> {
-            try {
-                return Optional.of(Integer.parseInt(value.trim()));
-            } catch (NumberFormatException e) {
-                return Optional.empty();
-            }
-        });
+        register(Integer.class, (IntTypeConverter) PrimitiveParsers::parseInt);
 
         // Long
-        register(Long.class, value -> {
-            try {
-                return Optional.of(Long.parseLong(value.trim()));
-            } catch (NumberFormatException e) {
-                return Optional.empty();
-            }
-        });
+        register(Long.class, (LongTypeConverter) PrimitiveParsers::parseLong);
 
         // Double
-        register(Double.class, value -> {
-            try {
-                return Optional.of(Double.parseDouble(value.trim()));
-            } catch (NumberFormatException e) {
-                return Optional.empty();
-            }
-        });
+        register(Double.class, (DoubleTypeConverter) PrimitiveParsers::parseDouble);
 
         // Float
         register(Float.class, value -> {
@@ -154,32 +156,18 @@ public final class TypeConverterRegistry {
 
         // Short
         register(Short.class, value -> {
-            try {
-                return Optional.of(Short.parseShort(value.trim()));
-            } catch (NumberFormatException e) {
-                return Optional.empty();
-            }
+            long parsed = PrimitiveParsers.parseBounded(value, Short.MIN_VALUE, Short.MAX_VALUE);
+            return parsed == PrimitiveParsers.INVALID ? Optional.empty() : Optional.of((short) parsed);
         });
 
         // Byte
         register(Byte.class, value -> {
-            try {
-                return Optional.of(Byte.parseByte(value.trim()));
-            } catch (NumberFormatException e) {
-                return Optional.empty();
-            }
+            long parsed = PrimitiveParsers.parseBounded(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            return parsed == PrimitiveParsers.INVALID ? Optional.empty() : Optional.of((byte) parsed);
         });
 
         // Boolean
-        register(Boolean.class, value -> {
-            String trimmed = value.trim().toLowerCase();
-            if ("true".equals(trimmed) || "yes".equals(trimmed) || "1".equals(trimmed)) {
-                return Optional.of(Boolean.TRUE);
-            } else if ("false".equals(trimmed) || "no".equals(trimmed) || "0".equals(trimmed)) {
-                return Optional.of(Boolean.FALSE);
-            }
-            return Optional.empty();
-        });
+        register(Boolean.class, PrimitiveParsers::parseBoolean);
 
         // BigDecimal
         register(BigDecimal.class, value -> {
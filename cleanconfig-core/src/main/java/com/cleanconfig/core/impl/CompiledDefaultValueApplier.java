@@ -0,0 +1,208 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.DefaultApplicationInfo;
+import com.cleanconfig.core.DefaultApplicationResult;
+import com.cleanconfig.core.DefaultValueApplier;
+import com.cleanconfig.core.OverlayPropertyMap;
+import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.PropertyMap;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Default value applier that compiles the registry into a default evaluation plan.
+ *
+ * <p>{@link DefaultValueApplierImpl} evaluates defaults in registration order, so a computed
+ * default that reads another defaulted property sees that default only if it was registered
+ * first. This applier also evaluates computed defaults in registration order, each seeing the
+ * defaults evaluated before it, but runs a default after the defaults of the properties it
+ * declares with {@code dependsOnForValidation}, whatever their registration order. A default
+ * that reads a property it does not declare sees it exactly as with
+ * {@link DefaultValueApplierImpl}.
+ *
+ * <p>Given an {@link ObservedDependencyGraph} of what each default was seen reading by a
+ * {@link DependencyTracer}, this applier also orders defaults by those reads, and groups the
+ * defaults that do not read one another into levels that can be evaluated concurrently.
+ *
+ * <p>Static defaults are rendered to strings once, at construction, and applied without
+ * evaluating anything.
+ *
+ * <p>Example usage:
+ * <pre>
+ * ObservedDependencyGraph reads = new DependencyTracer(registry).trace(sampleProperties);
+ * DefaultValueApplier applier = new CompiledDefaultValueApplier(
+ *     registry, TypeConverterRegistry.getInstance(), reads, executor);
+ * DefaultApplicationResult result = applier.applyDefaults(userProperties);
+ * </pre>
+ *
+ * <p>With an executor and an observed graph, the computed defaults of each dependency level are
+ * evaluated concurrently; they must then be safe to call from multiple threads. Without a
+ * graph, the executor is not used, since the reads of the defaults are unknown. Applied
+ * defaults are reported in registration order either way.
+ *
+ * <p>The result layers the applied defaults over the user properties without copying them,
+ * so the user properties must not be changed while the result is in use.
+ *
+ * <p>This class is final to prevent finalizer attacks when constructor throws exceptions.
+ *
+ * @since 0.4.0
+ */
+public final class CompiledDefaultValueApplier implements DefaultValueApplier {
+
+    private final TypeConverterRegistry converterRegistry;
+    private final DefaultValuePlan plan;
+    private final Executor executor;
+
+    /**
+     * Creates a new compiled applier that orders defaults by declared dependencies.
+     *
+     * @param registry the property registry
+     */
+    public CompiledDefaultValueApplier(PropertyRegistry registry) {
+        this(registry, TypeConverterRegistry.getInstance());
+    }
+
+    /**
+     * Creates a new compiled applier with a custom converter registry.
+     *
+     * @param registry the property registry
+     * @param converterRegistry the type converter registry
+     */
+    public CompiledDefaultValueApplier(PropertyRegistry registry, TypeConverterRegistry converterRegistry) {
+        this(registry, converterRegistry, null, null);
+    }
+
+    /**
+     * Creates a new compiled applier with full configuration.
+     *
+     * @param registry the property registry
+     * @param converterRegistry the type converter registry
+     * @param observed observed reads of the defaults, or null to order by declared dependencies only
+     * @param executor the executor for evaluating independent defaults, or null to evaluate on
+     *                 the calling thread; only used with an observed graph
+     */
+    public CompiledDefaultValueApplier(
+            PropertyRegistry registry,
+            TypeConverterRegistry converterRegistry,
+            ObservedDependencyGraph observed,
+            Executor executor) {
+        Objects.requireNonNull(registry, "Property registry cannot be null");
+        this.converterRegistry = Objects.requireNonNull(converterRegistry, "Converter registry cannot be null");
+        this.executor = executor;
+        this.plan = new DefaultValuePlan(registry, observed);
+    }
+
+    @Override
+    public DefaultApplicationResult applyDefaults(Map<String, String> userProperties) {
+        Objects.requireNonNull(userProperties, "User properties cannot be null");
+
+        Map<String, String> appliedByName = new HashMap<>(plan.size() * 2);
+        PropertyContext context = new MemoizingPropertyContext(
+                OverlayPropertyMap.of(userProperties, appliedByName), converterRegistry);
+        return applyDefaults(userProperties, appliedByName, context);
+    }
+
+    /**
+     * Applies defaults with a caller-supplied context.
+     *
+     * @param userProperties the user properties, which must not change while the result is used
+     * @param appliedByName empty map that receives the applied defaults as they are applied
+     * @param context context over an overlay of {@code appliedByName} on the user properties
+     * @return the application result
+     */
+    DefaultApplicationResult applyDefaults(
+            Map<String, String> userProperties,
+            Map<String, String> appliedByName,
+            PropertyContext context) {
+        String[] applied = new String[plan.size()];
+
+        // Static defaults need no context
+        for (int index : plan.staticPositions()) {
+            String name = plan.name(index);
+            if (!userProperties.containsKey(name)) {
+                applied[index] = plan.staticValue(index);
+                appliedByName.put(name, applied[index]);
+            }
+        }
+
+        // Computed defaults see the user properties and every default of earlier levels
+        for (int[] level : plan.levels()) {
+            evaluateLevel(level, userProperties, context, applied);
+            for (int index : level) {
+                if (applied[index] != null) {
+                    appliedByName.put(plan.name(index), applied[index]);
+                }
+            }
+        }
+
+        PropertyMap.Builder defaults = PropertyMap.builder(appliedByName.size());
+        for (int index = 0; index < applied.length; index++) {
+            if (applied[index] != null) {
+                defaults.put(plan.name(index), applied[index]);
+            }
+        }
+        PropertyMap appliedDefaults = defaults.build();
+        return new DefaultApplicationResult(
+                OverlayPropertyMap.of(userProperties, appliedDefaults), new DefaultApplicationInfo(appliedDefaults));
+    }
+
+    /**
+     * Evaluates the defaults of one level that the user did not set.
+     *
+     * <p>The level's own results are only published after the whole level is done, so every
+     * default of a level sees the same properties.
+     */
+    private void evaluateLevel(
+            int[] level,
+            Map<String, String> userProperties,
+            PropertyContext context,
+            String[] applied) {
+        if (executor == null || level.length == 1) {
+            for (int index : level) {
+                evaluate(index, userProperties, context, applied);
+            }
+            return;
+        }
+
+        // The last default runs on the calling thread
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[level.length - 1];
+        for (int i = 0; i < futures.length; i++) {
+            int index = level[i];
+            futures[i] = CompletableFuture.runAsync(
+                    () -> evaluate(index, userProperties, context, applied), executor);
+        }
+        try {
+            evaluate(level[level.length - 1], userProperties, context, applied);
+        } catch (RuntimeException | Error e) {
+            // Let the other defaults of the level finish before reporting the failure
+            CompletableFuture.allOf(futures).exceptionally(failure -> null).join();
+            throw e;
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evaluate(int index, Map<String, String> userProperties, PropertyContext context, String[] applied) {
+        if (!userProperties.containsKey(plan.name(index))) {
+            applied[index] = plan.evaluate(index, context);
+        }
+    }
+}
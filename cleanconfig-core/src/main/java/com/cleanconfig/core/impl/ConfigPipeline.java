@@ -0,0 +1,182 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.ConfigSnapshot;
+import com.cleanconfig.core.DefaultApplicationResult;
+import com.cleanconfig.core.OverlayPropertyMap;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.ValidationResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Applies defaults, validates and converts a configuration in one pass over a compiled registry.
+ *
+ * <p>Running {@link CompiledDefaultValueApplier}, then a validator, then
+ * {@link ConfigSnapshot#of(PropertyRegistry, Map)} builds three contexts and converts every
+ * value at least twice: once to validate it and once to snapshot it, plus once more for every
+ * computed default or rule that reads it. The pipeline compiles the registry once and carries a
+ * single memoizing conversion cache through all three steps, so each raw value is converted
+ * once per type, except for the primitive-validated values described below:
+ * <ol>
+ *   <li>Defaults are applied in dependency order, as by {@link CompiledDefaultValueApplier}</li>
+ *   <li>The resulting properties are read into an array in one pass and validated, as by
+ *       {@link CompiledPropertyValidator}</li>
+ *   <li>If they are valid, a snapshot is built from the conversions made during validation</li>
+ * </ol>
+ *
+ * <p>Example usage:
+ * <pre>
+ * ConfigPipeline pipeline = new ConfigPipeline(registry);
+ * ConfigPipeline.Result result = pipeline.process(userProperties);
+ * if (!result.getValidationResult().isValid()) {
+ *     throw new IllegalStateException(result.getValidationResult().toString());
+ * }
+ * ConfigSnapshot config = result.getSnapshot().orElseThrow();
+ * </pre>
+ *
+ * <p>Results are identical to applying defaults with {@link CompiledDefaultValueApplier},
+ * validating the result with {@link CompiledPropertyValidator} and snapshotting it.
+ * Integer, long and double properties whose rule is primitive-specialized are validated
+ * without boxing, so their conversions are not remembered; the snapshot converts them once
+ * more through the shared context, into boxed values like every other snapshot value.
+ *
+ * <p>This class is final to prevent finalizer attacks when constructor throws exceptions.
+ *
+ * @since 0.4.0
+ */
+public final class ConfigPipeline {
+
+    private final PropertyRegistry registry;
+    private final TypeConverterRegistry converterRegistry;
+    private final CompiledDefaultValueApplier defaults;
+    private final ValidationPlan plan;
+
+    /**
+     * Creates a new pipeline for the given registry.
+     *
+     * @param registry the property registry
+     */
+    public ConfigPipeline(PropertyRegistry registry) {
+        this(registry, TypeConverterRegistry.getInstance());
+    }
+
+    /**
+     * Creates a new pipeline with a custom converter registry.
+     *
+     * @param registry the property registry
+     * @param converterRegistry the type converter registry
+     */
+    public ConfigPipeline(PropertyRegistry registry, TypeConverterRegistry converterRegistry) {
+        this(registry, converterRegistry, null);
+    }
+
+    /**
+     * Creates a new pipeline that also orders defaults by observed reads.
+     *
+     * @param registry the property registry
+     * @param converterRegistry the type converter registry
+     * @param observed observed reads of the defaults, or null to order by declared dependencies only
+     * @see CompiledDefaultValueApplier#CompiledDefaultValueApplier(PropertyRegistry, TypeConverterRegistry,
+     *      ObservedDependencyGraph, java.util.concurrent.Executor)
+     */
+    public ConfigPipeline(
+            PropertyRegistry registry,
+            TypeConverterRegistry converterRegistry,
+            ObservedDependencyGraph observed) {
+        this.registry = Objects.requireNonNull(registry, "Property registry cannot be null");
+        this.converterRegistry = Objects.requireNonNull(converterRegistry, "Converter registry cannot be null");
+        this.defaults = new CompiledDefaultValueApplier(registry, converterRegistry, observed, null);
+        this.plan = new ValidationPlan(registry, converterRegistry);
+    }
+
+    /**
+     * Applies defaults to the user properties, validates the result and, if it is valid,
+     * converts it into a snapshot.
+     *
+     * <p>The default application result reads through to the user properties, which must not be
+     * changed while it is in use. The snapshot holds its own copy.
+     *
+     * @param userProperties the user-provided properties
+     * @return the defaults applied, the validation result and the snapshot
+     */
+    public Result process(Map<String, String> userProperties) {
+        Objects.requireNonNull(userProperties, "User properties cannot be null");
+
+        // Defaults: the context reads through the applied defaults as they are added
+        Map<String, String> appliedByName = new HashMap<>();
+        MemoizingPropertyContext defaultsContext = new MemoizingPropertyContext(
+                OverlayPropertyMap.of(userProperties, appliedByName), converterRegistry);
+        DefaultApplicationResult withDefaults = defaults.applyDefaults(
+                userProperties, appliedByName, defaultsContext);
+        Map<String, String> properties = withDefaults.getPropertiesWithDefaults();
+
+        // Validation: shares the conversions made while applying defaults
+        List<Map.Entry<String, String>> unknown = new ArrayList<>();
+        String[] values = plan.values(properties, unknown);
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, defaultsContext, plan, values);
+        ValidationResult validation = plan.validateAll(values, unknown, context);
+
+        // Snapshot: reads the conversions made during validation
+        ConfigSnapshot snapshot = validation.isValid() ? ConfigSnapshot.of(registry, properties, context) : null;
+        return new Result(withDefaults, validation, snapshot);
+    }
+
+    /**
+     * Outcome of one run of the pipeline.
+     */
+    public static final class Result {
+        private final DefaultApplicationResult defaultApplicationResult;
+        private final ValidationResult validationResult;
+        private final ConfigSnapshot snapshot;
+
+        private Result(
+                DefaultApplicationResult defaultApplicationResult,
+                ValidationResult validationResult,
+                ConfigSnapshot snapshot) {
+            this.defaultApplicationResult = defaultApplicationResult;
+            this.validationResult = validationResult;
+            this.snapshot = snapshot;
+        }
+
+        /**
+         * Gets the properties with defaults applied and which defaults were applied.
+         *
+         * @return the default application result
+         */
+        public DefaultApplicationResult getDefaultApplicationResult() {
+            return defaultApplicationResult;
+        }
+
+        /**
+         * Gets the result of validating the properties with defaults applied.
+         *
+         * @return the validation result
+         */
+        public ValidationResult getValidationResult() {
+            return validationResult;
+        }
+
+        /**
+         * Gets the typed snapshot of the properties.
+         *
+         * @return the snapshot, or empty if validation failed
+         */
+        public Optional<ConfigSnapshot> getSnapshot() {
+            return Optional.ofNullable(snapshot);
+        }
+
+        @Override
+        public String toString() {
+            return "ConfigPipeline.Result{"
+                    + "defaultsApplied=" + defaultApplicationResult.getApplicationInfo().getAppliedDefaultsCount()
+                    + ", valid=" + validationResult.isValid()
+                    + '}';
+        }
+    }
+}
@@ -4,19 +4,17 @@ import com.cleanconfig.core.PropertyContext;
 import com.cleanconfig.core.PropertyDefinition;
 import com.cleanconfig.core.PropertyRegistry;
 import com.cleanconfig.core.PropertyValidator;
+import com.cleanconfig.core.converter.TypeConverter;
 import com.cleanconfig.core.converter.TypeConverterRegistry;
 import com.cleanconfig.core.validation.PropertyGroup;
 import com.cleanconfig.core.validation.ValidationError;
 import com.cleanconfig.core.validation.ValidationResult;
+import com.cleanconfig.core.validation.ValidationRule;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.Set;
 
 /**
  * Default implementation of PropertyValidator.
@@ -24,6 +22,10 @@ import java.util.Set;
  * <p>This implementation validates properties in dependency order using topological sort
  * to ensure that properties are validated after their dependencies.
  *
+ * <p>Properties whose converter and rule are both specialized for the same primitive type,
+ * such as the built-in Integer converter and {@code Rules.integerBetween}, are parsed and
+ * validated without boxing.
+ *
  * <p>This class is final to prevent finalizer attacks when constructor throws exceptions.
  *
  * @since 0.1.0
@@ -52,14 +54,14 @@ public final class DefaultPropertyValidator implements PropertyValidator {
     public DefaultPropertyValidator(PropertyRegistry registry, TypeConverterRegistry converterRegistry) {
         this.registry = Objects.requireNonNull(registry, "Property registry cannot be null");
         this.converterRegistry = Objects.requireNonNull(converterRegistry, "Converter registry cannot be null");
-        this.validationOrder = computeValidationOrder();
+        this.validationOrder = ValidationPlan.computeValidationOrder(registry);
     }
 
     @Override
     public ValidationResult validate(Map<String, String> properties) {
         Objects.requireNonNull(properties, "Properties cannot be null");
 
-        PropertyContext context = new DefaultPropertyContext(properties, converterRegistry);
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry);
 
         // Functional approach: stream over validation order and collect errors
         List<ValidationError> errors = validationOrder.stream()
@@ -83,9 +85,9 @@ public final class DefaultPropertyValidator implements PropertyValidator {
 
         errors.addAll(unknownErrors);
 
-        // Validate property groups
+        // Validate property groups, sharing conversions with the property rules
         List<ValidationError> groupErrors = registry.getAllPropertyGroups().stream()
-                .map(group -> validatePropertyGroup(group, properties))
+                .map(group -> validatePropertyGroup(group, context))
                 .flatMap(result -> result.getErrors().stream())
                 .collect(java.util.stream.Collectors.toList());
 
@@ -99,7 +101,7 @@ public final class DefaultPropertyValidator implements PropertyValidator {
         Objects.requireNonNull(propertyName, "Property name cannot be null");
         Objects.requireNonNull(properties, "Properties cannot be null");
 
-        PropertyContext context = new DefaultPropertyContext(properties, converterRegistry);
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry);
 
         return registry.getProperty(propertyName)
                 .map(definition -> validateProperty(definition, value, context))
@@ -116,8 +118,13 @@ public final class DefaultPropertyValidator implements PropertyValidator {
         Objects.requireNonNull(group, "Property group cannot be null");
         Objects.requireNonNull(properties, "Properties cannot be null");
 
-        PropertyContext context = new DefaultPropertyContext(properties, converterRegistry);
+        return validatePropertyGroup(group, new DefaultPropertyContext(properties, converterRegistry));
+    }
 
+    /**
+     * Validates all rules of a property group against the given context.
+     */
+    private ValidationResult validatePropertyGroup(PropertyGroup group, PropertyContext context) {
         // Validate all rules in the group
         List<ValidationError> errors = group.getRules().stream()
                 .map(rule -> rule.validate(
@@ -125,6 +132,7 @@ public final class DefaultPropertyValidator implements PropertyValidator {
                         context
                 ))
                 .flatMap(result -> result.getErrors().stream())
+                .map(error -> error.withGroupName(group.getName()))
                 .collect(java.util.stream.Collectors.toList());
 
         return errors.isEmpty() ? ValidationResult.success() : ValidationResult.failure(errors);
@@ -136,7 +144,7 @@ public final class DefaultPropertyValidator implements PropertyValidator {
     private <T> ValidationResult validateProperty(
             PropertyDefinition<T> definition,
             String value,
-            PropertyContext context) {
+            MemoizingPropertyContext context) {
 
         // Check required using Optional pattern
         if (definition.isRequired() && (value == null || value.isEmpty())) {
@@ -161,89 +169,39 @@ public final class DefaultPropertyValidator implements PropertyValidator {
     private <T> Optional<ValidationResult> convertAndValidate(
             PropertyDefinition<T> definition,
             String value,
-            PropertyContext context) {
+            MemoizingPropertyContext context) {
+
+        // Primitive converter and rule: validate without boxing
+        Optional<ValidationRule<T>> rule = definition.getValidationRule();
+        if (rule.isPresent()) {
+            TypeConverter<T> converter = converterRegistry.getConverter(definition.getType()).orElse(null);
+            if (PrimitiveValidation.isSupported(converter, rule.get())) {
+                ValidationResult result = PrimitiveValidation.validate(
+                        converter, rule.get(), definition.getName(), value, context);
+                return Optional.of(result != null ? result : conversionFailure(definition, value));
+            }
+        }
 
-        // Convert value to target type
-        Optional<T> convertedValue = converterRegistry.convert(value, definition.getType());
+        // Convert value to target type, remembering it for rules that read it later
+        Optional<T> convertedValue = context.convert(definition.getName(), value, definition.getType());
 
         if (!convertedValue.isPresent()) {
-            return Optional.of(ValidationResult.failure(ValidationError.builder()
-                    .propertyName(definition.getName())
-                    .actualValue(value)
-                    .errorMessage("Type conversion failed")
-                    .expectedValue("Value of type " + definition.getType().getSimpleName())
-                    .build()));
+            return Optional.of(conversionFailure(definition, value));
         }
 
         // Apply validation rule using monadic composition
         return Optional.of(
-                definition.getValidationRule()
-                        .map(rule -> rule.validate(definition.getName(), convertedValue.get(), context))
+                rule.map(r -> r.validate(definition.getName(), convertedValue.get(), context))
                         .orElse(ValidationResult.success())
         );
     }
 
-    /**
-     * Computes the validation order using topological sort.
-     */
-    private List<String> computeValidationOrder() {
-        // Build dependency graph using streams
-        Map<String, Set<String>> dependencies = registry.getAllProperties().stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        PropertyDefinition::getName,
-                        definition -> definition.getDependsOnForValidation().stream()
-                                .filter(registry::isDefined)
-                                .collect(java.util.stream.Collectors.toSet())
-                ));
-
-        Set<String> allProperties = registry.getAllPropertyNames().stream()
-                .collect(java.util.stream.Collectors.toSet());
-
-        // Topological sort using Kahn's algorithm
-        List<String> sorted = new ArrayList<>();
-        Map<String, Integer> inDegree = allProperties.stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        property -> property,
-                        property -> dependencies.get(property).size()
-                ));
-
-        // Queue of nodes with no dependencies (in-degree 0)
-        Queue<String> queue = allProperties.stream()
-                .filter(property -> inDegree.get(property) == 0)
-                .collect(java.util.stream.Collectors.toCollection(LinkedList::new));
-
-        // Process queue
-        while (!queue.isEmpty()) {
-            String current = queue.poll();
-            sorted.add(current);
-
-            // Find all properties that depend on the current property
-            findDependents(current, dependencies).stream()
-                    .forEach(dependent -> {
-                        int newDegree = inDegree.get(dependent) - 1;
-                        inDegree.put(dependent, newDegree);
-                        if (newDegree == 0) {
-                            queue.add(dependent);
-                        }
-                    });
-        }
-
-        // Check for cycles (should not happen if builder validated correctly)
-        if (sorted.size() != allProperties.size()) {
-            throw new IllegalStateException(
-                    "Circular dependency detected in property validation dependencies");
-        }
-
-        return sorted;
-    }
-
-    /**
-     * Finds all properties that depend on the given property.
-     */
-    private Set<String> findDependents(String property, Map<String, Set<String>> dependencies) {
-        return dependencies.entrySet().stream()
-                .filter(entry -> entry.getValue().contains(property))
-                .map(Map.Entry::getKey)
-                .collect(java.util.stream.Collectors.toSet());
+    private static ValidationResult conversionFailure(PropertyDefinition<?> definition, String value) {
+        return ValidationResult.failure(ValidationError.builder()
+                .propertyName(definition.getName())
+                .actualValue(value)
+                .errorMessage("Type conversion failed")
+                .expectedValue("Value of type " + definition.getType().getSimpleName())
+                .build());
     }
 }
@@ -4,8 +4,10 @@ import com.cleanconfig.core.ConditionalDefaultValue;
 import com.cleanconfig.core.DefaultApplicationInfo;
 import com.cleanconfig.core.DefaultApplicationResult;
 import com.cleanconfig.core.DefaultValueApplier;
+import com.cleanconfig.core.OverlayPropertyMap;
 import com.cleanconfig.core.PropertyContext;
 import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyMap;
 import com.cleanconfig.core.PropertyRegistry;
 import com.cleanconfig.core.converter.TypeConverterRegistry;
 
@@ -25,8 +27,14 @@ import java.util.function.Function;
  *   <li>Applies defaults in property definition order</li>
  *   <li>Evaluates conditional and computed defaults using property context</li>
  *   <li>Operates as a pure function (no side effects)</li>
+ *   <li>Does not copy the user properties: the result layers the applied defaults over them,
+ *       so the work done is proportional to the number of defaults</li>
  * </ul>
  *
+ * <p>Because the result reads through to the user properties, they must not be changed while
+ * the result is in use. Pass {@code PropertyMap.copyOf(userProperties)} to get a result that
+ * is independent of a map that will change.
+ *
  * @since 0.1.0
  */
 public class DefaultValueApplierImpl implements DefaultValueApplier {
@@ -58,9 +66,9 @@ public class DefaultValueApplierImpl implements DefaultValueApplier {
     public DefaultApplicationResult applyDefaults(Map<String, String> userProperties) {
         Objects.requireNonNull(userProperties, "User properties cannot be null");
 
-        // Create property context factory
+        // Create property context factory; one memoizing context serves every computed default
         Function<Map<String, String>, PropertyContext> contextFactory =
-                props -> new DefaultPropertyContext(props, converterRegistry);
+                props -> new MemoizingPropertyContext(props, converterRegistry);
 
         return applyDefaultsWithContext(userProperties, contextFactory);
     }
@@ -76,42 +84,41 @@ public class DefaultValueApplierImpl implements DefaultValueApplier {
             Map<String, String> userProperties,
             Function<Map<String, String>, PropertyContext> contextFactory) {
 
-        // Fold over property definitions, accumulating results
-        Map<String, String> finalProperties = new LinkedHashMap<>(userProperties);
+        // Fold over property definitions, accumulating only the applied defaults
         Map<String, String> appliedDefaults = new LinkedHashMap<>();
 
+        // The context reads through both layers, so it sees defaults as they are applied
+        PropertyContext context = contextFactory.apply(OverlayPropertyMap.of(userProperties, appliedDefaults));
+
         // Higher-order function: creates default applicator for a single property
-        BiFunction<PropertyDefinition<?>, Map<String, String>, Optional<Map.Entry<String, String>>> applyDefault =
-                (definition, currentProps) -> applyDefaultForProperty(definition, currentProps, contextFactory);
+        BiFunction<PropertyDefinition<?>, PropertyContext, Optional<Map.Entry<String, String>>> applyDefault =
+                this::applyDefaultForProperty;
 
         // Stream-based functional application
         registry.getAllProperties().stream()
                 .filter(definition -> !userProperties.containsKey(definition.getName()))
-                .forEach(definition -> applyDefault.apply(definition, finalProperties)
-                        .ifPresent(entry -> {
-                            finalProperties.put(entry.getKey(), entry.getValue());
-                            appliedDefaults.put(entry.getKey(), entry.getValue());
-                        }));
+                .forEach(definition -> applyDefault.apply(definition, context)
+                        .ifPresent(entry -> appliedDefaults.put(entry.getKey(), entry.getValue())));
 
-        return new DefaultApplicationResult(finalProperties, new DefaultApplicationInfo(appliedDefaults));
+        PropertyMap defaults = PropertyMap.copyOf(appliedDefaults);
+        return new DefaultApplicationResult(
+                OverlayPropertyMap.of(userProperties, defaults), new DefaultApplicationInfo(defaults));
     }
 
     /**
      * Higher-order function: applies default for a single property.
      *
      * @param definition the property definition
-     * @param currentProperties current property map
-     * @param contextFactory context factory
+     * @param context context over the current properties
      * @param <T> property type
      * @return optional entry with property name and default value
      */
     private <T> Optional<Map.Entry<String, String>> applyDefaultForProperty(
             PropertyDefinition<T> definition,
-            Map<String, String> currentProperties,
-            Function<Map<String, String>, PropertyContext> contextFactory) {
+            PropertyContext context) {
 
         return definition.getDefaultValue()
-                .flatMap(defaultValue -> evaluateDefault(defaultValue, currentProperties, contextFactory))
+                .flatMap(defaultValue -> evaluateDefault(defaultValue, context))
                 .map(value -> Map.entry(definition.getName(), value));
     }
 
@@ -119,18 +126,15 @@ public class DefaultValueApplierImpl implements DefaultValueApplier {
      * Evaluates a conditional default value using monadic composition.
      *
      * @param defaultValue the conditional default
-     * @param currentProperties current properties
-     * @param contextFactory context factory
+     * @param context context over the current properties
      * @param <T> property type
      * @return optional string value
      */
     private <T> Optional<String> evaluateDefault(
             ConditionalDefaultValue<T> defaultValue,
-            Map<String, String> currentProperties,
-            Function<Map<String, String>, PropertyContext> contextFactory) {
+            PropertyContext context) {
 
-        return Optional.of(currentProperties)
-                .map(contextFactory)
+        return Optional.of(context)
                 .flatMap(defaultValue::computeDefault)
                 .map(String::valueOf);
     }
@@ -0,0 +1,318 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.ConditionalDefaultValue;
+import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Default values of a registry, resolved once and ordered by the properties they read.
+ *
+ * <p>Positions follow registration order and cover only properties that have a default.
+ * Static defaults are rendered to strings when the plan is built. Computed defaults are
+ * split into levels, evaluated in order, each seeing the results of every earlier level.
+ *
+ * <p>Without an observed dependency graph, what a computed default reads is unknown, so every
+ * computed default gets a level of its own: they run one at a time in registration order,
+ * except that a default runs after the defaults its definition declares with
+ * {@code dependsOnForValidation}. With a graph, whose reads were traced, defaults are grouped
+ * into dependency levels: each level holds defaults whose dependencies with defaults all sit
+ * in earlier levels, so defaults within a level can be evaluated in any order.
+ *
+ * <p>Defaults that read every property, those that read them, and those in a dependency cycle
+ * cannot be grouped; they follow all other levels, one per level, in registration order
+ * except where that would run a default before one it reads. Defaults reading every property
+ * run after the others of these. Cycles are broken one at a time, each at its earliest
+ * registered default, starting with a cycle that reads no other default still to run, so a
+ * default that only reads a cycle runs after the whole cycle.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ */
+final class DefaultValuePlan {
+
+    private final String[] names;
+    private final ConditionalDefaultValue<?>[] defaults;
+    // Rendered value of each static default; null for computed defaults
+    private final String[] staticValues;
+    private final int[] staticPositions;
+    private final int[][] levels;
+
+    DefaultValuePlan(PropertyRegistry registry, ObservedDependencyGraph observed) {
+        List<PropertyDefinition<?>> withDefaults = new ArrayList<>();
+        for (PropertyDefinition<?> definition : registry.getAllProperties()) {
+            if (definition.getDefaultValue().isPresent()) {
+                withDefaults.add(definition);
+            }
+        }
+
+        int size = withDefaults.size();
+        this.names = new String[size];
+        this.defaults = new ConditionalDefaultValue<?>[size];
+        this.staticValues = new String[size];
+        Map<String, Integer> indexByName = new HashMap<>(size * 2);
+        int staticCount = 0;
+        for (int i = 0; i < size; i++) {
+            PropertyDefinition<?> definition = withDefaults.get(i);
+            names[i] = definition.getName();
+            defaults[i] = definition.getDefaultValue().orElseThrow(IllegalStateException::new);
+            staticValues[i] = defaults[i].getStaticValue().map(String::valueOf).orElse(null);
+            if (staticValues[i] != null) {
+                staticCount++;
+            }
+            indexByName.put(names[i], i);
+        }
+
+        this.staticPositions = new int[staticCount];
+        for (int i = 0, s = 0; i < size; i++) {
+            if (staticValues[i] != null) {
+                staticPositions[s++] = i;
+            }
+        }
+        this.levels = computeLevels(withDefaults, indexByName, observed);
+    }
+
+    /**
+     * Gets the number of properties with a default.
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Gets the property name at a position.
+     */
+    String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the rendered static default at a position, or null if the default is computed.
+     */
+    String staticValue(int index) {
+        return staticValues[index];
+    }
+
+    /**
+     * Gets the positions of static defaults, in ascending order.
+     */
+    int[] staticPositions() {
+        return staticPositions;
+    }
+
+    /**
+     * Gets the dependency levels of the computed defaults.
+     */
+    int[][] levels() {
+        return levels;
+    }
+
+    /**
+     * Evaluates the default at a position and renders it.
+     *
+     * @return the rendered default, or null if no default applies in this context
+     */
+    String evaluate(int index, PropertyContext context) {
+        Optional<?> value = defaults[index].computeDefault(context);
+        return value.isPresent() ? String.valueOf(value.get()) : null;
+    }
+
+    /**
+     * Assigns the computed defaults to levels with Kahn's algorithm.
+     */
+    private int[][] computeLevels(
+            List<PropertyDefinition<?>> withDefaults,
+            Map<String, Integer> indexByName,
+            ObservedDependencyGraph observed) {
+        int size = names.length;
+        List<List<Integer>> dependents = new ArrayList<>(size);
+        int[] pending = new int[size];
+        boolean[] deferred = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            dependents.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (staticValues[i] != null) {
+                continue;
+            }
+            if (observed != null && observed.readsAllProperties(names[i])) {
+                deferred[i] = true;
+            }
+            Set<String> reads = new LinkedHashSet<>(withDefaults.get(i).getDependsOnForValidation());
+            if (observed != null) {
+                reads.addAll(observed.getReads(names[i]));
+            }
+            for (String read : reads) {
+                Integer dependency = indexByName.get(read);
+                // Static defaults are applied before any level, so they never hold a level back
+                if (dependency != null && dependency != i && staticValues[dependency] == null) {
+                    dependents.get(dependency).add(i);
+                    pending[i]++;
+                }
+            }
+        }
+
+        List<int[]> result = new ArrayList<>();
+        boolean[] placed = new boolean[size];
+        if (observed != null) {
+            // Reads were traced, so defaults with no unplaced dependency can share a level
+            List<Integer> current = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (staticValues[i] == null && !deferred[i] && pending[i] == 0) {
+                    current.add(i);
+                }
+            }
+            while (!current.isEmpty()) {
+                result.add(current.stream().mapToInt(Integer::intValue).sorted().toArray());
+                List<Integer> next = new ArrayList<>();
+                for (int index : current) {
+                    placed[index] = true;
+                    for (int dependent : dependents.get(index)) {
+                        if (--pending[dependent] == 0 && !deferred[dependent]) {
+                            next.add(dependent);
+                        }
+                    }
+                }
+                current = next;
+            }
+        }
+
+        // Whatever is left runs one default at a time, after the defaults it reads
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        PriorityQueue<Integer> readyDeferred = new PriorityQueue<>();
+        int remaining = 0;
+        for (int i = 0; i < size; i++) {
+            if (staticValues[i] == null && !placed[i]) {
+                remaining++;
+                if (pending[i] == 0) {
+                    (deferred[i] ? readyDeferred : ready).add(i);
+                }
+            }
+        }
+        while (remaining > 0) {
+            Integer index = ready.poll();
+            if (index == null) {
+                index = readyDeferred.poll();
+            }
+            if (index == null) {
+                index = cycleBreak(dependents, placed);
+            }
+            if (placed[index]) {
+                continue;
+            }
+            placed[index] = true;
+            remaining--;
+            result.add(new int[] {index});
+            for (int dependent : dependents.get(index)) {
+                if (!placed[dependent] && --pending[dependent] == 0) {
+                    (deferred[dependent] ? readyDeferred : ready).add(dependent);
+                }
+            }
+        }
+        return result.toArray(new int[0][]);
+    }
+
+    /**
+     * Picks the default at which to break a cycle when every remaining default reads another.
+     *
+     * <p>Finds the strongly connected components of the remaining computed defaults with
+     * Tarjan's algorithm, iteratively, and returns the earliest registered default of the
+     * earliest component that reads no remaining default outside itself.
+     */
+    private int cycleBreak(List<List<Integer>> dependents, boolean[] placed) {
+        int size = names.length;
+        int[] component = new int[size];
+        // Discovery order, starting at 1; 0 for defaults not visited yet
+        int[] order = new int[size];
+        int[] low = new int[size];
+        int[] nextEdge = new int[size];
+        boolean[] onStack = new boolean[size];
+        int[] stack = new int[size];
+        int[] path = new int[size];
+        int stackSize = 0;
+        int visited = 0;
+        int components = 0;
+
+        for (int root = 0; root < size; root++) {
+            if (!isRemaining(root, placed) || order[root] != 0) {
+                continue;
+            }
+            int depth = 0;
+            path[depth++] = root;
+            order[root] = ++visited;
+            low[root] = order[root];
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            while (depth > 0) {
+                int index = path[depth - 1];
+                List<Integer> edges = dependents.get(index);
+                if (nextEdge[index] < edges.size()) {
+                    int dependent = edges.get(nextEdge[index]++);
+                    if (!isRemaining(dependent, placed)) {
+                        continue;
+                    }
+                    if (order[dependent] == 0) {
+                        order[dependent] = ++visited;
+                        low[dependent] = order[dependent];
+                        stack[stackSize++] = dependent;
+                        onStack[dependent] = true;
+                        path[depth++] = dependent;
+                    } else if (onStack[dependent]) {
+                        low[index] = Math.min(low[index], order[dependent]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (depth > 0) {
+                    int parent = path[depth - 1];
+                    low[parent] = Math.min(low[parent], low[index]);
+                }
+                if (low[index] == order[index]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        component[member] = components;
+                    } while (member != index);
+                    components++;
+                }
+            }
+        }
+
+        boolean[] readsOutside = new boolean[components];
+        int[] earliest = new int[components];
+        Arrays.fill(earliest, Integer.MAX_VALUE);
+        for (int i = 0; i < size; i++) {
+            if (!isRemaining(i, placed)) {
+                continue;
+            }
+            earliest[component[i]] = Math.min(earliest[component[i]], i);
+            for (int dependent : dependents.get(i)) {
+                if (isRemaining(dependent, placed) && component[dependent] != component[i]) {
+                    readsOutside[component[dependent]] = true;
+                }
+            }
+        }
+        int index = Integer.MAX_VALUE;
+        for (int c = 0; c < components; c++) {
+            if (!readsOutside[c]) {
+                index = Math.min(index, earliest[c]);
+            }
+        }
+        return index;
+    }
+
+    private boolean isRemaining(int index, boolean[] placed) {
+        return staticValues[index] == null && !placed[index];
+    }
+}
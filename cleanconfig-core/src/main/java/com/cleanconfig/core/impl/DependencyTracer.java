@@ -0,0 +1,120 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.MultiPropertyValidationRule;
+import com.cleanconfig.core.validation.PropertyGroup;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Discovers undeclared property dependencies by tracing context reads.
+ *
+ * <p>Rules built with {@code Conditions}, {@code onlyIf} or {@code customWithContext}, and
+ * defaults built with {@code ConditionalDefaultValue.when}, read other properties through
+ * the {@link PropertyContext} without declaring them. The tracer evaluates every validation
+ * rule, default value and group rule of a registry against a configuration with a
+ * {@link TracingPropertyContext} and records what each one read.
+ *
+ * <p>Default values are evaluated for every property that has one, whether or not the
+ * property is set, so the graph also covers defaults that would apply if the property
+ * were removed.
+ *
+ * <p>Example usage:
+ * <pre>
+ * DependencyTracer tracer = new DependencyTracer(registry);
+ * ObservedDependencyGraph graph = tracer.trace(properties);
+ *
+ * ValidationResult result = validator.validateIncremental(previous, properties, changedKeys, graph);
+ * </pre>
+ *
+ * @since 0.4.0
+ */
+public final class DependencyTracer {
+
+    private final PropertyRegistry registry;
+    private final TypeConverterRegistry converterRegistry;
+
+    /**
+     * Creates a new tracer for the given registry.
+     *
+     * @param registry the property registry
+     */
+    public DependencyTracer(PropertyRegistry registry) {
+        this(registry, TypeConverterRegistry.getInstance());
+    }
+
+    /**
+     * Creates a new tracer for the given registry and converter registry.
+     *
+     * @param registry the property registry
+     * @param converterRegistry the type converter registry
+     */
+    public DependencyTracer(PropertyRegistry registry, TypeConverterRegistry converterRegistry) {
+        this.registry = Objects.requireNonNull(registry, "Property registry cannot be null");
+        this.converterRegistry = Objects.requireNonNull(converterRegistry, "Converter registry cannot be null");
+    }
+
+    /**
+     * Traces the reads of every rule and default against the given properties.
+     *
+     * @param properties the properties to evaluate rules and defaults against
+     * @return the observed dependency graph
+     */
+    public ObservedDependencyGraph trace(Map<String, String> properties) {
+        Objects.requireNonNull(properties, "Properties cannot be null");
+
+        PropertyContext context = new DefaultPropertyContext(properties, converterRegistry);
+        Map<String, Set<String>> propertyReads = new LinkedHashMap<>();
+        Map<String, Set<String>> groupReads = new LinkedHashMap<>();
+        Set<String> propertiesReadingAll = new LinkedHashSet<>();
+        Set<String> groupsReadingAll = new LinkedHashSet<>();
+
+        for (PropertyDefinition<?> definition : registry.getAllProperties()) {
+            TracingPropertyContext tracing = new TracingPropertyContext(context);
+            traceRule(definition, properties.get(definition.getName()), tracing);
+            definition.getDefaultValue().ifPresent(defaultValue -> defaultValue.computeDefault(tracing));
+
+            Set<String> reads = new HashSet<>(tracing.getReadProperties());
+            reads.remove(definition.getName());
+            propertyReads.put(definition.getName(), reads);
+            if (tracing.hasReadAllProperties()) {
+                propertiesReadingAll.add(definition.getName());
+            }
+        }
+
+        for (PropertyGroup group : registry.getAllPropertyGroups()) {
+            TracingPropertyContext tracing = new TracingPropertyContext(context);
+            String[] propertyNames = group.getPropertyNames().toArray(new String[0]);
+            for (MultiPropertyValidationRule rule : group.getRules()) {
+                rule.validate(propertyNames, tracing);
+            }
+            groupReads.put(group.getName(), tracing.getReadProperties());
+            if (tracing.hasReadAllProperties()) {
+                groupsReadingAll.add(group.getName());
+            }
+        }
+
+        return new ObservedDependencyGraph(propertyReads, groupReads, propertiesReadingAll, groupsReadingAll);
+    }
+
+    /**
+     * Runs the rule of a property the same way the validator would, if it would run at all.
+     */
+    private <T> void traceRule(PropertyDefinition<T> definition, String value, PropertyContext context) {
+        if (value == null || value.isEmpty() || !definition.getValidationRule().isPresent()) {
+            return;
+        }
+        Optional<T> converted = converterRegistry.convert(value, definition.getType());
+        converted.ifPresent(typed -> definition.getValidationRule().get()
+                .validate(definition.getName(), typed, context));
+    }
+}
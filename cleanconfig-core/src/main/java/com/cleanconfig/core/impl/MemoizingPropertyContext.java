@@ -0,0 +1,290 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.PropertyKey;
+import com.cleanconfig.core.converter.TypeConverter;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Property context that remembers typed conversions for its lifetime.
+ *
+ * <p>During one validation run the same value is typically converted several times: once
+ * for its own validation rule, and again by every conditional rule, property group rule and
+ * computed default that reads it through {@link #getTypedProperty(String, Class)}. This
+ * context converts each (property, type) pair once and returns the remembered result,
+ * including failed conversions, on later reads.
+ *
+ * <p>Every remembered conversion is tied to the raw value it was converted from, so a
+ * property whose value changes in the underlying map is converted again. This makes the
+ * context safe to use over a map that is filled in while it is in use, such as when
+ * defaults are applied.
+ *
+ * <p>Example usage:
+ * <pre>
+ * PropertyContext context = new MemoizingPropertyContext(properties, TypeConverterRegistry.getInstance());
+ * Optional&lt;Duration&gt; timeout = context.getTypedProperty("db.timeout", Duration.class);
+ * </pre>
+ *
+ * <p>Contexts created by the compiled and parallel validators also hold the raw values, and
+ * remember conversions, in arrays indexed by plan position, so reads and presence checks by
+ * {@link PropertyKey} skip hashing the name.
+ *
+ * <p>This class is thread-safe as long as the underlying map is not modified concurrently.
+ *
+ * @since 0.4.0
+ */
+public class MemoizingPropertyContext extends DefaultPropertyContext {
+
+    private final TypeConverterRegistry converterRegistry;
+    private final Map<Class<?>, Map<String, Conversion>> conversions;
+    private final Map<Class<?>, AtomicReferenceArray<Conversion>> conversionsByIndex;
+    private final boolean sharesConversions;
+    private final ValidationPlan plan;
+    private final String[] values;
+
+    /**
+     * Creates a new memoizing property context.
+     *
+     * @param properties the properties
+     * @param converterRegistry the converter registry
+     */
+    public MemoizingPropertyContext(
+            Map<String, String> properties,
+            TypeConverterRegistry converterRegistry) {
+        this(properties, converterRegistry, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new memoizing property context with metadata.
+     *
+     * @param properties the properties
+     * @param converterRegistry the converter registry
+     * @param metadata additional metadata
+     */
+    public MemoizingPropertyContext(
+            Map<String, String> properties,
+            TypeConverterRegistry converterRegistry,
+            Map<String, String> metadata) {
+        this(properties, converterRegistry, metadata, null, null, new ConcurrentHashMap<>(), false);
+    }
+
+    /**
+     * Creates a context that answers reads by key from values already read by a plan.
+     *
+     * @param values raw values by plan position, as returned by {@link ValidationPlan#values}
+     */
+    MemoizingPropertyContext(
+            Map<String, String> properties,
+            TypeConverterRegistry converterRegistry,
+            ValidationPlan plan,
+            String[] values) {
+        this(properties, converterRegistry, Collections.emptyMap(), plan, values, new ConcurrentHashMap<>(), false);
+    }
+
+    /**
+     * Creates a context over the same values as another context, sharing its remembered
+     * conversions.
+     *
+     * <p>Conversions are tied to raw values, so sharing them is safe even if some values
+     * differ between the two property maps.
+     *
+     * @param source the context whose conversions are shared
+     * @param values raw values by plan position, as returned by {@link ValidationPlan#values}
+     */
+    MemoizingPropertyContext(
+            Map<String, String> properties,
+            MemoizingPropertyContext source,
+            ValidationPlan plan,
+            String[] values) {
+        this(properties, source.converterRegistry, Collections.emptyMap(), plan, values, source.conversions, true);
+    }
+
+    private MemoizingPropertyContext(
+            Map<String, String> properties,
+            TypeConverterRegistry converterRegistry,
+            Map<String, String> metadata,
+            ValidationPlan plan,
+            String[] values,
+            Map<Class<?>, Map<String, Conversion>> conversions,
+            boolean sharesConversions) {
+        super(properties, converterRegistry, metadata);
+        this.converterRegistry = converterRegistry;
+        this.conversions = conversions;
+        this.conversionsByIndex = plan == null ? null : new ConcurrentHashMap<>();
+        this.sharesConversions = sharesConversions;
+        this.plan = plan;
+        this.values = values;
+    }
+
+    @Override
+    public Optional<String> getPropertyByKey(PropertyKey key) {
+        if (values != null) {
+            int index = plan.indexOf(key);
+            if (index >= 0) {
+                return Optional.ofNullable(values[index]);
+            }
+        }
+        return super.getPropertyByKey(key);
+    }
+
+    @Override
+    public boolean hasPropertyByKey(PropertyKey key) {
+        if (values != null) {
+            int index = plan.indexOf(key);
+            if (index >= 0 && values[index] != null) {
+                return true;
+            }
+        }
+        // Absent from the values, or present with a null value
+        return super.hasPropertyByKey(key);
+    }
+
+    @Override
+    public <T> Optional<T> getTypedPropertyByKey(PropertyKey key, Class<T> targetType) {
+        if (targetType == null) {
+            return super.getTypedPropertyByKey(key, targetType);
+        }
+        if (values != null) {
+            int index = plan.indexOf(key);
+            if (index >= 0) {
+                TypeConverter<T> converter = candidate -> converterRegistry.convert(candidate, targetType);
+                return convertAt(index, key.getName(), values[index], targetType, converter);
+            }
+        }
+        Optional<String> value = getPropertyByKey(key);
+        if (!value.isPresent()) {
+            return Optional.empty();
+        }
+        return convert(key.getName(), value.get(), targetType);
+    }
+
+    @Override
+    public <T> Optional<T> getTypedProperty(String propertyName, Class<T> targetType) {
+        if (propertyName == null || targetType == null) {
+            return super.getTypedProperty(propertyName, targetType);
+        }
+        Optional<String> value = getProperty(propertyName);
+        if (!value.isPresent()) {
+            return Optional.empty();
+        }
+        return convert(propertyName, value.get(), targetType);
+    }
+
+    /**
+     * Converts a value of a property, reusing an earlier conversion of the same value.
+     *
+     * <p>Validators use this for the value being validated, so that rules reading the
+     * property afterwards get the remembered result.
+     *
+     * @param propertyName the property name
+     * @param value the raw value
+     * @param targetType the target type
+     * @param <T> the target type
+     * @return the converted value, or empty if conversion failed
+     */
+    public <T> Optional<T> convert(String propertyName, String value, Class<T> targetType) {
+        TypeConverter<T> converter = candidate -> converterRegistry.convert(candidate, targetType);
+        return convert(propertyName, value, targetType, converter);
+    }
+
+    /**
+     * Converts a value of a property with an already resolved converter.
+     */
+    <T> Optional<T> convert(String propertyName, String value, Class<T> targetType, TypeConverter<T> converter) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (propertyName == null) {
+            return converter.convert(value);
+        }
+        if (conversionsByIndex != null) {
+            int index = plan.indexOf(propertyName);
+            if (index >= 0) {
+                return convertAt(index, propertyName, value, targetType, converter);
+            }
+        }
+        return convertByName(propertyName, value, targetType, converter);
+    }
+
+    /**
+     * Converts a value of the property at a position of the plan this context was created
+     * with; contexts without a plan remember the result by name.
+     */
+    <T> Optional<T> convert(
+            int index,
+            String propertyName,
+            String value,
+            Class<T> targetType,
+            TypeConverter<T> converter) {
+        if (conversionsByIndex == null) {
+            return convert(propertyName, value, targetType, converter);
+        }
+        return convertAt(index, propertyName, value, targetType, converter);
+    }
+
+    /**
+     * Converts a value of a planned property, remembering the result by plan position.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> convertAt(
+            int index,
+            String propertyName,
+            String value,
+            Class<T> targetType,
+            TypeConverter<T> converter) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        AtomicReferenceArray<Conversion> byIndex =
+                conversionsByIndex.computeIfAbsent(targetType, type -> new AtomicReferenceArray<>(plan.size()));
+        Conversion remembered = byIndex.get(index);
+        if (remembered != null && remembered.value.equals(value)) {
+            return (Optional<T>) remembered.result;
+        }
+
+        // Conversions shared from another context, such as those made while applying defaults, are by name
+        Optional<T> result = sharesConversions
+                ? convertByName(propertyName, value, targetType, converter)
+                : converter.convert(value);
+        byIndex.set(index, new Conversion(value, result));
+        return result;
+    }
+
+    /**
+     * Converts a value of a property, remembering the result by property name.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> convertByName(
+            String propertyName,
+            String value,
+            Class<T> targetType,
+            TypeConverter<T> converter) {
+        Map<String, Conversion> byName = conversions.computeIfAbsent(targetType, type -> new ConcurrentHashMap<>());
+        Conversion remembered = byName.get(propertyName);
+        if (remembered != null && remembered.value.equals(value)) {
+            return (Optional<T>) remembered.result;
+        }
+
+        Optional<T> result = converter.convert(value);
+        byName.put(propertyName, new Conversion(value, result));
+        return result;
+    }
+
+    /**
+     * A raw value and the result of converting it.
+     */
+    private static final class Conversion {
+        private final String value;
+        private final Optional<?> result;
+
+        Conversion(String value, Optional<?> result) {
+            this.value = value;
+            this.result = result;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.cleanconfig.core.impl;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable graph of the property reads observed while tracing rules and defaults.
+ *
+ * <p>Unlike {@link com.cleanconfig.core.PropertyDefinition#getDependsOnForValidation()},
+ * which only contains what was declared, this graph contains what validation rules,
+ * default values and group rules actually read through their {@link com.cleanconfig.core.PropertyContext}.
+ * Reads depend on the traced values: a rule guarded by {@code onlyIf} only reads its other
+ * properties when the guard holds. Graphs traced from several configurations can be
+ * combined with {@link #merge(ObservedDependencyGraph)}.
+ *
+ * <p>Example usage:
+ * <pre>
+ * ObservedDependencyGraph graph = new DependencyTracer(registry).trace(properties);
+ * Set&lt;String&gt; affected = graph.getDependents("ssl.enabled");
+ * </pre>
+ *
+ * @see DependencyTracer
+ * @since 0.4.0
+ */
+public final class ObservedDependencyGraph {
+
+    private final Map<String, Set<String>> propertyReads;
+    private final Map<String, Set<String>> groupReads;
+    private final Set<String> propertiesReadingAll;
+    private final Set<String> groupsReadingAll;
+    private final Map<String, Set<String>> dependents;
+    private final Map<String, Set<String>> readingGroups;
+
+    ObservedDependencyGraph(
+            Map<String, Set<String>> propertyReads,
+            Map<String, Set<String>> groupReads,
+            Set<String> propertiesReadingAll,
+            Set<String> groupsReadingAll) {
+        this.propertyReads = copy(propertyReads);
+        this.groupReads = copy(groupReads);
+        this.propertiesReadingAll = Collections.unmodifiableSet(new LinkedHashSet<>(propertiesReadingAll));
+        this.groupsReadingAll = Collections.unmodifiableSet(new LinkedHashSet<>(groupsReadingAll));
+        this.dependents = invert(this.propertyReads);
+        this.readingGroups = invert(this.groupReads);
+    }
+
+    /**
+     * Gets the properties read by the rule and default value of a property.
+     *
+     * @param propertyName the property name
+     * @return unmodifiable set of property names read, excluding the property itself
+     */
+    public Set<String> getReads(String propertyName) {
+        return propertyReads.getOrDefault(propertyName, Collections.emptySet());
+    }
+
+    /**
+     * Gets the properties whose rule or default value read the given property.
+     *
+     * @param propertyName the property name
+     * @return unmodifiable set of dependent property names
+     */
+    public Set<String> getDependents(String propertyName) {
+        return dependents.getOrDefault(propertyName, Collections.emptySet());
+    }
+
+    /**
+     * Checks if the rule or default value of a property read all properties.
+     *
+     * @param propertyName the property name
+     * @return true if {@link com.cleanconfig.core.PropertyContext#getAllProperties()} was called
+     */
+    public boolean readsAllProperties(String propertyName) {
+        return propertiesReadingAll.contains(propertyName);
+    }
+
+    /**
+     * Gets the properties that read all properties.
+     *
+     * @return unmodifiable set of property names
+     */
+    public Set<String> getPropertiesReadingAll() {
+        return propertiesReadingAll;
+    }
+
+    /**
+     * Gets the properties read by the rules of a property group.
+     *
+     * @param groupName the group name
+     * @return unmodifiable set of property names read
+     */
+    public Set<String> getGroupReads(String groupName) {
+        return groupReads.getOrDefault(groupName, Collections.emptySet());
+    }
+
+    /**
+     * Gets the property groups whose rules read the given property.
+     *
+     * @param propertyName the property name
+     * @return unmodifiable set of group names
+     */
+    public Set<String> getReadingGroups(String propertyName) {
+        return readingGroups.getOrDefault(propertyName, Collections.emptySet());
+    }
+
+    /**
+     * Gets the property groups whose rules read all properties.
+     *
+     * @return unmodifiable set of group names
+     */
+    public Set<String> getGroupsReadingAll() {
+        return groupsReadingAll;
+    }
+
+    /**
+     * Combines this graph with another, keeping every read observed by either.
+     *
+     * @param other the other graph
+     * @return a new graph containing the union of both graphs
+     */
+    public ObservedDependencyGraph merge(ObservedDependencyGraph other) {
+        Objects.requireNonNull(other, "Other graph cannot be null");
+
+        Set<String> allReadingProperties = new LinkedHashSet<>(propertiesReadingAll);
+        allReadingProperties.addAll(other.propertiesReadingAll);
+        Set<String> allReadingGroups = new LinkedHashSet<>(groupsReadingAll);
+        allReadingGroups.addAll(other.groupsReadingAll);
+
+        return new ObservedDependencyGraph(
+                union(propertyReads, other.propertyReads),
+                union(groupReads, other.groupReads),
+                allReadingProperties,
+                allReadingGroups);
+    }
+
+    @Override
+    public String toString() {
+        return "ObservedDependencyGraph{"
+                + "properties=" + propertyReads.size()
+                + ", groups=" + groupReads.size()
+                + ", readingAll=" + (propertiesReadingAll.size() + groupsReadingAll.size())
+                + '}';
+    }
+
+    private static Map<String, Set<String>> copy(Map<String, Set<String>> source) {
+        Map<String, Set<String>> result = new LinkedHashMap<>();
+        source.forEach((name, reads) -> {
+            if (!reads.isEmpty()) {
+                result.put(name, Collections.unmodifiableSet(new LinkedHashSet<>(reads)));
+            }
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Map<String, Set<String>> invert(Map<String, Set<String>> reads) {
+        Map<String, Set<String>> inverted = new LinkedHashMap<>();
+        reads.forEach((reader, readNames) -> readNames.forEach(readName ->
+                inverted.computeIfAbsent(readName, name -> new LinkedHashSet<>()).add(reader)));
+        return copy(inverted);
+    }
+
+    private static Map<String, Set<String>> union(Map<String, Set<String>> first, Map<String, Set<String>> second) {
+        Map<String, Set<String>> result = new LinkedHashMap<>();
+        first.forEach((name, reads) -> result.put(name, new HashSet<>(reads)));
+        second.forEach((name, reads) -> result.computeIfAbsent(name, key -> new HashSet<>()).addAll(reads));
+        return result;
+    }
+}
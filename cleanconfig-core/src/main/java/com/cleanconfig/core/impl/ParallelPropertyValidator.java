@@ -0,0 +1,260 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.PropertyValidator;
+import com.cleanconfig.core.cache.PropertyResultCache;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.PropertyGroup;
+import com.cleanconfig.core.validation.ValidationError;
+import com.cleanconfig.core.validation.ValidationResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+
+/**
+ * Property validator that validates independent properties concurrently.
+ *
+ * <p>The registry is compiled into a validation plan whose properties are split into
+ * dependency levels: level 0 holds properties without dependencies, and each further
+ * level holds properties whose dependencies were all validated in earlier levels. Each
+ * level is validated in batches on the configured executor, and property group rules
+ * run in parallel once all levels are done.
+ *
+ * <p>Results are identical, in content and error order, to {@link DefaultPropertyValidator}
+ * for the same registry. Per-property results are collected by plan position and merged
+ * in sequential order after all batches complete.
+ *
+ * <p>Example usage:
+ * <pre>
+ * PropertyValidator validator = new ParallelPropertyValidator(registry, ForkJoinPool.commonPool());
+ * ValidationResult result = validator.validate(properties);
+ * </pre>
+ *
+ * <p>Validation rules must be safe to call from multiple threads, and the property map
+ * must not be modified while it is being validated.
+ *
+ * <p>This class is final to prevent finalizer attacks when constructor throws exceptions.
+ *
+ * @since 0.4.0
+ */
+public final class ParallelPropertyValidator implements PropertyValidator {
+
+    /**
+     * Default number of properties or groups validated per task.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final TypeConverterRegistry converterRegistry;
+    private final ValidationPlan plan;
+    private final Executor executor;
+    private final int batchSize;
+
+    /**
+     * Creates a new parallel validator that runs on the common fork/join pool.
+     *
+     * @param registry the property registry
+     */
+    public ParallelPropertyValidator(PropertyRegistry registry) {
+        this(registry, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new parallel validator that runs on the given executor.
+     *
+     * @param registry the property registry
+     * @param executor the executor used for validation tasks
+     */
+    public ParallelPropertyValidator(PropertyRegistry registry, Executor executor) {
+        this(registry, TypeConverterRegistry.getInstance(), executor, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new parallel validator with full configuration.
+     *
+     * @param registry the property registry
+     * @param converterRegistry the type converter registry
+     * @param executor the executor used for validation tasks
+     * @param batchSize the number of properties or groups validated per task
+     * @throws IllegalArgumentException if batchSize is not positive
+     */
+    public ParallelPropertyValidator(
+            PropertyRegistry registry,
+            TypeConverterRegistry converterRegistry,
+            Executor executor,
+            int batchSize) {
+        this(registry, converterRegistry, executor, batchSize, null);
+    }
+
+    /**
+     * Creates a new parallel validator that caches results of context-free rules.
+     *
+     * @param registry the property registry
+     * @param converterRegistry the type converter registry
+     * @param executor the executor used for validation tasks
+     * @param batchSize the number of properties or groups validated per task
+     * @param resultCache cache for single-property results, or null to validate every value
+     * @throws IllegalArgumentException if batchSize is not positive
+     * @see CompiledPropertyValidator#CompiledPropertyValidator(PropertyRegistry, TypeConverterRegistry, PropertyResultCache)
+     * @since 0.4.0
+     */
+    public ParallelPropertyValidator(
+            PropertyRegistry registry,
+            TypeConverterRegistry converterRegistry,
+            Executor executor,
+            int batchSize,
+            PropertyResultCache resultCache) {
+        Objects.requireNonNull(registry, "Property registry cannot be null");
+        this.converterRegistry = Objects.requireNonNull(converterRegistry, "Converter registry cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+        this.plan = new ValidationPlan(registry, converterRegistry, resultCache);
+    }
+
+    @Override
+    public ValidationResult validate(Map<String, String> properties) {
+        Objects.requireNonNull(properties, "Properties cannot be null");
+
+        List<Map.Entry<String, String>> unknown = new ArrayList<>();
+        String[] values = plan.values(properties, unknown);
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry, plan, values);
+
+        // Validate defined properties level by level
+        ValidationResult[] propertyResults = new ValidationResult[plan.size()];
+        for (int[] level : plan.levels()) {
+            runBatched(level.length, position -> {
+                int index = level[position];
+                propertyResults[index] = plan.validate(index, values[index], context);
+            });
+        }
+
+        // Validate property groups; each task sets only its own slot
+        List<List<ValidationError>> groupErrors = new ArrayList<>(Collections.nCopies(plan.groupCount(), null));
+        runBatched(groupErrors.size(), g -> groupErrors.set(g, plan.validateGroup(g, context, null)));
+
+        // Merge in sequential validation order
+        List<ValidationError> errors = null;
+        for (ValidationResult result : propertyResults) {
+            errors = ValidationPlan.appendErrors(errors, result);
+        }
+        for (Map.Entry<String, String> entry : unknown) {
+            errors = ValidationPlan.appendErrors(errors, ValidationResult.failure(
+                    ValidationPlan.unknownPropertyError(entry.getKey(), entry.getValue())));
+        }
+        for (List<ValidationError> group : groupErrors) {
+            if (group != null) {
+                errors = errors == null ? new ArrayList<>() : errors;
+                errors.addAll(group);
+            }
+        }
+
+        return errors == null ? ValidationResult.success() : ValidationResult.failure(errors);
+    }
+
+    @Override
+    public ValidationResult validateIncremental(
+            ValidationResult previousResult,
+            Map<String, String> properties,
+            Set<String> changedKeys) {
+        return validateIncremental(previousResult, properties, changedKeys, null);
+    }
+
+    /**
+     * Re-validates properties after some keys changed, also following observed reads.
+     *
+     * <p>Behaves like {@link #validateIncremental(ValidationResult, Map, Set)}, and also
+     * re-runs every rule that the graph recorded reading an affected property, including
+     * reads that were never declared with {@code dependsOnForValidation}.
+     *
+     * @param previousResult the result of validating the properties before the change
+     * @param properties all properties after the change
+     * @param changedKeys the keys that were added, removed or modified
+     * @param observed the observed dependency graph, or null to follow declared dependencies only
+     * @return the validation result
+     * @see DependencyTracer
+     */
+    public ValidationResult validateIncremental(
+            ValidationResult previousResult,
+            Map<String, String> properties,
+            Set<String> changedKeys,
+            ObservedDependencyGraph observed) {
+        Objects.requireNonNull(previousResult, "Previous result cannot be null");
+        Objects.requireNonNull(properties, "Properties cannot be null");
+        Objects.requireNonNull(changedKeys, "Changed keys cannot be null");
+
+        return plan.validateIncremental(previousResult, properties, changedKeys, observed,
+                new MemoizingPropertyContext(properties, converterRegistry));
+    }
+
+    @Override
+    public ValidationResult validateProperty(String propertyName, String value, Map<String, String> properties) {
+        Objects.requireNonNull(propertyName, "Property name cannot be null");
+        Objects.requireNonNull(properties, "Properties cannot be null");
+
+        return plan.validateProperty(propertyName, value, new MemoizingPropertyContext(properties, converterRegistry));
+    }
+
+    @Override
+    public ValidationResult validatePropertyGroup(PropertyGroup group, Map<String, String> properties) {
+        Objects.requireNonNull(group, "Property group cannot be null");
+        Objects.requireNonNull(properties, "Properties cannot be null");
+
+        return ValidationPlan.validateGroup(group, new DefaultPropertyContext(properties, converterRegistry));
+    }
+
+    /**
+     * Runs the task for positions {@code 0..count-1} in batches and waits for all of them.
+     *
+     * <p>The last batch runs on the calling thread; a single batch never leaves it. If a batch
+     * fails, the call still waits for the others before throwing.
+     */
+    private void runBatched(int count, IntConsumer task) {
+        int batches = (count + batchSize - 1) / batchSize;
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[Math.max(batches - 1, 0)];
+
+        for (int b = 0; b < futures.length; b++) {
+            int from = b * batchSize;
+            int to = from + batchSize;
+            futures[b] = CompletableFuture.runAsync(() -> runRange(from, to, task), executor);
+        }
+        if (batches > 0) {
+            try {
+                runRange(futures.length * batchSize, count, task);
+            } catch (RuntimeException | Error e) {
+                // Let the other batches finish before reporting the failure
+                CompletableFuture.allOf(futures).exceptionally(failure -> null).join();
+                throw e;
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void runRange(int from, int to, IntConsumer task) {
+        for (int i = from; i < to; i++) {
+            task.accept(i);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.converter.DoubleTypeConverter;
+import com.cleanconfig.core.converter.IntTypeConverter;
+import com.cleanconfig.core.converter.LongTypeConverter;
+import com.cleanconfig.core.converter.TypeConverter;
+import com.cleanconfig.core.validation.DoubleValidationRule;
+import com.cleanconfig.core.validation.IntValidationRule;
+import com.cleanconfig.core.validation.LongValidationRule;
+import com.cleanconfig.core.validation.ValidationResult;
+import com.cleanconfig.core.validation.ValidationRule;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Validation of primitive-typed properties without boxing.
+ *
+ * <p>When a property's converter produces primitives and its rule is specialized for the
+ * same primitive, the value is parsed and validated as a primitive instead of going through
+ * {@code Optional<Integer>} and {@code ValidationRule<Integer>}.
+ */
+final class PrimitiveValidation {
+
+    private PrimitiveValidation() {
+        // Utility class
+    }
+
+    /**
+     * Checks if a converter and rule can validate values without boxing.
+     *
+     * @param converter the property's converter (may be null)
+     * @param rule the property's rule (may be null)
+     * @return true if {@link #validate} can be used
+     */
+    static boolean isSupported(TypeConverter<?> converter, ValidationRule<?> rule) {
+        return (converter instanceof IntTypeConverter && rule instanceof IntValidationRule)
+                || (converter instanceof LongTypeConverter && rule instanceof LongValidationRule)
+                || (converter instanceof DoubleTypeConverter && rule instanceof DoubleValidationRule);
+    }
+
+    /**
+     * Converts and validates a value without boxing.
+     *
+     * <p>Must only be called if {@link #isSupported} returned true for the converter and rule.
+     *
+     * @return the validation result, or null if the value could not be converted
+     */
+    static ValidationResult validate(
+            TypeConverter<?> converter,
+            ValidationRule<?> rule,
+            String propertyName,
+            String value,
+            PropertyContext context) {
+        if (converter instanceof IntTypeConverter) {
+            OptionalInt converted = ((IntTypeConverter) converter).convertToInt(value);
+            return converted.isPresent()
+                    ? ((IntValidationRule) rule).validateInt(propertyName, converted.getAsInt(), context)
+                    : null;
+        }
+        if (converter instanceof LongTypeConverter) {
+            OptionalLong converted = ((LongTypeConverter) converter).convertToLong(value);
+            return converted.isPresent()
+                    ? ((LongValidationRule) rule).validateLong(propertyName, converted.getAsLong(), context)
+                    : null;
+        }
+        OptionalDouble converted = ((DoubleTypeConverter) converter).convertToDouble(value);
+        return converted.isPresent()
+                ? ((DoubleValidationRule) rule).validateDouble(propertyName, converted.getAsDouble(), context)
+                : null;
+    }
+}
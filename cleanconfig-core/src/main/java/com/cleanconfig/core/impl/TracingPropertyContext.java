@@ -0,0 +1,93 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.PropertyContext;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Property context wrapper that records which properties are read through it.
+ *
+ * <p>Every call to {@link #getProperty(String)}, {@link #getTypedProperty(String, Class)}
+ * and {@link #hasProperty(String)} records the property name. A call to
+ * {@link #getAllProperties()} is recorded as a read of every property, since the caller
+ * may inspect any of them.
+ *
+ * <p>Example usage:
+ * <pre>
+ * TracingPropertyContext context = new TracingPropertyContext(
+ *     new DefaultPropertyContext(properties, TypeConverterRegistry.getInstance()));
+ * rule.validate("db.pool.max", 50, context);
+ * Set&lt;String&gt; reads = context.getReadProperties();
+ * </pre>
+ *
+ * <p>This class is not thread-safe; use one instance per traced evaluation.
+ *
+ * @since 0.4.0
+ */
+public class TracingPropertyContext implements PropertyContext {
+
+    private final PropertyContext delegate;
+    private final Set<String> readProperties = new LinkedHashSet<>();
+    private boolean readAllProperties;
+
+    /**
+     * Creates a new tracing context.
+     *
+     * @param delegate the context to read through
+     */
+    public TracingPropertyContext(PropertyContext delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate context cannot be null");
+    }
+
+    @Override
+    public Optional<String> getProperty(String propertyName) {
+        readProperties.add(propertyName);
+        return delegate.getProperty(propertyName);
+    }
+
+    @Override
+    public <T> Optional<T> getTypedProperty(String propertyName, Class<T> targetType) {
+        readProperties.add(propertyName);
+        return delegate.getTypedProperty(propertyName, targetType);
+    }
+
+    @Override
+    public Map<String, String> getAllProperties() {
+        readAllProperties = true;
+        return delegate.getAllProperties();
+    }
+
+    @Override
+    public Optional<String> getMetadata(String key) {
+        return delegate.getMetadata(key);
+    }
+
+    @Override
+    public boolean hasProperty(String propertyName) {
+        readProperties.add(propertyName);
+        return delegate.hasProperty(propertyName);
+    }
+
+    /**
+     * Gets the names of properties read through this context, in first-read order.
+     *
+     * @return unmodifiable set of property names
+     */
+    public Set<String> getReadProperties() {
+        return Collections.unmodifiableSet(readProperties);
+    }
+
+    /**
+     * Checks if {@link #getAllProperties()} was called on this context.
+     *
+     * @return true if all properties may have been read
+     */
+    public boolean hasReadAllProperties() {
+        return readAllProperties;
+    }
+}
@@ -0,0 +1,604 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyKey;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.cache.PropertyResultCache;
+import com.cleanconfig.core.converter.TypeConverter;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.MultiPropertyValidationRule;
+import com.cleanconfig.core.validation.PropertyGroup;
+import com.cleanconfig.core.validation.ValidationError;
+import com.cleanconfig.core.validation.ValidationResult;
+import com.cleanconfig.core.validation.ValidationRule;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Flat, pre-resolved form of a property registry used by compiled validators.
+ *
+ * <p>The plan resolves every definition, converter and validation rule once, in
+ * topological order, and stores them in parallel arrays indexed by position. Group
+ * property names are converted to arrays up front so group rules can be invoked
+ * without copying.
+ *
+ * <p>Converters are resolved when the plan is built; converters registered afterwards
+ * are not seen by the plan. Conversions go through a {@link MemoizingPropertyContext}, so
+ * rules that read a property after it was validated reuse its converted value.
+ *
+ * <p>Properties whose converter and rule are both specialized for the same primitive type
+ * are converted and validated without boxing. Their converted values are not remembered by
+ * the context, since re-parsing a primitive is cheaper than boxing and storing it.
+ *
+ * <p>When a {@link PropertyResultCache} is given, results for properties whose rule is
+ * context-free, or that have no rule, are cached per definition and raw value.
+ *
+ * @since 0.4.0
+ */
+final class ValidationPlan {
+
+    private static final int[] NO_GROUPS = new int[0];
+
+    private final PropertyDefinition<?>[] definitions;
+    private final String[] names;
+    private final boolean[] required;
+    private final Class<?>[] types;
+    private final TypeConverter<?>[] converters;
+    private final ValidationRule<?>[] rules;
+    private final String[] expectedTypes;
+    private final boolean[] cacheable;
+    private final boolean[] primitive;
+    private final PropertyResultCache resultCache;
+    private final Map<String, Integer> indexByName;
+    private final PropertyKey[] keys;
+    private final int[] indexByKeyId;
+    private final PropertyGroup[] groups;
+    private final String[][] groupPropertyNames;
+    private final MultiPropertyValidationRule[][] groupRules;
+    private final int[][] levels;
+    private final int[][] dependents;
+    private final Map<String, int[]> groupsByPropertyName;
+    private final Map<String, Integer> groupIndexByName;
+
+    ValidationPlan(PropertyRegistry registry, TypeConverterRegistry converterRegistry) {
+        this(registry, converterRegistry, null);
+    }
+
+    ValidationPlan(PropertyRegistry registry, TypeConverterRegistry converterRegistry, PropertyResultCache resultCache) {
+        List<String> order = computeValidationOrder(registry);
+        int size = order.size();
+
+        this.resultCache = resultCache;
+        this.definitions = new PropertyDefinition<?>[size];
+        this.names = new String[size];
+        this.required = new boolean[size];
+        this.types = new Class<?>[size];
+        this.converters = new TypeConverter<?>[size];
+        this.rules = new ValidationRule<?>[size];
+        this.expectedTypes = new String[size];
+        this.cacheable = new boolean[size];
+        this.primitive = new boolean[size];
+        this.indexByName = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            PropertyDefinition<?> definition = registry.getProperty(order.get(i))
+                    .orElseThrow(IllegalStateException::new);
+            definitions[i] = definition;
+            names[i] = definition.getName();
+            required[i] = definition.isRequired();
+            types[i] = definition.getType();
+            converters[i] = converterRegistry.getConverter(definition.getType()).orElse(null);
+            rules[i] = definition.getValidationRule().orElse(null);
+            expectedTypes[i] = "Value of type " + definition.getType().getSimpleName();
+            cacheable[i] = converters[i] != null && (rules[i] == null || rules[i].isContextFree());
+            primitive[i] = PrimitiveValidation.isSupported(converters[i], rules[i]);
+            indexByName.put(names[i], i);
+        }
+
+        // Registry keys, if it assigns them, resolve to plan positions without hashing
+        this.keys = registry.getKeys().toArray(new PropertyKey[0]);
+        this.indexByKeyId = new int[keys.length];
+        for (int id = 0; id < keys.length; id++) {
+            indexByKeyId[id] = indexOf(keys[id].getName());
+        }
+
+        this.groups = registry.getAllPropertyGroups().toArray(new PropertyGroup[0]);
+        this.groupPropertyNames = new String[groups.length][];
+        this.groupRules = new MultiPropertyValidationRule[groups.length][];
+        for (int g = 0; g < groups.length; g++) {
+            groupPropertyNames[g] = groups[g].getPropertyNames().toArray(new String[0]);
+            groupRules[g] = groups[g].getRules().toArray(new MultiPropertyValidationRule[0]);
+        }
+
+        this.levels = computeLevels(registry);
+        this.dependents = computeDependents(registry);
+        this.groupsByPropertyName = indexGroupsByPropertyName();
+        this.groupIndexByName = new HashMap<>(groups.length * 2);
+        for (int g = 0; g < groups.length; g++) {
+            groupIndexByName.put(groups[g].getName(), g);
+        }
+    }
+
+    /**
+     * Gets the number of properties in the plan.
+     */
+    int size() {
+        return names.length;
+    }
+
+    /**
+     * Gets the plan position of a property, or -1 if it is not defined.
+     */
+    int indexOf(String propertyName) {
+        Integer index = indexByName.get(propertyName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the plan position of a key of the plan's registry, or -1 if the key belongs to
+     * another registry.
+     */
+    int indexOf(PropertyKey key) {
+        int id = key.getId();
+        return id >= 0 && id < keys.length && keys[id] == key ? indexByKeyId[id] : -1;
+    }
+
+    /**
+     * Reads the raw value of every planned property from a property map in a single pass.
+     *
+     * @param properties the properties to read
+     * @param unknown receives the entries of properties that are not in the plan, in map order
+     * @return raw values by plan position, null where a property has no value
+     */
+    String[] values(Map<String, String> properties, List<Map.Entry<String, String>> unknown) {
+        String[] values = new String[names.length];
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            Integer index = indexByName.get(entry.getKey());
+            if (index != null) {
+                values[index] = entry.getValue();
+            } else {
+                unknown.add(entry);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Validates every planned property, every unknown property and every group, in that order.
+     *
+     * @param values raw values by plan position, as returned by {@link #values}
+     * @param unknown the entries of properties that are not in the plan
+     * @param context context over the same properties
+     * @return the validation result
+     */
+    ValidationResult validateAll(
+            String[] values,
+            List<Map.Entry<String, String>> unknown,
+            MemoizingPropertyContext context) {
+        List<ValidationError> errors = null;
+
+        // Validate defined properties in plan order
+        for (int i = 0; i < names.length; i++) {
+            errors = appendErrors(errors, validate(i, values[i], context));
+        }
+
+        // Validate unknown properties
+        for (Map.Entry<String, String> entry : unknown) {
+            errors = appendErrors(errors, ValidationResult.failure(
+                    unknownPropertyError(entry.getKey(), entry.getValue())));
+        }
+
+        // Validate property groups
+        for (int g = 0; g < groups.length; g++) {
+            errors = validateGroup(g, context, errors);
+        }
+
+        return errors == null ? ValidationResult.success() : ValidationResult.failure(errors);
+    }
+
+    /**
+     * Gets the number of property groups in the plan.
+     */
+    int groupCount() {
+        return groups.length;
+    }
+
+    /**
+     * Gets the dependency levels of the plan.
+     *
+     * <p>Level 0 holds the properties without dependencies; every other level holds the
+     * properties whose dependencies all sit in earlier levels. Within a level, positions
+     * are in ascending plan order.
+     */
+    int[][] levels() {
+        return levels;
+    }
+
+    /**
+     * Validates a property by name, reporting undefined names as unknown properties.
+     */
+    ValidationResult validateProperty(String propertyName, String value, MemoizingPropertyContext context) {
+        int index = indexOf(propertyName);
+        if (index < 0) {
+            return ValidationResult.failure(unknownPropertyError(propertyName, value));
+        }
+        return validate(index, value, context);
+    }
+
+    /**
+     * Validates the property at the given plan position.
+     *
+     * <p>Mirrors {@link DefaultPropertyValidator}: missing required values fail, missing
+     * optional values pass, and present values are converted before the rule runs.
+     */
+    ValidationResult validate(int index, String value, MemoizingPropertyContext context) {
+        if (value == null || value.isEmpty()) {
+            if (required[index]) {
+                return ValidationResult.failure(ValidationError.builder()
+                        .propertyName(names[index])
+                        .actualValue(value)
+                        .errorMessage("Required property is missing")
+                        .expectedValue("Non-null value")
+                        .build());
+            }
+            return ValidationResult.success();
+        }
+
+        if (resultCache != null && cacheable[index]) {
+            return resultCache.get(
+                    definitions[index], converters[index], value, () -> convertAndValidate(index, value, context));
+        }
+        return convertAndValidate(index, value, context);
+    }
+
+    /**
+     * Converts a present value and runs the rule of the property at the given plan position.
+     */
+    @SuppressWarnings("unchecked")
+    private ValidationResult convertAndValidate(int index, String value, MemoizingPropertyContext context) {
+        if (primitive[index]) {
+            ValidationResult result = PrimitiveValidation.validate(
+                    converters[index], rules[index], names[index], value, context);
+            return result != null ? result : conversionFailure(index, value);
+        }
+
+        TypeConverter<Object> converter = (TypeConverter<Object>) converters[index];
+        Optional<Object> converted = converter == null
+                ? Optional.empty()
+                : context.convert(index, names[index], value, (Class<Object>) types[index], converter);
+        if (!converted.isPresent()) {
+            return conversionFailure(index, value);
+        }
+
+        ValidationRule<Object> rule = (ValidationRule<Object>) rules[index];
+        if (rule == null) {
+            return ValidationResult.success();
+        }
+        return rule.validate(names[index], converted.get(), context);
+    }
+
+    private ValidationResult conversionFailure(int index, String value) {
+        return ValidationResult.failure(ValidationError.builder()
+                .propertyName(names[index])
+                .actualValue(value)
+                .errorMessage("Type conversion failed")
+                .expectedValue(expectedTypes[index])
+                .build());
+    }
+
+    /**
+     * Runs every rule of the group at the given position and appends failures to {@code errors}.
+     *
+     * @return the error list, allocated lazily on the first failure
+     */
+    List<ValidationError> validateGroup(int groupIndex, PropertyContext context, List<ValidationError> errors) {
+        String[] propertyNames = groupPropertyNames[groupIndex];
+        String groupName = groups[groupIndex].getName();
+        for (MultiPropertyValidationRule rule : groupRules[groupIndex]) {
+            errors = appendGroupErrors(errors, rule.validate(propertyNames, context), groupName);
+        }
+        return errors;
+    }
+
+    /**
+     * Re-validates only what a set of changed keys can affect and splices the fresh
+     * errors into a previous result.
+     *
+     * <p>The affected set starts with the changed keys and is closed over two relations:
+     * transitive dependents (via {@code dependsOnForValidation}) and membership of any
+     * property group containing an affected name, in which case every member of that group
+     * becomes affected as well. Errors of the previous result are dropped if a group rule
+     * of an affected group reported them, or, for errors without a group of this plan, if
+     * they were reported against an affected name; every affected property, every affected
+     * unknown key and every affected group is validated again.
+     *
+     * <p>When an observed dependency graph is given, the affected set is additionally
+     * closed over the reads it recorded, and rules that read every property are always
+     * re-run.
+     *
+     * <p>Errors that survive from the previous result keep their relative order and are
+     * followed by the fresh errors.
+     */
+    ValidationResult validateIncremental(
+            ValidationResult previousResult,
+            Map<String, String> properties,
+            Collection<String> changedKeys,
+            ObservedDependencyGraph observed,
+            MemoizingPropertyContext context) {
+
+        boolean[] affected = new boolean[names.length];
+        boolean[] affectedGroups = new boolean[groups.length];
+        Set<String> affectedNames = new LinkedHashSet<>();
+        Deque<String> pending = new ArrayDeque<>(changedKeys);
+
+        // Rules that read every property are affected by any change
+        if (observed != null && !changedKeys.isEmpty()) {
+            pending.addAll(observed.getPropertiesReadingAll());
+            for (String groupName : observed.getGroupsReadingAll()) {
+                markGroup(groupName, affectedGroups, pending);
+            }
+        }
+
+        // Close the changed keys over dependents and group membership
+        while (!pending.isEmpty()) {
+            String name = pending.poll();
+            if (!affectedNames.add(name)) {
+                continue;
+            }
+            int index = indexOf(name);
+            if (index >= 0) {
+                affected[index] = true;
+                for (int dependent : dependents[index]) {
+                    pending.add(names[dependent]);
+                }
+            }
+            for (int g : groupsByPropertyName.getOrDefault(name, NO_GROUPS)) {
+                markGroup(g, affectedGroups, pending);
+            }
+            if (observed != null) {
+                pending.addAll(observed.getDependents(name));
+                for (String groupName : observed.getReadingGroups(name)) {
+                    markGroup(groupName, affectedGroups, pending);
+                }
+            }
+        }
+
+        // Keep previous errors that nothing validated again can have produced
+        List<ValidationError> errors = new ArrayList<>();
+        for (ValidationError error : previousResult.getErrors()) {
+            if (!isRevalidated(error, affectedNames, affectedGroups)) {
+                errors.add(error);
+            }
+        }
+
+        for (int i = 0; i < names.length; i++) {
+            if (affected[i]) {
+                appendErrors(errors, validate(i, properties.get(names[i]), context));
+            }
+        }
+        for (String name : affectedNames) {
+            if (indexOf(name) < 0 && properties.containsKey(name)) {
+                errors.add(unknownPropertyError(name, properties.get(name)));
+            }
+        }
+        for (int g = 0; g < groups.length; g++) {
+            if (affectedGroups[g]) {
+                validateGroup(g, context, errors);
+            }
+        }
+
+        return errors.isEmpty() ? ValidationResult.success() : ValidationResult.failure(errors);
+    }
+
+    /**
+     * Checks if an error of a previous result comes from a rule that is validated again.
+     *
+     * <p>A group rule may report an error against any property, including one outside the
+     * group, so errors that name a group of this plan are matched by group, not by property.
+     */
+    private boolean isRevalidated(ValidationError error, Set<String> affectedNames, boolean[] affectedGroups) {
+        String groupName = error.getGroupName();
+        Integer g = groupName == null ? null : groupIndexByName.get(groupName);
+        if (g != null) {
+            return affectedGroups[g];
+        }
+        return affectedNames.contains(error.getPropertyName());
+    }
+
+    private void markGroup(String groupName, boolean[] affectedGroups, Deque<String> pending) {
+        Integer g = groupIndexByName.get(groupName);
+        if (g != null) {
+            markGroup(g, affectedGroups, pending);
+        }
+    }
+
+    private void markGroup(int g, boolean[] affectedGroups, Deque<String> pending) {
+        if (!affectedGroups[g]) {
+            affectedGroups[g] = true;
+            pending.addAll(Arrays.asList(groupPropertyNames[g]));
+        }
+    }
+
+    /**
+     * Runs every rule of an arbitrary group, which need not be part of the plan.
+     */
+    static ValidationResult validateGroup(PropertyGroup group, PropertyContext context) {
+        String[] propertyNames = group.getPropertyNames().toArray(new String[0]);
+        List<ValidationError> errors = null;
+        for (MultiPropertyValidationRule rule : group.getRules()) {
+            errors = appendGroupErrors(errors, rule.validate(propertyNames, context), group.getName());
+        }
+        return errors == null ? ValidationResult.success() : ValidationResult.failure(errors);
+    }
+
+    /**
+     * Appends the errors of a result to a lazily allocated error list.
+     *
+     * @return the error list, or null if no errors have been seen yet
+     */
+    static List<ValidationError> appendErrors(List<ValidationError> errors, ValidationResult result) {
+        if (result.isValid()) {
+            return errors;
+        }
+        List<ValidationError> target = errors == null ? new ArrayList<>() : errors;
+        target.addAll(result.getErrors());
+        return target;
+    }
+
+    /**
+     * Appends the errors of a group rule's result, recording the group on each, to a lazily
+     * allocated error list.
+     *
+     * @return the error list, or null if no errors have been seen yet
+     */
+    static List<ValidationError> appendGroupErrors(
+            List<ValidationError> errors,
+            ValidationResult result,
+            String groupName) {
+        if (result.isValid()) {
+            return errors;
+        }
+        List<ValidationError> target = errors == null ? new ArrayList<>() : errors;
+        for (ValidationError error : result.getErrors()) {
+            target.add(error.withGroupName(groupName));
+        }
+        return target;
+    }
+
+    /**
+     * Creates the error reported for a property that is not defined in the registry.
+     */
+    static ValidationError unknownPropertyError(String propertyName, String value) {
+        return ValidationError.builder()
+                .propertyName(propertyName)
+                .actualValue(value)
+                .errorMessage("Unknown property")
+                .expectedValue("Property is not defined in the registry")
+                .build();
+    }
+
+    /**
+     * Assigns each plan position to a dependency level.
+     */
+    private int[][] computeLevels(PropertyRegistry registry) {
+        int[] levelOf = new int[names.length];
+        int levelCount = 0;
+        for (int i = 0; i < names.length; i++) {
+            int level = 0;
+            for (String dependency : registry.getProperty(names[i])
+                    .orElseThrow(IllegalStateException::new)
+                    .getDependsOnForValidation()) {
+                int dependencyIndex = indexOf(dependency);
+                if (dependencyIndex >= 0) {
+                    level = Math.max(level, levelOf[dependencyIndex] + 1);
+                }
+            }
+            levelOf[i] = level;
+            levelCount = Math.max(levelCount, level + 1);
+        }
+
+        int[] counts = new int[levelCount];
+        for (int level : levelOf) {
+            counts[level]++;
+        }
+        int[][] result = new int[levelCount][];
+        for (int level = 0; level < levelCount; level++) {
+            result[level] = new int[counts[level]];
+            counts[level] = 0;
+        }
+        for (int i = 0; i < levelOf.length; i++) {
+            result[levelOf[i]][counts[levelOf[i]]++] = i;
+        }
+        return result;
+    }
+
+    /**
+     * Builds the reverse dependency index over plan positions.
+     */
+    private int[][] computeDependents(PropertyRegistry registry) {
+        int[][] result = new int[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            result[i] = registry.getDependents(names[i]).stream()
+                    .mapToInt(this::indexOf)
+                    .filter(index -> index >= 0)
+                    .sorted()
+                    .toArray();
+        }
+        return result;
+    }
+
+    /**
+     * Maps every property name mentioned by a group to the positions of those groups.
+     */
+    private Map<String, int[]> indexGroupsByPropertyName() {
+        Map<String, List<Integer>> byName = new HashMap<>();
+        for (int g = 0; g < groups.length; g++) {
+            for (String propertyName : groupPropertyNames[g]) {
+                List<Integer> groupIndexes = byName.computeIfAbsent(propertyName, name -> new ArrayList<>());
+                if (groupIndexes.isEmpty() || groupIndexes.get(groupIndexes.size() - 1) != g) {
+                    groupIndexes.add(g);
+                }
+            }
+        }
+
+        Map<String, int[]> result = new HashMap<>(byName.size() * 2);
+        byName.forEach((name, groupIndexes) ->
+                result.put(name, groupIndexes.stream().mapToInt(Integer::intValue).toArray()));
+        return result;
+    }
+
+    /**
+     * Computes the validation order using topological sort.
+     */
+    static List<String> computeValidationOrder(PropertyRegistry registry) {
+        // In-degree is the number of defined dependencies of each property
+        Map<String, Integer> inDegree = new HashMap<>();
+        Queue<String> queue = new ArrayDeque<>();
+        for (PropertyDefinition<?> definition : registry.getAllProperties()) {
+            int degree = 0;
+            for (String dependency : definition.getDependsOnForValidation()) {
+                if (registry.isDefined(dependency)) {
+                    degree++;
+                }
+            }
+            inDegree.put(definition.getName(), degree);
+            if (degree == 0) {
+                queue.add(definition.getName());
+            }
+        }
+
+        // Topological sort using Kahn's algorithm over the registry's reverse index
+        List<String> sorted = new ArrayList<>(inDegree.size());
+        while (!queue.isEmpty()) {
+            String current = queue.poll();
+            sorted.add(current);
+
+            for (String dependent : registry.getDependents(current)) {
+                int newDegree = inDegree.merge(dependent, -1, Integer::sum);
+                if (newDegree == 0) {
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        // Check for cycles (should not happen if builder validated correctly)
+        if (sorted.size() != inDegree.size()) {
+            throw new IllegalStateException(
+                    "Circular dependency detected in property validation dependencies");
+        }
+
+        return sorted;
+    }
+}
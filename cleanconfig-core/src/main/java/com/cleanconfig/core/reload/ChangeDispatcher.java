@@ -0,0 +1,220 @@
+package com.cleanconfig.core.reload;
+
+import com.cleanconfig.core.ConfigDiff;
+import com.cleanconfig.core.PropertyChange;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.logging.Logger;
+import com.cleanconfig.core.logging.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Change listeners of a {@link ReloadableConfig}, indexed by property name and by prefix.
+ *
+ * <p>A reload computes its changed keys once. Each changed key is looked up by name, then by
+ * each of its dot-separated prefixes, so the cost of a dispatch depends on the number of
+ * changed keys and listeners to notify, not on the number of listeners registered.
+ *
+ * <p>Listeners without an executor are called on the reloading thread, in the order reloads
+ * are made. Listeners with an executor receive at most one change at a time; changes made
+ * while one is queued or running are coalesced into the next.
+ */
+final class ChangeDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChangeDispatcher.class);
+
+    private final Map<String, List<Subscription>> byName = new ConcurrentHashMap<>();
+    // Keyed by prefix including its trailing dot; "" holds listeners to every property
+    private final Map<String, List<Subscription>> byPrefix = new ConcurrentHashMap<>();
+
+    <T> ListenerRegistration addListener(
+            PropertyDefinition<T> definition,
+            PropertyChangeListener<T> listener,
+            Executor executor) {
+        return add(byName, definition.getName(), new PropertySubscription<>(definition, listener, executor));
+    }
+
+    ListenerRegistration addPrefixListener(String prefix, ConfigChangeListener listener, Executor executor) {
+        String normalized = prefix.isEmpty() || prefix.endsWith(".") ? prefix : prefix + ".";
+        return add(byPrefix, normalized, new PrefixSubscription(listener, executor));
+    }
+
+    private static ListenerRegistration add(
+            Map<String, List<Subscription>> index,
+            String key,
+            Subscription subscription) {
+        index.compute(key, (k, subscriptions) -> {
+            List<Subscription> result = subscriptions == null ? new CopyOnWriteArrayList<>() : subscriptions;
+            result.add(subscription);
+            return result;
+        });
+        return () -> index.computeIfPresent(key, (k, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    /**
+     * Notifies the listeners of the properties that differ between two configurations.
+     */
+    void dispatch(VersionedConfig previous, VersionedConfig current) {
+        if (byName.isEmpty() && byPrefix.isEmpty()) {
+            return;
+        }
+
+        Map<Subscription, Set<String>> targets = new LinkedHashMap<>();
+        for (String key : ConfigDiff.between(previous.getProperties(), current.getProperties()).getChangedKeys()) {
+            collect(byName.get(key), key, targets);
+            collect(byPrefix.get(""), key, targets);
+            for (int dot = key.indexOf('.'); dot >= 0; dot = key.indexOf('.', dot + 1)) {
+                collect(byPrefix.get(key.substring(0, dot + 1)), key, targets);
+            }
+        }
+        for (Map.Entry<Subscription, Set<String>> target : targets.entrySet()) {
+            target.getKey().publish(previous, current, target.getValue());
+        }
+    }
+
+    private static void collect(List<Subscription> subscriptions, String key, Map<Subscription, Set<String>> targets) {
+        if (subscriptions != null) {
+            for (Subscription subscription : subscriptions) {
+                targets.computeIfAbsent(subscription, s -> new LinkedHashSet<>()).add(key);
+            }
+        }
+    }
+
+    /**
+     * Builds the typed change of a property between two configurations.
+     */
+    static <T> PropertyChange<T> change(PropertyDefinition<T> definition, VersionedConfig from, VersionedConfig to) {
+        String name = definition.getName();
+        return PropertyChange.of(
+                name,
+                from.getProperties().get(name),
+                to.getProperties().get(name),
+                from.getSnapshot().get(definition).orElse(null),
+                to.getSnapshot().get(definition).orElse(null));
+    }
+
+    /**
+     * One registered listener and the changes waiting to be delivered to it.
+     */
+    private abstract static class Subscription {
+        private final Executor executor;
+        private final Object lock = new Object();
+
+        // Guarded by lock: changes not yet handed to the listener
+        private VersionedConfig pendingFrom;
+        private VersionedConfig pendingTo;
+        private Set<String> pendingKeys;
+        private boolean scheduled;
+
+        Subscription(Executor executor) {
+            this.executor = executor;
+        }
+
+        void publish(VersionedConfig from, VersionedConfig to, Set<String> keys) {
+            if (executor == null) {
+                deliverSafely(from, to, keys);
+                return;
+            }
+            synchronized (lock) {
+                if (pendingFrom == null) {
+                    pendingFrom = from;
+                    pendingKeys = new LinkedHashSet<>();
+                }
+                pendingTo = to;
+                pendingKeys.addAll(keys);
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (lock) {
+                    pendingFrom = null;
+                    pendingTo = null;
+                    pendingKeys = null;
+                    scheduled = false;
+                }
+                LOG.error("Change listener executor rejected version " + to.getVersion(), e);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                VersionedConfig from;
+                VersionedConfig to;
+                Set<String> keys;
+                synchronized (lock) {
+                    if (pendingFrom == null) {
+                        scheduled = false;
+                        return;
+                    }
+                    from = pendingFrom;
+                    to = pendingTo;
+                    keys = pendingKeys;
+                    pendingFrom = null;
+                    pendingTo = null;
+                    pendingKeys = null;
+                }
+                // A key changed by several coalesced reloads may be back to its old value
+                keys.removeIf(key -> Objects.equals(from.getProperties().get(key), to.getProperties().get(key)));
+                if (!keys.isEmpty()) {
+                    deliverSafely(from, to, keys);
+                }
+            }
+        }
+
+        private void deliverSafely(VersionedConfig from, VersionedConfig to, Set<String> keys) {
+            try {
+                deliver(from, to, keys);
+            } catch (RuntimeException e) {
+                LOG.error("Change listener failed for version " + to.getVersion(), e);
+            }
+        }
+
+        abstract void deliver(VersionedConfig from, VersionedConfig to, Set<String> keys);
+    }
+
+    private static final class PropertySubscription<T> extends Subscription {
+        private final PropertyDefinition<T> definition;
+        private final PropertyChangeListener<T> listener;
+
+        PropertySubscription(PropertyDefinition<T> definition, PropertyChangeListener<T> listener, Executor executor) {
+            super(executor);
+            this.definition = definition;
+            this.listener = listener;
+        }
+
+        @Override
+        void deliver(VersionedConfig from, VersionedConfig to, Set<String> keys) {
+            listener.onChange(change(definition, from, to));
+        }
+    }
+
+    private static final class PrefixSubscription extends Subscription {
+        private final ConfigChangeListener listener;
+
+        PrefixSubscription(ConfigChangeListener listener, Executor executor) {
+            super(executor);
+            this.listener = listener;
+        }
+
+        @Override
+        void deliver(VersionedConfig from, VersionedConfig to, Set<String> keys) {
+            listener.onChange(new ConfigChangeEvent(from, to, keys));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.cleanconfig.core.reload;
+
+import com.cleanconfig.core.PropertyChange;
+import com.cleanconfig.core.PropertyDefinition;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The properties a reload changed under a listener's prefix.
+ *
+ * <p>If changes were coalesced because the listener fell behind, the event spans several
+ * reloads: {@link #getPrevious()} is the configuration the listener last saw and
+ * {@link #getChangedKeys()} holds the properties whose values differ between it and
+ * {@link #getCurrent()}.
+ *
+ * @since 0.4.0
+ */
+public final class ConfigChangeEvent {
+
+    private final VersionedConfig previous;
+    private final VersionedConfig current;
+    private final Set<String> changedKeys;
+
+    ConfigChangeEvent(VersionedConfig previous, VersionedConfig current, Set<String> changedKeys) {
+        this.previous = previous;
+        this.current = current;
+        this.changedKeys = Collections.unmodifiableSet(changedKeys);
+    }
+
+    /**
+     * Gets the configuration before the change.
+     *
+     * @return the previous configuration
+     */
+    public VersionedConfig getPrevious() {
+        return previous;
+    }
+
+    /**
+     * Gets the configuration after the change.
+     *
+     * @return the current configuration
+     */
+    public VersionedConfig getCurrent() {
+        return current;
+    }
+
+    /**
+     * Gets the names of the changed properties under the listener's prefix.
+     *
+     * @return unmodifiable set of property names, never empty
+     */
+    public Set<String> getChangedKeys() {
+        return changedKeys;
+    }
+
+    /**
+     * Gets the typed change of a property, if it changed.
+     *
+     * @param definition the property definition
+     * @param <T> the property value type
+     * @return the change, or empty if the property did not change or is outside the prefix
+     */
+    public <T> Optional<PropertyChange<T>> getChange(PropertyDefinition<T> definition) {
+        Objects.requireNonNull(definition, "Property definition cannot be null");
+        if (!changedKeys.contains(definition.getName())) {
+            return Optional.empty();
+        }
+        return Optional.of(ChangeDispatcher.change(definition, previous, current));
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigChangeEvent{"
+                + "previousVersion=" + previous.getVersion()
+                + ", currentVersion=" + current.getVersion()
+                + ", changedKeys=" + changedKeys
+                + '}';
+    }
+}
@@ -0,0 +1,18 @@
+package com.cleanconfig.core.reload;
+
+/**
+ * Listener notified when any property under a prefix changes.
+ *
+ * @see ReloadableConfig#addPrefixListener(String, ConfigChangeListener)
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called after a reload changed at least one property under the listener's prefix.
+     *
+     * @param event the changed properties and the configurations before and after
+     */
+    void onChange(ConfigChangeEvent event);
+}
@@ -0,0 +1,52 @@
+package com.cleanconfig.core.reload;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Reads a configuration file into flat properties.
+ *
+ * <p>Loaders for other formats are supplied by the modules that parse them, for example:
+ * <pre>
+ * ConfigFileLoader hocon = HoconPropertySource::loadFile;
+ * ConfigFileLoader json = new JsonSerializer()::deserializeFile;
+ * </pre>
+ *
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface ConfigFileLoader {
+
+    /**
+     * Loads the properties of a file.
+     *
+     * @param file the file to load
+     * @return the flat properties of the file
+     * @throws Exception if the file cannot be read or parsed
+     */
+    Map<String, String> load(Path file) throws Exception;
+
+    /**
+     * Gets a loader for {@code .properties} files, read as UTF-8.
+     *
+     * @return the properties loader
+     */
+    static ConfigFileLoader properties() {
+        return file -> {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            Map<String, String> result = new LinkedHashMap<>(properties.size() * 2);
+            for (String name : properties.stringPropertyNames()) {
+                result.put(name, properties.getProperty(name));
+            }
+            return result;
+        };
+    }
+}
@@ -0,0 +1,400 @@
+package com.cleanconfig.core.reload;
+
+import com.cleanconfig.core.PropertyMap;
+import com.cleanconfig.core.logging.Logger;
+import com.cleanconfig.core.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Reloads a {@link ReloadableConfig} when the files it was loaded from change.
+ *
+ * <p>Files are read with a {@link ConfigFileLoader} chosen by extension and merged in the order
+ * they were added, later files overriding earlier ones. {@code .properties} files are read out
+ * of the box; other formats need a loader:
+ * <pre>
+ * ConfigFileWatcher watcher = ConfigFileWatcher.builder()
+ *     .file(Paths.get("/etc/app/application.properties"))
+ *     .file(Paths.get("/etc/app/overrides.conf"))
+ *     .loader("conf", HoconPropertySource::loadFile)
+ *     .debounce(Duration.ofMillis(200))
+ *     .onReload(result -&gt; log.info("Config reload: {}", result))
+ *     .build();
+ * ReloadableConfig config = new ReloadableConfig(registry, watcher.load());
+ * watcher.start(config);
+ * </pre>
+ *
+ * <p>The directories holding the files are watched with a {@link WatchService} on one daemon
+ * thread. A burst of events is debounced: the files are only checked once no event has arrived
+ * for the debounce period, so a tool that writes several files, or one file in several steps,
+ * causes a single reload. A check compares each file's real path, size, modification time and
+ * CRC32 checksum with the last load and reloads only if one of them changed, so a rewrite that
+ * keeps the size within the file system's timestamp granularity is still picked up. Because real paths are compared
+ * and every event in a watched directory triggers a check, atomic symlink swaps, such as those
+ * Kubernetes makes to ConfigMap mounts, are picked up even though the watched names never
+ * change.
+ *
+ * <p>A reload is published only if the merged properties are valid; see
+ * {@link ReloadableConfig#reload(Map)}. Files that cannot be read or parsed are logged and the
+ * current configuration stays in effect until the next change.
+ *
+ * <p>This class is final to prevent finalizer attacks when constructor throws exceptions.
+ *
+ * @since 0.4.0
+ */
+public final class ConfigFileWatcher implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigFileWatcher.class);
+
+    private final List<Path> files;
+    private final List<ConfigFileLoader> loaders;
+    private final long debounceNanos;
+    private final Consumer<ReloadableConfig.ReloadResult> listener;
+    private final Object checkLock = new Object();
+
+    // Guarded by checkLock
+    private List<String> fingerprints;
+    private ReloadableConfig config;
+    private WatchService watchService;
+    private volatile boolean closed;
+
+    private ConfigFileWatcher(Builder builder) {
+        this.files = Collections.unmodifiableList(new ArrayList<>(builder.files));
+        this.loaders = new ArrayList<>(files.size());
+        for (Path file : files) {
+            ConfigFileLoader loader = builder.loaders.get(extension(file));
+            if (loader == null) {
+                throw new IllegalArgumentException("No loader for file: " + file);
+            }
+            loaders.add(loader);
+        }
+        this.debounceNanos = builder.debounce.toNanos();
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the watched files, in the order they are merged.
+     *
+     * @return unmodifiable list of files
+     */
+    public List<Path> getFiles() {
+        return files;
+    }
+
+    /**
+     * Loads and merges the files, and records them as the state the next check compares with.
+     *
+     * @return the merged properties
+     * @throws IOException if a file cannot be read or parsed
+     */
+    public Map<String, String> load() throws IOException {
+        synchronized (checkLock) {
+            List<String> current = fingerprints();
+            Map<String, String> properties = loadFiles();
+            fingerprints = current;
+            return properties;
+        }
+    }
+
+    /**
+     * Starts watching the files and reloading the given configuration when they change.
+     *
+     * <p>If {@link #load()} was not called, the files as they are now are taken to match the
+     * configuration.
+     *
+     * @param reloadableConfig the configuration to reload
+     * @throws IOException if the directories cannot be watched
+     * @throws IllegalStateException if the watcher was already started or closed
+     */
+    public void start(ReloadableConfig reloadableConfig) throws IOException {
+        Objects.requireNonNull(reloadableConfig, "Reloadable config cannot be null");
+        synchronized (checkLock) {
+            if (config != null || closed) {
+                throw new IllegalStateException("Watcher was already started");
+            }
+            Set<Path> directories = new LinkedHashSet<>();
+            for (Path file : files) {
+                directories.add(file.toAbsolutePath().getParent());
+            }
+            WatchService service = files.get(0).getFileSystem().newWatchService();
+            try {
+                for (Path directory : directories) {
+                    directory.register(service,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_DELETE,
+                            StandardWatchEventKinds.ENTRY_MODIFY);
+                }
+            } catch (IOException e) {
+                service.close();
+                throw e;
+            }
+            if (fingerprints == null) {
+                fingerprints = fingerprints();
+            }
+            this.config = reloadableConfig;
+            this.watchService = service;
+        }
+
+        Thread thread = new Thread(this::watch, "cleanconfig-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Checks the files now and reloads the configuration if any of them changed.
+     *
+     * <p>The watcher thread calls this after each debounced burst of events; it can also be
+     * called directly, for example from a periodic task on file systems that do not report
+     * events.
+     *
+     * <p>Failures of the reload itself, such as a computed default that throws, and of the
+     * reload listener are logged rather than thrown, so they never stop the watcher thread.
+     *
+     * @return the outcome of the reload, or empty if no file changed, a file could not be loaded
+     *         or the reload failed
+     * @throws IllegalStateException if the watcher was not started
+     */
+    public Optional<ReloadableConfig.ReloadResult> checkNow() {
+        synchronized (checkLock) {
+            if (config == null) {
+                throw new IllegalStateException("Watcher was not started");
+            }
+            List<String> current = fingerprints();
+            if (current.equals(fingerprints)) {
+                return Optional.empty();
+            }
+
+            Map<String, String> properties;
+            try {
+                properties = loadFiles();
+            } catch (IOException e) {
+                // Keep the old fingerprints so the next change retries
+                LOG.warn("Failed to load configuration files, keeping version " + config.getVersion(), e);
+                return Optional.empty();
+            }
+
+            ReloadableConfig.ReloadResult result;
+            try {
+                result = config.reload(properties);
+            } catch (RuntimeException e) {
+                // Keep the old fingerprints so the next change retries
+                LOG.error("Failed to reload configuration, keeping version " + config.getVersion(), e);
+                return Optional.empty();
+            }
+            fingerprints = current;
+            if (!result.isApplied()) {
+                LOG.warn("Rejected invalid configuration from {}: {}", files, result.getValidationResult());
+            }
+            if (listener != null) {
+                try {
+                    listener.accept(result);
+                } catch (RuntimeException e) {
+                    LOG.error("Reload listener failed for version " + result.getConfig().getVersion(), e);
+                }
+            }
+            return Optional.of(result);
+        }
+    }
+
+    /**
+     * Stops watching the files. The configuration keeps its current version.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        WatchService service;
+        synchronized (checkLock) {
+            closed = true;
+            service = watchService;
+        }
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    /**
+     * Waits for events, then for the debounce period to pass without events, then checks.
+     */
+    private void watch() {
+        try {
+            while (!closed) {
+                drain(watchService.take());
+                for (WatchKey key = poll(); key != null; key = poll()) {
+                    drain(key);
+                }
+                checkNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Closed while waiting
+        } catch (RuntimeException e) {
+            LOG.error("Configuration file watcher stopped", e);
+        }
+    }
+
+    private WatchKey poll() throws InterruptedException {
+        return watchService.poll(debounceNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static void drain(WatchKey key) {
+        // Which entries changed does not matter: the check compares every file
+        key.pollEvents();
+        if (!key.reset()) {
+            LOG.warn("Stopped watching {}: directory is no longer accessible", key.watchable());
+        }
+    }
+
+    private Map<String, String> loadFiles() throws IOException {
+        Map<String, String> merged = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            try {
+                merged.putAll(loaders.get(i).load(file));
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Failed to load configuration file " + file + ": " + e.getMessage(), e);
+            }
+        }
+        return PropertyMap.copyOf(merged);
+    }
+
+    /**
+     * Describes the current state of each file by its real path, size, modification time and
+     * checksum of its contents.
+     */
+    private List<String> fingerprints() {
+        List<String> result = new ArrayList<>(files.size());
+        for (Path file : files) {
+            try {
+                Path real = file.toRealPath();
+                long modified = Files.getLastModifiedTime(real).toMillis();
+                CRC32 checksum = new CRC32();
+                checksum.update(Files.readAllBytes(real));
+                result.add(real + "|" + Files.size(real) + "|" + modified + "|" + checksum.getValue());
+            } catch (NoSuchFileException e) {
+                result.add("missing");
+            } catch (IOException e) {
+                result.add("unreadable: " + e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    private static String extension(Path file) {
+        String name = String.valueOf(file.getFileName());
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Builder for {@link ConfigFileWatcher}.
+     */
+    public static final class Builder {
+        private final List<Path> files = new ArrayList<>();
+        private final Map<String, ConfigFileLoader> loaders = new HashMap<>();
+        private Duration debounce = Duration.ofMillis(100);
+        private Consumer<ReloadableConfig.ReloadResult> listener;
+
+        private Builder() {
+            loaders.put("properties", ConfigFileLoader.properties());
+        }
+
+        /**
+         * Adds a file to watch. Files added later override properties of files added earlier.
+         *
+         * @param file the file
+         * @return this builder
+         */
+        public Builder file(Path file) {
+            files.add(Objects.requireNonNull(file, "File cannot be null"));
+            return this;
+        }
+
+        /**
+         * Sets the loader for files with the given extension.
+         *
+         * @param extension the file extension, without the dot, for example {@code "yaml"}
+         * @param loader the loader
+         * @return this builder
+         */
+        public Builder loader(String extension, ConfigFileLoader loader) {
+            Objects.requireNonNull(extension, "Extension cannot be null");
+            loaders.put(extension.toLowerCase(Locale.ROOT), Objects.requireNonNull(loader, "Loader cannot be null"));
+            return this;
+        }
+
+        /**
+         * Sets how long the files must go without events before they are checked.
+         *
+         * @param debounce the quiet period; defaults to 100 milliseconds
+         * @return this builder
+         */
+        public Builder debounce(Duration debounce) {
+            Objects.requireNonNull(debounce, "Debounce cannot be null");
+            if (debounce.isNegative()) {
+                throw new IllegalArgumentException("Debounce cannot be negative");
+            }
+            this.debounce = debounce;
+            return this;
+        }
+
+        /**
+         * Sets a listener called with the outcome of every reload the watcher makes.
+         *
+         * @param listener the listener
+         * @return this builder
+         */
+        public Builder onReload(Consumer<ReloadableConfig.ReloadResult> listener) {
+            this.listener = Objects.requireNonNull(listener, "Listener cannot be null");
+            return this;
+        }
+
+        /**
+         * Builds the watcher.
+         *
+         * @return the watcher
+         * @throws IllegalStateException if no file was added
+         * @throws IllegalArgumentException if a file has no loader for its extension
+         */
+        public ConfigFileWatcher build() {
+            if (files.isEmpty()) {
+                throw new IllegalStateException("At least one file is required");
+            }
+            return new ConfigFileWatcher(this);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.cleanconfig.core.reload;
+
+/**
+ * Handle of a registered change listener.
+ *
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface ListenerRegistration {
+
+    /**
+     * Removes the listener. A change already handed to an executor may still be delivered.
+     * Removing a listener twice has no effect.
+     */
+    void remove();
+}
@@ -0,0 +1,21 @@
+package com.cleanconfig.core.reload;
+
+import com.cleanconfig.core.PropertyChange;
+
+/**
+ * Listener notified when the value of one property changes.
+ *
+ * @param <T> the property value type
+ * @see ReloadableConfig#addListener(com.cleanconfig.core.PropertyDefinition, PropertyChangeListener)
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface PropertyChangeListener<T> {
+
+    /**
+     * Called after a reload changed the property.
+     *
+     * @param change the old and new values of the property
+     */
+    void onChange(PropertyChange<T> change);
+}
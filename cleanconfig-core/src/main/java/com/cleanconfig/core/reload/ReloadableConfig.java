@@ -0,0 +1,280 @@
+package com.cleanconfig.core.reload;
+
+import com.cleanconfig.core.ConfigSnapshot;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.impl.ConfigPipeline;
+import com.cleanconfig.core.validation.ValidationResult;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holder of the current configuration that can be replaced at runtime.
+ *
+ * <p>A candidate configuration is passed through a {@link ConfigPipeline}: defaults are applied,
+ * the result is validated and, only if it is valid, converted into a {@link ConfigSnapshot}
+ * and published as the next version. An invalid candidate is rejected and the current
+ * configuration stays in effect.
+ *
+ * <p>Example usage:
+ * <pre>
+ * ReloadableConfig config = new ReloadableConfig(registry, initialProperties);
+ *
+ * // Request threads
+ * int port = config.getSnapshot().getInt(SERVER_PORT);
+ *
+ * // Reload thread
+ * ReloadableConfig.ReloadResult result = config.reload(newProperties);
+ * if (!result.isApplied()) {
+ *     log.warn("Rejected configuration: {}", result.getValidationResult());
+ * }
+ * </pre>
+ *
+ * <p>Components that need to react to changes register listeners for a property or for every
+ * property under a prefix:
+ * <pre>
+ * config.addListener(POOL_MAX, change -&gt; pool.resize(change.getNewValue().orElse(10)));
+ * config.addPrefixListener("db.pool", event -&gt; pool.reconfigure(event.getCurrent()), executor);
+ * </pre>
+ * A successful reload computes its changed keys once and notifies only the listeners of those
+ * keys and their prefixes.
+ *
+ * <p>Readers never block: {@link #current()} is a single volatile read of an immutable
+ * {@link VersionedConfig}, so a reader sees either the old configuration or the new one,
+ * never a mix. Reloads are serialized with each other, so versions are published in the order
+ * reloads were made and a slow reload never overwrites a later one; all their work happens
+ * off the read path.
+ *
+ * <p>This class is final to prevent finalizer attacks when constructor throws exceptions.
+ *
+ * @since 0.4.0
+ */
+public final class ReloadableConfig {
+
+    private final ConfigPipeline pipeline;
+    private final AtomicReference<VersionedConfig> current;
+    private final Object reloadLock = new Object();
+    private final ChangeDispatcher listeners = new ChangeDispatcher();
+
+    /**
+     * Creates a reloadable configuration for the given registry.
+     *
+     * @param registry the property registry
+     * @param initialProperties the initial user properties
+     * @throws IllegalArgumentException if the initial properties are invalid
+     */
+    public ReloadableConfig(PropertyRegistry registry, Map<String, String> initialProperties) {
+        this(new ConfigPipeline(Objects.requireNonNull(registry, "Property registry cannot be null")),
+                initialProperties);
+    }
+
+    /**
+     * Creates a reloadable configuration that processes candidates with the given pipeline.
+     *
+     * @param pipeline the pipeline that applies defaults, validates and snapshots candidates
+     * @param initialProperties the initial user properties
+     * @throws IllegalArgumentException if the initial properties are invalid
+     */
+    public ReloadableConfig(ConfigPipeline pipeline, Map<String, String> initialProperties) {
+        this.pipeline = Objects.requireNonNull(pipeline, "Pipeline cannot be null");
+        ConfigPipeline.Result result = pipeline.process(
+                Objects.requireNonNull(initialProperties, "Initial properties cannot be null"));
+        ConfigSnapshot snapshot = result.getSnapshot().orElseThrow(() -> new IllegalArgumentException(
+                "Initial configuration is invalid: " + result.getValidationResult()));
+        this.current = new AtomicReference<>(new VersionedConfig(1, snapshot));
+    }
+
+    /**
+     * Gets the configuration currently in effect.
+     *
+     * <p>Callers that read several values and need them to be consistent should read them all
+     * from the same returned instance.
+     *
+     * @return the current configuration
+     */
+    public VersionedConfig current() {
+        return current.get();
+    }
+
+    /**
+     * Gets the snapshot of the configuration currently in effect.
+     *
+     * @return the current snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return current.get().getSnapshot();
+    }
+
+    /**
+     * Gets the version of the configuration currently in effect.
+     *
+     * @return the current version
+     */
+    public long getVersion() {
+        return current.get().getVersion();
+    }
+
+    /**
+     * Registers a listener called on the reloading thread whenever a reload changes the property.
+     *
+     * <p>Listeners are called after the new configuration is published, in the order reloads
+     * were made; the next reload waits for them to return.
+     *
+     * @param definition the property to listen to
+     * @param listener the listener
+     * @param <T> the property value type
+     * @return the registration, to remove the listener
+     * @throws IllegalArgumentException if the property is not registered
+     */
+    public <T> ListenerRegistration addListener(PropertyDefinition<T> definition, PropertyChangeListener<T> listener) {
+        return addListener(definition, listener, null);
+    }
+
+    /**
+     * Registers a listener called on an executor whenever a reload changes the property.
+     *
+     * <p>The listener receives one change at a time. If it falls behind, the changes made in
+     * the meantime are coalesced into one, from the value it last saw to the latest value.
+     *
+     * @param definition the property to listen to
+     * @param listener the listener
+     * @param executor the executor to call the listener on, or null to call it on the reloading thread
+     * @param <T> the property value type
+     * @return the registration, to remove the listener
+     * @throws IllegalArgumentException if the property is not registered
+     */
+    public <T> ListenerRegistration addListener(
+            PropertyDefinition<T> definition,
+            PropertyChangeListener<T> listener,
+            Executor executor) {
+        Objects.requireNonNull(definition, "Property definition cannot be null");
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        // Fails fast for a property the snapshots do not hold
+        getSnapshot().isPresent(definition);
+        return listeners.addListener(definition, listener, executor);
+    }
+
+    /**
+     * Registers a listener called on the reloading thread whenever a reload changes a property
+     * under the prefix.
+     *
+     * @param prefix the dot-separated prefix, for example {@code "db.pool"}, or empty for every property
+     * @param listener the listener
+     * @return the registration, to remove the listener
+     * @see #addListener(PropertyDefinition, PropertyChangeListener)
+     */
+    public ListenerRegistration addPrefixListener(String prefix, ConfigChangeListener listener) {
+        return addPrefixListener(prefix, listener, null);
+    }
+
+    /**
+     * Registers a listener called on an executor whenever a reload changes a property under
+     * the prefix.
+     *
+     * @param prefix the dot-separated prefix, for example {@code "db.pool"}, or empty for every property
+     * @param listener the listener
+     * @param executor the executor to call the listener on, or null to call it on the reloading thread
+     * @return the registration, to remove the listener
+     * @see #addListener(PropertyDefinition, PropertyChangeListener, Executor)
+     */
+    public ListenerRegistration addPrefixListener(String prefix, ConfigChangeListener listener, Executor executor) {
+        Objects.requireNonNull(prefix, "Prefix cannot be null");
+        Objects.requireNonNull(listener, "Listener cannot be null");
+        return listeners.addPrefixListener(prefix, listener, executor);
+    }
+
+    /**
+     * Validates a candidate configuration and, if it is valid, publishes it as the next version.
+     *
+     * <p>Runs on the calling thread. Readers keep seeing the current configuration until the
+     * candidate has been fully validated and converted.
+     *
+     * @param candidateProperties the candidate user properties
+     * @return whether the candidate was applied, why not, and the configuration now in effect
+     */
+    public ReloadResult reload(Map<String, String> candidateProperties) {
+        Objects.requireNonNull(candidateProperties, "Candidate properties cannot be null");
+
+        synchronized (reloadLock) {
+            ConfigPipeline.Result result = pipeline.process(candidateProperties);
+            VersionedConfig previous = current.get();
+            if (!result.getSnapshot().isPresent()) {
+                return new ReloadResult(false, result.getValidationResult(), previous);
+            }
+            VersionedConfig next = new VersionedConfig(previous.getVersion() + 1, result.getSnapshot().get());
+            current.set(next);
+            listeners.dispatch(previous, next);
+            return new ReloadResult(true, result.getValidationResult(), next);
+        }
+    }
+
+    /**
+     * Reloads a candidate configuration on the given executor.
+     *
+     * @param candidateProperties the candidate user properties
+     * @param executor the executor to validate the candidate on
+     * @return future completed with the outcome of the reload
+     * @see #reload(Map)
+     */
+    public CompletableFuture<ReloadResult> reloadAsync(Map<String, String> candidateProperties, Executor executor) {
+        Objects.requireNonNull(candidateProperties, "Candidate properties cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        return CompletableFuture.supplyAsync(() -> reload(candidateProperties), executor);
+    }
+
+    /**
+     * Outcome of one reload.
+     */
+    public static final class ReloadResult {
+        private final boolean applied;
+        private final ValidationResult validationResult;
+        private final VersionedConfig config;
+
+        private ReloadResult(boolean applied, ValidationResult validationResult, VersionedConfig config) {
+            this.applied = applied;
+            this.validationResult = validationResult;
+            this.config = config;
+        }
+
+        /**
+         * Checks if the candidate was valid and is now the current configuration.
+         *
+         * @return true if the candidate was applied
+         */
+        public boolean isApplied() {
+            return applied;
+        }
+
+        /**
+         * Gets the result of validating the candidate.
+         *
+         * @return the validation result
+         */
+        public ValidationResult getValidationResult() {
+            return validationResult;
+        }
+
+        /**
+         * Gets the configuration in effect right after this reload: the candidate if it was
+         * applied, otherwise the configuration it failed to replace.
+         *
+         * @return the configuration in effect
+         */
+        public VersionedConfig getConfig() {
+            return config;
+        }
+
+        @Override
+        public String toString() {
+            return "ReloadResult{"
+                    + "applied=" + applied
+                    + ", version=" + config.getVersion()
+                    + ", errors=" + validationResult.getErrorCount()
+                    + '}';
+        }
+    }
+}
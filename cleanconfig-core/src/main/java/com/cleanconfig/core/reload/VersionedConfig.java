@@ -0,0 +1,65 @@
+package com.cleanconfig.core.reload;
+
+import com.cleanconfig.core.ConfigSnapshot;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A validated configuration together with the version it was published as.
+ *
+ * <p>The version and the snapshot are read from the same immutable object, so a reader that
+ * holds a {@code VersionedConfig} always sees a snapshot that matches its version, however
+ * many reloads happen in the meantime.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ *
+ * @since 0.4.0
+ */
+public final class VersionedConfig {
+
+    private final long version;
+    private final ConfigSnapshot snapshot;
+
+    VersionedConfig(long version, ConfigSnapshot snapshot) {
+        this.version = version;
+        this.snapshot = Objects.requireNonNull(snapshot, "Snapshot cannot be null");
+    }
+
+    /**
+     * Gets the version of this configuration.
+     *
+     * <p>The initial configuration is version 1; every successful reload increments it by one.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the typed snapshot of this configuration.
+     *
+     * @return the snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Gets the raw properties of this configuration, with defaults applied.
+     *
+     * @return unmodifiable map of properties
+     */
+    public Map<String, String> getProperties() {
+        return snapshot.getProperties();
+    }
+
+    @Override
+    public String toString() {
+        return "VersionedConfig{"
+                + "version=" + version
+                + ", properties=" + snapshot.size()
+                + '}';
+    }
+}
@@ -0,0 +1,197 @@
+package com.cleanconfig.core.source;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Property sources layered in order of precedence, the first holding a property winning.
+ *
+ * <p>Example usage:
+ * <pre>
+ * CompositePropertySource source = CompositePropertySource.builder()
+ *     .add(PropertySource.systemProperties())
+ *     .add(PropertySource.environmentVariables())
+ *     .add(PropertySource.fromMap("application.conf", HoconPropertySource.load()))
+ *     .add(PropertySource.fromMap("defaults", defaults))
+ *     .build();
+ *
+ * String port = source.getProperty("server.port").orElse(null);
+ * </pre>
+ *
+ * <p>A lookup asks each layer in turn and stops at the first with a value, so layers below it
+ * are never read. The layers are listed only by {@link #getPropertyNames()} and
+ * {@link #asMap()} iteration, to find properties no definition knows about.
+ *
+ * <p>Instances are immutable and safe to share between threads if their layers are.
+ *
+ * @since 0.4.0
+ */
+public final class CompositePropertySource implements PropertySource {
+
+    private final String name;
+    private final PropertySource[] sources;
+
+    private CompositePropertySource(String name, List<PropertySource> sources) {
+        this.name = name;
+        this.sources = sources.toArray(new PropertySource[0]);
+    }
+
+    /**
+     * Creates a composite of sources, highest precedence first.
+     *
+     * @param sources the sources, highest precedence first
+     * @return the composite source
+     */
+    public static CompositePropertySource of(PropertySource... sources) {
+        Objects.requireNonNull(sources, "Sources cannot be null");
+        return of(Arrays.asList(sources));
+    }
+
+    /**
+     * Creates a composite of sources, highest precedence first.
+     *
+     * @param sources the sources, highest precedence first
+     * @return the composite source
+     */
+    public static CompositePropertySource of(List<? extends PropertySource> sources) {
+        Objects.requireNonNull(sources, "Sources cannot be null");
+        Builder builder = builder();
+        for (PropertySource source : sources) {
+            builder.add(source);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Optional<String> getProperty(String name) {
+        for (PropertySource source : sources) {
+            Optional<String> value = source.getProperty(name);
+            if (value.isPresent()) {
+                return value;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean containsProperty(String name) {
+        for (PropertySource source : sources) {
+            if (source.containsProperty(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the layer a property's value comes from.
+     *
+     * @param name the property name
+     * @return the highest precedence source holding the property, or empty if none does
+     */
+    public Optional<PropertySource> getOrigin(String name) {
+        for (PropertySource source : sources) {
+            if (source.containsProperty(name)) {
+                return Optional.of(source);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Lists the names held by any layer, listing every layer.
+     *
+     * @return unmodifiable set of property names, in precedence order of first appearance
+     */
+    @Override
+    public Set<String> getPropertyNames() {
+        Set<String> names = new LinkedHashSet<>();
+        for (PropertySource source : sources) {
+            names.addAll(source.getPropertyNames());
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Gets the layers.
+     *
+     * @return unmodifiable list of sources, highest precedence first
+     */
+    public List<PropertySource> getSources() {
+        return Collections.unmodifiableList(Arrays.asList(sources));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("CompositePropertySource{name='").append(name).append("', sources=[");
+        for (int i = 0; i < sources.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(sources[i].getName());
+        }
+        return result.append("]}").toString();
+    }
+
+    /**
+     * Builder for {@link CompositePropertySource}.
+     */
+    public static final class Builder {
+        private final List<PropertySource> sources = new ArrayList<>();
+        private String name = "composite";
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the name of the composite.
+         *
+         * @param name the name, "composite" by default
+         * @return this builder
+         */
+        public Builder name(String name) {
+            this.name = Objects.requireNonNull(name, "Source name cannot be null");
+            return this;
+        }
+
+        /**
+         * Adds a layer below those already added.
+         *
+         * @param source the source
+         * @return this builder
+         */
+        public Builder add(PropertySource source) {
+            sources.add(Objects.requireNonNull(source, "Source cannot be null"));
+            return this;
+        }
+
+        /**
+         * Builds the composite source.
+         *
+         * @return the composite source
+         */
+        public CompositePropertySource build() {
+            return new CompositePropertySource(name, sources);
+        }
+    }
+}
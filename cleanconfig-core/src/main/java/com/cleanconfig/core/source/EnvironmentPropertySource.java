@@ -0,0 +1,191 @@
+package com.cleanconfig.core.source;
+
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.logging.Logger;
+import com.cleanconfig.core.logging.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A property source binding environment variables to registered properties by relaxed name.
+ *
+ * <p>A variable binds to a property if its name is the property name, or the same as the
+ * property's canonical form: upper case, with every character other than an ASCII letter or
+ * digit replaced by an underscore. {@code DB_POOL_MAX} and {@code db_pool_max} both bind to
+ * {@code db.pool.max}. When several variables bind to one property, the exact name wins over
+ * the canonical form, which wins over other spellings. Between other spellings, such as
+ * {@code db_pool_max} and {@code Db_Pool_Max}, the lexicographically smallest name wins, so
+ * the binding does not depend on the iteration order of the environment, and a warning is
+ * logged.
+ *
+ * <p>Example usage:
+ * <pre>
+ * PropertySource source = CompositePropertySource.of(
+ *     PropertySource.systemProperties(),
+ *     EnvironmentPropertySource.of(registry),
+ *     PropertySource.fromMap("application.conf", HoconPropertySource.load()));
+ * </pre>
+ *
+ * <p>The canonical names of the registry are indexed once, and each variable is then bound
+ * with a single lookup, so construction takes time linear in the size of the registry plus
+ * the environment. Variables that bind to no property are skipped. The environment is read
+ * once, at construction; properties not in the registry are never found.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ *
+ * @since 0.4.0
+ */
+public final class EnvironmentPropertySource implements PropertySource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnvironmentPropertySource.class);
+
+    private static final int EXACT = 3;
+    private static final int CANONICAL = 2;
+    private static final int RELAXED = 1;
+
+    private final Map<String, String> values;
+    private final Map<String, String> variables;
+
+    private EnvironmentPropertySource(Map<String, String> values, Map<String, String> variables) {
+        this.values = values;
+        this.variables = variables;
+    }
+
+    /**
+     * Binds the process environment to the properties of a registry.
+     *
+     * @param registry the registry whose properties to bind
+     * @return the environment source
+     */
+    public static EnvironmentPropertySource of(PropertyRegistry registry) {
+        return of(registry, System.getenv());
+    }
+
+    /**
+     * Binds environment variables to the properties of a registry.
+     *
+     * @param registry the registry whose properties to bind
+     * @param environment the environment variables by name
+     * @return the environment source
+     */
+    public static EnvironmentPropertySource of(PropertyRegistry registry, Map<String, String> environment) {
+        Objects.requireNonNull(registry, "Property registry cannot be null");
+        Objects.requireNonNull(environment, "Environment cannot be null");
+
+        Map<String, String> propertyByCanonicalName = new HashMap<>(registry.getAllPropertyNames().size() * 2);
+        for (String name : registry.getAllPropertyNames()) {
+            String existing = propertyByCanonicalName.putIfAbsent(canonicalName(name), name);
+            if (existing != null) {
+                LOG.warn("Properties '{}' and '{}' have the same environment variable name {}; binding it to '{}'",
+                        existing, name, canonicalName(name), existing);
+            }
+        }
+
+        Map<String, String> values = new HashMap<>();
+        Map<String, String> variables = new HashMap<>();
+        Map<String, Integer> ranks = new HashMap<>();
+        for (Map.Entry<String, String> variable : environment.entrySet()) {
+            String name = variable.getKey();
+            String value = variable.getValue();
+            if (name == null || value == null) {
+                continue;
+            }
+            String property;
+            int rank;
+            if (registry.isDefined(name)) {
+                property = name;
+                rank = EXACT;
+            } else {
+                String canonical = canonicalName(name);
+                property = propertyByCanonicalName.get(canonical);
+                if (property == null) {
+                    continue;
+                }
+                rank = name.equals(canonical) ? CANONICAL : RELAXED;
+            }
+            Integer bound = ranks.get(property);
+            if (bound != null && rank == bound) {
+                String other = variables.get(property);
+                String winner = name.compareTo(other) < 0 ? name : other;
+                LOG.warn("Environment variables {} and {} both bind to property '{}'; binding {}",
+                        other, name, property, winner);
+                if (winner.equals(other)) {
+                    continue;
+                }
+            } else if (bound != null && rank < bound) {
+                continue;
+            }
+            ranks.put(property, rank);
+            values.put(property, value);
+            variables.put(property, name);
+        }
+        return new EnvironmentPropertySource(values, variables);
+    }
+
+    /**
+     * Gets the environment variable name a property binds to most directly: upper case, with
+     * every character other than an ASCII letter or digit replaced by an underscore.
+     *
+     * @param propertyName the property name
+     * @return the canonical variable name
+     */
+    public static String canonicalName(String propertyName) {
+        char[] chars = new char[propertyName.length()];
+        for (int i = 0; i < chars.length; i++) {
+            char c = propertyName.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                chars[i] = (char) (c - 'a' + 'A');
+            } else if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                chars[i] = c;
+            } else {
+                chars[i] = '_';
+            }
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public String getName() {
+        return "systemEnvironment";
+    }
+
+    @Override
+    public Optional<String> getProperty(String name) {
+        return Optional.ofNullable(values.get(name));
+    }
+
+    @Override
+    public boolean containsProperty(String name) {
+        return values.containsKey(name);
+    }
+
+    /**
+     * Lists the registered properties bound to a variable.
+     *
+     * @return unmodifiable set of property names
+     */
+    @Override
+    public Set<String> getPropertyNames() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    /**
+     * Gets the environment variable a property was bound to, for diagnostics.
+     *
+     * @param propertyName the property name
+     * @return the variable name, or empty if the property is not bound
+     */
+    public Optional<String> getVariableName(String propertyName) {
+        return Optional.ofNullable(variables.get(propertyName));
+    }
+
+    @Override
+    public String toString() {
+        return "EnvironmentPropertySource{bound=" + variables + "}";
+    }
+}
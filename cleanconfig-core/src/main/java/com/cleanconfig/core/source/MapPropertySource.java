@@ -0,0 +1,46 @@
+package com.cleanconfig.core.source;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A property source over a map, looked up in place.
+ */
+final class MapPropertySource implements PropertySource {
+
+    private final String name;
+    private final Map<String, String> properties;
+
+    MapPropertySource(String name, Map<String, String> properties) {
+        this.name = Objects.requireNonNull(name, "Source name cannot be null");
+        this.properties = Objects.requireNonNull(properties, "Properties cannot be null");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Optional<String> getProperty(String name) {
+        return Optional.ofNullable(properties.get(name));
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return Collections.unmodifiableSet(properties.keySet());
+    }
+
+    @Override
+    public Map<String, String> asMap() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+    @Override
+    public String toString() {
+        return "MapPropertySource{name='" + name + "', size=" + properties.size() + "}";
+    }
+}
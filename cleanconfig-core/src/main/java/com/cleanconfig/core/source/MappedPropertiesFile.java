@@ -0,0 +1,532 @@
+package com.cleanconfig.core.source;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A {@code .properties} file read in place from a memory mapping.
+ *
+ * <p>Opening the file scans its bytes once and records, for each property, only where its key
+ * and value start and the hash of its key. No strings are created: a value is decoded from the
+ * mapped bytes when it is looked up, so resolving a registry against a large file costs one
+ * scan plus the registered properties, instead of a {@link java.util.Properties} copy of the
+ * whole file.
+ *
+ * <p>Example usage:
+ * <pre>
+ * MappedPropertiesFile file = MappedPropertiesFile.open(Paths.get("generated.properties"));
+ * PropertyMap properties = file.resolve(registry);
+ * </pre>
+ *
+ * <p>The file is parsed as {@link java.util.Properties#load(java.io.Reader)} parses it, read as
+ * UTF-8: comments, line continuations, {@code \t \n \r \f} and {@code \}{@code uXXXX} escapes,
+ * and the last value of a repeated key winning. Malformed UTF-8 is replaced as the JDK's UTF-8
+ * decoder replaces it, with one U+FFFD per malformed sequence.
+ *
+ * <p>The mapping lasts until the instance is garbage collected. The file must not be truncated
+ * while the instance is in use; replace it instead, as editors and {@code ConfigMap} updates do.
+ * Instances are immutable and safe to share between threads.
+ *
+ * @since 0.4.0
+ */
+public final class MappedPropertiesFile implements PropertySource {
+
+    private static final int REPLACEMENT = 0xFFFD;
+
+    private final String name;
+    private final ByteBuffer buffer;
+    private final int limit;
+    private final Index index;
+
+    private MappedPropertiesFile(String name, ByteBuffer buffer) {
+        this.name = name;
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.index = new Index();
+        scan();
+    }
+
+    /**
+     * Maps and indexes a {@code .properties} file.
+     *
+     * @param file the file
+     * @return the indexed file
+     * @throws IOException if the file cannot be read or is larger than 2 GB
+     * @throws IllegalArgumentException if the file contains a malformed {@code \}{@code uXXXX} escape
+     */
+    public static MappedPropertiesFile open(Path file) throws IOException {
+        Objects.requireNonNull(file, "File cannot be null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to map: " + file + " (" + size + " bytes)");
+            }
+            return new MappedPropertiesFile(file.toString(), channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of distinct properties in the file.
+     *
+     * @return the number of properties
+     */
+    public int size() {
+        return index.count;
+    }
+
+    @Override
+    public Optional<String> getProperty(String name) {
+        int entry = find(name);
+        if (entry < 0) {
+            return Optional.empty();
+        }
+        Cursor cursor = new Cursor(index.valueStarts[entry]);
+        StringBuilder value = new StringBuilder();
+        for (int c = cursor.next(); c >= 0; c = cursor.next()) {
+            value.append((char) c);
+        }
+        return Optional.of(value.toString());
+    }
+
+    @Override
+    public boolean containsProperty(String name) {
+        return find(name) >= 0;
+    }
+
+    /**
+     * Lists the property names, decoding every key.
+     *
+     * @return unmodifiable set of property names, in order of first appearance
+     */
+    @Override
+    public Set<String> getPropertyNames() {
+        Set<String> names = new LinkedHashSet<>(index.count * 2);
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < index.count; i++) {
+            key.setLength(0);
+            Cursor cursor = new Cursor(index.keyStarts[i]);
+            for (int c = cursor.nextKeyChar(); c >= 0; c = cursor.nextKeyChar()) {
+                key.append((char) c);
+            }
+            names.add(key.toString());
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedPropertiesFile{name='" + name + "', size=" + index.count + "}";
+    }
+
+    private void scan() {
+        int pos = 0;
+        while (true) {
+            while (pos < limit && (isWhitespace(byteAt(pos)) || isLineEnd(byteAt(pos)))) {
+                pos++;
+            }
+            if (pos >= limit) {
+                return;
+            }
+            Cursor line = new Cursor(pos);
+            int first = line.nextRaw();
+            if (first < 0 && !line.read) {
+                // Only line continuations: an empty line
+                pos = line.pos;
+                continue;
+            }
+            if (first == '#' || first == '!') {
+                pos = line.pos;
+                while (pos < limit && !isLineEnd(byteAt(pos))) {
+                    pos++;
+                }
+                continue;
+            }
+
+            int keyStart = first < 0 ? line.pos : line.start;
+            Cursor cursor = new Cursor(keyStart);
+            int hash = 0;
+            for (int c = cursor.nextKeyChar(); c >= 0; c = cursor.nextKeyChar()) {
+                hash = 31 * hash + c;
+            }
+            int valueStart = cursor.skipSeparator();
+            add(keyStart, valueStart, hash);
+            pos = skipValue(valueStart);
+        }
+    }
+
+    /**
+     * Finds the end of a value, decoding it only from its first backslash on, to follow line
+     * continuations and reject malformed escapes.
+     */
+    private int skipValue(int valueStart) {
+        int pos = valueStart;
+        while (pos < limit) {
+            int b = byteAt(pos);
+            if (isLineEnd(b)) {
+                return pos;
+            }
+            if (b == '\\') {
+                Cursor cursor = new Cursor(pos);
+                while (cursor.next() >= 0) {
+                    continue;
+                }
+                return cursor.pos;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private void add(int keyStart, int valueStart, int hash) {
+        int mask = index.table.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = index.table[slot] - 1;
+            if (entry < 0) {
+                index.append(slot, keyStart, valueStart, hash);
+                return;
+            }
+            if (index.hashes[entry] == hash && keysEqual(index.keyStarts[entry], keyStart)) {
+                // A repeated key keeps its position and takes the later value
+                index.valueStarts[entry] = valueStart;
+                return;
+            }
+        }
+    }
+
+    private int find(String key) {
+        if (key == null) {
+            return -1;
+        }
+        int hash = key.hashCode();
+        int mask = index.table.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = index.table[slot] - 1;
+            if (entry < 0) {
+                return -1;
+            }
+            if (index.hashes[entry] == hash && keyEquals(index.keyStarts[entry], key)) {
+                return entry;
+            }
+        }
+    }
+
+    private boolean keyEquals(int keyStart, String key) {
+        Cursor cursor = new Cursor(keyStart);
+        for (int i = 0; i < key.length(); i++) {
+            if (cursor.nextKeyChar() != key.charAt(i)) {
+                return false;
+            }
+        }
+        return cursor.nextKeyChar() < 0;
+    }
+
+    private boolean keysEqual(int keyStart, int otherKeyStart) {
+        Cursor cursor = new Cursor(keyStart);
+        Cursor other = new Cursor(otherKeyStart);
+        while (true) {
+            int c = cursor.nextKeyChar();
+            if (c != other.nextKeyChar()) {
+                return false;
+            }
+            if (c < 0) {
+                return true;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private int byteAt(int pos) {
+        return buffer.get(pos) & 0xFF;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    private static boolean isLineEnd(int c) {
+        return c == '\n' || c == '\r';
+    }
+
+    private static boolean isContinuation(int b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static int hexDigit(int c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Where each property's key and value start, in order of first appearance, with an
+     * open-addressed table of property number + 1 by key hash.
+     */
+    private static final class Index {
+        private int count;
+        private int[] keyStarts = new int[64];
+        private int[] valueStarts = new int[64];
+        private int[] hashes = new int[64];
+        private int[] table = new int[128];
+
+        void append(int slot, int keyStart, int valueStart, int hash) {
+            if (count == keyStarts.length) {
+                keyStarts = Arrays.copyOf(keyStarts, count * 2);
+                valueStarts = Arrays.copyOf(valueStarts, count * 2);
+                hashes = Arrays.copyOf(hashes, count * 2);
+            }
+            keyStarts[count] = keyStart;
+            valueStarts[count] = valueStart;
+            hashes[count] = hash;
+            count++;
+            table[slot] = count;
+            if (count * 2 > table.length) {
+                rehash();
+            }
+        }
+
+        private void rehash() {
+            table = new int[table.length * 2];
+            int mask = table.length - 1;
+            for (int entry = 0; entry < count; entry++) {
+                int slot = spread(hashes[entry]) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = entry + 1;
+            }
+        }
+    }
+
+    /**
+     * Decodes the characters of one logical line from a byte position: UTF-8, then line
+     * continuations, then escapes.
+     */
+    private final class Cursor {
+        private int pos;
+        private int start;
+        private boolean precedingBackslash;
+        private int pendingLowSurrogate = -1;
+        private boolean escaped;
+        private boolean read;
+
+        Cursor(int pos) {
+            this.pos = pos;
+        }
+
+        /**
+         * Reads the next character of the key, or -1 at the separator or end of line.
+         */
+        int nextKeyChar() {
+            int c = next();
+            if (!escaped && (c == '=' || c == ':' || isWhitespace(c))) {
+                // Leave the separator for skipSeparator
+                pos = start;
+                precedingBackslash = false;
+                return -1;
+            }
+            return c;
+        }
+
+        /**
+         * Skips the separator after the key and returns the position the value starts at.
+         */
+        int skipSeparator() {
+            boolean separator = false;
+            while (true) {
+                int c = nextRaw();
+                if (c < 0) {
+                    return pos;
+                }
+                if (!isWhitespace(c)) {
+                    if (separator || (c != '=' && c != ':')) {
+                        pos = start;
+                        precedingBackslash = false;
+                        pendingLowSurrogate = -1;
+                        return start;
+                    }
+                    separator = true;
+                }
+            }
+        }
+
+        /**
+         * Reads the next unescaped character, or -1 at the end of the line.
+         */
+        int next() {
+            int c = nextRaw();
+            escaped = c == '\\';
+            if (!escaped) {
+                return c;
+            }
+            c = nextRaw();
+            switch (c) {
+                case 't':
+                    return '\t';
+                case 'r':
+                    return '\r';
+                case 'n':
+                    return '\n';
+                case 'f':
+                    return '\f';
+                case 'u':
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = hexDigit(nextRaw());
+                        if (digit < 0) {
+                            throw new IllegalArgumentException(
+                                    "Malformed \\uxxxx encoding in " + name + " at byte " + pos);
+                        }
+                        value = (value << 4) | digit;
+                    }
+                    return value;
+                default:
+                    return c;
+            }
+        }
+
+        /**
+         * Reads the next character with line continuations removed, or -1 at the end of the line.
+         */
+        private int nextRaw() {
+            if (pendingLowSurrogate >= 0) {
+                int low = pendingLowSurrogate;
+                pendingLowSurrogate = -1;
+                precedingBackslash = false;
+                return low;
+            }
+            while (true) {
+                if (pos >= limit) {
+                    return -1;
+                }
+                int b = byteAt(pos);
+                if (isLineEnd(b)) {
+                    return -1;
+                }
+                if (b == '\\' && !precedingBackslash) {
+                    int next = pos + 1;
+                    if (next >= limit) {
+                        // A backslash ending the file is dropped, but still makes a line
+                        pos = next;
+                        read = true;
+                        return -1;
+                    }
+                    int following = byteAt(next);
+                    if (isLineEnd(following)) {
+                        pos = next + 1;
+                        if (pos >= limit) {
+                            // Like a backslash ending the file
+                            read = true;
+                            return -1;
+                        }
+                        if (following == '\r' && pos < limit && byteAt(pos) == '\n') {
+                            pos++;
+                        }
+                        while (pos < limit && isWhitespace(byteAt(pos))) {
+                            pos++;
+                        }
+                        continue;
+                    }
+                }
+                start = pos;
+                read = true;
+                int c = decode();
+                precedingBackslash = c == '\\' && !precedingBackslash;
+                return c;
+            }
+        }
+
+        /**
+         * Decodes one character as the JDK's UTF-8 decoder does: each malformed sequence, and a
+         * truncated sequence ending the file, becomes a single U+FFFD covering the bytes the
+         * JDK would consume for it.
+         */
+        private int decode() {
+            int b = byteAt(pos);
+            if (b < 0x80) {
+                pos++;
+                return b;
+            }
+            int remaining = limit - pos;
+            if (b >= 0xC2 && b <= 0xDF) {
+                if (remaining < 2 || !isContinuation(byteAt(pos + 1))) {
+                    return malformed(1);
+                }
+                int codePoint = ((b & 0x1F) << 6) | (byteAt(pos + 1) & 0x3F);
+                pos += 2;
+                return codePoint;
+            }
+            if (b >= 0xE0 && b <= 0xEF) {
+                int b2 = remaining > 1 ? byteAt(pos + 1) : -1;
+                if (b2 >= 0 && ((b == 0xE0 && (b2 & 0xE0) == 0x80) || !isContinuation(b2))) {
+                    return malformed(1);
+                }
+                if (remaining < 3) {
+                    return malformed(remaining);
+                }
+                int b3 = byteAt(pos + 2);
+                if (!isContinuation(b3)) {
+                    return malformed(2);
+                }
+                int codePoint = ((b & 0x0F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F);
+                if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                    return malformed(3);
+                }
+                pos += 3;
+                return codePoint;
+            }
+            if (b >= 0xF0 && b <= 0xF4) {
+                int b2 = remaining > 1 ? byteAt(pos + 1) : -1;
+                if (b2 >= 0 && ((b == 0xF0 && (b2 < 0x90 || b2 > 0xBF))
+                        || (b == 0xF4 && (b2 & 0xF0) != 0x80)
+                        || !isContinuation(b2))) {
+                    return malformed(1);
+                }
+                int b3 = remaining > 2 ? byteAt(pos + 2) : -1;
+                if (b3 >= 0 && !isContinuation(b3)) {
+                    return malformed(2);
+                }
+                if (remaining < 4) {
+                    return malformed(remaining);
+                }
+                int b4 = byteAt(pos + 3);
+                if (!isContinuation(b4)) {
+                    return malformed(3);
+                }
+                int codePoint = ((b & 0x07) << 18) | ((b2 & 0x3F) << 12) | ((b3 & 0x3F) << 6) | (b4 & 0x3F);
+                pos += 4;
+                pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                return Character.highSurrogate(codePoint);
+            }
+            return malformed(1);
+        }
+
+        private int malformed(int length) {
+            pos += length;
+            return REPLACEMENT;
+        }
+    }
+}
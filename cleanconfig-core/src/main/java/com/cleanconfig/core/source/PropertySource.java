@@ -0,0 +1,136 @@
+package com.cleanconfig.core.source;
+
+import com.cleanconfig.core.PropertyMap;
+import com.cleanconfig.core.PropertyRegistry;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A place property values are looked up, such as system properties, the environment or a file.
+ *
+ * <p>Sources are looked up one property at a time, so a configuration can be read from a large
+ * source, such as the process environment, without copying it: only the properties a registry
+ * defines are read. Listing every property a source holds is only needed to find properties
+ * no definition knows about, and may be expensive.
+ *
+ * <p>Example usage:
+ * <pre>
+ * PropertySource source = CompositePropertySource.of(
+ *     PropertySource.systemProperties(),
+ *     PropertySource.environmentVariables(),
+ *     PropertySource.fromMap("application.conf", HoconPropertySource.load()));
+ *
+ * // Reads only the registered properties
+ * ConfigPipeline.Result result = pipeline.process(source.resolve(registry));
+ *
+ * // Reads everything, to also report unknown properties
+ * ConfigPipeline.Result checked = pipeline.process(source.asMap());
+ * </pre>
+ *
+ * <p>Implementations should be safe to call from multiple threads.
+ *
+ * @since 0.4.0
+ */
+public interface PropertySource {
+
+    /**
+     * Gets the name of this source, for diagnostics.
+     *
+     * @return the source name
+     */
+    String getName();
+
+    /**
+     * Looks up the value of a property.
+     *
+     * @param name the property name
+     * @return the value, or empty if this source has no value for the property
+     */
+    Optional<String> getProperty(String name);
+
+    /**
+     * Checks if this source has a value for a property.
+     *
+     * @param name the property name
+     * @return true if the property has a value
+     */
+    default boolean containsProperty(String name) {
+        return getProperty(name).isPresent();
+    }
+
+    /**
+     * Lists the names of the properties this source has a value for.
+     *
+     * <p>Sources that cannot list their properties, such as lookups into an external service,
+     * return an empty set; their properties are then still found by name but never reported
+     * as unknown.
+     *
+     * @return the property names
+     */
+    default Set<String> getPropertyNames() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Reads the registered properties that have a value in this source.
+     *
+     * <p>Looks up each registered name once and never lists the source.
+     *
+     * @param registry the registry whose properties to read
+     * @return the registered properties with a value, in registration order
+     */
+    default PropertyMap resolve(PropertyRegistry registry) {
+        Objects.requireNonNull(registry, "Property registry cannot be null");
+        PropertyMap.Builder properties = PropertyMap.builder(registry.getAllPropertyNames().size());
+        for (String name : registry.getAllPropertyNames()) {
+            getProperty(name).ifPresent(value -> properties.put(name, value));
+        }
+        return properties.build();
+    }
+
+    /**
+     * Gets a read-only map view of this source.
+     *
+     * <p>The view is live. Lookups through it read the source directly; the source is listed
+     * only when the view is iterated or sized, and again on every such call.
+     *
+     * @return the map view
+     */
+    default Map<String, String> asMap() {
+        return new PropertySourceMap(this);
+    }
+
+    /**
+     * Creates a source over a map, without copying it.
+     *
+     * @param name the source name
+     * @param properties the properties
+     * @return the source
+     */
+    static PropertySource fromMap(String name, Map<String, String> properties) {
+        return new MapPropertySource(name, properties);
+    }
+
+    /**
+     * Gets a source over the JVM system properties, read live.
+     *
+     * @return the system properties source
+     */
+    static PropertySource systemProperties() {
+        return SystemPropertySource.INSTANCE;
+    }
+
+    /**
+     * Gets a source over the process environment, looked up by exact variable name.
+     *
+     * @return the environment source
+     * @see EnvironmentPropertySource for variables named like {@code DB_POOL_MAX}
+     */
+    static PropertySource environmentVariables() {
+        return fromMap("systemEnvironment", System.getenv());
+    }
+}
@@ -0,0 +1,112 @@
+package com.cleanconfig.core.source;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-only, live map view of a property source.
+ *
+ * <p>{@code get} and {@code containsKey} look the key up in the source. Iterating or sizing
+ * the view lists the source again each time, so every operation sees the source as it is
+ * when called, including properties of live sources such as system properties that are set
+ * after the view was created.
+ */
+final class PropertySourceMap extends AbstractMap<String, String> {
+
+    private final PropertySource source;
+
+    private Set<Map.Entry<String, String>> entrySet;
+
+    PropertySourceMap(PropertySource source) {
+        this.source = source;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        return source.getProperty((String) key).orElse(null);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && source.containsProperty((String) key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !entrySet().iterator().hasNext();
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        Set<Map.Entry<String, String>> entries = entrySet;
+        if (entries == null) {
+            entries = new EntrySet();
+            entrySet = entries;
+        }
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        return "PropertySourceMap{source='" + source.getName() + "'}";
+    }
+
+    /**
+     * Entry view that lists the source on every iteration and reads each value as it is reached.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+        @Override
+        public int size() {
+            int count = 0;
+            for (String name : source.getPropertyNames()) {
+                if (source.containsProperty(name)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            return new Iterator<Map.Entry<String, String>>() {
+                private final Iterator<String> names = source.getPropertyNames().iterator();
+                private Map.Entry<String, String> next = advance();
+
+                @Override
+                public boolean hasNext() {
+                    return next != null;
+                }
+
+                @Override
+                public Map.Entry<String, String> next() {
+                    if (next == null) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry<String, String> entry = next;
+                    next = advance();
+                    return entry;
+                }
+
+                private Map.Entry<String, String> advance() {
+                    while (names.hasNext()) {
+                        String name = names.next();
+                        Optional<String> value = source.getProperty(name);
+                        if (value.isPresent()) {
+                            return new SimpleImmutableEntry<>(name, value.get());
+                        }
+                    }
+                    return null;
+                }
+            };
+        }
+    }
+}
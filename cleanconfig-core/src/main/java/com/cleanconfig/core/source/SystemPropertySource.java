@@ -0,0 +1,35 @@
+package com.cleanconfig.core.source;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A property source over the JVM system properties, read on every lookup.
+ */
+final class SystemPropertySource implements PropertySource {
+
+    static final SystemPropertySource INSTANCE = new SystemPropertySource();
+
+    private SystemPropertySource() {
+    }
+
+    @Override
+    public String getName() {
+        return "systemProperties";
+    }
+
+    @Override
+    public Optional<String> getProperty(String name) {
+        return Optional.ofNullable(System.getProperty(name));
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return System.getProperties().stringPropertyNames();
+    }
+
+    @Override
+    public String toString() {
+        return "SystemPropertySource";
+    }
+}
@@ -0,0 +1,118 @@
+package com.cleanconfig.core.validation;
+
+import com.cleanconfig.core.PropertyContext;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Validation rule specialized for {@code double} values.
+ *
+ * <p>A double rule is also a {@code ValidationRule<Double>}, so it can be used anywhere a
+ * rule for {@link Double} properties is expected. Validators that find a double rule on a
+ * {@code Double} property whose converter is a
+ * {@link com.cleanconfig.core.converter.DoubleTypeConverter} parse and validate the value
+ * without boxing it.
+ *
+ * <p>A null value passes, as with the other numeric rules; combine the rule with
+ * {@code Rules.required()} to reject it.
+ *
+ * <p>Example usage:
+ * <pre>
+ * ValidationRule&lt;Double&gt; ratio = NumericRules.doubleBetween(0.0, 1.0);
+ * </pre>
+ *
+ * @see com.cleanconfig.core.validation.rules.NumericRules
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface DoubleValidationRule extends ValidationRule<Double> {
+
+    /**
+     * Validates a double property value.
+     *
+     * @param propertyName the name of the property being validated
+     * @param value the value to validate
+     * @param context access to all properties and validation state
+     * @return validation result indicating success or failure
+     */
+    ValidationResult validateDouble(String propertyName, double value, PropertyContext context);
+
+    @Override
+    default ValidationResult validate(String propertyName, Double value, PropertyContext context) {
+        if (value == null) {
+            return ValidationResult.success();
+        }
+        return validateDouble(propertyName, value, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the other rule is also a {@link DoubleValidationRule}, so is the combined rule.
+     */
+    @Override
+    default ValidationRule<Double> and(ValidationRule<Double> other) {
+        if (!(other instanceof DoubleValidationRule)) {
+            return ValidationRule.super.and(other);
+        }
+        DoubleValidationRule second = (DoubleValidationRule) other;
+        DoubleValidationRule combined = (name, value, context) -> {
+            ValidationResult first = this.validateDouble(name, value, context);
+            if (!first.isValid()) {
+                return first;
+            }
+            return second.validateDouble(name, value, context);
+        };
+        return combined.withCharacteristics(characteristics().combine(second.characteristics()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the other rule is also a {@link DoubleValidationRule}, so is the combined rule.
+     */
+    @Override
+    default ValidationRule<Double> or(ValidationRule<Double> other) {
+        if (!(other instanceof DoubleValidationRule)) {
+            return ValidationRule.super.or(other);
+        }
+        DoubleValidationRule second = (DoubleValidationRule) other;
+        DoubleValidationRule combined = (name, value, context) -> {
+            ValidationResult first = this.validateDouble(name, value, context);
+            if (first.isValid()) {
+                return first;
+            }
+            return second.validateDouble(name, value, context);
+        };
+        return combined.withCharacteristics(characteristics().combine(second.characteristics()));
+    }
+
+    @Override
+    default DoubleValidationRule onlyIf(Predicate<PropertyContext> condition) {
+        DoubleValidationRule conditional = (name, value, context) -> {
+            if (!condition.test(context)) {
+                return ValidationResult.success();
+            }
+            return this.validateDouble(name, value, context);
+        };
+        return conditional.withCharacteristics(characteristics().combine(RuleCharacteristics.READS_CONTEXT));
+    }
+
+    @Override
+    default DoubleValidationRule withCharacteristics(RuleCharacteristics characteristics) {
+        Objects.requireNonNull(characteristics, "Characteristics cannot be null");
+        DoubleValidationRule rule = this;
+        return new DoubleValidationRule() {
+            @Override
+            public ValidationResult validateDouble(String propertyName, double value, PropertyContext context) {
+                return rule.validateDouble(propertyName, value, context);
+            }
+
+            @Override
+            public RuleCharacteristics characteristics() {
+                return characteristics;
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package com.cleanconfig.core.validation;
+
+import com.cleanconfig.core.PropertyContext;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Validation rule specialized for {@code int} values.
+ *
+ * <p>An int rule is also a {@code ValidationRule<Integer>}, so it can be used anywhere a
+ * rule for {@link Integer} properties is expected. Validators that find an int rule on an
+ * {@code Integer} property whose converter is a
+ * {@link com.cleanconfig.core.converter.IntTypeConverter} parse and validate the value
+ * without boxing it.
+ *
+ * <p>A null value passes, as with the other numeric rules; combine the rule with
+ * {@code Rules.required()} to reject it.
+ *
+ * <p>Example usage:
+ * <pre>
+ * IntValidationRule workers = (name, value, context) -&gt; value % 2 == 0
+ *     ? ValidationResult.success()
+ *     : ValidationResult.failure(ValidationError.builder()
+ *         .propertyName(name)
+ *         .errorMessage("Worker count must be even")
+ *         .build());
+ * </pre>
+ *
+ * @see com.cleanconfig.core.validation.rules.NumericRules
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface IntValidationRule extends ValidationRule<Integer> {
+
+    /**
+     * Validates an int property value.
+     *
+     * @param propertyName the name of the property being validated
+     * @param value the value to validate
+     * @param context access to all properties and validation state
+     * @return validation result indicating success or failure
+     */
+    ValidationResult validateInt(String propertyName, int value, PropertyContext context);
+
+    @Override
+    default ValidationResult validate(String propertyName, Integer value, PropertyContext context) {
+        if (value == null) {
+            return ValidationResult.success();
+        }
+        return validateInt(propertyName, value, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the other rule is also an {@link IntValidationRule}, so is the combined rule.
+     */
+    @Override
+    default ValidationRule<Integer> and(ValidationRule<Integer> other) {
+        if (!(other instanceof IntValidationRule)) {
+            return ValidationRule.super.and(other);
+        }
+        IntValidationRule second = (IntValidationRule) other;
+        IntValidationRule combined = (name, value, context) -> {
+            ValidationResult first = this.validateInt(name, value, context);
+            if (!first.isValid()) {
+                return first;
+            }
+            return second.validateInt(name, value, context);
+        };
+        return combined.withCharacteristics(characteristics().combine(second.characteristics()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the other rule is also an {@link IntValidationRule}, so is the combined rule.
+     */
+    @Override
+    default ValidationRule<Integer> or(ValidationRule<Integer> other) {
+        if (!(other instanceof IntValidationRule)) {
+            return ValidationRule.super.or(other);
+        }
+        IntValidationRule second = (IntValidationRule) other;
+        IntValidationRule combined = (name, value, context) -> {
+            ValidationResult first = this.validateInt(name, value, context);
+            if (first.isValid()) {
+                return first;
+            }
+            return second.validateInt(name, value, context);
+        };
+        return combined.withCharacteristics(characteristics().combine(second.characteristics()));
+    }
+
+    @Override
+    default IntValidationRule onlyIf(Predicate<PropertyContext> condition) {
+        IntValidationRule conditional = (name, value, context) -> {
+            if (!condition.test(context)) {
+                return ValidationResult.success();
+            }
+            return this.validateInt(name, value, context);
+        };
+        return conditional.withCharacteristics(characteristics().combine(RuleCharacteristics.READS_CONTEXT));
+    }
+
+    @Override
+    default IntValidationRule withCharacteristics(RuleCharacteristics characteristics) {
+        Objects.requireNonNull(characteristics, "Characteristics cannot be null");
+        IntValidationRule rule = this;
+        return new IntValidationRule() {
+            @Override
+            public ValidationResult validateInt(String propertyName, int value, PropertyContext context) {
+                return rule.validateInt(propertyName, value, context);
+            }
+
+            @Override
+            public RuleCharacteristics characteristics() {
+                return characteristics;
+            }
+        };
+    }
+}
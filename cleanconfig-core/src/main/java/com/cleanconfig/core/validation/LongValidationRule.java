@@ -0,0 +1,118 @@
+package com.cleanconfig.core.validation;
+
+import com.cleanconfig.core.PropertyContext;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Validation rule specialized for {@code long} values.
+ *
+ * <p>A long rule is also a {@code ValidationRule<Long>}, so it can be used anywhere a
+ * rule for {@link Long} properties is expected. Validators that find a long rule on a
+ * {@code Long} property whose converter is a
+ * {@link com.cleanconfig.core.converter.LongTypeConverter} parse and validate the value
+ * without boxing it.
+ *
+ * <p>A null value passes, as with the other numeric rules; combine the rule with
+ * {@code Rules.required()} to reject it.
+ *
+ * <p>Example usage:
+ * <pre>
+ * ValidationRule&lt;Long&gt; maxFileSize = NumericRules.longBetween(1L, 10L * 1024 * 1024 * 1024);
+ * </pre>
+ *
+ * @see com.cleanconfig.core.validation.rules.NumericRules
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface LongValidationRule extends ValidationRule<Long> {
+
+    /**
+     * Validates a long property value.
+     *
+     * @param propertyName the name of the property being validated
+     * @param value the value to validate
+     * @param context access to all properties and validation state
+     * @return validation result indicating success or failure
+     */
+    ValidationResult validateLong(String propertyName, long value, PropertyContext context);
+
+    @Override
+    default ValidationResult validate(String propertyName, Long value, PropertyContext context) {
+        if (value == null) {
+            return ValidationResult.success();
+        }
+        return validateLong(propertyName, value, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the other rule is also a {@link LongValidationRule}, so is the combined rule.
+     */
+    @Override
+    default ValidationRule<Long> and(ValidationRule<Long> other) {
+        if (!(other instanceof LongValidationRule)) {
+            return ValidationRule.super.and(other);
+        }
+        LongValidationRule second = (LongValidationRule) other;
+        LongValidationRule combined = (name, value, context) -> {
+            ValidationResult first = this.validateLong(name, value, context);
+            if (!first.isValid()) {
+                return first;
+            }
+            return second.validateLong(name, value, context);
+        };
+        return combined.withCharacteristics(characteristics().combine(second.characteristics()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the other rule is also a {@link LongValidationRule}, so is the combined rule.
+     */
+    @Override
+    default ValidationRule<Long> or(ValidationRule<Long> other) {
+        if (!(other instanceof LongValidationRule)) {
+            return ValidationRule.super.or(other);
+        }
+        LongValidationRule second = (LongValidationRule) other;
+        LongValidationRule combined = (name, value, context) -> {
+            ValidationResult first = this.validateLong(name, value, context);
+            if (first.isValid()) {
+                return first;
+            }
+            return second.validateLong(name, value, context);
+        };
+        return combined.withCharacteristics(characteristics().combine(second.characteristics()));
+    }
+
+    @Override
+    default LongValidationRule onlyIf(Predicate<PropertyContext> condition) {
+        LongValidationRule conditional = (name, value, context) -> {
+            if (!condition.test(context)) {
+                return ValidationResult.success();
+            }
+            return this.validateLong(name, value, context);
+        };
+        return conditional.withCharacteristics(characteristics().combine(RuleCharacteristics.READS_CONTEXT));
+    }
+
+    @Override
+    default LongValidationRule withCharacteristics(RuleCharacteristics characteristics) {
+        Objects.requireNonNull(characteristics, "Characteristics cannot be null");
+        LongValidationRule rule = this;
+        return new LongValidationRule() {
+            @Override
+            public ValidationResult validateLong(String propertyName, long value, PropertyContext context) {
+                return rule.validateLong(propertyName, value, context);
+            }
+
+            @Override
+            public RuleCharacteristics characteristics() {
+                return characteristics;
+            }
+        };
+    }
+}
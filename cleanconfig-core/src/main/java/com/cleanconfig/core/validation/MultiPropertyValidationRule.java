@@ -57,40 +57,81 @@ public interface MultiPropertyValidationRule {
      */
     ValidationResult validate(String[] propertyNames, PropertyContext context);
 
+    /**
+     * Gets the characteristics of this rule: whether it is pure, blocks on I/O, and how
+     * expensive it is.
+     *
+     * <p>Multi-property rules read the context by definition. Rules declare nothing unless
+     * they are created with {@link #withCharacteristics(RuleCharacteristics)}.
+     *
+     * @return the characteristics, {@link RuleCharacteristics#UNKNOWN} by default
+     * @since 0.4.0
+     */
+    default RuleCharacteristics characteristics() {
+        return RuleCharacteristics.UNKNOWN;
+    }
+
+    /**
+     * Returns a rule that behaves like this rule and declares the given characteristics.
+     *
+     * @param characteristics the characteristics to declare
+     * @return a rule with the given characteristics
+     * @since 0.4.0
+     */
+    default MultiPropertyValidationRule withCharacteristics(RuleCharacteristics characteristics) {
+        Objects.requireNonNull(characteristics, "Characteristics cannot be null");
+        MultiPropertyValidationRule rule = this;
+        return new MultiPropertyValidationRule() {
+            @Override
+            public ValidationResult validate(String[] propertyNames, PropertyContext context) {
+                return rule.validate(propertyNames, context);
+            }
+
+            @Override
+            public RuleCharacteristics characteristics() {
+                return characteristics;
+            }
+        };
+    }
+
     /**
      * Combines this rule with another using AND logic.
      * Both rules must pass for the combined rule to pass.
+     * The combined rule declares the combined characteristics of both rules.
      *
      * @param other the other rule
      * @return a combined rule
      */
     default MultiPropertyValidationRule and(MultiPropertyValidationRule other) {
         Objects.requireNonNull(other, "Other rule cannot be null");
-        return (propertyNames, context) -> {
+        MultiPropertyValidationRule combined = (propertyNames, context) -> {
             ValidationResult firstResult = this.validate(propertyNames, context);
             if (!firstResult.isValid()) {
                 return firstResult;
             }
             return other.validate(propertyNames, context);
         };
+        return combined.withCharacteristics(characteristics().combine(other.characteristics()));
     }
 
     /**
      * Combines this rule with another using OR logic.
      * At least one rule must pass for the combined rule to pass.
+     * The combined rule declares the combined characteristics of both rules.
      *
      * @param other the other rule
      * @return a combined rule
      */
     default MultiPropertyValidationRule or(MultiPropertyValidationRule other) {
         Objects.requireNonNull(other, "Other rule cannot be null");
-        return (propertyNames, context) -> {
+        MultiPropertyValidationRule combined = (propertyNames, context) -> {
             ValidationResult firstResult = this.validate(propertyNames, context);
             if (firstResult.isValid()) {
                 return firstResult;
             }
             return other.validate(propertyNames, context);
         };
+        return combined.withCharacteristics(characteristics().combine(other.characteristics()));
     }
 
     /**
@@ -101,12 +142,13 @@ public interface MultiPropertyValidationRule {
      */
     default MultiPropertyValidationRule onlyIf(Predicate<PropertyContext> condition) {
         Objects.requireNonNull(condition, "Condition cannot be null");
-        return (propertyNames, context) -> {
+        MultiPropertyValidationRule conditional = (propertyNames, context) -> {
             if (condition.test(context)) {
                 return this.validate(propertyNames, context);
             }
             return ValidationResult.success();
         };
+        return conditional.withCharacteristics(characteristics().combine(RuleCharacteristics.READS_CONTEXT));
     }
 
     /**
@@ -115,7 +157,8 @@ public interface MultiPropertyValidationRule {
      * @return a rule that always returns success
      */
     static MultiPropertyValidationRule alwaysValid() {
-        return (propertyNames, context) -> ValidationResult.success();
+        MultiPropertyValidationRule rule = (propertyNames, context) -> ValidationResult.success();
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
     }
 
     /**
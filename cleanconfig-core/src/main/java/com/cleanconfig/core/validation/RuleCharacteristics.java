@@ -0,0 +1,262 @@
+package com.cleanconfig.core.validation;
+
+import java.util.Objects;
+
+/**
+ * Immutable description of how a validation rule behaves.
+ *
+ * <p>Caches use the characteristics of a rule to decide what they may do with it: results of
+ * a {@linkplain #isContextFree() context-free} rule can be cached per property value. Whether
+ * a rule does {@linkplain #isBlockingIo() blocking I/O} and its
+ * {@linkplain #getCost() relative cost} are carried through composition but not acted on by
+ * the built-in validators, which run rules in the order given; they are there for code that
+ * schedules rules itself, for example to keep blocking rules off latency-sensitive threads.
+ *
+ * <p>Characteristics are declarations, not something the library can verify. A rule that
+ * declares itself pure but reads the file system may get stale cached results.
+ *
+ * <p>Example usage:
+ * <pre>
+ * ValidationRule&lt;String&gt; hostResolves = resolvableHostRule
+ *     .withCharacteristics(RuleCharacteristics.builder()
+ *         .readsContext(false)
+ *         .blockingIo(true)
+ *         .cost(RuleCharacteristics.COST_EXPENSIVE)
+ *         .build());
+ * </pre>
+ *
+ * @see ValidationRule#characteristics()
+ * @see MultiPropertyValidationRule#characteristics()
+ * @since 0.4.0
+ */
+public final class RuleCharacteristics {
+
+    /**
+     * Relative cost of a rule doing a few comparisons, such as a range or length check.
+     */
+    public static final int COST_CHEAP = 1;
+
+    /**
+     * Relative cost of a rule doing noticeable work on the value, such as matching a
+     * regular expression or parsing a URL.
+     */
+    public static final int COST_MODERATE = 10;
+
+    /**
+     * Relative cost of a rule leaving the JVM, such as reading file system metadata.
+     */
+    public static final int COST_EXPENSIVE = 1000;
+
+    /**
+     * Characteristics of a rule that declares nothing: it may read the context, it is not
+     * known to be pure, and its cost is assumed to be moderate.
+     */
+    public static final RuleCharacteristics UNKNOWN = new RuleCharacteristics(false, true, false, COST_MODERATE);
+
+    /**
+     * Characteristics of a cheap, pure rule that only looks at the property name and value.
+     */
+    public static final RuleCharacteristics CONTEXT_FREE = new RuleCharacteristics(true, false, false, COST_CHEAP);
+
+    /**
+     * Characteristics of a cheap, pure rule that reads other properties from the context.
+     */
+    public static final RuleCharacteristics READS_CONTEXT = new RuleCharacteristics(true, true, false, COST_CHEAP);
+
+    /**
+     * Characteristics of a rule that inspects the file system or another external resource
+     * named by the value. Its result can change between calls, so it is not pure.
+     */
+    public static final RuleCharacteristics BLOCKING_IO = new RuleCharacteristics(false, false, true, COST_EXPENSIVE);
+
+    private final boolean pure;
+    private final boolean readsContext;
+    private final boolean blockingIo;
+    private final int cost;
+
+    private RuleCharacteristics(boolean pure, boolean readsContext, boolean blockingIo, int cost) {
+        this.pure = pure;
+        this.readsContext = readsContext;
+        this.blockingIo = blockingIo;
+        this.cost = cost;
+    }
+
+    /**
+     * Creates a new builder. Unless set otherwise, the built characteristics are those of
+     * {@link #UNKNOWN}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks if the rule is pure: its result depends only on the property name, the value
+     * and, if it reads the context, the properties it reads, and validating has no side effects.
+     *
+     * @return true if the rule is pure
+     */
+    public boolean isPure() {
+        return pure;
+    }
+
+    /**
+     * Checks if the rule may read other properties from the context.
+     *
+     * @return true if the rule may read the context
+     */
+    public boolean readsContext() {
+        return readsContext;
+    }
+
+    /**
+     * Checks if the rule may block on I/O, such as file system access.
+     *
+     * @return true if the rule may block on I/O
+     */
+    public boolean isBlockingIo() {
+        return blockingIo;
+    }
+
+    /**
+     * Gets the relative cost of running the rule once.
+     *
+     * <p>Costs are only meaningful compared with each other; see {@link #COST_CHEAP},
+     * {@link #COST_MODERATE} and {@link #COST_EXPENSIVE}.
+     *
+     * @return the relative cost, at least 1
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Checks if the rule's result depends only on the property name and value, so it can
+     * be cached per value.
+     *
+     * @return true if the rule is pure and does not read the context
+     */
+    public boolean isContextFree() {
+        return pure && !readsContext;
+    }
+
+    /**
+     * Gets the characteristics of a rule that may run this rule and another one.
+     *
+     * <p>The combined rule is pure only if both are, reads the context or blocks on I/O if
+     * either does, and costs as much as both together.
+     *
+     * @param other the characteristics of the other rule
+     * @return the combined characteristics
+     */
+    public RuleCharacteristics combine(RuleCharacteristics other) {
+        Objects.requireNonNull(other, "Other characteristics cannot be null");
+        long combinedCost = (long) cost + other.cost;
+        return new RuleCharacteristics(
+                pure && other.pure,
+                readsContext || other.readsContext,
+                blockingIo || other.blockingIo,
+                (int) Math.min(combinedCost, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RuleCharacteristics that = (RuleCharacteristics) o;
+        return pure == that.pure
+                && readsContext == that.readsContext
+                && blockingIo == that.blockingIo
+                && cost == that.cost;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pure, readsContext, blockingIo, cost);
+    }
+
+    @Override
+    public String toString() {
+        return "RuleCharacteristics{"
+                + "pure=" + pure
+                + ", readsContext=" + readsContext
+                + ", blockingIo=" + blockingIo
+                + ", cost=" + cost
+                + '}';
+    }
+
+    /**
+     * Builder for {@link RuleCharacteristics}.
+     */
+    public static final class Builder {
+        private boolean pure;
+        private boolean readsContext = true;
+        private boolean blockingIo;
+        private int cost = COST_MODERATE;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets whether the rule is pure.
+         *
+         * @param pure true if the rule's result depends only on its inputs and it has no side effects
+         * @return this builder
+         */
+        public Builder pure(boolean pure) {
+            this.pure = pure;
+            return this;
+        }
+
+        /**
+         * Sets whether the rule may read other properties from the context.
+         *
+         * @param readsContext true if the rule may read the context
+         * @return this builder
+         */
+        public Builder readsContext(boolean readsContext) {
+            this.readsContext = readsContext;
+            return this;
+        }
+
+        /**
+         * Sets whether the rule may block on I/O.
+         *
+         * @param blockingIo true if the rule may block on I/O
+         * @return this builder
+         */
+        public Builder blockingIo(boolean blockingIo) {
+            this.blockingIo = blockingIo;
+            return this;
+        }
+
+        /**
+         * Sets the relative cost of running the rule once.
+         *
+         * @param cost the relative cost
+         * @return this builder
+         * @throws IllegalArgumentException if cost is less than 1
+         */
+        public Builder cost(int cost) {
+            if (cost < 1) {
+                throw new IllegalArgumentException("Cost must be at least 1");
+            }
+            this.cost = cost;
+            return this;
+        }
+
+        /**
+         * Builds the characteristics.
+         *
+         * @return the characteristics
+         */
+        public RuleCharacteristics build() {
+            return new RuleCharacteristics(pure, readsContext, blockingIo, cost);
+        }
+    }
+}
@@ -351,7 +351,7 @@ public final class Rules {
      * @return validation rule
      * @see NumericRules#integerBetween(int, int)
      */
-    public static ValidationRule<Integer> integerBetween(int min, int max) {
+    public static IntValidationRule integerBetween(int min, int max) {
         return NumericRules.integerBetween(min, max);
     }
 
@@ -363,10 +363,22 @@ public final class Rules {
      * @return validation rule
      * @see NumericRules#longBetween(long, long)
      */
-    public static ValidationRule<Long> longBetween(long min, long max) {
+    public static LongValidationRule longBetween(long min, long max) {
         return NumericRules.longBetween(min, max);
     }
 
+    /**
+     * Validates that a double is within a range (inclusive).
+     *
+     * @param min minimum value
+     * @param max maximum value
+     * @return validation rule
+     * @see NumericRules#doubleBetween(double, double)
+     */
+    public static DoubleValidationRule doubleBetween(double min, double max) {
+        return NumericRules.doubleBetween(min, max);
+    }
+
     /**
      * Validates that a value is greater than a threshold.
      *
@@ -397,7 +409,7 @@ public final class Rules {
      * @return validation rule
      * @see NumericRules#port()
      */
-    public static ValidationRule<Integer> port() {
+    public static IntValidationRule port() {
         return NumericRules.port();
     }
 
@@ -407,7 +419,7 @@ public final class Rules {
      * @return validation rule
      * @see NumericRules#even()
      */
-    public static ValidationRule<Integer> even() {
+    public static IntValidationRule even() {
         return NumericRules.even();
     }
 
@@ -417,7 +429,7 @@ public final class Rules {
      * @return validation rule
      * @see NumericRules#odd()
      */
-    public static ValidationRule<Integer> odd() {
+    public static IntValidationRule odd() {
         return NumericRules.odd();
     }
 
@@ -428,7 +440,7 @@ public final class Rules {
      * @return validation rule
      * @see NumericRules#multipleOf(int)
      */
-    public static ValidationRule<Integer> multipleOf(int divisor) {
+    public static IntValidationRule multipleOf(int divisor) {
         return NumericRules.multipleOf(divisor);
     }
 
@@ -682,6 +694,8 @@ public final class Rules {
      * );
      * </pre>
      *
+     * <p>The composite rule declares the combined characteristics of all rules.
+     *
      * @param rules the rules to combine with AND logic
      * @param <T> the value type
      * @return composite validation rule
@@ -693,7 +707,7 @@ public final class Rules {
             throw new IllegalArgumentException("At least one rule is required for allOf()");
         }
 
-        return (propertyName, value, context) -> {
+        ValidationRule<T> composite = (propertyName, value, context) -> {
             for (ValidationRule<T> rule : rules) {
                 ValidationResult result = rule.validate(propertyName, value, context);
                 if (!result.isValid()) {
@@ -702,6 +716,12 @@ public final class Rules {
             }
             return ValidationResult.success();
         };
+        // Read element by element: passing the varargs array on could expose it to heap pollution
+        RuleCharacteristics characteristics = rules[0].characteristics();
+        for (int i = 1; i < rules.length; i++) {
+            characteristics = characteristics.combine(rules[i].characteristics());
+        }
+        return composite.withCharacteristics(characteristics);
     }
 
     /**
@@ -718,6 +738,8 @@ public final class Rules {
      * );
      * </pre>
      *
+     * <p>The composite rule declares the combined characteristics of all rules.
+     *
      * @param rules the rules to combine with OR logic
      * @param <T> the value type
      * @return composite validation rule
@@ -729,7 +751,7 @@ public final class Rules {
             throw new IllegalArgumentException("At least one rule is required for anyOf()");
         }
 
-        return (propertyName, value, context) -> {
+        ValidationRule<T> composite = (propertyName, value, context) -> {
             List<ValidationError> allErrors = new ArrayList<>();
 
             for (ValidationRule<T> rule : rules) {
@@ -742,5 +764,10 @@ public final class Rules {
 
             return ValidationResult.failure(allErrors);
         };
+        RuleCharacteristics characteristics = rules[0].characteristics();
+        for (int i = 1; i < rules.length; i++) {
+            characteristics = characteristics.combine(rules[i].characteristics());
+        }
+        return composite.withCharacteristics(characteristics);
     }
 }
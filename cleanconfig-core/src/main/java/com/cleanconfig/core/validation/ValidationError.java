@@ -1,5 +1,7 @@
 package com.cleanconfig.core.validation;
 
+import com.cleanconfig.core.PropertyKey;
+
 import java.util.Objects;
 
 /**
@@ -13,6 +15,7 @@ import java.util.Objects;
  *   <li>Optional expected value or constraint</li>
  *   <li>Optional error code for programmatic handling</li>
  *   <li>Optional suggestion for how to fix the error</li>
+ *   <li>Optional name of the property group whose rule reported the error</li>
  * </ul>
  *
  * <p>Example usage:
@@ -37,6 +40,7 @@ public final class ValidationError {
     private final String expectedValue;
     private final String errorCode;
     private final String suggestion;
+    private final String groupName;
 
     private ValidationError(Builder builder) {
         this.propertyName = Objects.requireNonNull(builder.propertyName, "propertyName cannot be null");
@@ -45,6 +49,7 @@ public final class ValidationError {
         this.expectedValue = builder.expectedValue;
         this.errorCode = builder.errorCode;
         this.suggestion = builder.suggestion;
+        this.groupName = builder.groupName;
     }
 
     /**
@@ -110,6 +115,42 @@ public final class ValidationError {
         return suggestion;
     }
 
+    /**
+     * Gets the name of the property group whose rule reported the error.
+     *
+     * <p>Validators set it on every error of a property group rule, whichever property the
+     * rule reported the error against. It is not part of {@link #equals(Object)}, so the same
+     * error compares equal whether or not a validator recorded its group.
+     *
+     * @return group name, or null if the error was not reported by a group rule
+     * @since 0.4.0
+     */
+    public String getGroupName() {
+        return groupName;
+    }
+
+    /**
+     * Returns this error as reported by a rule of the given property group.
+     *
+     * @param groupName the group name
+     * @return this error if it already names the group, otherwise a copy that does
+     * @since 0.4.0
+     */
+    public ValidationError withGroupName(String groupName) {
+        if (Objects.equals(this.groupName, groupName)) {
+            return this;
+        }
+        return builder()
+                .propertyName(propertyName)
+                .errorMessage(errorMessage)
+                .actualValue(actualValue)
+                .expectedValue(expectedValue)
+                .errorCode(errorCode)
+                .suggestion(suggestion)
+                .groupName(groupName)
+                .build();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -163,6 +204,7 @@ public final class ValidationError {
         private String expectedValue;
         private String errorCode;
         private String suggestion;
+        private String groupName;
 
         private Builder() {
         }
@@ -178,6 +220,20 @@ public final class ValidationError {
             return this;
         }
 
+        /**
+         * Sets the property name from a property key.
+         *
+         * <p>The error shares the key's name string instead of holding a copy.
+         *
+         * @param key the property key (required)
+         * @return this builder
+         * @since 0.4.0
+         */
+        public Builder propertyKey(PropertyKey key) {
+            this.propertyName = Objects.requireNonNull(key, "Property key cannot be null").getName();
+            return this;
+        }
+
         /**
          * Sets the error message.
          *
@@ -233,6 +289,18 @@ public final class ValidationError {
             return this;
         }
 
+        /**
+         * Sets the name of the property group whose rule reported the error.
+         *
+         * @param groupName the group name (optional)
+         * @return this builder
+         * @since 0.4.0
+         */
+        public Builder groupName(String groupName) {
+            this.groupName = groupName;
+            return this;
+        }
+
         /**
          * Builds the ValidationError.
          *
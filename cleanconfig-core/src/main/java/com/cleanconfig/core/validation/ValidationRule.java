@@ -2,6 +2,7 @@ package com.cleanconfig.core.validation;
 
 import com.cleanconfig.core.PropertyContext;
 
+import java.util.Objects;
 import java.util.function.Predicate;
 
 /**
@@ -11,6 +12,9 @@ import java.util.function.Predicate;
  * {@link #or(ValidationRule)}, and {@link #onlyIf(Predicate)} for building
  * complex validation logic from simple, reusable rules.
  *
+ * <p>Rules may declare {@linkplain #characteristics() characteristics} such as purity and
+ * cost, which composed rules carry over and result caches use to decide what to cache.
+ *
  * <p>Example usage:
  * <pre>
  * // Simple rule
@@ -48,23 +52,82 @@ public interface ValidationRule<T> {
      */
     ValidationResult validate(String propertyName, T value, PropertyContext context);
 
+    /**
+     * Gets the characteristics of this rule: whether it is pure, reads the context or blocks
+     * on I/O, and how expensive it is.
+     *
+     * <p>Validators and caches use them to decide whether results may be cached, where the
+     * rule may run and in which order checks are worth trying. Rules declare nothing unless
+     * they are created with {@link #withCharacteristics(RuleCharacteristics)}; the built-in
+     * rules in {@code StringRules}, {@code NumericRules}, {@code GeneralRules} and
+     * {@code FileRules} declare theirs.
+     *
+     * @return the characteristics, {@link RuleCharacteristics#UNKNOWN} by default
+     * @since 0.4.0
+     */
+    default RuleCharacteristics characteristics() {
+        return RuleCharacteristics.UNKNOWN;
+    }
+
+    /**
+     * Checks if this rule's result depends only on the property name and value.
+     *
+     * <p>A context-free rule is pure and never reads the {@link PropertyContext}, so its result
+     * for a given property and value is always the same. Validators may cache such results and
+     * skip the rule for values they have already seen.
+     *
+     * @return true if the rule is pure and does not read the context
+     * @see RuleCharacteristics#isContextFree()
+     * @since 0.4.0
+     */
+    default boolean isContextFree() {
+        return characteristics().isContextFree();
+    }
+
+    /**
+     * Returns a rule that behaves like this rule and declares the given characteristics.
+     *
+     * @param characteristics the characteristics to declare
+     * @return a rule with the given characteristics
+     * @since 0.4.0
+     */
+    default ValidationRule<T> withCharacteristics(RuleCharacteristics characteristics) {
+        Objects.requireNonNull(characteristics, "Characteristics cannot be null");
+        ValidationRule<T> rule = this;
+        return new ValidationRule<T>() {
+            @Override
+            public ValidationResult validate(String propertyName, T value, PropertyContext context) {
+                return rule.validate(propertyName, value, context);
+            }
+
+            @Override
+            public RuleCharacteristics characteristics() {
+                return characteristics;
+            }
+        };
+    }
+
     /**
      * Combines this rule with another using AND logic.
      *
      * <p>The combined rule passes only if both rules pass. If this rule fails,
      * the other rule is not executed.
      *
+     * <p>The combined rule declares the {@linkplain RuleCharacteristics#combine combined}
+     * characteristics of both rules.
+     *
      * @param other the other rule to combine with
      * @return a new rule that passes only if both rules pass
      */
     default ValidationRule<T> and(ValidationRule<T> other) {
-        return (name, value, context) -> {
+        ValidationRule<T> combined = (name, value, context) -> {
             ValidationResult first = this.validate(name, value, context);
             if (!first.isValid()) {
                 return first;
             }
             return other.validate(name, value, context);
         };
+        return combined.withCharacteristics(characteristics().combine(other.characteristics()));
     }
 
     /**
@@ -73,17 +136,21 @@ public interface ValidationRule<T> {
      * <p>The combined rule passes if either rule passes. If this rule passes,
      * the other rule is not executed.
      *
+     * <p>The combined rule declares the {@linkplain RuleCharacteristics#combine combined}
+     * characteristics of both rules.
+     *
      * @param other the other rule to combine with
      * @return a new rule that passes if either rule passes
      */
     default ValidationRule<T> or(ValidationRule<T> other) {
-        return (name, value, context) -> {
+        ValidationRule<T> combined = (name, value, context) -> {
             ValidationResult first = this.validate(name, value, context);
             if (first.isValid()) {
                 return first;
             }
             return other.validate(name, value, context);
         };
+        return combined.withCharacteristics(characteristics().combine(other.characteristics()));
     }
 
     /**
@@ -98,16 +165,46 @@ public interface ValidationRule<T> {
      *     .onlyIf(ctx -&gt; "true".equals(ctx.getProperty("ssl.enabled").orElse("false")));
      * </pre>
      *
+     * <p>The conditional rule reads the context, so it is never context-free. The condition
+     * is assumed to be cheap and free of side effects.
+     *
      * @param condition the condition that must be true for this rule to execute
      * @return a new conditional rule
      */
     default ValidationRule<T> onlyIf(Predicate<PropertyContext> condition) {
-        return (name, value, context) -> {
+        ValidationRule<T> conditional = (name, value, context) -> {
             if (!condition.test(context)) {
                 return ValidationResult.success();
             }
             return this.validate(name, value, context);
         };
+        return conditional.withCharacteristics(characteristics().combine(RuleCharacteristics.READS_CONTEXT));
+    }
+
+    /**
+     * Declares a rule as context-free.
+     *
+     * <p>The rule must be pure and must not read the {@link PropertyContext} it is given; its
+     * result may be cached per property and value. This is shorthand for
+     * {@code rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE)}.
+     *
+     * <p>Example usage:
+     * <pre>
+     * ValidationRule&lt;String&gt; hostname = ValidationRule.contextFree((name, value, context) -&gt;
+     *     HOSTNAME.matcher(value).matches() ? ValidationResult.success() : invalid(name, value));
+     * </pre>
+     *
+     * @param rule the rule that does not read the context
+     * @param <T> the value type
+     * @return a rule that behaves like {@code rule} and declares itself context-free
+     * @since 0.4.0
+     */
+    static <T> ValidationRule<T> contextFree(ValidationRule<T> rule) {
+        Objects.requireNonNull(rule, "Rule cannot be null");
+        if (rule.isContextFree()) {
+            return rule;
+        }
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
     }
 
     /**
@@ -117,7 +214,8 @@ public interface ValidationRule<T> {
      * @return a rule that always succeeds
      */
     static <T> ValidationRule<T> alwaysValid() {
-        return (name, value, context) -> ValidationResult.success();
+        ValidationRule<T> rule = (name, value, context) -> ValidationResult.success();
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
     }
 
     /**
@@ -128,11 +226,12 @@ public interface ValidationRule<T> {
      * @return a rule that always fails
      */
     static <T> ValidationRule<T> alwaysFails(String errorMessage) {
-        return (name, value, context) -> ValidationResult.failure(
+        ValidationRule<T> rule = (name, value, context) -> ValidationResult.failure(
                 ValidationError.builder()
                         .propertyName(name)
                         .errorMessage(errorMessage)
                         .build()
         );
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
     }
 }
@@ -1,5 +1,6 @@
 package com.cleanconfig.core.validation.rules;
 
+import com.cleanconfig.core.validation.RuleCharacteristics;
 import com.cleanconfig.core.validation.ValidationError;
 import com.cleanconfig.core.validation.ValidationResult;
 import com.cleanconfig.core.validation.ValidationRule;
@@ -23,6 +24,10 @@ import java.nio.file.Paths;
  *     .and(FileRules.writable());
  * </pre>
  *
+ * <p>Except for {@link #hasExtension(String)}, the rules access the file system: they declare
+ * {@link RuleCharacteristics#BLOCKING_IO}, so validators neither cache their results nor
+ * treat them as cheap.
+ *
  * @since 0.1.0
  */
 public final class FileRules {
@@ -37,7 +42,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> exists() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 File file = new File(value);
                 if (!file.exists()) {
@@ -52,6 +57,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -70,7 +76,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> directoryExists() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 File file = new File(value);
                 if (!file.exists()) {
@@ -94,6 +100,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -102,7 +109,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> readable() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 Path path = Paths.get(value);
                 if (!Files.isReadable(path)) {
@@ -117,6 +124,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -125,7 +133,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> writable() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 Path path = Paths.get(value);
                 if (!Files.isWritable(path)) {
@@ -140,6 +148,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -148,7 +157,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> executable() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 Path path = Paths.get(value);
                 if (!Files.isExecutable(path)) {
@@ -163,6 +172,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -171,7 +181,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> isDirectory() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 Path path = Paths.get(value);
                 if (!Files.isDirectory(path)) {
@@ -186,6 +196,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -194,7 +205,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> isFile() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 Path path = Paths.get(value);
                 if (!Files.isRegularFile(path)) {
@@ -209,6 +220,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -217,7 +229,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> isSymbolicLink() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 Path path = Paths.get(value);
                 if (!Files.isSymbolicLink(path)) {
@@ -232,6 +244,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -240,7 +253,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> isHidden() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 try {
                     Path path = Paths.get(value);
@@ -265,6 +278,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -273,7 +287,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> isEmptyDirectory() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 File file = new File(value);
                 if (!file.isDirectory()) {
@@ -298,6 +312,7 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 
     /**
@@ -308,7 +323,7 @@ public final class FileRules {
      */
     public static ValidationRule<String> hasExtension(String extension) {
         String ext = extension.startsWith(".") ? extension : "." + extension;
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && !value.endsWith(ext)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -319,7 +334,7 @@ public final class FileRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -330,7 +345,7 @@ public final class FileRules {
      * @return validation rule
      */
     public static ValidationRule<String> fileSizeBetween(long minBytes, long maxBytes) {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 File file = new File(value);
                 if (!file.exists()) {
@@ -356,5 +371,6 @@ public final class FileRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.BLOCKING_IO);
     }
 }
@@ -1,5 +1,6 @@
 package com.cleanconfig.core.validation.rules;
 
+import com.cleanconfig.core.validation.RuleCharacteristics;
 import com.cleanconfig.core.validation.ValidationError;
 import com.cleanconfig.core.validation.ValidationResult;
 import com.cleanconfig.core.validation.ValidationRule;
@@ -26,10 +27,19 @@ import java.util.function.Predicate;
  * );
  * </pre>
  *
+ * <p>All rules except {@code custom} and {@code customWithContext} are
+ * {@linkplain ValidationRule#isContextFree() context-free} and cheap. Rules built from
+ * predicates do not read the context but are not assumed to be pure; declare purity with
+ * {@link ValidationRule#contextFree(ValidationRule)} where it holds.
+ *
  * @since 0.1.0
  */
 public final class GeneralRules {
 
+    private static final RuleCharacteristics PREDICATE = RuleCharacteristics.builder()
+            .readsContext(false)
+            .build();
+
     private GeneralRules() {
         // Utility class
     }
@@ -41,7 +51,7 @@ public final class GeneralRules {
      * @return validation rule
      */
     public static <T> ValidationRule<T> required() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value == null) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -52,7 +62,7 @@ public final class GeneralRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -75,7 +85,7 @@ public final class GeneralRules {
      */
     public static <T> ValidationRule<T> oneOf(Collection<T> allowedValues) {
         Set<T> allowed = new HashSet<>(allowedValues);
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && !allowed.contains(value)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -86,7 +96,7 @@ public final class GeneralRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -110,7 +120,7 @@ public final class GeneralRules {
      */
     public static <T> ValidationRule<T> noneOf(Collection<T> forbiddenValues) {
         Set<T> forbidden = new HashSet<>(forbiddenValues);
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && forbidden.contains(value)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -121,7 +131,7 @@ public final class GeneralRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -144,7 +154,7 @@ public final class GeneralRules {
      * @return validation rule
      */
     public static <T> ValidationRule<T> equalTo(T expectedValue) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value == null && expectedValue != null) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -166,7 +176,7 @@ public final class GeneralRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -177,7 +187,7 @@ public final class GeneralRules {
      * @return validation rule
      */
     public static <T> ValidationRule<T> notEqualTo(T forbiddenValue) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.equals(forbiddenValue)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -188,7 +198,7 @@ public final class GeneralRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -200,7 +210,7 @@ public final class GeneralRules {
      * @return validation rule
      */
     public static <T> ValidationRule<T> custom(Predicate<T> predicate, String errorMessage) {
-        return (name, value, context) -> {
+        ValidationRule<T> rule = (name, value, context) -> {
             if (value != null && !predicate.test(value)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -212,6 +222,7 @@ public final class GeneralRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(PREDICATE);
     }
 
     /**
@@ -224,7 +235,7 @@ public final class GeneralRules {
      * @return validation rule
      */
     public static <T> ValidationRule<T> custom(Predicate<T> predicate, String errorMessage, String expectedValue) {
-        return (name, value, context) -> {
+        ValidationRule<T> rule = (name, value, context) -> {
             if (value != null && !predicate.test(value)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -237,6 +248,7 @@ public final class GeneralRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(PREDICATE);
     }
 
     /**
@@ -275,7 +287,7 @@ public final class GeneralRules {
      * @return validation rule
      */
     public static <T extends Comparable<T>> ValidationRule<T> comparableBetween(T min, T max) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null) {
                 if (value.compareTo(min) < 0 || value.compareTo(max) > 0) {
                     return ValidationResult.failure(
@@ -289,7 +301,7 @@ public final class GeneralRules {
                 }
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -300,7 +312,7 @@ public final class GeneralRules {
      * @return validation rule
      */
     public static <T extends Comparable<T>> ValidationRule<T> comparableGreaterThan(T threshold) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.compareTo(threshold) <= 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -312,7 +324,7 @@ public final class GeneralRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -323,7 +335,7 @@ public final class GeneralRules {
      * @return validation rule
      */
     public static <T extends Comparable<T>> ValidationRule<T> comparableLessThan(T threshold) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.compareTo(threshold) >= 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -335,6 +347,6 @@ public final class GeneralRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 }
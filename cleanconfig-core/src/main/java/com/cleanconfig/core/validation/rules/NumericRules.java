@@ -1,5 +1,9 @@
 package com.cleanconfig.core.validation.rules;
 
+import com.cleanconfig.core.validation.DoubleValidationRule;
+import com.cleanconfig.core.validation.IntValidationRule;
+import com.cleanconfig.core.validation.LongValidationRule;
+import com.cleanconfig.core.validation.RuleCharacteristics;
 import com.cleanconfig.core.validation.ValidationError;
 import com.cleanconfig.core.validation.ValidationResult;
 import com.cleanconfig.core.validation.ValidationRule;
@@ -17,6 +21,15 @@ import com.cleanconfig.core.validation.ValidationRule;
  * ValidationRule&lt;Integer&gt; positiveRule = NumericRules.positive();
  * </pre>
  *
+ * <p>All rules are {@linkplain ValidationRule#isContextFree() context-free} and cheap.
+ *
+ * <p>Range rules for a single primitive type, such as {@link #integerBetween(int, int)} and
+ * {@link #longBetween(long, long)}, are primitive-specialized: validators check them against
+ * the parsed primitive without boxing, and compare longs exactly. The generic rules such as
+ * {@link #between(double, double)} compare through {@link Number#doubleValue()}, and settle
+ * ties exactly for {@link Long} values, which doubles round beyond 2^53. Their bounds are
+ * doubles, though, so a long bound beyond 2^53 needs {@link #longBetween(long, long)}.
+ *
  * @since 0.1.0
  */
 public final class NumericRules {
@@ -32,7 +45,7 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> positive() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.doubleValue() <= 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -44,7 +57,7 @@ public final class NumericRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -54,7 +67,7 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> negative() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.doubleValue() >= 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -66,7 +79,7 @@ public final class NumericRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -76,7 +89,7 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> nonNegative() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.doubleValue() < 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -88,7 +101,7 @@ public final class NumericRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -98,7 +111,7 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> nonPositive() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.doubleValue() > 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -110,7 +123,7 @@ public final class NumericRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -120,7 +133,7 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> zero() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.doubleValue() != 0.0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -132,7 +145,7 @@ public final class NumericRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -143,8 +156,8 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> min(double min) {
-        return (name, value, context) -> {
-            if (value != null && value.doubleValue() < min) {
+        return ValidationRule.contextFree((name, value, context) -> {
+            if (value != null && isLess(value, min)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
                                 .propertyName(name)
@@ -155,7 +168,7 @@ public final class NumericRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -166,8 +179,8 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> max(double max) {
-        return (name, value, context) -> {
-            if (value != null && value.doubleValue() > max) {
+        return ValidationRule.contextFree((name, value, context) -> {
+            if (value != null && isGreater(value, max)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
                                 .propertyName(name)
@@ -178,7 +191,7 @@ public final class NumericRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -190,10 +203,9 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> between(double min, double max) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null) {
-                double d = value.doubleValue();
-                if (d < min || d > max) {
+                if (isLess(value, min) || isGreater(value, max)) {
                     return ValidationResult.failure(
                             ValidationError.builder()
                                     .propertyName(name)
@@ -205,7 +217,7 @@ public final class NumericRules {
                 }
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -215,9 +227,9 @@ public final class NumericRules {
      * @param max maximum value
      * @return validation rule
      */
-    public static ValidationRule<Integer> integerBetween(int min, int max) {
-        return (name, value, context) -> {
-            if (value != null && (value < min || value > max)) {
+    public static IntValidationRule integerBetween(int min, int max) {
+        IntValidationRule rule = (name, value, context) -> {
+            if (value < min || value > max) {
                 return ValidationResult.failure(
                         ValidationError.builder()
                                 .propertyName(name)
@@ -229,6 +241,7 @@ public final class NumericRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
     }
 
     /**
@@ -238,9 +251,35 @@ public final class NumericRules {
      * @param max maximum value
      * @return validation rule
      */
-    public static ValidationRule<Long> longBetween(long min, long max) {
-        return (name, value, context) -> {
-            if (value != null && (value < min || value > max)) {
+    public static LongValidationRule longBetween(long min, long max) {
+        LongValidationRule rule = (name, value, context) -> {
+            if (value < min || value > max) {
+                return ValidationResult.failure(
+                        ValidationError.builder()
+                                .propertyName(name)
+                                .errorMessage("Value must be between " + min + " and " + max)
+                                .actualValue(String.valueOf(value))
+                                .expectedValue("[" + min + ", " + max + "]")
+                                .build()
+                );
+            }
+            return ValidationResult.success();
+        };
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
+    }
+
+    /**
+     * Validates that a double is within a range (inclusive).
+     *
+     * <p>NaN is outside every range.
+     *
+     * @param min minimum value
+     * @param max maximum value
+     * @return validation rule
+     */
+    public static DoubleValidationRule doubleBetween(double min, double max) {
+        DoubleValidationRule rule = (name, value, context) -> {
+            if (!(value >= min && value <= max)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
                                 .propertyName(name)
@@ -252,6 +291,7 @@ public final class NumericRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
     }
 
     /**
@@ -262,8 +302,8 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> greaterThan(double threshold) {
-        return (name, value, context) -> {
-            if (value != null && value.doubleValue() <= threshold) {
+        return ValidationRule.contextFree((name, value, context) -> {
+            if (value != null && isLessOrEqual(value, threshold)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
                                 .propertyName(name)
@@ -274,7 +314,7 @@ public final class NumericRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -285,8 +325,8 @@ public final class NumericRules {
      * @return validation rule
      */
     public static <T extends Number> ValidationRule<T> lessThan(double threshold) {
-        return (name, value, context) -> {
-            if (value != null && value.doubleValue() >= threshold) {
+        return ValidationRule.contextFree((name, value, context) -> {
+            if (value != null && isGreaterOrEqual(value, threshold)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
                                 .propertyName(name)
@@ -297,7 +337,7 @@ public final class NumericRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -327,7 +367,7 @@ public final class NumericRules {
      *
      * @return validation rule
      */
-    public static ValidationRule<Integer> port() {
+    public static IntValidationRule port() {
         return integerBetween(1, 65535);
     }
 
@@ -336,9 +376,9 @@ public final class NumericRules {
      *
      * @return validation rule
      */
-    public static ValidationRule<Integer> even() {
-        return (name, value, context) -> {
-            if (value != null && value % 2 != 0) {
+    public static IntValidationRule even() {
+        IntValidationRule rule = (name, value, context) -> {
+            if (value % 2 != 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
                                 .propertyName(name)
@@ -349,6 +389,7 @@ public final class NumericRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
     }
 
     /**
@@ -356,9 +397,9 @@ public final class NumericRules {
      *
      * @return validation rule
      */
-    public static ValidationRule<Integer> odd() {
-        return (name, value, context) -> {
-            if (value != null && value % 2 == 0) {
+    public static IntValidationRule odd() {
+        IntValidationRule rule = (name, value, context) -> {
+            if (value % 2 == 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
                                 .propertyName(name)
@@ -369,6 +410,7 @@ public final class NumericRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
     }
 
     /**
@@ -377,9 +419,9 @@ public final class NumericRules {
      * @param divisor the divisor
      * @return validation rule
      */
-    public static ValidationRule<Integer> multipleOf(int divisor) {
-        return (name, value, context) -> {
-            if (value != null && value % divisor != 0) {
+    public static IntValidationRule multipleOf(int divisor) {
+        IntValidationRule rule = (name, value, context) -> {
+            if (value % divisor != 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
                                 .propertyName(name)
@@ -390,5 +432,38 @@ public final class NumericRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
+    }
+
+    private static boolean isLess(Number value, double bound) {
+        double d = value.doubleValue();
+        return d < bound || (d == bound && compareTied(value, bound) < 0);
+    }
+
+    private static boolean isGreater(Number value, double bound) {
+        double d = value.doubleValue();
+        return d > bound || (d == bound && compareTied(value, bound) > 0);
+    }
+
+    private static boolean isLessOrEqual(Number value, double bound) {
+        double d = value.doubleValue();
+        return d < bound || (d == bound && compareTied(value, bound) <= 0);
+    }
+
+    private static boolean isGreaterOrEqual(Number value, double bound) {
+        double d = value.doubleValue();
+        return d > bound || (d == bound && compareTied(value, bound) >= 0);
+    }
+
+    /**
+     * Compares a number exactly with a bound its double value equals. Only a {@link Long} can
+     * differ, having been rounded to the bound.
+     */
+    private static int compareTied(Number value, double bound) {
+        if (!(value instanceof Long)) {
+            return 0;
+        }
+        // 2^63 is above every long; any other tied bound is a whole number within long range
+        return bound >= 0x1p63 ? -1 : Long.compare(value.longValue(), (long) bound);
     }
 }
@@ -1,5 +1,6 @@
 package com.cleanconfig.core.validation.rules;
 
+import com.cleanconfig.core.validation.RuleCharacteristics;
 import com.cleanconfig.core.validation.ValidationError;
 import com.cleanconfig.core.validation.ValidationResult;
 import com.cleanconfig.core.validation.ValidationRule;
@@ -21,10 +22,19 @@ import java.util.regex.Pattern;
  *     .and(StringRules.endsWith("@company.com"));
  * </pre>
  *
+ * <p>All rules are {@linkplain ValidationRule#isContextFree() context-free}. Pattern and URL
+ * rules declare a moderate cost, the others a cheap one.
+ *
  * @since 0.1.0
  */
 public final class StringRules {
 
+    private static final RuleCharacteristics PATTERN_MATCHING = RuleCharacteristics.builder()
+            .pure(true)
+            .readsContext(false)
+            .cost(RuleCharacteristics.COST_MODERATE)
+            .build();
+
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
             "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Z|a-z]{2,}$"
     );
@@ -40,7 +50,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> notBlank() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value == null || value.toString().trim().isEmpty()) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -51,7 +61,7 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -61,7 +71,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> notEmpty() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value == null || value.length() == 0) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -72,7 +82,7 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -83,7 +93,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> minLength(int minLength) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.length() < minLength) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -95,7 +105,7 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -106,7 +116,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> maxLength(int maxLength) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.length() > maxLength) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -118,7 +128,7 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -130,7 +140,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> lengthBetween(int minLength, int maxLength) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null) {
                 int len = value.length();
                 if (len < minLength || len > maxLength) {
@@ -145,7 +155,7 @@ public final class StringRules {
                 }
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -156,7 +166,7 @@ public final class StringRules {
      */
     public static ValidationRule<String> matchesRegex(String regex) {
         Pattern pattern = Pattern.compile(regex);
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null && !pattern.matcher(value).matches()) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -168,6 +178,7 @@ public final class StringRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(PATTERN_MATCHING);
     }
 
     /**
@@ -177,7 +188,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> matchesPattern(Pattern pattern) {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null && !pattern.matcher(value).matches()) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -189,6 +200,7 @@ public final class StringRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(PATTERN_MATCHING);
     }
 
     /**
@@ -197,7 +209,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> email() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null && !EMAIL_PATTERN.matcher(value).matches()) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -209,6 +221,7 @@ public final class StringRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(PATTERN_MATCHING);
     }
 
     /**
@@ -217,7 +230,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> url() {
-        return (name, value, context) -> {
+        ValidationRule<String> rule = (name, value, context) -> {
             if (value != null) {
                 try {
                     new URL(value);
@@ -233,6 +246,7 @@ public final class StringRules {
             }
             return ValidationResult.success();
         };
+        return rule.withCharacteristics(PATTERN_MATCHING);
     }
 
     /**
@@ -242,7 +256,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> startsWith(String prefix) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && !value.startsWith(prefix)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -253,7 +267,7 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -263,7 +277,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> endsWith(String suffix) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && !value.endsWith(suffix)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -274,7 +288,7 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -284,7 +298,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> contains(String substring) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && !value.contains(substring)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -295,7 +309,7 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -305,7 +319,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> doesNotContain(String substring) {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && value.contains(substring)) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -316,7 +330,7 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -352,7 +366,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> lowercase() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && !value.equals(value.toLowerCase())) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -363,7 +377,7 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 
     /**
@@ -372,7 +386,7 @@ public final class StringRules {
      * @return validation rule
      */
     public static ValidationRule<String> uppercase() {
-        return (name, value, context) -> {
+        return ValidationRule.contextFree((name, value, context) -> {
             if (value != null && !value.equals(value.toUpperCase())) {
                 return ValidationResult.failure(
                         ValidationError.builder()
@@ -383,6 +397,6 @@ public final class StringRules {
                 );
             }
             return ValidationResult.success();
-        };
+        });
     }
 }
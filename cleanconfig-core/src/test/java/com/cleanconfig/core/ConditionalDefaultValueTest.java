@@ -37,6 +37,23 @@ public class ConditionalDefaultValueTest {
                 () -> ConditionalDefaultValue.staticValue(null));
     }
 
+    @Test
+    public void testStaticValueExposesValue() {
+        ConditionalDefaultValue<Integer> defaultValue = ConditionalDefaultValue.staticValue(8080);
+
+        assertEquals(Optional.of(8080), defaultValue.getStaticValue());
+    }
+
+    @Test
+    public void testComputedAndOverriddenHaveNoStaticValue() {
+        ConditionalDefaultValue<String> computed = ConditionalDefaultValue.computed(ctx -> Optional.of("x"));
+        ConditionalDefaultValue<String> overridden = ConditionalDefaultValue.staticValue("default")
+                .when(ctx -> true, "override");
+
+        assertFalse(computed.getStaticValue().isPresent());
+        assertFalse(overridden.getStaticValue().isPresent());
+    }
+
     @Test
     public void testComputed() {
         ConditionalDefaultValue<Integer> defaultValue = ConditionalDefaultValue.computed(
@@ -0,0 +1,187 @@
+package com.cleanconfig.core;
+
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ConfigDiff}.
+ */
+public class ConfigDiffTest {
+
+    private static PropertyMap base() {
+        return PropertyMap.builder()
+                .put("server.port", "8080")
+                .put("server.host", "localhost")
+                .put("db.url", "jdbc:h2:mem")
+                .build();
+    }
+
+    @Test
+    public void between_SameMap_IsEmpty() {
+        PropertyMap map = base();
+
+        assertThat(ConfigDiff.between(map, map).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void between_PlainMaps_ClassifiesChanges() {
+        Map<String, String> oldProperties = new HashMap<>(base());
+        Map<String, String> newProperties = new HashMap<>(base());
+        newProperties.put("server.port", "9090");
+        newProperties.remove("db.url");
+        newProperties.put("cache.size", "100");
+
+        ConfigDiff diff = ConfigDiff.between(oldProperties, newProperties);
+
+        assertThat(diff.size()).isEqualTo(3);
+        assertThat(diff.getModifiedKeys()).containsExactly("server.port");
+        assertThat(diff.getRemovedKeys()).containsExactly("db.url");
+        assertThat(diff.getAddedKeys()).containsExactly("cache.size");
+        assertThat(diff.getChangedKeys()).containsExactlyInAnyOrder("server.port", "db.url", "cache.size");
+    }
+
+    @Test
+    public void between_EqualCopies_IsEmpty() {
+        assertThat(ConfigDiff.between(base(), new HashMap<>(base())).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void between_DerivedPropertyMaps_FindsReplacedAndAppendedKeys() {
+        PropertyMap oldProperties = base();
+        PropertyMap newProperties = oldProperties.with("server.host", "0.0.0.0").with("cache.size", "100");
+
+        ConfigDiff diff = ConfigDiff.between(oldProperties, newProperties);
+
+        assertThat(diff.getModifiedKeys()).containsExactly("server.host");
+        assertThat(diff.getAddedKeys()).containsExactly("cache.size");
+        assertThat(diff.getRemovedKeys()).isEmpty();
+    }
+
+    @Test
+    public void between_DerivedPropertyMapsReversed_FindsRemovedKeys() {
+        PropertyMap oldProperties = base().with("cache.size", "100");
+        PropertyMap newProperties = base();
+
+        ConfigDiff diff = ConfigDiff.between(oldProperties, newProperties);
+
+        assertThat(diff.getRemovedKeys()).containsExactly("cache.size");
+        assertThat(diff.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void between_OverlaysOverSameBase_ComparesOverlays() {
+        PropertyMap user = base();
+        Map<String, String> oldDefaults = new HashMap<>();
+        oldDefaults.put("cache.size", "100");
+        oldDefaults.put("cache.ttl", "60");
+        Map<String, String> newDefaults = new HashMap<>();
+        newDefaults.put("cache.size", "200");
+        newDefaults.put("server.port", "8080");
+
+        ConfigDiff diff = ConfigDiff.between(
+                OverlayPropertyMap.of(user, oldDefaults), OverlayPropertyMap.of(user, newDefaults));
+
+        // server.port resolves to 8080 in both
+        assertThat(diff.getModifiedKeys()).containsExactly("cache.size");
+        assertThat(diff.getRemovedKeys()).containsExactly("cache.ttl");
+        assertThat(diff.getAddedKeys()).isEmpty();
+    }
+
+    @Test
+    public void between_OverlaysWithSameOverlay_IgnoresShadowedBaseChanges() {
+        Map<String, String> overlay = new HashMap<>();
+        overlay.put("server.port", "9999");
+        PropertyMap oldBase = base();
+        PropertyMap newBase = oldBase.with("server.port", "7000").with("server.host", "example.com");
+
+        ConfigDiff diff = ConfigDiff.between(
+                OverlayPropertyMap.of(oldBase, overlay), OverlayPropertyMap.of(newBase, overlay));
+
+        assertThat(diff.getChangedKeys()).containsExactly("server.host");
+    }
+
+    @Test
+    public void between_NullValue_CountsAsAbsent() {
+        Map<String, String> oldProperties = new HashMap<>();
+        oldProperties.put("a", null);
+        Map<String, String> newProperties = new HashMap<>();
+        newProperties.put("b", null);
+
+        assertThat(ConfigDiff.between(oldProperties, newProperties).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void getChange_WithRegistry_ConvertsValues() {
+        PropertyDefinition<Integer> port = PropertyDefinition.builder(Integer.class).name("server.port").build();
+        PropertyRegistry registry = PropertyRegistry.builder().register(port).build();
+
+        ConfigDiff diff = ConfigDiff.between(base(), base().with("server.port", "9090"), registry);
+
+        PropertyChange<Integer> change = diff.getChange(port).orElseThrow(AssertionError::new);
+        assertThat(change.getOldValue()).hasValue(8080);
+        assertThat(change.getNewValue()).hasValue(9090);
+        assertThat(diff.getChange("server.port").flatMap(PropertyChange::getNewValue)).hasValue(9090);
+    }
+
+    @Test
+    public void getChange_WithConverterRegistry_UsesItsConverters() {
+        TypeConverterRegistry converterRegistry = TypeConverterRegistry.getInstance();
+        converterRegistry.register(Level.class, value -> Optional.of(new Level(value.length())));
+        PropertyDefinition<Level> level = PropertyDefinition.builder(Level.class).name("log.level").build();
+        PropertyRegistry registry = PropertyRegistry.builder().register(level).build();
+
+        ConfigDiff diff = ConfigDiff.between(
+                base(), base().with("log.level", "DEBUG"), registry, converterRegistry);
+
+        PropertyChange<Level> change = diff.getChange(level).orElseThrow(AssertionError::new);
+        assertThat(change.getOldValue()).isEmpty();
+        assertThat(change.getNewValue().map(value -> value.rank)).hasValue(5);
+    }
+
+    @Test
+    public void getChanges_UnregisteredProperty_HasRawValuesOnly() {
+        ConfigDiff diff = ConfigDiff.between(base(), base().with("server.host", "0.0.0.0"),
+                PropertyRegistry.builder().build());
+
+        assertThat(diff.getChanges()).hasSize(1);
+        PropertyChange<?> change = diff.getChanges().get(0);
+        assertThat(change.getNewRawValue()).hasValue("0.0.0.0");
+        assertThat(change.getNewValue()).isEmpty();
+    }
+
+    @Test
+    public void getChange_UnchangedProperty_IsEmpty() {
+        ConfigDiff diff = ConfigDiff.between(base(), base().with("server.host", "0.0.0.0"));
+
+        assertThat(diff.getChange("server.port")).isEmpty();
+    }
+
+    @Test
+    public void between_NullMap_ThrowsException() {
+        assertThatThrownBy(() -> ConfigDiff.between(null, base()))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Old properties cannot be null");
+    }
+
+    @Test
+    public void between_NullConverterRegistry_ThrowsException() {
+        assertThatThrownBy(() -> ConfigDiff.between(base(), base(), null, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Converter registry cannot be null");
+    }
+
+    private static final class Level {
+        private final int rank;
+
+        Level(int rank) {
+            this.rank = rank;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.cleanconfig.core;
+
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.impl.MemoizingPropertyContext;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ConfigSnapshot}.
+ */
+public class ConfigSnapshotTest {
+
+    private PropertyDefinition<Integer> portProperty;
+    private PropertyDefinition<Long> timeoutProperty;
+    private PropertyDefinition<Double> ratioProperty;
+    private PropertyDefinition<Boolean> enabledProperty;
+    private PropertyDefinition<String> hostProperty;
+    private PropertyRegistry registry;
+    private Map<String, String> properties;
+
+    @Before
+    public void setUp() {
+        portProperty = PropertyDefinition.builder(Integer.class).name("server.port").build();
+        timeoutProperty = PropertyDefinition.builder(Long.class).name("server.timeout").build();
+        ratioProperty = PropertyDefinition.builder(Double.class).name("cache.ratio").build();
+        enabledProperty = PropertyDefinition.builder(Boolean.class).name("feature.enabled").build();
+        hostProperty = PropertyDefinition.builder(String.class).name("server.host").build();
+
+        registry = PropertyRegistry.builder()
+                .register(portProperty)
+                .register(timeoutProperty)
+                .register(ratioProperty)
+                .register(enabledProperty)
+                .register(hostProperty)
+                .build();
+
+        properties = new HashMap<>();
+        properties.put("server.port", "8080");
+        properties.put("server.timeout", "30000");
+        properties.put("cache.ratio", "0.75");
+        properties.put("feature.enabled", "yes");
+        properties.put("server.host", "localhost");
+    }
+
+    private PropertyKey key(String name) {
+        return registry.getKey(name).orElseThrow(AssertionError::new);
+    }
+
+    @Test
+    public void get_ConvertedValues_ReturnsTypedValues() {
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+
+        assertThat(snapshot.get(portProperty)).hasValue(8080);
+        assertThat(snapshot.get(timeoutProperty)).hasValue(30000L);
+        assertThat(snapshot.get(ratioProperty)).hasValue(0.75);
+        assertThat(snapshot.get(enabledProperty)).hasValue(true);
+        assertThat(snapshot.get(hostProperty)).hasValue("localhost");
+    }
+
+    @Test
+    public void get_RepeatedReads_ReturnSameInstance() {
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+
+        Optional<String> first = snapshot.get(hostProperty);
+
+        assertThat(snapshot.get(hostProperty)).isSameAs(first);
+    }
+
+    @Test
+    public void getPrimitives_ConvertedValues_ReturnsPrimitives() {
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+
+        assertThat(snapshot.getInt(portProperty)).isEqualTo(8080);
+        assertThat(snapshot.getLong(timeoutProperty)).isEqualTo(30000L);
+        assertThat(snapshot.getDouble(ratioProperty)).isEqualTo(0.75);
+        assertThat(snapshot.getBoolean(enabledProperty)).isTrue();
+    }
+
+    @Test
+    public void get_MissingOrEmptyValue_ReturnsEmpty() {
+        properties.remove("server.port");
+        properties.put("server.host", "");
+
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+
+        assertThat(snapshot.get(portProperty)).isEmpty();
+        assertThat(snapshot.get(hostProperty)).isEmpty();
+        assertThat(snapshot.isPresent(portProperty)).isFalse();
+        assertThat(snapshot.isPresent(timeoutProperty)).isTrue();
+    }
+
+    @Test
+    public void getInt_MissingValue_ThrowsException() {
+        properties.remove("server.port");
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+
+        assertThatThrownBy(() -> snapshot.getInt(portProperty))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessageContaining("server.port");
+    }
+
+    @Test
+    public void get_UnregisteredDefinition_ThrowsException() {
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+        PropertyDefinition<Integer> samePort = PropertyDefinition.builder(Integer.class)
+                .name("server.port")
+                .build();
+
+        assertThatThrownBy(() -> snapshot.get(samePort))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not part of this snapshot");
+    }
+
+    @Test
+    public void of_UnconvertibleValue_ThrowsException() {
+        properties.put("server.port", "http");
+
+        assertThatThrownBy(() -> ConfigSnapshot.of(registry, properties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("server.port")
+                .hasMessageContaining("Integer");
+    }
+
+    @Test
+    public void of_CustomConverterRegistry_UsesRegistry() {
+        TypeConverterRegistry converters = TypeConverterRegistry.getInstance();
+        properties.put("server.port", " 8080 ");
+
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties, converters);
+
+        assertThat(snapshot.getInt(portProperty)).isEqualTo(8080);
+    }
+
+    @Test
+    public void of_Context_ConvertsThroughContext() {
+        PropertyContext context = new MemoizingPropertyContext(properties, TypeConverterRegistry.getInstance());
+
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties, context);
+
+        assertThat(snapshot.getInt(portProperty)).isEqualTo(8080);
+        assertThat(snapshot.getBoolean(enabledProperty)).isTrue();
+        assertThat(snapshot.get(hostProperty)).hasValue("localhost");
+    }
+
+    @Test
+    public void of_ContextWithUnconvertibleValue_ThrowsException() {
+        properties.put("server.timeout", "soon");
+        PropertyContext context = new MemoizingPropertyContext(properties, TypeConverterRegistry.getInstance());
+
+        assertThatThrownBy(() -> ConfigSnapshot.of(registry, properties, context))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("server.timeout")
+                .hasMessageContaining("Long");
+    }
+
+    @Test
+    public void getByKey_ConvertedValues_ReturnsTypedValues() {
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+
+        assertThat(snapshot.getInt(key("server.port"))).isEqualTo(8080);
+        assertThat(snapshot.getLong(key("server.timeout"))).isEqualTo(30000L);
+        assertThat(snapshot.getDouble(key("cache.ratio"))).isEqualTo(0.75);
+        assertThat(snapshot.getBoolean(key("feature.enabled"))).isTrue();
+        assertThat(snapshot.get(key("server.host"), String.class)).isSameAs(snapshot.get(hostProperty));
+        assertThat(snapshot.isPresent(key("server.host"))).isTrue();
+    }
+
+    @Test
+    public void getByKey_KeyOfOtherRegistry_ThrowsException() {
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+        PropertyKey otherPort = PropertyRegistry.builder()
+                .register(portProperty)
+                .build()
+                .getKey("server.port")
+                .orElseThrow(AssertionError::new);
+
+        assertThatThrownBy(() -> snapshot.getInt(otherPort))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not part of this snapshot");
+    }
+
+    @Test
+    public void getByKey_WrongType_ThrowsException() {
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+
+        assertThatThrownBy(() -> snapshot.getInt(key("server.timeout")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Long");
+        assertThatThrownBy(() -> snapshot.get(key("server.port"), String.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Integer");
+    }
+
+    @Test
+    public void getProperties_ReturnsImmutableCopy() {
+        properties.put("unregistered", "value");
+        ConfigSnapshot snapshot = ConfigSnapshot.of(registry, properties);
+        properties.put("server.host", "changed");
+
+        assertThat(snapshot.getProperties()).containsEntry("server.host", "localhost");
+        assertThat(snapshot.getProperties()).containsEntry("unregistered", "value");
+        assertThat(snapshot.size()).isEqualTo(5);
+        assertThatThrownBy(() -> snapshot.getProperties().put("x", "y"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
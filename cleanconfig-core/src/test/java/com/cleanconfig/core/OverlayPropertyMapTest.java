@@ -0,0 +1,132 @@
+package com.cleanconfig.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link OverlayPropertyMap}.
+ */
+public class OverlayPropertyMapTest {
+
+    private Map<String, String> base;
+    private Map<String, String> overlay;
+    private OverlayPropertyMap map;
+
+    @Before
+    public void setUp() {
+        base = new LinkedHashMap<>();
+        base.put("server.host", "localhost");
+        base.put("server.port", "8080");
+
+        overlay = new LinkedHashMap<>();
+        overlay.put("server.timeout", "30s");
+        overlay.put("server.port", "9090");
+
+        map = OverlayPropertyMap.of(base, overlay);
+    }
+
+    @Test
+    public void get_OverlayValueTakesPrecedence() {
+        assertThat(map.get("server.port")).isEqualTo("9090");
+        assertThat(map.get("server.host")).isEqualTo("localhost");
+        assertThat(map.get("server.timeout")).isEqualTo("30s");
+        assertThat(map.get("missing")).isNull();
+        assertThat(map.containsKey("server.timeout")).isTrue();
+        assertThat(map.containsKey("missing")).isFalse();
+    }
+
+    @Test
+    public void get_NullOverlayValue_HidesBaseValue() {
+        overlay.put("server.host", null);
+
+        assertThat(map.containsKey("server.host")).isTrue();
+        assertThat(map.get("server.host")).isNull();
+    }
+
+    @Test
+    public void size_CountsSharedKeysOnce() {
+        assertThat(map).hasSize(3);
+        assertThat(map.isEmpty()).isFalse();
+        assertThat(OverlayPropertyMap.of(new HashMap<>(), new HashMap<>())).isEmpty();
+    }
+
+    @Test
+    public void entrySet_IteratesBaseThenOverlay() {
+        assertThat(map.keySet()).containsExactly("server.host", "server.port", "server.timeout");
+        assertThat(map.values()).containsExactly("localhost", "9090", "30s");
+    }
+
+    @Test
+    public void forEach_VisitsSameEntriesAsIterator() {
+        Map<String, String> visited = new LinkedHashMap<>();
+
+        map.forEach(visited::put);
+
+        assertThat(visited.keySet()).containsExactly("server.host", "server.port", "server.timeout");
+        assertThat(visited).isEqualTo(map);
+    }
+
+    @Test
+    public void equals_SameEntriesAsFlatMap_IsEqual() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("server.host", "localhost");
+        expected.put("server.port", "9090");
+        expected.put("server.timeout", "30s");
+
+        assertThat(map).isEqualTo(expected);
+        assertThat(expected).isEqualTo(map);
+        assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void view_ReflectsChangesToLayers() {
+        overlay.put("cache.size", "100");
+        base.put("db.url", "jdbc:h2:mem");
+
+        assertThat(map.get("cache.size")).isEqualTo("100");
+        assertThat(map.get("db.url")).isEqualTo("jdbc:h2:mem");
+        assertThat(map).hasSize(5);
+    }
+
+    @Test
+    public void toPropertyMap_CopiesViewInOrder() {
+        PropertyMap flat = map.toPropertyMap();
+
+        assertThat(flat.keySet()).containsExactly("server.host", "server.port", "server.timeout");
+        assertThat(flat).isEqualTo(map);
+    }
+
+    @Test
+    public void toPropertyMap_EmptyOverlayOverPropertyMap_ReturnsBase() {
+        PropertyMap properties = PropertyMap.builder().put("a", "1").build();
+
+        assertThat(OverlayPropertyMap.of(properties, PropertyMap.empty()).toPropertyMap()).isSameAs(properties);
+    }
+
+    @Test
+    public void mutators_ThrowUnsupportedOperationException() {
+        assertThatThrownBy(() -> map.put("a", "1"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.remove("server.host"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(map::clear)
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void of_NullLayer_ThrowsException() {
+        assertThatThrownBy(() -> OverlayPropertyMap.of(null, overlay))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Base properties cannot be null");
+        assertThatThrownBy(() -> OverlayPropertyMap.of(base, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Overlay properties cannot be null");
+    }
+}
@@ -0,0 +1,190 @@
+package com.cleanconfig.core;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link PropertyMap}.
+ */
+public class PropertyMapTest {
+
+    @Test
+    public void builder_KeepsInsertionOrder() {
+        PropertyMap map = PropertyMap.builder()
+                .put("server.port", "8080")
+                .put("server.host", "localhost")
+                .put("db.url", "jdbc:h2:mem")
+                .build();
+
+        assertThat(map.keySet()).containsExactly("server.port", "server.host", "db.url");
+        assertThat(map.values()).containsExactly("8080", "localhost", "jdbc:h2:mem");
+        assertThat(map).hasSize(3);
+    }
+
+    @Test
+    public void builder_ReplacedValue_KeepsPosition() {
+        PropertyMap map = PropertyMap.builder()
+                .put("a", "1")
+                .put("b", "2")
+                .put("a", "3")
+                .build();
+
+        assertThat(map.keySet()).containsExactly("a", "b");
+        assertThat(map.get("a")).isEqualTo("3");
+    }
+
+    @Test
+    public void builder_ManyEntries_FindsEveryEntry() {
+        PropertyMap.Builder builder = PropertyMap.builder();
+        for (int i = 0; i < 1000; i++) {
+            builder.put("key." + i, "value" + i);
+        }
+
+        PropertyMap map = builder.build();
+
+        assertThat(map).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.get("key." + i)).isEqualTo("value" + i);
+        }
+        assertThat(map.containsKey("key.1000")).isFalse();
+    }
+
+    @Test
+    public void builder_PutAfterBuild_DoesNotChangeBuiltMap() {
+        PropertyMap.Builder builder = PropertyMap.builder().put("a", "1");
+        PropertyMap first = builder.build();
+
+        builder.put("a", "2").put("b", "3");
+
+        assertThat(first).hasSize(1);
+        assertThat(first.get("a")).isEqualTo("1");
+        assertThat(builder.build()).hasSize(2);
+    }
+
+    @Test
+    public void with_NewKey_AddsAtEnd() {
+        PropertyMap base = PropertyMap.builder().put("a", "1").build();
+
+        PropertyMap map = base.with("b", "2");
+
+        assertThat(map.keySet()).containsExactly("a", "b");
+        assertThat(base).hasSize(1);
+        assertThat(base.containsKey("b")).isFalse();
+    }
+
+    @Test
+    public void with_ExistingKey_ReplacesValue() {
+        PropertyMap base = PropertyMap.builder().put("a", "1").put("b", "2").build();
+
+        PropertyMap map = base.with("a", "3");
+
+        assertThat(map.keySet()).containsExactly("a", "b");
+        assertThat(map.get("a")).isEqualTo("3");
+        assertThat(base.get("a")).isEqualTo("1");
+    }
+
+    @Test
+    public void with_SameValue_ReturnsSameMap() {
+        PropertyMap base = PropertyMap.builder().put("a", "1").build();
+
+        assertThat(base.with("a", "1")).isSameAs(base);
+    }
+
+    @Test
+    public void with_TwoMapsDerivedFromSameBase_DoNotSeeEachOther() {
+        PropertyMap base = PropertyMap.builder(4).put("a", "1").build();
+
+        PropertyMap left = base.with("b", "left");
+        PropertyMap right = base.with("b", "right");
+
+        assertThat(left.get("b")).isEqualTo("left");
+        assertThat(right.get("b")).isEqualTo("right");
+        assertThat(base.containsKey("b")).isFalse();
+    }
+
+    @Test
+    public void without_RemovesKeyAndKeepsOrder() {
+        PropertyMap base = PropertyMap.builder().put("a", "1").put("b", "2").put("c", "3").build();
+
+        PropertyMap map = base.without("b");
+
+        assertThat(map.keySet()).containsExactly("a", "c");
+        assertThat(base).hasSize(3);
+        assertThat(base.without("missing")).isSameAs(base);
+    }
+
+    @Test
+    public void withAll_MergesProperties() {
+        PropertyMap base = PropertyMap.builder().put("a", "1").put("b", "2").build();
+        Map<String, String> overrides = new LinkedHashMap<>();
+        overrides.put("b", "20");
+        overrides.put("c", "30");
+
+        PropertyMap map = base.withAll(overrides);
+
+        assertThat(map.keySet()).containsExactly("a", "b", "c");
+        assertThat(map.get("b")).isEqualTo("20");
+        assertThat(base.get("b")).isEqualTo("2");
+    }
+
+    @Test
+    public void equals_SameEntriesAsHashMap_IsEqual() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("a", "1");
+        expected.put("b", null);
+
+        PropertyMap map = PropertyMap.builder().put("b", null).put("a", "1").build();
+
+        assertThat(map).isEqualTo(expected);
+        assertThat(expected).isEqualTo(map);
+        assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(map).isNotEqualTo(PropertyMap.copyOf(expected).with("a", "2"));
+    }
+
+    @Test
+    public void get_NullValue_IsPresent() {
+        PropertyMap map = PropertyMap.builder().put("a", null).build();
+
+        assertThat(map.containsKey("a")).isTrue();
+        assertThat(map.get("a")).isNull();
+        assertThat(map.getOrDefault("a", "x")).isNull();
+        assertThat(map.getOrDefault("b", "x")).isEqualTo("x");
+    }
+
+    @Test
+    public void copyOf_PropertyMap_ReturnsSameInstance() {
+        PropertyMap map = PropertyMap.builder().put("a", "1").build();
+
+        assertThat(PropertyMap.copyOf(map)).isSameAs(map);
+        assertThat(PropertyMap.copyOf(new HashMap<>())).isSameAs(PropertyMap.empty());
+    }
+
+    @Test
+    public void mutators_ThrowUnsupportedOperationException() {
+        PropertyMap map = PropertyMap.builder().put("a", "1").build();
+
+        assertThatThrownBy(() -> map.put("b", "2"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.remove("a"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(map::clear)
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.entrySet().iterator().next().setValue("2"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void put_NullKey_ThrowsException() {
+        assertThatThrownBy(() -> PropertyMap.builder().put(null, "1"))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Key cannot be null");
+        assertThatThrownBy(() -> PropertyMap.empty().with(null, "1"))
+                .isInstanceOf(NullPointerException.class);
+    }
+}
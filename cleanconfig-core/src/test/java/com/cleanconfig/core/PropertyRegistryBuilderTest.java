@@ -264,4 +264,46 @@ public class PropertyRegistryBuilderTest {
         assertThat(registry.getAllPropertyNames())
                 .containsExactly("prop1", "prop2", "prop3");
     }
+
+    @Test
+    public void build_IndexesDependents() {
+        PropertyDefinition<String> host = PropertyDefinition.builder(String.class)
+                .name("db.host")
+                .build();
+        PropertyDefinition<String> url = PropertyDefinition.builder(String.class)
+                .name("db.url")
+                .dependsOnForValidation("db.host")
+                .build();
+        PropertyDefinition<String> replica = PropertyDefinition.builder(String.class)
+                .name("db.replica")
+                .dependsOnForValidation("db.host", "db.url")
+                .build();
+
+        PropertyRegistry registry = builder
+                .register(host)
+                .register(url)
+                .register(replica)
+                .build();
+
+        assertThat(registry.getDependents("db.host")).containsExactly("db.url", "db.replica");
+        assertThat(registry.getDependents("db.url")).containsExactly("db.replica");
+        assertThat(registry.getDependents("db.replica")).isEmpty();
+        assertThat(registry.getDependents("undefined")).isEmpty();
+    }
+
+    @Test
+    public void build_WithLongDependencyChain_Succeeds() {
+        builder.register(PropertyDefinition.builder(String.class).name("chain.0").build());
+        for (int i = 1; i < 5000; i++) {
+            builder.register(PropertyDefinition.builder(String.class)
+                    .name("chain." + i)
+                    .dependsOnForValidation("chain." + (i - 1))
+                    .build());
+        }
+
+        PropertyRegistry registry = builder.build();
+
+        assertThat(registry.getAllProperties()).hasSize(5000);
+        assertThat(registry.getDependents("chain.0")).containsExactly("chain.1");
+    }
 }
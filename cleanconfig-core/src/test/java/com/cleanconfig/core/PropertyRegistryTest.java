@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -138,6 +139,48 @@ public class PropertyRegistryTest {
         assertThat(builder).isInstanceOf(PropertyRegistryBuilder.class);
     }
 
+    @Test
+    public void getKey_ExistingProperty_ReturnsSameKeyOnEveryCall() {
+        Optional<PropertyKey> key = registry.getKey("test.int");
+
+        assertThat(key).isPresent();
+        assertThat(key.get().getName()).isSameAs(intProperty.getName());
+        assertThat(registry.getKey("test.int").get()).isSameAs(key.get());
+    }
+
+    @Test
+    public void getKey_NonExistingProperty_ReturnsEmpty() {
+        assertThat(registry.getKey("nonexistent")).isEmpty();
+    }
+
+    @Test
+    public void getKeys_ReturnsDenseIdsInRegistrationOrder() {
+        List<PropertyKey> keys = registry.getKeys();
+
+        assertThat(keys).hasSize(2);
+        assertThat(keys.get(0).getName()).isEqualTo("test.string");
+        assertThat(keys.get(0).getId()).isEqualTo(0);
+        assertThat(keys.get(1).getName()).isEqualTo("test.int");
+        assertThat(keys.get(1).getId()).isEqualTo(1);
+    }
+
+    @Test
+    public void getDefinition_OwnKey_ReturnsProperty() {
+        PropertyKey key = registry.getKey("test.string").get();
+
+        assertThat(registry.getDefinition(key)).hasValue(stringProperty);
+    }
+
+    @Test
+    public void getDefinition_KeyOfOtherRegistry_ReturnsEmpty() {
+        PropertyRegistry otherRegistry = PropertyRegistry.builder()
+                .register(stringProperty)
+                .build();
+        PropertyKey otherKey = otherRegistry.getKey("test.string").get();
+
+        assertThat(registry.getDefinition(otherKey)).isEmpty();
+    }
+
     @Test
     public void emptyRegistry_ReturnsEmptyCollections() {
         PropertyRegistry emptyRegistry = PropertyRegistry.builder().build();
@@ -146,5 +189,6 @@ public class PropertyRegistryTest {
         assertThat(emptyRegistry.getAllPropertyNames()).isEmpty();
         assertThat(emptyRegistry.isDefined("any.property")).isFalse();
         assertThat(emptyRegistry.getProperty("any.property")).isEmpty();
+        assertThat(emptyRegistry.getKeys()).isEmpty();
     }
 }
@@ -0,0 +1,52 @@
+package com.cleanconfig.core.cache;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Tests for CacheStats.
+ */
+public class CacheStatsTest {
+
+    @Test
+    public void testDerivedValues() {
+        CacheStats stats = new CacheStats(3, 1, 0, 0, 0, 400, 10);
+
+        assertEquals(4, stats.getRequestCount());
+        assertEquals(0.75, stats.getHitRate(), 0.0001);
+        assertEquals(400.0, stats.getAverageLoadTimeNanos(), 0.0001);
+    }
+
+    @Test
+    public void testNoRequests() {
+        CacheStats stats = new CacheStats(0, 0, 0, 0, 0, 0, 0);
+
+        assertEquals(1.0, stats.getHitRate(), 0.0001);
+        assertEquals(0.0, stats.getAverageLoadTimeNanos(), 0.0001);
+    }
+
+    @Test
+    public void testToMap() {
+        Map<String, Number> metrics = new CacheStats(3, 1, 2, 4, 5, 400, 10).toMap();
+
+        assertEquals(3L, metrics.get("hits"));
+        assertEquals(1L, metrics.get("misses"));
+        assertEquals(2L, metrics.get("expirations"));
+        assertEquals(4L, metrics.get("evictions"));
+        assertEquals(5L, metrics.get("rejectedPuts"));
+        assertEquals(400L, metrics.get("totalLoadTimeNanos"));
+        assertEquals(10L, metrics.get("weightedSize"));
+        assertEquals(0.75, metrics.get("hitRate").doubleValue(), 0.0001);
+    }
+
+    @Test
+    public void testEquality() {
+        assertEquals(new CacheStats(1, 2, 3, 4, 5, 6, 7), new CacheStats(1, 2, 3, 4, 5, 6, 7));
+        assertEquals(new CacheStats(1, 2, 3, 4, 5, 6, 7).hashCode(), new CacheStats(1, 2, 3, 4, 5, 6, 7).hashCode());
+        assertNotEquals(new CacheStats(1, 2, 3, 4, 5, 6, 7), new CacheStats(1, 2, 3, 4, 5, 6, 8));
+    }
+}
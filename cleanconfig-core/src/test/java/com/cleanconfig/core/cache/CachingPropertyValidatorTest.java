@@ -6,6 +6,7 @@ import com.cleanconfig.core.PropertyRegistry;
 import com.cleanconfig.core.PropertyRegistryBuilder;
 import com.cleanconfig.core.PropertyValidator;
 import com.cleanconfig.core.impl.DefaultPropertyValidator;
+import com.cleanconfig.core.validation.PropertyGroup;
 import com.cleanconfig.core.validation.Rules;
 import com.cleanconfig.core.validation.ValidationResult;
 import org.junit.Before;
@@ -14,9 +15,11 @@ import org.junit.Test;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
@@ -287,8 +290,7 @@ public class CachingPropertyValidatorTest {
             assertTrue(result.isValid());
         }
 
-        // Cache may have less than 5 due to hash collisions
-        assertTrue(validator.getCacheSize() >= 1);
+        assertEquals(5, validator.getCacheSize());
 
         // Validate same sets again - should hit cache
         for (int i = 0; i < 5; i++) {
@@ -300,8 +302,7 @@ public class CachingPropertyValidatorTest {
         }
 
         // Cache size should not increase
-        int cachedSize = validator.getCacheSize();
-        assertTrue(cachedSize >= 1 && cachedSize <= 5);
+        assertEquals(5, validator.getCacheSize());
     }
 
     @Test
@@ -315,4 +316,224 @@ public class CachingPropertyValidatorTest {
 
         assertEquals(1, validator.getCacheSize());
     }
+
+    @Test
+    public void testZeroMaxSizeDisablesCache() {
+        CountingValidator counting = new CountingValidator(delegate);
+        CachingPropertyValidator validator = new CachingPropertyValidator(counting, 0, Duration.ofMinutes(5));
+
+        assertTrue(validator.validate(validProperties).isValid());
+        assertTrue(validator.validate(validProperties).isValid());
+
+        assertEquals(2, counting.calls.get());
+        assertEquals(0, validator.getCacheSize());
+    }
+
+    @Test
+    public void testHashCollisionDoesNotShareResult() {
+        CachingPropertyValidator validator = new CachingPropertyValidator(delegate);
+
+        // "50" and "4O" have the same String hash code, so both maps have the same hashCode()
+        Map<String, String> valid = new HashMap<>();
+        valid.put("test.property2", "50");
+        Map<String, String> colliding = new HashMap<>();
+        colliding.put("test.property2", "4O");
+        assertEquals(valid.hashCode(), colliding.hashCode());
+
+        assertTrue(validator.validate(valid).isValid());
+        assertFalse(validator.validate(colliding).isValid());
+        assertTrue(validator.validate(valid).isValid());
+    }
+
+    @Test
+    public void testStringHashCollisionKeepsBothEntries() {
+        CountingValidator counting = new CountingValidator(delegate);
+        CachingPropertyValidator validator = new CachingPropertyValidator(counting);
+        Map<String, String> valid = new HashMap<>();
+        valid.put("test.property2", "50");
+        Map<String, String> colliding = new HashMap<>();
+        colliding.put("test.property2", "4O");
+
+        for (int i = 0; i < 3; i++) {
+            validator.validate(valid);
+            validator.validate(colliding);
+        }
+
+        assertEquals(2, counting.calls.get());
+        assertEquals(2, validator.getCacheSize());
+    }
+
+    @Test
+    public void testCachedEntryNotAffectedByCallerMutation() {
+        CountingValidator counting = new CountingValidator(delegate);
+        CachingPropertyValidator validator = new CachingPropertyValidator(counting);
+
+        Map<String, String> props = new HashMap<>(validProperties);
+        assertTrue(validator.validate(props).isValid());
+
+        props.put("test.property2", "150");
+        assertFalse(validator.validate(props).isValid());
+        assertEquals(2, counting.calls.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        CountingValidator counting = new CountingValidator(delegate);
+        CachingPropertyValidator validator = new CachingPropertyValidator(counting, 2, Duration.ofMinutes(5));
+
+        Map<String, String> props1 = new HashMap<>();
+        props1.put("test.property2", "10");
+        Map<String, String> props2 = new HashMap<>();
+        props2.put("test.property2", "20");
+        Map<String, String> props3 = new HashMap<>();
+        props3.put("test.property2", "30");
+
+        validator.validate(props1);
+        validator.validate(props2);
+        validator.validate(props1); // hit, props1 becomes most recently used
+        validator.validate(props3); // evicts props2
+        assertEquals(3, counting.calls.get());
+        assertEquals(2, validator.getCacheSize());
+
+        validator.validate(props1); // still cached
+        assertEquals(3, counting.calls.get());
+
+        validator.validate(props2); // was evicted
+        assertEquals(4, counting.calls.get());
+    }
+
+    @Test
+    public void testCachingContinuesAfterCacheIsFull() {
+        CountingValidator counting = new CountingValidator(delegate);
+        CachingPropertyValidator validator = new CachingPropertyValidator(counting, 2, Duration.ofMinutes(5));
+
+        for (int i = 1; i <= 10; i++) {
+            Map<String, String> props = new HashMap<>();
+            props.put("test.property2", String.valueOf(i));
+            validator.validate(props);
+            validator.validate(props);
+        }
+
+        assertEquals(10, counting.calls.get());
+        assertEquals(2, validator.getCacheSize());
+    }
+
+    @Test
+    public void testSegmentedCacheStaysWithinMaxSize() throws InterruptedException {
+        CountingValidator counting = new CountingValidator(delegate);
+        CachingPropertyValidator validator = new CachingPropertyValidator(counting, 64, Duration.ofMinutes(5));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    Map<String, String> props = new HashMap<>();
+                    props.put("test.property1", "thread" + thread + "-" + i);
+                    validator.validate(props);
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertEquals(1000, counting.calls.get());
+        assertTrue(validator.getCacheSize() <= 64);
+        assertEquals(validator.getCacheSize(), validator.getStats().getWeightedSize());
+        assertEquals(1000 - validator.getCacheSize(), validator.getStats().getEvictionCount());
+
+        validator.clearCache();
+        assertEquals(0, validator.getStats().getWeightedSize());
+    }
+
+    @Test
+    public void testStatsRecordHitsAndMisses() {
+        CachingPropertyValidator validator = new CachingPropertyValidator(delegate);
+
+        validator.validate(validProperties);
+        validator.validate(validProperties);
+        validator.validate(invalidProperties);
+
+        CacheStats stats = validator.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(4, stats.getWeightedSize());
+        assertTrue(stats.getTotalLoadTimeNanos() > 0);
+    }
+
+    @Test
+    public void testStatsRecordEvictions() {
+        CachingPropertyValidator validator = new CachingPropertyValidator(delegate, 1, Duration.ofMinutes(5));
+
+        validator.validate(validProperties);
+        validator.validate(invalidProperties);
+
+        CacheStats stats = validator.getStats();
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(2, stats.getWeightedSize());
+    }
+
+    @Test
+    public void testStatsRecordExpirations() throws InterruptedException {
+        CachingPropertyValidator validator = new CachingPropertyValidator(delegate, 100, Duration.ofMillis(10));
+
+        validator.validate(validProperties);
+        Thread.sleep(50);
+        validator.validate(validProperties);
+
+        CacheStats stats = validator.getStats();
+        assertEquals(1, stats.getExpirationCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(1, validator.getCacheSize());
+    }
+
+    @Test
+    public void testClearCacheKeepsCountsAndResetsWeightedSize() {
+        CachingPropertyValidator validator = new CachingPropertyValidator(delegate);
+
+        validator.validate(validProperties);
+        validator.clearCache();
+
+        CacheStats stats = validator.getStats();
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0, stats.getWeightedSize());
+    }
+
+    /**
+     * Delegating validator that counts full validations.
+     */
+    private static class CountingValidator implements PropertyValidator {
+        private final PropertyValidator delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingValidator(PropertyValidator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ValidationResult validate(Map<String, String> properties) {
+            calls.incrementAndGet();
+            return delegate.validate(properties);
+        }
+
+        @Override
+        public ValidationResult validateIncremental(
+                ValidationResult previousResult,
+                Map<String, String> properties,
+                Set<String> changedKeys) {
+            return delegate.validateIncremental(previousResult, properties, changedKeys);
+        }
+
+        @Override
+        public ValidationResult validateProperty(String propertyName, String value, Map<String, String> properties) {
+            return delegate.validateProperty(propertyName, value, properties);
+        }
+
+        @Override
+        public ValidationResult validatePropertyGroup(PropertyGroup group, Map<String, String> properties) {
+            return delegate.validatePropertyGroup(group, properties);
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package com.cleanconfig.core.cache;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.converter.TypeConverter;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.ValidationError;
+import com.cleanconfig.core.validation.ValidationResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for PropertyResultCache.
+ */
+public class PropertyResultCacheTest {
+
+    private PropertyDefinition<String> hostDefinition;
+    private PropertyDefinition<String> nameDefinition;
+    private TypeConverter<String> stringConverter;
+    private AtomicInteger validations;
+    private Supplier<ValidationResult> validation;
+
+    @Before
+    public void setUp() {
+        hostDefinition = PropertyDefinition.builder(String.class).name("server.host").build();
+        nameDefinition = PropertyDefinition.builder(String.class).name("app.name").build();
+        stringConverter = TypeConverterRegistry.getInstance()
+                .getConverter(String.class)
+                .orElseThrow(AssertionError::new);
+        validations = new AtomicInteger();
+        validation = () -> {
+            validations.incrementAndGet();
+            return ValidationResult.failure(ValidationError.builder()
+                    .propertyName("server.host")
+                    .errorMessage("Invalid")
+                    .build());
+        };
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveMaxSize() {
+        new PropertyResultCache(0);
+    }
+
+    @Test
+    public void testSameDefinitionAndValueIsValidatedOnce() {
+        PropertyResultCache cache = new PropertyResultCache();
+
+        ValidationResult first = cache.get(hostDefinition, stringConverter, "localhost", validation);
+        ValidationResult second = cache.get(hostDefinition, stringConverter, "localhost", validation);
+
+        assertSame(first, second);
+        assertEquals(1, validations.get());
+        assertEquals(1, cache.getStats().getHitCount());
+        assertEquals(1, cache.getStats().getMissCount());
+    }
+
+    @Test
+    public void testDifferentValueOrDefinitionIsValidatedAgain() {
+        PropertyResultCache cache = new PropertyResultCache();
+
+        cache.get(hostDefinition, stringConverter, "localhost", validation);
+        cache.get(hostDefinition, stringConverter, "example.com", validation);
+        cache.get(nameDefinition, stringConverter, "localhost", validation);
+
+        assertEquals(3, validations.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testDifferentConverterIsValidatedAgain() {
+        PropertyResultCache cache = new PropertyResultCache();
+        TypeConverter<String> trimming = value -> Optional.of(value.trim());
+
+        cache.get(hostDefinition, stringConverter, "localhost", validation);
+        cache.get(hostDefinition, trimming, "localhost", validation);
+        cache.get(hostDefinition, trimming, "localhost", validation);
+
+        assertEquals(2, validations.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        PropertyResultCache cache = new PropertyResultCache(10);
+
+        for (int i = 0; i < 100; i++) {
+            cache.get(hostDefinition, stringConverter, "host" + i, validation);
+        }
+
+        assertEquals(10, cache.size());
+        assertEquals(90, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void testRecentlyUsedResultSurvivesEviction() {
+        PropertyResultCache cache = new PropertyResultCache(10);
+        cache.get(nameDefinition, stringConverter, "hot", validation);
+
+        for (int i = 0; i < 100; i++) {
+            cache.get(hostDefinition, stringConverter, "host" + i, validation);
+            cache.get(nameDefinition, stringConverter, "hot", validation);
+        }
+
+        assertEquals(101, validations.get());
+        assertEquals(100, cache.getStats().getHitCount());
+        assertEquals(10, cache.size());
+    }
+
+    @Test
+    public void testClear() {
+        PropertyResultCache cache = new PropertyResultCache();
+        cache.get(hostDefinition, stringConverter, "localhost", validation);
+
+        cache.clear();
+        cache.get(hostDefinition, stringConverter, "localhost", validation);
+
+        assertEquals(2, validations.get());
+    }
+}
@@ -0,0 +1,112 @@
+package com.cleanconfig.core.converter;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PrimitiveParsers}.
+ */
+public class PrimitiveParsersTest {
+
+    // parseInt() tests
+    @Test
+    public void parseInt_ValidInput_ReturnsValue() {
+        assertThat(PrimitiveParsers.parseInt("42")).isEqualTo(OptionalInt.of(42));
+        assertThat(PrimitiveParsers.parseInt("+7")).isEqualTo(OptionalInt.of(7));
+        assertThat(PrimitiveParsers.parseInt(" \t-100\n")).isEqualTo(OptionalInt.of(-100));
+        assertThat(PrimitiveParsers.parseInt("2147483647")).isEqualTo(OptionalInt.of(Integer.MAX_VALUE));
+        assertThat(PrimitiveParsers.parseInt("-2147483648")).isEqualTo(OptionalInt.of(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void parseInt_InvalidInput_ReturnsEmpty() {
+        assertThat(PrimitiveParsers.parseInt(null)).isEmpty();
+        assertThat(PrimitiveParsers.parseInt("")).isEmpty();
+        assertThat(PrimitiveParsers.parseInt("   ")).isEmpty();
+        assertThat(PrimitiveParsers.parseInt("-")).isEmpty();
+        assertThat(PrimitiveParsers.parseInt("12.34")).isEmpty();
+        assertThat(PrimitiveParsers.parseInt("1 2")).isEmpty();
+        assertThat(PrimitiveParsers.parseInt("2147483648")).isEmpty();
+        assertThat(PrimitiveParsers.parseInt("-2147483649")).isEmpty();
+    }
+
+    // parseShort() and parseByte() tests
+    @Test
+    public void parseShortAndByte_CheckRange() {
+        assertThat(PrimitiveParsers.parseShort("-32768")).isEqualTo(OptionalInt.of(Short.MIN_VALUE));
+        assertThat(PrimitiveParsers.parseShort("32768")).isEmpty();
+        assertThat(PrimitiveParsers.parseByte(" 127 ")).isEqualTo(OptionalInt.of(Byte.MAX_VALUE));
+        assertThat(PrimitiveParsers.parseByte("128")).isEmpty();
+    }
+
+    // parseLong() tests
+    @Test
+    public void parseLong_Extremes_ReturnsValue() {
+        assertThat(PrimitiveParsers.parseLong("9223372036854775807")).isEqualTo(OptionalLong.of(Long.MAX_VALUE));
+        assertThat(PrimitiveParsers.parseLong("-9223372036854775808")).isEqualTo(OptionalLong.of(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void parseLong_Overflow_ReturnsEmpty() {
+        assertThat(PrimitiveParsers.parseLong("9223372036854775808")).isEmpty();
+        assertThat(PrimitiveParsers.parseLong("-9223372036854775809")).isEmpty();
+        assertThat(PrimitiveParsers.parseLong("99999999999999999999")).isEmpty();
+    }
+
+    // parseDouble() tests
+    @Test
+    public void parseDouble_MatchesJdk() {
+        String[] values = {
+            "0", "-0", "3.14", " 2.5 ", ".5", "1.", "1e10", "1E-5", "+6.02e23", "1.0f", "2d",
+            "0.1", "0.30000000000000004", "9007199254740993", "123456789012345678901234567890",
+            "1.7976931348623157e308", "4.9e-324", "1e400", "NaN", "-Infinity", "0x1p3"
+        };
+        for (String value : values) {
+            assertThat(PrimitiveParsers.parseDouble(value))
+                    .as(value)
+                    .isEqualTo(OptionalDouble.of(Double.parseDouble(value.trim())));
+        }
+    }
+
+    @Test
+    public void parseDouble_InvalidInput_ReturnsEmpty() {
+        String[] values = {null, "", " ", ".", "-", "e5", "1e", "1e+", "1.2.3", "1,5", "abc", "0xZ", "Infinityx"};
+        for (String value : values) {
+            assertThat(PrimitiveParsers.parseDouble(value)).as(String.valueOf(value)).isEmpty();
+        }
+    }
+
+    // parseBoolean() tests
+    @Test
+    public void parseBoolean_RecognizedValues_IgnoreCaseAndWhitespace() {
+        assertThat(PrimitiveParsers.parseBoolean(" TRUE ")).hasValue(true);
+        assertThat(PrimitiveParsers.parseBoolean("Yes")).hasValue(true);
+        assertThat(PrimitiveParsers.parseBoolean("1")).hasValue(true);
+        assertThat(PrimitiveParsers.parseBoolean("fAlSe")).hasValue(false);
+        assertThat(PrimitiveParsers.parseBoolean("NO")).hasValue(false);
+        assertThat(PrimitiveParsers.parseBoolean("0")).hasValue(false);
+    }
+
+    @Test
+    public void parseBoolean_UnrecognizedValues_ReturnEmpty() {
+        assertThat(PrimitiveParsers.parseBoolean(null)).isEmpty();
+        assertThat(PrimitiveParsers.parseBoolean("maybe")).isEmpty();
+        assertThat(PrimitiveParsers.parseBoolean("2")).isEmpty();
+        assertThat(PrimitiveParsers.parseBoolean("tru")).isEmpty();
+        assertThat(PrimitiveParsers.parseBoolean("yess")).isEmpty();
+    }
+
+    @Test
+    public void parseBoolean_ReturnsSharedInstances() {
+        Optional<Boolean> first = PrimitiveParsers.parseBoolean("true");
+        Optional<Boolean> second = PrimitiveParsers.parseBoolean("yes");
+
+        assertThat(first).isSameAs(second);
+    }
+}
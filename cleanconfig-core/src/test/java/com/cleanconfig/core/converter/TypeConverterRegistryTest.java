@@ -301,6 +301,19 @@ public class TypeConverterRegistryTest {
         assertThat(result.get().value).isEqualTo("test");
     }
 
+    @Test
+    public void getConverter_PrimitiveTypes_ConvertWithoutBoxing() {
+        IntTypeConverter ints = (IntTypeConverter) registry.getConverter(Integer.class).get();
+        LongTypeConverter longs = (LongTypeConverter) registry.getConverter(Long.class).get();
+        DoubleTypeConverter doubles = (DoubleTypeConverter) registry.getConverter(Double.class).get();
+
+        assertThat(ints.convertToInt(" 8080 ").getAsInt()).isEqualTo(8080);
+        assertThat(ints.convertToInt("abc")).isEmpty();
+        assertThat(longs.convertToLong("9007199254740993").getAsLong()).isEqualTo(9007199254740993L);
+        assertThat(doubles.convertToDouble("0.25").getAsDouble()).isEqualTo(0.25);
+        assertThat(ints.getTargetType()).isEqualTo(Integer.class);
+    }
+
     @Test
     public void getInstance_ReturnsSameInstance() {
         TypeConverterRegistry instance1 = TypeConverterRegistry.getInstance();
@@ -0,0 +1,244 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.ConditionalDefaultValue;
+import com.cleanconfig.core.DefaultApplicationResult;
+import com.cleanconfig.core.OverlayPropertyMap;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.PropertyRegistryBuilder;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CompiledDefaultValueApplier}.
+ */
+public class CompiledDefaultValueApplierTest {
+
+    /**
+     * Registers "pool.max" before "pool.min", whose default it reads.
+     */
+    private static PropertyRegistry poolRegistry(boolean declareDependency) {
+        PropertyDefinition<Integer> poolMax = PropertyDefinition.builder(Integer.class)
+                .name("pool.max")
+                .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                        ctx.getTypedProperty("pool.min", Integer.class).map(min -> min * 4)))
+                .dependsOnForValidation(declareDependency ? new String[] {"pool.min"} : new String[0])
+                .build();
+        PropertyDefinition<Integer> poolMin = PropertyDefinition.builder(Integer.class)
+                .name("pool.min")
+                .defaultValue(ConditionalDefaultValue.computed(ctx -> Optional.of(5)))
+                .build();
+        return PropertyRegistry.builder()
+                .register(poolMax)
+                .register(poolMin)
+                .build();
+    }
+
+    @Test
+    public void constructor_NullRegistry_ThrowsException() {
+        assertThatThrownBy(() -> new CompiledDefaultValueApplier(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Property registry cannot be null");
+    }
+
+    @Test
+    public void applyDefaults_StaticDefaults_AppliedWithoutOverridingUserValues() {
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(String.class).name("host").defaultValue("localhost").build())
+                .register(PropertyDefinition.builder(Integer.class).name("port").defaultValue(8080).build())
+                .register(PropertyDefinition.builder(String.class).name("name").build())
+                .build();
+        Map<String, String> userProperties = new HashMap<>();
+        userProperties.put("host", "example.com");
+
+        DefaultApplicationResult result = new CompiledDefaultValueApplier(registry).applyDefaults(userProperties);
+
+        assertThat(result.getPropertiesWithDefaults())
+                .containsEntry("host", "example.com")
+                .containsEntry("port", "8080")
+                .doesNotContainKey("name");
+        assertThat(result.getApplicationInfo().getAppliedDefaultsCount()).isEqualTo(1);
+        assertThat(result.getApplicationInfo().wasDefaultApplied("host")).isFalse();
+    }
+
+    @Test
+    public void applyDefaults_HashMapUserProperties_LayersDefaultsWithoutCopying() {
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Integer.class).name("port").defaultValue(8080).build())
+                .build();
+        Map<String, String> userProperties = new HashMap<>();
+        userProperties.put("host", "example.com");
+
+        DefaultApplicationResult result = new CompiledDefaultValueApplier(registry).applyDefaults(userProperties);
+
+        OverlayPropertyMap properties = (OverlayPropertyMap) result.getPropertiesWithDefaults();
+        assertThat(properties.getBase()).isSameAs(userProperties);
+        assertThat(properties.getOverlay()).containsOnlyKeys("port");
+    }
+
+    @Test
+    public void applyDefaults_DeclaredDependencyRegisteredLater_EvaluatesDependencyFirst() {
+        DefaultApplicationResult result = new CompiledDefaultValueApplier(poolRegistry(true))
+                .applyDefaults(new HashMap<>());
+
+        assertThat(result.getPropertiesWithDefaults())
+                .containsEntry("pool.min", "5")
+                .containsEntry("pool.max", "20");
+    }
+
+    @Test
+    public void applyDefaults_ObservedDependency_EvaluatesDependencyFirst() {
+        PropertyRegistry registry = poolRegistry(false);
+        ObservedDependencyGraph observed = new DependencyTracer(registry).trace(new HashMap<>());
+
+        DefaultApplicationResult result = new CompiledDefaultValueApplier(
+                registry, TypeConverterRegistry.getInstance(), observed, null)
+                .applyDefaults(new HashMap<>());
+
+        assertThat(result.getPropertiesWithDefaults()).containsEntry("pool.max", "20");
+    }
+
+    @Test
+    public void applyDefaults_UndeclaredDependencyRegisteredFirst_IsSeenByDependent() {
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(String.class)
+                        .name("env")
+                        .defaultValue(ConditionalDefaultValue.computed(ctx -> Optional.of("prod")))
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("url")
+                        .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                                ctx.getProperty("env").map(env -> "https://" + env)))
+                        .build())
+                .build();
+
+        DefaultApplicationResult compiled = new CompiledDefaultValueApplier(registry)
+                .applyDefaults(new HashMap<>());
+        DefaultApplicationResult reference = new DefaultValueApplierImpl(registry)
+                .applyDefaults(new HashMap<>());
+
+        assertThat(compiled.getPropertiesWithDefaults())
+                .containsEntry("env", "prod")
+                .containsEntry("url", "https://prod");
+        assertThat(compiled.getPropertiesWithDefaults()).isEqualTo(reference.getPropertiesWithDefaults());
+    }
+
+    @Test
+    public void applyDefaults_UserValueOfDependency_IsSeenByDependent() {
+        Map<String, String> userProperties = new HashMap<>();
+        userProperties.put("pool.min", "2");
+
+        DefaultApplicationResult result = new CompiledDefaultValueApplier(poolRegistry(true))
+                .applyDefaults(userProperties);
+
+        assertThat(result.getPropertiesWithDefaults()).containsEntry("pool.max", "8");
+        assertThat(result.getApplicationInfo().wasDefaultApplied("pool.min")).isFalse();
+    }
+
+    @Test
+    public void applyDefaults_ReportsDefaultsInRegistrationOrder() {
+        DefaultApplicationResult result = new CompiledDefaultValueApplier(poolRegistry(true))
+                .applyDefaults(new HashMap<>());
+
+        assertThat(result.getApplicationInfo().getAllAppliedDefaults().keySet())
+                .containsExactly("pool.max", "pool.min");
+    }
+
+    @Test
+    public void applyDefaults_WithExecutor_MatchesSequentialResult() {
+        PropertyDefinition<String> environment = PropertyDefinition.builder(String.class)
+                .name("environment")
+                .defaultValue("dev")
+                .build();
+        PropertyRegistryBuilder builder = PropertyRegistry.builder().register(environment);
+        for (int i = 0; i < 50; i++) {
+            int n = i;
+            builder.register(PropertyDefinition.builder(String.class)
+                    .name("service." + i + ".url")
+                    .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                            ctx.getProperty("environment").map(env -> "https://" + env + "/" + n)))
+                    .dependsOnForValidation("environment")
+                    .build());
+        }
+        PropertyRegistry registry = builder.build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            DefaultApplicationResult parallel = new CompiledDefaultValueApplier(
+                    registry, TypeConverterRegistry.getInstance(),
+                    new DependencyTracer(registry).trace(new HashMap<>()), executor)
+                    .applyDefaults(new HashMap<>());
+            DefaultApplicationResult sequential = new CompiledDefaultValueApplier(registry)
+                    .applyDefaults(new HashMap<>());
+
+            assertThat(parallel.getPropertiesWithDefaults()).isEqualTo(sequential.getPropertiesWithDefaults());
+            assertThat(parallel.getPropertiesWithDefaults()).containsEntry("service.7.url", "https://dev/7");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void applyDefaults_ObservedCycle_AppliesInRegistrationOrder() {
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(String.class)
+                        .name("a")
+                        .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                                Optional.of(ctx.getProperty("b").orElse("none"))))
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("b")
+                        .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                                Optional.of("b:" + ctx.getProperty("a").orElse("none"))))
+                        .build())
+                .build();
+        ObservedDependencyGraph observed = new DependencyTracer(registry).trace(new HashMap<>());
+
+        DefaultApplicationResult result = new CompiledDefaultValueApplier(
+                registry, TypeConverterRegistry.getInstance(), observed, null)
+                .applyDefaults(new HashMap<>());
+
+        assertThat(result.getPropertiesWithDefaults())
+                .containsEntry("a", "none")
+                .containsEntry("b", "b:none");
+    }
+
+    @Test
+    public void applyDefaults_ObservedCycleRegisteredAfterDependent_EvaluatesCycleFirst() {
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(String.class)
+                        .name("a")
+                        .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                                Optional.of("a:" + ctx.getProperty("b").orElse("none"))))
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("b")
+                        .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                                Optional.of("b:" + ctx.getProperty("c").orElse("none"))))
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("c")
+                        .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                                Optional.of("c:" + ctx.getProperty("b").orElse("none"))))
+                        .build())
+                .build();
+        ObservedDependencyGraph observed = new DependencyTracer(registry).trace(new HashMap<>());
+
+        DefaultApplicationResult result = new CompiledDefaultValueApplier(
+                registry, TypeConverterRegistry.getInstance(), observed, null)
+                .applyDefaults(new HashMap<>());
+
+        assertThat(result.getPropertiesWithDefaults())
+                .containsEntry("b", "b:none")
+                .containsEntry("c", "c:b:none")
+                .containsEntry("a", "a:b:none");
+    }
+}
@@ -0,0 +1,348 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyKey;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.cache.PropertyResultCache;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.PropertyGroup;
+import com.cleanconfig.core.validation.IntValidationRule;
+import com.cleanconfig.core.validation.Rules;
+import com.cleanconfig.core.validation.ValidationError;
+import com.cleanconfig.core.validation.ValidationResult;
+import com.cleanconfig.core.validation.ValidationRule;
+import com.cleanconfig.core.validation.multiproperty.NumericRelationshipRules;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CompiledPropertyValidator}.
+ */
+public class CompiledPropertyValidatorTest {
+
+    private PropertyRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(String.class)
+                        .name("app.name")
+                        .required(true)
+                        .validationRule(Rules.notBlank())
+                        .build())
+                .register(PropertyDefinition.builder(Integer.class)
+                        .name("pool.min")
+                        .validationRule(Rules.integerBetween(1, 100))
+                        .build())
+                .register(PropertyDefinition.builder(Integer.class)
+                        .name("pool.max")
+                        .validationRule(Rules.integerBetween(1, 100))
+                        .dependsOnForValidation("pool.min")
+                        .build())
+                .register(PropertyDefinition.builder(Boolean.class)
+                        .name("feature.enabled")
+                        .build())
+                .registerGroup(PropertyGroup.builder("pool")
+                        .addProperties("pool.min", "pool.max")
+                        .addRule(NumericRelationshipRules.lessThan("pool.min", "pool.max", Integer.class))
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void constructor_NullRegistry_ThrowsException() {
+        assertThatThrownBy(() -> new CompiledPropertyValidator(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Property registry cannot be null");
+    }
+
+    @Test
+    public void constructor_NullConverterRegistry_ThrowsException() {
+        assertThatThrownBy(() -> new CompiledPropertyValidator(registry, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Converter registry cannot be null");
+    }
+
+    @Test
+    public void validate_AllValid_ReturnsSuccess() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("app.name", "demo");
+        properties.put("pool.min", "5");
+        properties.put("pool.max", "10");
+        properties.put("feature.enabled", "true");
+
+        ValidationResult result = new CompiledPropertyValidator(registry).validate(properties);
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result).isSameAs(ValidationResult.success());
+    }
+
+    @Test
+    public void validate_MixedErrors_MatchesDefaultValidator() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("pool.min", "50");
+        properties.put("pool.max", "500");
+        properties.put("feature.enabled", "maybe");
+        properties.put("unknown.key", "x");
+
+        ValidationResult compiled = new CompiledPropertyValidator(registry).validate(properties);
+        ValidationResult reference = new DefaultPropertyValidator(registry).validate(properties);
+
+        assertThat(compiled.isValid()).isFalse();
+        assertThat(compiled.getErrors()).containsExactlyElementsOf(reference.getErrors());
+    }
+
+    @Test
+    public void validate_GroupRuleFails_MatchesDefaultValidator() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("app.name", "demo");
+        properties.put("pool.min", "20");
+        properties.put("pool.max", "10");
+
+        ValidationResult compiled = new CompiledPropertyValidator(registry).validate(properties);
+        ValidationResult reference = new DefaultPropertyValidator(registry).validate(properties);
+
+        assertThat(compiled.getErrors()).hasSize(1);
+        assertThat(compiled.getErrors()).containsExactlyElementsOf(reference.getErrors());
+    }
+
+    @Test
+    public void validateProperty_UnknownProperty_ReturnsFailure() {
+        ValidationResult result = new CompiledPropertyValidator(registry)
+                .validateProperty("missing", "value", new HashMap<>());
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors().get(0).getErrorMessage()).isEqualTo("Unknown property");
+    }
+
+    @Test
+    public void validateProperty_ConversionFailure_ReturnsFailure() {
+        ValidationResult result = new CompiledPropertyValidator(registry)
+                .validateProperty("pool.min", "abc", new HashMap<>());
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors().get(0).getErrorMessage()).isEqualTo("Type conversion failed");
+        assertThat(result.getErrors().get(0).getExpectedValue()).isEqualTo("Value of type Integer");
+    }
+
+    @Test
+    public void validateIncremental_ChangedKeyFixed_RemovesItsError() {
+        CompiledPropertyValidator validator = new CompiledPropertyValidator(registry);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("app.name", "demo");
+        properties.put("feature.enabled", "maybe");
+        ValidationResult previous = validator.validate(properties);
+
+        properties.put("feature.enabled", "true");
+        ValidationResult result = validator.validateIncremental(
+                previous, properties, Collections.singleton("feature.enabled"));
+
+        assertThat(previous.isValid()).isFalse();
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    public void validateIncremental_UnaffectedErrors_AreRetained() {
+        CompiledPropertyValidator validator = new CompiledPropertyValidator(registry);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("feature.enabled", "maybe");
+        ValidationResult previous = validator.validate(properties);
+
+        properties.put("unknown.key", "x");
+        ValidationResult result = validator.validateIncremental(
+                previous, properties, Collections.singleton("unknown.key"));
+
+        assertThat(result.getErrors()).containsExactlyInAnyOrderElementsOf(
+                validator.validate(properties).getErrors());
+        assertThat(result.getErrors()).hasSize(3);
+    }
+
+    @Test
+    public void validateIncremental_GroupMemberChanged_RevalidatesGroup() {
+        CompiledPropertyValidator validator = new CompiledPropertyValidator(registry);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("app.name", "demo");
+        properties.put("pool.min", "5");
+        properties.put("pool.max", "10");
+        ValidationResult previous = validator.validate(properties);
+
+        properties.put("pool.min", "20");
+        ValidationResult result = validator.validateIncremental(
+                previous, properties, Collections.singleton("pool.min"));
+
+        assertThat(previous.isValid()).isTrue();
+        assertThat(result.getErrors()).containsExactlyInAnyOrderElementsOf(
+                validator.validate(properties).getErrors());
+        assertThat(result.isValid()).isFalse();
+    }
+
+    @Test
+    public void validateIncremental_GroupFailingBefore_ReplacesItsErrors() {
+        PropertyRegistry sizedRegistry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Integer.class).name("pool.min").build())
+                .register(PropertyDefinition.builder(Integer.class).name("pool.max").build())
+                .registerGroup(PropertyGroup.builder("pool")
+                        .addProperties("pool.min", "pool.max")
+                        .addRule((names, context) -> {
+                            int min = context.getTypedProperty("pool.min", Integer.class).orElse(0);
+                            int max = context.getTypedProperty("pool.max", Integer.class).orElse(0);
+                            // Reported against a name outside the group
+                            return min <= max
+                                    ? ValidationResult.success()
+                                    : ValidationResult.failure(ValidationError.builder()
+                                            .propertyName("pool.size")
+                                            .errorMessage("Pool minimum exceeds maximum")
+                                            .build());
+                        })
+                        .build())
+                .build();
+        CompiledPropertyValidator validator = new CompiledPropertyValidator(sizedRegistry);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("pool.min", "20");
+        properties.put("pool.max", "10");
+        ValidationResult previous = validator.validate(properties);
+
+        properties.put("pool.max", "15");
+        ValidationResult stillFailing = validator.validateIncremental(
+                previous, properties, Collections.singleton("pool.max"));
+        properties.put("pool.max", "30");
+        ValidationResult fixed = validator.validateIncremental(
+                stillFailing, properties, Collections.singleton("pool.max"));
+
+        assertThat(previous.getErrors()).hasSize(1);
+        assertThat(previous.getErrors().get(0).getGroupName()).isEqualTo("pool");
+        assertThat(stillFailing.getErrors()).hasSize(1);
+        assertThat(fixed.isValid()).isTrue();
+    }
+
+    @Test
+    public void validateIncremental_RemovedRequiredKey_ReportsMissing() {
+        CompiledPropertyValidator validator = new CompiledPropertyValidator(registry);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("app.name", "demo");
+        ValidationResult previous = validator.validate(properties);
+
+        properties.remove("app.name");
+        ValidationResult result = validator.validateIncremental(
+                previous, properties, new HashSet<>(Collections.singleton("app.name")));
+
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getErrorMessage()).isEqualTo("Required property is missing");
+    }
+
+    @Test
+    public void validate_WithResultCache_RunsContextFreeRuleOncePerValue() {
+        AtomicInteger contextFreeCalls = new AtomicInteger();
+        AtomicInteger contextualCalls = new AtomicInteger();
+        PropertyRegistry cachedRegistry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(String.class)
+                        .name("tenant.region")
+                        .validationRule(ValidationRule.contextFree((name, value, ctx) -> {
+                            contextFreeCalls.incrementAndGet();
+                            return Rules.notBlank().validate(name, value, ctx);
+                        }))
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("tenant.id")
+                        .validationRule((name, value, ctx) -> {
+                            contextualCalls.incrementAndGet();
+                            return ValidationResult.success();
+                        })
+                        .build())
+                .build();
+        CompiledPropertyValidator validator = new CompiledPropertyValidator(
+                cachedRegistry, TypeConverterRegistry.getInstance(), new PropertyResultCache());
+
+        for (int tenant = 0; tenant < 3; tenant++) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put("tenant.region", "eu-west-1");
+            properties.put("tenant.id", "tenant-" + tenant);
+            assertThat(validator.validate(properties).isValid()).isTrue();
+        }
+
+        assertThat(contextFreeCalls.get()).isEqualTo(1);
+        assertThat(contextualCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void validate_PrimitiveRule_ValidatesWithoutBoxing() {
+        AtomicInteger boxedCalls = new AtomicInteger();
+        IntValidationRule port = new IntValidationRule() {
+            @Override
+            public ValidationResult validateInt(String propertyName, int value, PropertyContext context) {
+                return Rules.port().validateInt(propertyName, value, context);
+            }
+
+            @Override
+            public ValidationResult validate(String propertyName, Integer value, PropertyContext context) {
+                boxedCalls.incrementAndGet();
+                return IntValidationRule.super.validate(propertyName, value, context);
+            }
+        };
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Integer.class)
+                        .name("server.port")
+                        .validationRule(port)
+                        .build())
+                .build();
+        CompiledPropertyValidator validator = new CompiledPropertyValidator(registry);
+        Map<String, String> properties = new HashMap<>();
+
+        properties.put("server.port", " 8080 ");
+        assertThat(validator.validate(properties).isValid()).isTrue();
+
+        properties.put("server.port", "70000");
+        assertThat(validator.validate(properties).isValid()).isFalse();
+
+        properties.put("server.port", "http");
+        ValidationResult result = validator.validate(properties);
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getErrorMessage()).isEqualTo("Type conversion failed");
+
+        assertThat(boxedCalls.get()).isZero();
+    }
+
+    @Test
+    public void validate_RuleReadsByKey_SeesValues() {
+        AtomicReference<PropertyKey> minKey = new AtomicReference<>();
+        PropertyRegistry keyedRegistry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Integer.class)
+                        .name("pool.min")
+                        .build())
+                .register(PropertyDefinition.builder(Integer.class)
+                        .name("pool.max")
+                        .validationRule((name, value, ctx) -> ctx.getTypedPropertyByKey(minKey.get(), Integer.class)
+                                .filter(min -> value < min)
+                                .map(min -> ValidationResult.failure(ValidationError.builder()
+                                        .propertyName(name)
+                                        .errorMessage("Below pool.min")
+                                        .build()))
+                                .orElse(ValidationResult.success()))
+                        .dependsOnForValidation("pool.min")
+                        .build())
+                .build();
+        minKey.set(keyedRegistry.getKey("pool.min").get());
+        CompiledPropertyValidator validator = new CompiledPropertyValidator(keyedRegistry);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("pool.min", "10");
+
+        properties.put("pool.max", "20");
+        assertThat(validator.validate(properties).isValid()).isTrue();
+
+        properties.put("pool.max", "5");
+        ValidationResult result = validator.validate(properties);
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getErrorMessage()).isEqualTo("Below pool.min");
+    }
+}
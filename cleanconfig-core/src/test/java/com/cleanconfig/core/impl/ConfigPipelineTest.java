@@ -0,0 +1,172 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.ConditionalDefaultValue;
+import com.cleanconfig.core.ConfigSnapshot;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.Rules;
+import com.cleanconfig.core.validation.ValidationError;
+import com.cleanconfig.core.validation.ValidationResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ConfigPipeline}.
+ */
+public class ConfigPipelineTest {
+
+    /**
+     * Type with a counting converter, to observe how often values are converted.
+     */
+    private static final class Endpoint {
+        private final String url;
+
+        Endpoint(String url) {
+            this.url = url;
+        }
+    }
+
+    private static final AtomicInteger ENDPOINT_CONVERSIONS = new AtomicInteger();
+
+    static {
+        TypeConverterRegistry.getInstance().register(Endpoint.class, value -> {
+            ENDPOINT_CONVERSIONS.incrementAndGet();
+            return value.startsWith("http") ? Optional.of(new Endpoint(value)) : Optional.empty();
+        });
+    }
+
+    private PropertyDefinition<Integer> portProperty;
+    private PropertyDefinition<Integer> adminPortProperty;
+    private PropertyDefinition<Endpoint> endpointProperty;
+    private PropertyRegistry registry;
+
+    @Before
+    public void setUp() {
+        ENDPOINT_CONVERSIONS.set(0);
+        portProperty = PropertyDefinition.builder(Integer.class)
+                .name("server.port")
+                .defaultValue(8080)
+                .validationRule(Rules.port())
+                .build();
+        adminPortProperty = PropertyDefinition.builder(Integer.class)
+                .name("admin.port")
+                .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                        ctx.getTypedProperty("server.port", Integer.class).map(port -> port + 1)))
+                .dependsOnForValidation("server.port")
+                .build();
+        endpointProperty = PropertyDefinition.builder(Endpoint.class)
+                .name("service.endpoint")
+                .validationRule((name, value, ctx) -> value.url.endsWith("/")
+                        ? ValidationResult.success()
+                        : ValidationResult.failure(ValidationError.builder()
+                                .propertyName(name)
+                                .errorMessage("Endpoint must end with /")
+                                .build()))
+                .build();
+        registry = PropertyRegistry.builder()
+                .register(adminPortProperty)
+                .register(portProperty)
+                .register(endpointProperty)
+                .build();
+    }
+
+    @Test
+    public void process_ValidConfig_AppliesDefaultsValidatesAndSnapshots() {
+        Map<String, String> userProperties = new HashMap<>();
+        userProperties.put("service.endpoint", "https://example.com/");
+
+        ConfigPipeline.Result result = new ConfigPipeline(registry).process(userProperties);
+
+        assertThat(result.getValidationResult().isValid()).isTrue();
+        assertThat(result.getDefaultApplicationResult().getPropertiesWithDefaults())
+                .containsEntry("server.port", "8080")
+                .containsEntry("admin.port", "8081");
+        ConfigSnapshot snapshot = result.getSnapshot().orElseThrow(AssertionError::new);
+        assertThat(snapshot.getInt(portProperty)).isEqualTo(8080);
+        assertThat(snapshot.getInt(adminPortProperty)).isEqualTo(8081);
+        assertThat(snapshot.get(endpointProperty).map(endpoint -> endpoint.url)).hasValue("https://example.com/");
+    }
+
+    @Test
+    public void process_ValidConfig_ConvertsEachValueOnce() {
+        Map<String, String> userProperties = new HashMap<>();
+        userProperties.put("service.endpoint", "https://example.com/");
+
+        new ConfigPipeline(registry).process(userProperties);
+
+        assertThat(ENDPOINT_CONVERSIONS.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void process_InvalidConfig_ReturnsErrorsWithoutSnapshot() {
+        Map<String, String> userProperties = new HashMap<>();
+        userProperties.put("server.port", "99999");
+        userProperties.put("service.endpoint", "https://example.com");
+        userProperties.put("unknown.key", "value");
+
+        ConfigPipeline.Result result = new ConfigPipeline(registry).process(userProperties);
+
+        assertThat(result.getValidationResult().isValid()).isFalse();
+        assertThat(result.getValidationResult().getErrors().stream()
+                .map(ValidationError::getPropertyName)
+                .collect(Collectors.toList()))
+                .containsExactly("server.port", "service.endpoint", "unknown.key");
+        assertThat(result.getSnapshot()).isEmpty();
+    }
+
+    @Test
+    public void process_MatchesSeparateSteps() {
+        Map<String, String> userProperties = new HashMap<>();
+        userProperties.put("server.port", "9000");
+        userProperties.put("service.endpoint", "ftp://example.com");
+
+        ConfigPipeline.Result result = new ConfigPipeline(registry).process(userProperties);
+        Map<String, String> withDefaults = new CompiledDefaultValueApplier(registry)
+                .applyDefaults(userProperties)
+                .getPropertiesWithDefaults();
+        ValidationResult expected = new CompiledPropertyValidator(registry).validate(withDefaults);
+
+        assertThat(result.getDefaultApplicationResult().getPropertiesWithDefaults()).isEqualTo(withDefaults);
+        assertThat(result.getValidationResult().getErrors()).isEqualTo(expected.getErrors());
+    }
+
+    @Test
+    public void process_UndeclaredDependencyRegisteredFirst_AppliesBothDefaults() {
+        PropertyRegistry undeclared = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(String.class)
+                        .name("env")
+                        .defaultValue(ConditionalDefaultValue.computed(ctx -> Optional.of("prod")))
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("url")
+                        .defaultValue(ConditionalDefaultValue.computed(ctx ->
+                                ctx.getProperty("env").map(env -> "https://" + env)))
+                        .build())
+                .build();
+
+        ConfigPipeline.Result result = new ConfigPipeline(undeclared).process(new HashMap<>());
+
+        assertThat(result.getDefaultApplicationResult().getPropertiesWithDefaults())
+                .containsEntry("env", "prod")
+                .containsEntry("url", "https://prod");
+    }
+
+    @Test
+    public void process_NullProperties_ThrowsException() {
+        ConfigPipeline pipeline = new ConfigPipeline(registry);
+
+        assertThatThrownBy(() -> pipeline.process(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("User properties cannot be null");
+    }
+}
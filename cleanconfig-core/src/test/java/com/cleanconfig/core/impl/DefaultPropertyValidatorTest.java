@@ -1,14 +1,18 @@
 package com.cleanconfig.core.impl;
 
+import com.cleanconfig.core.PropertyContext;
 import com.cleanconfig.core.PropertyDefinition;
 import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.validation.IntValidationRule;
 import com.cleanconfig.core.validation.Rules;
 import com.cleanconfig.core.validation.ValidationResult;
 import com.cleanconfig.core.validation.ValidationRule;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -411,4 +415,66 @@ public class DefaultPropertyValidatorTest {
         assertThat(result.isValid()).isFalse();
         assertThat(result.getErrors()).hasSize(1);
     }
+
+    @Test
+    public void validateIncremental_FallsBackToFullValidation() {
+        PropertyDefinition<Integer> property = PropertyDefinition.builder(Integer.class)
+                .name("test.property")
+                .validationRule(Rules.positive())
+                .build();
+
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(property)
+                .build();
+
+        DefaultPropertyValidator validator = new DefaultPropertyValidator(registry);
+        Map<String, String> properties = new HashMap<>();
+        properties.put("test.property", "-5");
+        ValidationResult previous = validator.validate(properties);
+
+        properties.put("test.property", "5");
+        ValidationResult result = validator.validateIncremental(
+                previous, properties, Collections.singleton("test.property"));
+
+        assertThat(previous.isValid()).isFalse();
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    public void validate_PrimitiveRule_ValidatesWithoutBoxing() {
+        AtomicInteger boxedCalls = new AtomicInteger();
+        IntValidationRule port = new IntValidationRule() {
+            @Override
+            public ValidationResult validateInt(String propertyName, int value, PropertyContext context) {
+                return Rules.port().validateInt(propertyName, value, context);
+            }
+
+            @Override
+            public ValidationResult validate(String propertyName, Integer value, PropertyContext context) {
+                boxedCalls.incrementAndGet();
+                return IntValidationRule.super.validate(propertyName, value, context);
+            }
+        };
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Integer.class)
+                        .name("server.port")
+                        .validationRule(port)
+                        .build())
+                .build();
+        DefaultPropertyValidator validator = new DefaultPropertyValidator(registry);
+        Map<String, String> properties = new HashMap<>();
+
+        properties.put("server.port", " 8080 ");
+        assertThat(validator.validate(properties).isValid()).isTrue();
+
+        properties.put("server.port", "70000");
+        assertThat(validator.validate(properties).isValid()).isFalse();
+
+        properties.put("server.port", "http");
+        ValidationResult result = validator.validate(properties);
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getErrorMessage()).isEqualTo("Type conversion failed");
+
+        assertThat(boxedCalls.get()).isZero();
+    }
 }
@@ -3,7 +3,9 @@ package com.cleanconfig.core.impl;
 import com.cleanconfig.core.ConditionalDefaultValue;
 import com.cleanconfig.core.DefaultApplicationInfo;
 import com.cleanconfig.core.DefaultApplicationResult;
+import com.cleanconfig.core.OverlayPropertyMap;
 import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyMap;
 import com.cleanconfig.core.PropertyRegistry;
 import org.junit.Before;
 import org.junit.Test;
@@ -241,4 +243,32 @@ public class DefaultValueApplierImplTest {
         assertThat(info.wasDefaultApplied("prop2")).isTrue();
         assertThat(info.wasDefaultApplied("prop3")).isFalse();
     }
+
+    @Test
+    public void applyDefaults_PropertyMapUserProperties_LayersDefaultsWithoutCopying() {
+        PropertyMap userProperties = PropertyMap.builder().put("prop3", "user-value").build();
+
+        DefaultApplicationResult result = applier.applyDefaults(userProperties);
+
+        assertThat(result.getPropertiesWithDefaults()).isInstanceOf(OverlayPropertyMap.class);
+        OverlayPropertyMap properties = (OverlayPropertyMap) result.getPropertiesWithDefaults();
+        assertThat(properties.getBase()).isSameAs(userProperties);
+        assertThat(properties.getOverlay()).containsOnlyKeys("prop1", "prop2");
+        assertThat(properties.toPropertyMap()).isEqualTo(properties);
+    }
+
+    @Test
+    public void applyDefaults_HashMapUserProperties_LayersDefaultsWithoutCopying() {
+        Map<String, String> userProperties = new HashMap<>();
+        userProperties.put("prop3", "user-value");
+
+        DefaultApplicationResult result = applier.applyDefaults(userProperties);
+
+        OverlayPropertyMap properties = (OverlayPropertyMap) result.getPropertiesWithDefaults();
+        assertThat(properties.getBase()).isSameAs(userProperties);
+        assertThat(properties)
+                .containsEntry("prop1", "default1")
+                .containsEntry("prop3", "user-value")
+                .hasSize(3);
+    }
 }
@@ -0,0 +1,138 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.ConditionalDefaultValue;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.Conditions;
+import com.cleanconfig.core.validation.PropertyGroup;
+import com.cleanconfig.core.validation.Rules;
+import com.cleanconfig.core.validation.ValidationResult;
+import com.cleanconfig.core.validation.multiproperty.ExclusivityRules;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link DependencyTracer}, {@link TracingPropertyContext} and {@link ObservedDependencyGraph}.
+ */
+public class DependencyTracerTest {
+
+    private PropertyRegistry registry;
+    private Map<String, String> properties;
+
+    @Before
+    public void setUp() {
+        registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Boolean.class)
+                        .name("ssl.enabled")
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("ssl.cert")
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("server.scheme")
+                        .validationRule(Rules.notBlank().onlyIf(Conditions.propertyIsTrue("ssl.enabled")))
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("log.level")
+                        .defaultValue(ConditionalDefaultValue.staticValue("INFO")
+                                .when(Conditions.propertyEquals("environment", "dev"), "DEBUG"))
+                        .build())
+                .registerGroup(PropertyGroup.builder("ssl")
+                        .addProperties("ssl.cert", "ssl.enabled")
+                        .addRule(ExclusivityRules.mutuallyExclusive("ssl.cert", "server.scheme"))
+                        .build())
+                .build();
+
+        properties = new HashMap<>();
+        properties.put("ssl.enabled", "true");
+        properties.put("server.scheme", "https");
+    }
+
+    @Test
+    public void tracingContext_RecordsReads() {
+        TracingPropertyContext context = new TracingPropertyContext(
+                new DefaultPropertyContext(properties, TypeConverterRegistry.getInstance()));
+
+        context.getProperty("a");
+        context.getTypedProperty("b", Integer.class);
+        context.hasProperty("c");
+        context.getMetadata("d");
+
+        assertThat(context.getReadProperties()).containsExactly("a", "b", "c");
+        assertThat(context.hasReadAllProperties()).isFalse();
+
+        context.getAllProperties();
+        assertThat(context.hasReadAllProperties()).isTrue();
+    }
+
+    @Test
+    public void tracingContext_NullDelegate_ThrowsException() {
+        assertThatThrownBy(() -> new TracingPropertyContext(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Delegate context cannot be null");
+    }
+
+    @Test
+    public void trace_RecordsUndeclaredRuleReads() {
+        ObservedDependencyGraph graph = new DependencyTracer(registry).trace(properties);
+
+        assertThat(graph.getReads("server.scheme")).containsExactly("ssl.enabled");
+        assertThat(graph.getDependents("ssl.enabled")).containsExactly("server.scheme");
+    }
+
+    @Test
+    public void trace_RecordsDefaultReads() {
+        ObservedDependencyGraph graph = new DependencyTracer(registry).trace(properties);
+
+        assertThat(graph.getReads("log.level")).containsExactly("environment");
+    }
+
+    @Test
+    public void trace_RecordsGroupReads() {
+        ObservedDependencyGraph graph = new DependencyTracer(registry).trace(properties);
+
+        assertThat(graph.getGroupReads("ssl")).contains("ssl.cert", "server.scheme");
+        assertThat(graph.getReadingGroups("server.scheme")).containsExactly("ssl");
+    }
+
+    @Test
+    public void merge_CombinesReads() {
+        DependencyTracer tracer = new DependencyTracer(registry);
+        Map<String, String> other = new HashMap<>();
+        other.put("ssl.enabled", "false");
+
+        ObservedDependencyGraph merged = tracer.trace(other).merge(tracer.trace(properties));
+
+        assertThat(merged.getReads("server.scheme")).containsExactly("ssl.enabled");
+        assertThat(merged.getReads("log.level")).containsExactly("environment");
+    }
+
+    @Test
+    public void validateIncremental_WithObservedGraph_RevalidatesUndeclaredDependents() {
+        CompiledPropertyValidator validator = new CompiledPropertyValidator(registry);
+        properties.put("ssl.enabled", "false");
+        properties.put("server.scheme", " ");
+        ObservedDependencyGraph graph = new DependencyTracer(registry).trace(properties);
+        ValidationResult previous = validator.validate(properties);
+
+        properties.put("ssl.enabled", "true");
+        ValidationResult withoutGraph = validator.validateIncremental(
+                previous, properties, Collections.singleton("ssl.enabled"));
+        ValidationResult withGraph = validator.validateIncremental(
+                previous, properties, Collections.singleton("ssl.enabled"), graph);
+
+        assertThat(previous.isValid()).isTrue();
+        assertThat(withoutGraph.isValid()).isTrue();
+        assertThat(withGraph.getErrors()).containsExactlyInAnyOrderElementsOf(
+                validator.validate(properties).getErrors());
+        assertThat(withGraph.isValid()).isFalse();
+    }
+}
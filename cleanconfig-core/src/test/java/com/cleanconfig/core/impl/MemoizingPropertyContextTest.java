@@ -0,0 +1,212 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyKey;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.PropertyValidator;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.PropertyGroup;
+import com.cleanconfig.core.validation.ValidationResult;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MemoizingPropertyContext}.
+ */
+public class MemoizingPropertyContextTest {
+
+    private static final AtomicInteger CONVERSIONS = new AtomicInteger();
+
+    private Map<String, String> properties;
+    private TypeConverterRegistry converterRegistry;
+
+    @BeforeClass
+    public static void registerConverter() {
+        TypeConverterRegistry.getInstance().register(Amount.class, value -> {
+            CONVERSIONS.incrementAndGet();
+            try {
+                return Optional.of(new Amount(Long.parseLong(value)));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    @Before
+    public void setUp() {
+        CONVERSIONS.set(0);
+        properties = new HashMap<>();
+        properties.put("amount", "42");
+        properties.put("broken", "abc");
+        converterRegistry = TypeConverterRegistry.getInstance();
+    }
+
+    @Test
+    public void getTypedProperty_RepeatedReads_ConvertsOnce() {
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry);
+
+        Optional<Amount> first = context.getTypedProperty("amount", Amount.class);
+        Optional<Amount> second = context.getTypedProperty("amount", Amount.class);
+
+        assertThat(first).isPresent();
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(CONVERSIONS.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getTypedProperty_FailedConversion_IsRemembered() {
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry);
+
+        assertThat(context.getTypedProperty("broken", Amount.class)).isEmpty();
+        assertThat(context.getTypedProperty("broken", Amount.class)).isEmpty();
+        assertThat(CONVERSIONS.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getTypedProperty_DifferentTypes_ConvertsEach() {
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry);
+
+        assertThat(context.getTypedProperty("amount", Amount.class)).isPresent();
+        assertThat(context.getTypedProperty("amount", Integer.class)).contains(42);
+        assertThat(context.getTypedProperty("amount", String.class)).contains("42");
+    }
+
+    @Test
+    public void getTypedPropertyByKey_SharesConversionWithName() {
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Amount.class).name("amount").build())
+                .build();
+        PropertyKey key = registry.getKey("amount").get();
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry);
+
+        Optional<Amount> byKey = context.getTypedPropertyByKey(key, Amount.class);
+        Optional<Amount> byName = context.getTypedProperty("amount", Amount.class);
+
+        assertThat(context.getPropertyByKey(key)).hasValue("42");
+        assertThat(byName.get()).isSameAs(byKey.get());
+        assertThat(CONVERSIONS.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getTypedPropertyByKey_WithPlan_ConvertsOnce() {
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Amount.class).name("amount").build())
+                .build();
+        PropertyKey key = registry.getKey("amount").get();
+        ValidationPlan plan = new ValidationPlan(registry, converterRegistry);
+        MemoizingPropertyContext context = new MemoizingPropertyContext(
+                properties, converterRegistry, plan, plan.values(properties, new ArrayList<>()));
+
+        Optional<Amount> first = context.getTypedPropertyByKey(key, Amount.class);
+        Optional<Amount> second = context.getTypedPropertyByKey(key, Amount.class);
+        Optional<Amount> byName = context.getTypedProperty("amount", Amount.class);
+
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(byName.get()).isSameAs(first.get());
+        assertThat(CONVERSIONS.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void hasPropertyByKey_WithPlan_MatchesName() {
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Amount.class).name("amount").build())
+                .register(PropertyDefinition.builder(String.class).name("currency").build())
+                .register(PropertyDefinition.builder(String.class).name("region").build())
+                .build();
+        properties.put("region", null);
+        ValidationPlan plan = new ValidationPlan(registry, converterRegistry);
+        MemoizingPropertyContext context = new MemoizingPropertyContext(
+                properties, converterRegistry, plan, plan.values(properties, new ArrayList<>()));
+
+        assertThat(context.hasPropertyByKey(registry.getKey("amount").get())).isTrue();
+        assertThat(context.hasPropertyByKey(registry.getKey("currency").get())).isFalse();
+        assertThat(context.hasPropertyByKey(registry.getKey("region").get())).isTrue();
+    }
+
+    @Test
+    public void getTypedProperty_ValueChanged_ConvertsAgain() {
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry);
+        context.getTypedProperty("amount", Amount.class);
+
+        properties.put("amount", "7");
+
+        assertThat(context.getTypedProperty("amount", Amount.class).get().value).isEqualTo(7L);
+        assertThat(CONVERSIONS.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getTypedProperty_PropertyAddedLater_IsConverted() {
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry);
+
+        assertThat(context.getTypedProperty("later", Amount.class)).isEmpty();
+        properties.put("later", "5");
+
+        assertThat(context.getTypedProperty("later", Amount.class)).isPresent();
+    }
+
+    @Test
+    public void convert_SharesResultWithGetTypedProperty() {
+        MemoizingPropertyContext context = new MemoizingPropertyContext(properties, converterRegistry);
+
+        Optional<Amount> converted = context.convert("amount", "42", Amount.class);
+
+        assertThat(context.getTypedProperty("amount", Amount.class).get()).isSameAs(converted.get());
+        assertThat(CONVERSIONS.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void validate_RulesAndGroupsReadingProperty_ConvertOncePerRun() {
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Amount.class)
+                        .name("amount")
+                        .validationRule((name, value, ctx) -> ValidationResult.success())
+                        .build())
+                .register(PropertyDefinition.builder(String.class)
+                        .name("currency")
+                        .validationRule((name, value, ctx) -> {
+                            ctx.getTypedProperty("amount", Amount.class);
+                            return ValidationResult.success();
+                        })
+                        .build())
+                .registerGroup(PropertyGroup.builder("payment")
+                        .addProperties("amount", "currency")
+                        .addRule((names, ctx) -> {
+                            ctx.getTypedProperty("amount", Amount.class);
+                            return ValidationResult.success();
+                        })
+                        .build())
+                .build();
+        Map<String, String> config = new HashMap<>();
+        config.put("amount", "100");
+        config.put("currency", "EUR");
+
+        PropertyValidator[] validators = {
+            new DefaultPropertyValidator(registry),
+            new CompiledPropertyValidator(registry),
+            new ParallelPropertyValidator(registry)
+        };
+        for (PropertyValidator validator : validators) {
+            CONVERSIONS.set(0);
+
+            assertThat(validator.validate(config).isValid()).isTrue();
+            assertThat(CONVERSIONS.get()).isEqualTo(1);
+        }
+    }
+
+    private static final class Amount {
+        private final long value;
+
+        Amount(long value) {
+            this.value = value;
+        }
+    }
+}
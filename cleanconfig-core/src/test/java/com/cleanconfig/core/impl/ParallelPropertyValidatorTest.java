@@ -0,0 +1,127 @@
+package com.cleanconfig.core.impl;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyDefinitionBuilder;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.PropertyRegistryBuilder;
+import com.cleanconfig.core.converter.TypeConverterRegistry;
+import com.cleanconfig.core.validation.PropertyGroup;
+import com.cleanconfig.core.validation.Rules;
+import com.cleanconfig.core.validation.ValidationResult;
+import com.cleanconfig.core.validation.multiproperty.NumericRelationshipRules;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ParallelPropertyValidator}.
+ */
+public class ParallelPropertyValidatorTest {
+
+    private ExecutorService executor;
+    private PropertyRegistry registry;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+
+        PropertyRegistryBuilder builder = PropertyRegistry.builder();
+        for (int i = 0; i < 100; i++) {
+            PropertyDefinitionBuilder<Integer> definition = PropertyDefinition.builder(Integer.class)
+                    .name("prop." + i)
+                    .validationRule(Rules.integerBetween(0, 50))
+                    .required(i % 10 == 0);
+            if (i >= 10) {
+                definition.dependsOnForValidation("prop." + (i / 2));
+            }
+            builder.register(definition.build());
+        }
+        for (int g = 0; g < 20; g++) {
+            builder.registerGroup(PropertyGroup.builder("group." + g)
+                    .addProperties("prop." + g, "prop." + (g + 1))
+                    .addRule(NumericRelationshipRules.lessThan("prop." + g, "prop." + (g + 1), Integer.class))
+                    .build());
+        }
+        registry = builder.build();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void constructor_NullExecutor_ThrowsException() {
+        assertThatThrownBy(() -> new ParallelPropertyValidator(registry, null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Executor cannot be null");
+    }
+
+    @Test
+    public void constructor_NonPositiveBatchSize_ThrowsException() {
+        assertThatThrownBy(() -> new ParallelPropertyValidator(
+                registry, TypeConverterRegistry.getInstance(), executor, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Batch size must be positive");
+    }
+
+    @Test
+    public void validate_AllValid_ReturnsSuccess() {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            properties.put("prop." + i, String.valueOf(Math.min(i, 50)));
+        }
+
+        ValidationResult result = new ParallelPropertyValidator(
+                registry, TypeConverterRegistry.getInstance(), executor, 4).validate(properties);
+
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    public void validate_ManyErrors_MatchesSequentialValidatorOrder() {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < 110; i += 3) {
+            properties.put("prop." + i, i % 9 == 0 ? "not-a-number" : String.valueOf(100 - i));
+        }
+
+        ValidationResult parallel = new ParallelPropertyValidator(
+                registry, TypeConverterRegistry.getInstance(), executor, 4).validate(properties);
+        ValidationResult sequential = new DefaultPropertyValidator(registry).validate(properties);
+
+        assertThat(parallel.isValid()).isFalse();
+        assertThat(parallel.getErrors()).containsExactlyElementsOf(sequential.getErrors());
+    }
+
+    @Test
+    public void validate_RuleThrows_PropagatesOriginalException() {
+        PropertyRegistryBuilder builder = PropertyRegistry.builder();
+        for (int i = 0; i < 10; i++) {
+            builder.register(PropertyDefinition.builder(String.class)
+                    .name("prop." + i)
+                    .validationRule((name, value, context) -> {
+                        throw new IllegalStateException("boom");
+                    })
+                    .build());
+        }
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            properties.put("prop." + i, "value");
+        }
+
+        ParallelPropertyValidator validator = new ParallelPropertyValidator(
+                builder.build(), TypeConverterRegistry.getInstance(), executor, 2);
+
+        assertThatThrownBy(() -> validator.validate(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+}
@@ -0,0 +1,267 @@
+package com.cleanconfig.core.reload;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.validation.Rules;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ConfigFileWatcher}.
+ */
+public class ConfigFileWatcherTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private PropertyDefinition<Integer> portProperty;
+    private PropertyRegistry registry;
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        portProperty = PropertyDefinition.builder(Integer.class)
+                .name("server.port")
+                .defaultValue(8080)
+                .validationRule(Rules.port())
+                .build();
+        registry = PropertyRegistry.builder()
+                .register(portProperty)
+                .register(PropertyDefinition.builder(String.class).name("server.host").build())
+                .build();
+        directory = tempFolder.getRoot().toPath();
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = directory.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static void awaitVersion(ReloadableConfig config, long version) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (config.getVersion() < version && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    public void build_UnknownExtension_ThrowsException() throws IOException {
+        Path file = write("app.yaml", "server.port: 9000");
+
+        assertThatThrownBy(() -> ConfigFileWatcher.builder().file(file).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No loader for file");
+    }
+
+    @Test
+    public void load_SeveralFiles_LaterFilesOverrideEarlierOnes() throws IOException {
+        Path base = write("base.properties", "server.port=9000\nserver.host=base\n");
+        Path overrides = write("overrides.env", "server.port=9001");
+
+        Map<String, String> properties = ConfigFileWatcher.builder()
+                .file(base)
+                .file(overrides)
+                .loader("env", ConfigFileLoader.properties())
+                .build()
+                .load();
+
+        assertThat(properties)
+                .containsEntry("server.port", "9001")
+                .containsEntry("server.host", "base");
+    }
+
+    @Test
+    public void checkNow_NotStarted_ThrowsException() throws IOException {
+        ConfigFileWatcher watcher = ConfigFileWatcher.builder()
+                .file(write("app.properties", "server.port=9000"))
+                .build();
+
+        assertThatThrownBy(watcher::checkNow)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not started");
+    }
+
+    @Test
+    public void checkNow_FilesUnchanged_DoesNotReload() throws IOException {
+        try (ConfigFileWatcher watcher = ConfigFileWatcher.builder()
+                .file(write("app.properties", "server.port=9000"))
+                .build()) {
+            ReloadableConfig config = new ReloadableConfig(registry, watcher.load());
+            watcher.start(config);
+
+            assertThat(watcher.checkNow()).isEmpty();
+            assertThat(config.getVersion()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void checkNow_ValidChange_PublishesNewVersion() throws IOException {
+        try (ConfigFileWatcher watcher = ConfigFileWatcher.builder()
+                .file(write("app.properties", "server.port=9000"))
+                .build()) {
+            ReloadableConfig config = new ReloadableConfig(registry, watcher.load());
+            watcher.start(config);
+
+            write("app.properties", "server.port=10000");
+            Optional<ReloadableConfig.ReloadResult> result = watcher.checkNow();
+
+            assertThat(result).isPresent();
+            assertThat(result.get().isApplied()).isTrue();
+            assertThat(config.getVersion()).isEqualTo(2);
+            assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(10000);
+        }
+    }
+
+    @Test
+    public void checkNow_SameSizeAndModificationTime_PublishesNewVersion() throws IOException {
+        Path file = write("app.properties", "server.port=9000");
+        FileTime modified = Files.getLastModifiedTime(file);
+        try (ConfigFileWatcher watcher = ConfigFileWatcher.builder().file(file).build()) {
+            ReloadableConfig config = new ReloadableConfig(registry, watcher.load());
+            watcher.start(config);
+
+            write("app.properties", "server.port=9001");
+            Files.setLastModifiedTime(file, modified);
+            Optional<ReloadableConfig.ReloadResult> result = watcher.checkNow();
+
+            assertThat(result).isPresent();
+            assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(9001);
+        }
+    }
+
+    @Test
+    public void checkNow_InvalidChange_KeepsCurrentConfig() throws IOException {
+        try (ConfigFileWatcher watcher = ConfigFileWatcher.builder()
+                .file(write("app.properties", "server.port=9000"))
+                .build()) {
+            ReloadableConfig config = new ReloadableConfig(registry, watcher.load());
+            watcher.start(config);
+
+            write("app.properties", "server.port=99999");
+            Optional<ReloadableConfig.ReloadResult> result = watcher.checkNow();
+
+            assertThat(result).isPresent();
+            assertThat(result.get().isApplied()).isFalse();
+            assertThat(config.getVersion()).isEqualTo(1);
+            assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(9000);
+        }
+    }
+
+    @Test
+    public void checkNow_SymlinkSwapped_ReloadsTarget() throws IOException {
+        Files.createDirectory(directory.resolve("v1"));
+        Files.createDirectory(directory.resolve("v2"));
+        write("v1/app.properties", "server.port=9000");
+        write("v2/app.properties", "server.port=9001");
+        Files.createSymbolicLink(directory.resolve("data"), directory.resolve("v1"));
+        Files.createSymbolicLink(directory.resolve("app.properties"), directory.resolve("data/app.properties"));
+
+        try (ConfigFileWatcher watcher = ConfigFileWatcher.builder()
+                .file(directory.resolve("app.properties"))
+                .build()) {
+            ReloadableConfig config = new ReloadableConfig(registry, watcher.load());
+            watcher.start(config);
+
+            // Swap the way ConfigMap mounts do: create a new link and rename it over the old one
+            Files.createSymbolicLink(directory.resolve("data_tmp"), directory.resolve("v2"));
+            Files.move(directory.resolve("data_tmp"), directory.resolve("data"), StandardCopyOption.ATOMIC_MOVE);
+            watcher.checkNow();
+
+            assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(9001);
+        }
+    }
+
+    @Test
+    public void start_ListenerThrows_KeepsWatching() throws Exception {
+        AtomicInteger reloads = new AtomicInteger();
+
+        try (ConfigFileWatcher watcher = ConfigFileWatcher.builder()
+                .file(write("app.properties", "server.port=9000"))
+                .debounce(Duration.ofMillis(50))
+                .onReload(result -> {
+                    reloads.incrementAndGet();
+                    throw new IllegalStateException("listener failed");
+                })
+                .build()) {
+            ReloadableConfig config = new ReloadableConfig(registry, watcher.load());
+            watcher.start(config);
+
+            write("app.properties", "server.port=9001");
+            awaitVersion(config, 2);
+            write("app.properties", "server.port=10002");
+            awaitVersion(config, 3);
+
+            assertThat(reloads.get()).isEqualTo(2);
+            assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(10002);
+        }
+    }
+
+    @Test
+    public void checkNow_ListenerThrows_ReturnsReloadResult() throws IOException {
+        try (ConfigFileWatcher watcher = ConfigFileWatcher.builder()
+                .file(write("app.properties", "server.port=9000"))
+                .onReload(result -> {
+                    throw new IllegalStateException("listener failed");
+                })
+                .build()) {
+            ReloadableConfig config = new ReloadableConfig(registry, watcher.load());
+            watcher.start(config);
+
+            write("app.properties", "server.port=10000");
+            Optional<ReloadableConfig.ReloadResult> result = watcher.checkNow();
+
+            assertThat(result).isPresent();
+            assertThat(result.get().isApplied()).isTrue();
+            assertThat(config.getVersion()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void start_BurstOfWrites_ReloadsOnceAfterDebounce() throws Exception {
+        Path app = write("app.properties", "server.port=9000");
+        Path overrides = write("overrides.properties", "server.host=a");
+        AtomicInteger reloads = new AtomicInteger();
+
+        try (ConfigFileWatcher watcher = ConfigFileWatcher.builder()
+                .file(app)
+                .file(overrides)
+                .debounce(Duration.ofMillis(300))
+                .onReload(result -> reloads.incrementAndGet())
+                .build()) {
+            ReloadableConfig config = new ReloadableConfig(registry, watcher.load());
+            watcher.start(config);
+
+            write("app.properties", "server.port=9001");
+            write("overrides.properties", "server.host=bb");
+            write("app.properties", "server.port=10002");
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+            while (config.getVersion() == 1 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            Thread.sleep(600);
+
+            assertThat(reloads.get()).isEqualTo(1);
+            assertThat(config.getVersion()).isEqualTo(2);
+            assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(10002);
+            assertThat(config.current().getProperties()).containsEntry("server.host", "bb");
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.cleanconfig.core.reload;
+
+import com.cleanconfig.core.PropertyChange;
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import com.cleanconfig.core.validation.Rules;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ReloadableConfig}.
+ */
+public class ReloadableConfigTest {
+
+    private PropertyDefinition<Integer> portProperty;
+    private PropertyDefinition<Integer> adminPortProperty;
+    private PropertyDefinition<Integer> poolMaxProperty;
+    private PropertyRegistry registry;
+
+    @Before
+    public void setUp() {
+        portProperty = PropertyDefinition.builder(Integer.class)
+                .name("server.port")
+                .defaultValue(8080)
+                .validationRule(Rules.port())
+                .build();
+        adminPortProperty = PropertyDefinition.builder(Integer.class)
+                .name("admin.port")
+                .defaultValue(9090)
+                .validationRule(Rules.port())
+                .build();
+        poolMaxProperty = PropertyDefinition.builder(Integer.class)
+                .name("db.pool.max")
+                .defaultValue(10)
+                .build();
+        registry = PropertyRegistry.builder()
+                .register(portProperty)
+                .register(adminPortProperty)
+                .register(poolMaxProperty)
+                .register(PropertyDefinition.builder(String.class).name("db.url").build())
+                .build();
+    }
+
+    private static Map<String, String> ports(int port, int adminPort) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.port", String.valueOf(port));
+        properties.put("admin.port", String.valueOf(adminPort));
+        return properties;
+    }
+
+    @Test
+    public void constructor_ValidProperties_PublishesVersionOne() {
+        ReloadableConfig config = new ReloadableConfig(registry, Collections.emptyMap());
+
+        assertThat(config.getVersion()).isEqualTo(1);
+        assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(8080);
+    }
+
+    @Test
+    public void constructor_InvalidProperties_ThrowsException() {
+        assertThatThrownBy(() -> new ReloadableConfig(registry, ports(99999, 9090)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Initial configuration is invalid");
+    }
+
+    @Test
+    public void reload_ValidCandidate_SwapsSnapshotAndIncrementsVersion() {
+        ReloadableConfig config = new ReloadableConfig(registry, Collections.emptyMap());
+
+        ReloadableConfig.ReloadResult result = config.reload(ports(8000, 8001));
+
+        assertThat(result.isApplied()).isTrue();
+        assertThat(result.getConfig().getVersion()).isEqualTo(2);
+        assertThat(config.current()).isSameAs(result.getConfig());
+        assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(8000);
+        assertThat(config.getSnapshot().getInt(adminPortProperty)).isEqualTo(8001);
+    }
+
+    @Test
+    public void reload_InvalidCandidate_KeepsCurrentConfig() {
+        ReloadableConfig config = new ReloadableConfig(registry, Collections.emptyMap());
+        VersionedConfig before = config.current();
+
+        ReloadableConfig.ReloadResult result = config.reload(ports(8000, 99999));
+
+        assertThat(result.isApplied()).isFalse();
+        assertThat(result.getValidationResult().getErrorCount()).isEqualTo(1);
+        assertThat(result.getConfig()).isSameAs(before);
+        assertThat(config.current()).isSameAs(before);
+        assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(8080);
+    }
+
+    @Test
+    public void reload_NullCandidate_ThrowsException() {
+        ReloadableConfig config = new ReloadableConfig(registry, Collections.emptyMap());
+
+        assertThatThrownBy(() -> config.reload(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Candidate properties cannot be null");
+    }
+
+    @Test
+    public void reloadAsync_ValidCandidate_AppliesOnExecutor() throws Exception {
+        ReloadableConfig config = new ReloadableConfig(registry, Collections.emptyMap());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ReloadableConfig.ReloadResult result = config.reloadAsync(ports(7000, 7001), executor)
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(result.isApplied()).isTrue();
+            assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(7000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void current_ConcurrentReloads_ReadersNeverSeeMixedConfig() throws Exception {
+        ReloadableConfig config = new ReloadableConfig(registry, ports(1000, 1001));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(executor.submit(() -> {
+                    long lastVersion = 0;
+                    for (int i = 0; i < 10_000; i++) {
+                        VersionedConfig current = config.current();
+                        assertThat(current.getSnapshot().getInt(adminPortProperty))
+                                .isEqualTo(current.getSnapshot().getInt(portProperty) + 1);
+                        assertThat(current.getVersion()).isGreaterThanOrEqualTo(lastVersion);
+                        lastVersion = current.getVersion();
+                    }
+                    return null;
+                }));
+            }
+            for (int port = 1002; port < 1200; port += 2) {
+                config.reload(ports(port, port + 1));
+            }
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+
+            assertThat(config.getVersion()).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void addListener_PropertyChanged_ReceivesTypedOldAndNewValues() {
+        ReloadableConfig config = new ReloadableConfig(registry, ports(8000, 8001));
+        List<PropertyChange<Integer>> changes = new ArrayList<>();
+        config.addListener(portProperty, changes::add);
+
+        config.reload(ports(9000, 8001));
+
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).getOldValue()).hasValue(8000);
+        assertThat(changes.get(0).getNewValue()).hasValue(9000);
+        assertThat(changes.get(0).isModified()).isTrue();
+    }
+
+    @Test
+    public void addListener_OtherPropertyChanged_IsNotNotified() {
+        ReloadableConfig config = new ReloadableConfig(registry, ports(8000, 8001));
+        List<PropertyChange<Integer>> changes = new ArrayList<>();
+        config.addListener(portProperty, changes::add);
+
+        config.reload(ports(8000, 9001));
+
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    public void addListener_Removed_IsNotNotified() {
+        ReloadableConfig config = new ReloadableConfig(registry, ports(8000, 8001));
+        List<PropertyChange<Integer>> changes = new ArrayList<>();
+        ListenerRegistration registration = config.addListener(portProperty, changes::add);
+
+        registration.remove();
+        config.reload(ports(9000, 8001));
+
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    public void addListener_UnregisteredProperty_ThrowsException() {
+        ReloadableConfig config = new ReloadableConfig(registry, Collections.emptyMap());
+        PropertyDefinition<String> unknown = PropertyDefinition.builder(String.class).name("unknown").build();
+        List<PropertyChange<String>> changes = new ArrayList<>();
+
+        assertThatThrownBy(() -> config.addListener(unknown, changes::add))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void addPrefixListener_ChangesUnderPrefix_ReceivesOnlyMatchingKeys() {
+        ReloadableConfig config = new ReloadableConfig(registry, Collections.emptyMap());
+        List<ConfigChangeEvent> events = new ArrayList<>();
+        config.addPrefixListener("db.pool", events::add);
+        Map<String, String> candidate = ports(9000, 9001);
+        candidate.put("db.pool.max", "20");
+        candidate.put("db.url", "jdbc:h2:mem:test");
+
+        config.reload(candidate);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getChangedKeys()).containsExactly("db.pool.max");
+        assertThat(events.get(0).getChange(poolMaxProperty).flatMap(PropertyChange::getNewValue)).hasValue(20);
+        assertThat(events.get(0).getChange(portProperty)).isEmpty();
+    }
+
+    @Test
+    public void addPrefixListener_EmptyPrefix_ReceivesEveryChange() {
+        ReloadableConfig config = new ReloadableConfig(registry, Collections.emptyMap());
+        List<ConfigChangeEvent> events = new ArrayList<>();
+        config.addPrefixListener("", events::add);
+        Map<String, String> candidate = new HashMap<>();
+        candidate.put("server.port", "9000");
+        candidate.put("db.url", "jdbc:h2:mem:test");
+
+        config.reload(candidate);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getChangedKeys()).containsExactlyInAnyOrder("server.port", "db.url");
+    }
+
+    @Test
+    public void addListener_WithExecutorFallingBehind_CoalescesChanges() {
+        ReloadableConfig config = new ReloadableConfig(registry, ports(8000, 8001));
+        List<Runnable> queued = new ArrayList<>();
+        List<PropertyChange<Integer>> changes = new ArrayList<>();
+        config.addListener(portProperty, changes::add, queued::add);
+
+        config.reload(ports(8100, 8001));
+        config.reload(ports(8200, 8001));
+        config.reload(ports(8300, 8001));
+        assertThat(queued).hasSize(1);
+        queued.get(0).run();
+
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).getOldValue()).hasValue(8000);
+        assertThat(changes.get(0).getNewValue()).hasValue(8300);
+    }
+
+    @Test
+    public void addListener_CoalescedBackToOldValue_IsNotNotified() {
+        ReloadableConfig config = new ReloadableConfig(registry, ports(8000, 8001));
+        List<Runnable> queued = new ArrayList<>();
+        AtomicReference<PropertyChange<Integer>> change = new AtomicReference<>();
+        config.addListener(portProperty, change::set, queued::add);
+
+        config.reload(ports(8100, 8001));
+        config.reload(ports(8000, 8001));
+        queued.get(0).run();
+
+        assertThat(change.get()).isNull();
+    }
+
+    @Test
+    public void addListener_ListenerThrows_ReloadStillApplied() {
+        ReloadableConfig config = new ReloadableConfig(registry, ports(8000, 8001));
+        config.addListener(portProperty, change -> {
+            throw new IllegalStateException("listener failure");
+        });
+
+        ReloadableConfig.ReloadResult result = config.reload(ports(9000, 8001));
+
+        assertThat(result.isApplied()).isTrue();
+        assertThat(config.getSnapshot().getInt(portProperty)).isEqualTo(9000);
+    }
+}
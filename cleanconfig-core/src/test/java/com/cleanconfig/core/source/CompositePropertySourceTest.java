@@ -0,0 +1,163 @@
+package com.cleanconfig.core.source;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyMap;
+import com.cleanconfig.core.PropertyRegistry;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link CompositePropertySource}.
+ */
+public class CompositePropertySourceTest {
+
+    private static PropertySource source(String name, String... keyValues) {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put(keyValues[i], keyValues[i + 1]);
+        }
+        return PropertySource.fromMap(name, properties);
+    }
+
+    /**
+     * Records the lookups made and listings taken of a source.
+     */
+    private static final class RecordingSource implements PropertySource {
+        private final PropertySource delegate;
+        private final List<String> lookups = new ArrayList<>();
+        private int listings;
+
+        RecordingSource(PropertySource delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Optional<String> getProperty(String name) {
+            lookups.add(name);
+            return delegate.getProperty(name);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            listings++;
+            return delegate.getPropertyNames();
+        }
+    }
+
+    @Test
+    public void getProperty_HigherLayerHasValue_WinsOverLowerLayers() {
+        PropertySource source = CompositePropertySource.of(
+                source("overrides", "server.port", "9090"),
+                source("defaults", "server.port", "8080", "server.host", "localhost"));
+
+        assertThat(source.getProperty("server.port")).hasValue("9090");
+        assertThat(source.getProperty("server.host")).hasValue("localhost");
+        assertThat(source.getProperty("missing")).isEmpty();
+    }
+
+    @Test
+    public void getProperty_FoundInFirstLayer_DoesNotReadLowerLayers() {
+        RecordingSource lower = new RecordingSource(source("defaults", "server.port", "8080"));
+        PropertySource source = CompositePropertySource.of(source("overrides", "server.port", "9090"), lower);
+
+        source.getProperty("server.port");
+
+        assertThat(lower.lookups).isEmpty();
+    }
+
+    @Test
+    public void resolve_Registry_LooksUpOnlyRegisteredNamesWithoutListing() {
+        RecordingSource environment = new RecordingSource(
+                source("environment", "PATH", "/usr/bin", "HOME", "/root", "server.port", "9090"));
+        PropertySource source = CompositePropertySource.of(environment, source("defaults", "server.host", "localhost"));
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Integer.class).name("server.port").build())
+                .register(PropertyDefinition.builder(String.class).name("server.host").build())
+                .build();
+
+        PropertyMap properties = source.resolve(registry);
+
+        assertThat(properties).containsOnlyKeys("server.port", "server.host");
+        assertThat(properties.get("server.port")).isEqualTo("9090");
+        assertThat(environment.lookups).containsExactlyInAnyOrder("server.port", "server.host");
+        assertThat(environment.listings).isZero();
+    }
+
+    @Test
+    public void asMap_Lookup_DoesNotListSources() {
+        RecordingSource layer = new RecordingSource(source("file", "server.port", "8080"));
+        Map<String, String> view = CompositePropertySource.of(layer).asMap();
+
+        assertThat(view.get("server.port")).isEqualTo("8080");
+        assertThat(view.containsKey("missing")).isFalse();
+        assertThat(layer.listings).isZero();
+    }
+
+    @Test
+    public void asMap_Iterated_ListsUnionWithWinningValues() {
+        Map<String, String> view = CompositePropertySource.of(
+                source("overrides", "server.port", "9090"),
+                source("defaults", "server.port", "8080", "unknown.key", "x")).asMap();
+
+        assertThat(view).hasSize(2);
+        assertThat(view).containsEntry("server.port", "9090").containsEntry("unknown.key", "x");
+    }
+
+    @Test
+    public void asMap_PropertyAddedAfterIteration_IsListedByLaterIteration() {
+        Map<String, String> defaults = new HashMap<>();
+        defaults.put("server.port", "8080");
+        Map<String, String> view = CompositePropertySource.of(PropertySource.fromMap("defaults", defaults)).asMap();
+        assertThat(view).hasSize(1);
+
+        defaults.put("server.host", "localhost");
+
+        assertThat(view.get("server.host")).isEqualTo("localhost");
+        assertThat(view).hasSize(2);
+        assertThat(view.keySet()).containsExactlyInAnyOrder("server.port", "server.host");
+    }
+
+    @Test
+    public void getOrigin_PropertyInLowerLayer_ReturnsThatLayer() {
+        PropertySource defaults = source("defaults", "server.host", "localhost");
+        CompositePropertySource source = CompositePropertySource.of(source("overrides", "server.port", "9090"), defaults);
+
+        assertThat(source.getOrigin("server.host")).hasValue(defaults);
+        assertThat(source.getOrigin("missing")).isEmpty();
+    }
+
+    @Test
+    public void systemProperties_PropertySet_IsReadLive() {
+        String key = "cleanconfig.test." + System.nanoTime();
+        PropertySource source = PropertySource.systemProperties();
+        assertThat(source.getProperty(key)).isEmpty();
+
+        System.setProperty(key, "value");
+        try {
+            assertThat(source.getProperty(key)).hasValue("value");
+        } finally {
+            System.clearProperty(key);
+        }
+    }
+
+    @Test
+    public void of_NullSource_ThrowsException() {
+        assertThatThrownBy(() -> CompositePropertySource.of(source("a"), null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Source cannot be null");
+    }
+}
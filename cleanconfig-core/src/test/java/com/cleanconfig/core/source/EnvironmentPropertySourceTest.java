@@ -0,0 +1,104 @@
+package com.cleanconfig.core.source;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link EnvironmentPropertySource}.
+ */
+public class EnvironmentPropertySourceTest {
+
+    private PropertyRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Integer.class).name("db.pool.max").build())
+                .register(PropertyDefinition.builder(String.class).name("server.host-name").build())
+                .register(PropertyDefinition.builder(Integer.class).name("server.port").build())
+                .build();
+    }
+
+    @Test
+    public void canonicalName_DotsAndDashes_BecomeUnderscores() {
+        assertThat(EnvironmentPropertySource.canonicalName("server.host-name")).isEqualTo("SERVER_HOST_NAME");
+        assertThat(EnvironmentPropertySource.canonicalName("db.pool.max")).isEqualTo("DB_POOL_MAX");
+    }
+
+    @Test
+    public void getProperty_CanonicalVariable_BindsToProperty() {
+        Map<String, String> environment = new HashMap<>();
+        environment.put("DB_POOL_MAX", "20");
+        environment.put("SERVER_HOST_NAME", "example.com");
+
+        EnvironmentPropertySource source = EnvironmentPropertySource.of(registry, environment);
+
+        assertThat(source.getProperty("db.pool.max")).hasValue("20");
+        assertThat(source.getProperty("server.host-name")).hasValue("example.com");
+        assertThat(source.getVariableName("db.pool.max")).hasValue("DB_POOL_MAX");
+    }
+
+    @Test
+    public void getPropertyNames_UnmatchedVariables_AreSkipped() {
+        Map<String, String> environment = new HashMap<>();
+        environment.put("PATH", "/usr/bin");
+        environment.put("HOME", "/root");
+        environment.put("db_pool_max", "20");
+
+        EnvironmentPropertySource source = EnvironmentPropertySource.of(registry, environment);
+
+        assertThat(source.getPropertyNames()).containsExactly("db.pool.max");
+        assertThat(source.getProperty("PATH")).isEmpty();
+    }
+
+    @Test
+    public void getProperty_SeveralSpellings_PrefersExactThenCanonicalName() {
+        Map<String, String> environment = new HashMap<>();
+        environment.put("db_pool_max", "10");
+        environment.put("DB_POOL_MAX", "20");
+        environment.put("server_port", "8080");
+        environment.put("server.port", "9090");
+
+        EnvironmentPropertySource source = EnvironmentPropertySource.of(registry, environment);
+
+        assertThat(source.getProperty("db.pool.max")).hasValue("20");
+        assertThat(source.getProperty("server.port")).hasValue("9090");
+        assertThat(source.getVariableName("server.port")).hasValue("server.port");
+    }
+
+    @Test
+    public void getProperty_RelaxedSpellingsInAnyOrder_PrefersSmallestName() {
+        Map<String, String> lowerFirst = new LinkedHashMap<>();
+        lowerFirst.put("db_pool_max", "10");
+        lowerFirst.put("Db_Pool_Max", "20");
+        Map<String, String> mixedFirst = new LinkedHashMap<>();
+        mixedFirst.put("Db_Pool_Max", "20");
+        mixedFirst.put("db_pool_max", "10");
+
+        EnvironmentPropertySource first = EnvironmentPropertySource.of(registry, lowerFirst);
+        EnvironmentPropertySource second = EnvironmentPropertySource.of(registry, mixedFirst);
+
+        assertThat(first.getVariableName("db.pool.max")).hasValue("Db_Pool_Max");
+        assertThat(first.getProperty("db.pool.max")).hasValue("20");
+        assertThat(second.getVariableName("db.pool.max")).hasValue("Db_Pool_Max");
+        assertThat(second.getProperty("db.pool.max")).hasValue("20");
+    }
+
+    @Test
+    public void resolve_Registry_ReadsBoundProperties() {
+        Map<String, String> environment = new HashMap<>();
+        environment.put("SERVER_PORT", "8443");
+
+        assertThat(EnvironmentPropertySource.of(registry, environment).resolve(registry))
+                .containsOnlyKeys("server.port")
+                .containsEntry("server.port", "8443");
+    }
+}
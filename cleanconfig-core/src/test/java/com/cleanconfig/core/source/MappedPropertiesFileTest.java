@@ -0,0 +1,139 @@
+package com.cleanconfig.core.source;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyMap;
+import com.cleanconfig.core.PropertyRegistry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link MappedPropertiesFile}.
+ */
+public class MappedPropertiesFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MappedPropertiesFile open(String content) throws IOException {
+        Path file = folder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return MappedPropertiesFile.open(file);
+    }
+
+    @Test
+    public void getProperty_Separators_ParsedLikeProperties() throws IOException {
+        MappedPropertiesFile file = open("a=1\nb: 2\nc 3\n  d  =  4  \ne\n");
+
+        assertThat(file.getProperty("a")).hasValue("1");
+        assertThat(file.getProperty("b")).hasValue("2");
+        assertThat(file.getProperty("c")).hasValue("3");
+        assertThat(file.getProperty("d")).hasValue("4  ");
+        assertThat(file.getProperty("e")).hasValue("");
+        assertThat(file.getProperty("missing")).isEmpty();
+        assertThat(file.size()).isEqualTo(5);
+    }
+
+    @Test
+    public void getProperty_CommentsAndBlankLines_AreSkipped() throws IOException {
+        MappedPropertiesFile file = open("# comment\n! also = comment\n\n   \nkey=value\r\n");
+
+        assertThat(file.getPropertyNames()).containsExactly("key");
+    }
+
+    @Test
+    public void getProperty_LineContinuation_JoinsLinesWithoutLeadingWhitespace() throws IOException {
+        MappedPropertiesFile file = open("servers = alpha,\\\n          beta,\\\r\n    gamma\n");
+
+        assertThat(file.getProperty("servers")).hasValue("alpha,beta,gamma");
+    }
+
+    @Test
+    public void getProperty_Escapes_AreDecoded() throws IOException {
+        MappedPropertiesFile file = open("key\\ with\\=separators = tab\\there\\u00e9\\\\\nunicode=caf\u00e9 \uD83D\uDE00\n");
+
+        assertThat(file.getProperty("key with=separators")).hasValue("tab\there\u00e9\\");
+        assertThat(file.getProperty("unicode")).hasValue("caf\u00e9 \uD83D\uDE00");
+    }
+
+    @Test
+    public void getProperty_RepeatedKey_LastValueWins() throws IOException {
+        MappedPropertiesFile file = open("a=1\nb=2\na=3\n");
+
+        assertThat(file.getProperty("a")).hasValue("3");
+        assertThat(file.getPropertyNames()).containsExactly("a", "b");
+    }
+
+    @Test
+    public void getPropertyNames_MatchesPropertiesLoad() throws IOException {
+        String content = "# header\nserver.port=8080\nserver.host : localhost\n"
+                + "path=C:\\\\temp\\\\\nmulti=one \\\n two\nempty=\n\\u0041key=v\n";
+        Properties expected = new Properties();
+        expected.load(new StringReader(content));
+
+        MappedPropertiesFile file = open(content);
+
+        assertThat(file.getPropertyNames()).containsExactlyInAnyOrderElementsOf(expected.stringPropertyNames());
+        for (String name : expected.stringPropertyNames()) {
+            assertThat(file.getProperty(name)).hasValue(expected.getProperty(name));
+        }
+    }
+
+    @Test
+    public void getPropertyNames_MalformedUtf8_MatchesPropertiesLoad() throws IOException {
+        // Truncated sequences before ASCII, an overlong form, a surrogate and a truncated file end
+        byte[] content = {
+            'k', (byte) 0xE2, (byte) 0x82, '=', (byte) 0xF0, (byte) 0x9F, (byte) 0x98, 'a', '\n',
+            (byte) 0xE0, (byte) 0x80, (byte) 0xC1, '=', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '\n',
+            'e', 'n', 'd', '=', (byte) 0xF0, (byte) 0x9F
+        };
+        Properties expected = new Properties();
+        expected.load(new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8));
+        Path path = folder.newFile().toPath();
+        Files.write(path, content);
+
+        MappedPropertiesFile file = MappedPropertiesFile.open(path);
+
+        assertThat(file.getPropertyNames()).containsExactlyInAnyOrderElementsOf(expected.stringPropertyNames());
+        for (String name : expected.stringPropertyNames()) {
+            assertThat(file.getProperty(name)).hasValue(expected.getProperty(name));
+        }
+    }
+
+    @Test
+    public void resolve_Registry_ReadsOnlyRegisteredProperties() throws IOException {
+        MappedPropertiesFile file = open("server.port=8080\nunrelated.key=value\n");
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Integer.class).name("server.port").build())
+                .build();
+
+        PropertyMap properties = file.resolve(registry);
+
+        assertThat(properties).containsOnlyKeys("server.port");
+        assertThat(properties.get("server.port")).isEqualTo("8080");
+    }
+
+    @Test
+    public void open_EmptyFile_HasNoProperties() throws IOException {
+        assertThat(open("").size()).isZero();
+    }
+
+    @Test
+    public void open_MalformedUnicodeEscape_ThrowsException() {
+        assertThatThrownBy(() -> open("key=\\u00zz\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Malformed \\uxxxx encoding");
+    }
+}
@@ -0,0 +1,96 @@
+package com.cleanconfig.core.validation;
+
+import com.cleanconfig.core.PropertyContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link IntValidationRule}.
+ */
+public class IntValidationRuleTest {
+
+    private static final IntValidationRule POSITIVE = (name, value, ctx) -> value > 0
+            ? ValidationResult.success()
+            : ValidationResult.failure(ValidationError.builder()
+                    .propertyName(name)
+                    .errorMessage("Must be positive")
+                    .build());
+
+    private static final IntValidationRule EVEN = (name, value, ctx) -> value % 2 == 0
+            ? ValidationResult.success()
+            : ValidationResult.failure(ValidationError.builder()
+                    .propertyName(name)
+                    .errorMessage("Must be even")
+                    .build());
+
+    private PropertyContext context;
+
+    @Before
+    public void setUp() {
+        context = Mockito.mock(PropertyContext.class);
+    }
+
+    @Test
+    public void validate_BoxedValue_DelegatesToValidateInt() {
+        assertThat(POSITIVE.validate("test", 5, context).isValid()).isTrue();
+        assertThat(POSITIVE.validate("test", -5, context).isValid()).isFalse();
+    }
+
+    @Test
+    public void validate_NullValue_ReturnsSuccess() {
+        assertThat(POSITIVE.validate("test", null, context).isValid()).isTrue();
+    }
+
+    @Test
+    public void and_WithIntRule_ReturnsIntRule() {
+        ValidationRule<Integer> combined = POSITIVE.and(EVEN);
+
+        assertThat(combined).isInstanceOf(IntValidationRule.class);
+        IntValidationRule intRule = (IntValidationRule) combined;
+        assertThat(intRule.validateInt("test", 4, context).isValid()).isTrue();
+        assertThat(intRule.validateInt("test", 3, context).getErrors().get(0).getErrorMessage())
+                .isEqualTo("Must be even");
+        assertThat(intRule.validateInt("test", -4, context).getErrors().get(0).getErrorMessage())
+                .isEqualTo("Must be positive");
+    }
+
+    @Test
+    public void or_WithIntRule_ReturnsIntRule() {
+        ValidationRule<Integer> combined = POSITIVE.or(EVEN);
+
+        assertThat(combined).isInstanceOf(IntValidationRule.class);
+        assertThat(((IntValidationRule) combined).validateInt("test", -4, context).isValid()).isTrue();
+        assertThat(((IntValidationRule) combined).validateInt("test", -3, context).isValid()).isFalse();
+    }
+
+    @Test
+    public void and_WithBoxedRule_ReturnsBoxedRule() {
+        ValidationRule<Integer> boxed = (name, value, ctx) -> ValidationResult.success();
+
+        ValidationRule<Integer> combined = POSITIVE.and(boxed);
+
+        assertThat(combined).isNotInstanceOf(IntValidationRule.class);
+        assertThat(combined.validate("test", -1, context).isValid()).isFalse();
+    }
+
+    @Test
+    public void onlyIf_ReturnsIntRuleReadingContext() {
+        IntValidationRule conditional = POSITIVE.onlyIf(ctx -> false);
+
+        assertThat(conditional.validateInt("test", -1, context).isValid()).isTrue();
+        assertThat(conditional.characteristics().readsContext()).isTrue();
+    }
+
+    @Test
+    public void withCharacteristics_KeepsIntRule() {
+        IntValidationRule declared = POSITIVE.withCharacteristics(RuleCharacteristics.CONTEXT_FREE);
+
+        assertThat(declared.isContextFree()).isTrue();
+        assertThat(declared.validateInt("test", -1, context).isValid()).isFalse();
+        assertThat(declared.and(EVEN).isContextFree()).isFalse();
+        assertThat(declared.and(EVEN.withCharacteristics(RuleCharacteristics.CONTEXT_FREE)).isContextFree()).isTrue();
+    }
+}
@@ -147,6 +147,21 @@ public class MultiPropertyValidationRuleTest {
         assertFalse(result.isValid());
     }
 
+    @Test
+    public void composition_shouldCombineCharacteristics() {
+        MultiPropertyValidationRule io = MultiPropertyValidationRule.alwaysValid()
+                .withCharacteristics(RuleCharacteristics.BLOCKING_IO);
+
+        RuleCharacteristics combined = MultiPropertyValidationRule.alwaysValid()
+                .or(io)
+                .onlyIf(ctx -> true)
+                .characteristics();
+
+        assertTrue(combined.isBlockingIo());
+        assertTrue(combined.readsContext());
+        assertFalse(combined.isPure());
+    }
+
     private PropertyContext mockContext() {
         return mock(PropertyContext.class);
     }
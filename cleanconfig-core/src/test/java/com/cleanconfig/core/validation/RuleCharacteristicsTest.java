@@ -0,0 +1,79 @@
+package com.cleanconfig.core.validation;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link RuleCharacteristics}.
+ */
+public class RuleCharacteristicsTest {
+
+    @Test
+    public void builder_DefaultsToUnknown() {
+        assertThat(RuleCharacteristics.builder().build()).isEqualTo(RuleCharacteristics.UNKNOWN);
+    }
+
+    @Test
+    public void builder_SetsAllCharacteristics() {
+        RuleCharacteristics characteristics = RuleCharacteristics.builder()
+                .pure(true)
+                .readsContext(false)
+                .blockingIo(true)
+                .cost(42)
+                .build();
+
+        assertThat(characteristics.isPure()).isTrue();
+        assertThat(characteristics.readsContext()).isFalse();
+        assertThat(characteristics.isBlockingIo()).isTrue();
+        assertThat(characteristics.getCost()).isEqualTo(42);
+    }
+
+    @Test
+    public void builder_NonPositiveCost_Throws() {
+        assertThatThrownBy(() -> RuleCharacteristics.builder().cost(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cost must be at least 1");
+    }
+
+    @Test
+    public void isContextFree_RequiresPureAndNoContext() {
+        assertThat(RuleCharacteristics.CONTEXT_FREE.isContextFree()).isTrue();
+        assertThat(RuleCharacteristics.READS_CONTEXT.isContextFree()).isFalse();
+        assertThat(RuleCharacteristics.BLOCKING_IO.isContextFree()).isFalse();
+        assertThat(RuleCharacteristics.UNKNOWN.isContextFree()).isFalse();
+    }
+
+    @Test
+    public void combine_IsPureOnlyIfBothArePure() {
+        RuleCharacteristics combined = RuleCharacteristics.CONTEXT_FREE.combine(RuleCharacteristics.READS_CONTEXT);
+
+        assertThat(combined.isPure()).isTrue();
+        assertThat(combined.readsContext()).isTrue();
+        assertThat(combined.isBlockingIo()).isFalse();
+        assertThat(combined.getCost()).isEqualTo(2 * RuleCharacteristics.COST_CHEAP);
+        assertThat(RuleCharacteristics.CONTEXT_FREE.combine(RuleCharacteristics.BLOCKING_IO).isPure()).isFalse();
+    }
+
+    @Test
+    public void combine_SaturatesCost() {
+        RuleCharacteristics huge = RuleCharacteristics.builder().cost(Integer.MAX_VALUE).build();
+
+        assertThat(huge.combine(huge).getCost()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void equalsAndHashCode_CompareAllCharacteristics() {
+        RuleCharacteristics copy = RuleCharacteristics.builder()
+                .pure(true)
+                .readsContext(false)
+                .cost(RuleCharacteristics.COST_CHEAP)
+                .build();
+
+        assertThat(copy).isEqualTo(RuleCharacteristics.CONTEXT_FREE);
+        assertThat(copy.hashCode()).isEqualTo(RuleCharacteristics.CONTEXT_FREE.hashCode());
+        assertThat(copy).isNotEqualTo(RuleCharacteristics.READS_CONTEXT);
+        assertThat(copy.toString()).contains("pure=true", "cost=1");
+    }
+}
@@ -1,5 +1,8 @@
 package com.cleanconfig.core.validation;
 
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyKey;
+import com.cleanconfig.core.PropertyRegistry;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,6 +27,21 @@ public class ValidationErrorTest {
         assertThat(error.getErrorCode()).isNull();
     }
 
+    @Test
+    public void builder_WithPropertyKey_SharesKeyName() {
+        PropertyDefinition<Integer> definition = PropertyDefinition.builder(Integer.class)
+                .name("server.port")
+                .build();
+        PropertyKey key = PropertyRegistry.builder().register(definition).build().getKey("server.port").get();
+
+        ValidationError error = ValidationError.builder()
+                .propertyKey(key)
+                .errorMessage("Invalid port")
+                .build();
+
+        assertThat(error.getPropertyName()).isSameAs(definition.getName());
+    }
+
     @Test
     public void builder_WithAllFields_CreatesError() {
         ValidationError error = ValidationError.builder()
@@ -136,6 +154,25 @@ public class ValidationErrorTest {
         assertThat(error1).isNotEqualTo(error2);
     }
 
+    @Test
+    public void withGroupName_CopiesFieldsAndStaysEqual() {
+        ValidationError error = ValidationError.builder()
+                .propertyName("pool.min")
+                .errorMessage("Must be less than pool.max")
+                .actualValue("20")
+                .errorCode("RANGE")
+                .build();
+
+        ValidationError grouped = error.withGroupName("pool");
+
+        assertThat(grouped.getGroupName()).isEqualTo("pool");
+        assertThat(grouped.getActualValue()).isEqualTo("20");
+        assertThat(grouped.getErrorCode()).isEqualTo("RANGE");
+        assertThat(grouped).isEqualTo(error);
+        assertThat(grouped.withGroupName("pool")).isSameAs(grouped);
+        assertThat(error.getGroupName()).isNull();
+    }
+
     @Test
     public void toString_WithMinimalFields_ContainsBasicInfo() {
         ValidationError error = ValidationError.builder()
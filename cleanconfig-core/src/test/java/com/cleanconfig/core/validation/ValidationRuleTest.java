@@ -169,4 +169,76 @@ public class ValidationRuleTest {
         // Empty value fails both paths
         assertThat(complex.validate("test", "", context).isValid()).isFalse();
     }
+
+    @Test
+    public void isContextFree_DefaultsToFalse() {
+        ValidationRule<String> rule = (name, value, ctx) -> ValidationResult.success();
+
+        assertThat(rule.isContextFree()).isFalse();
+    }
+
+    @Test
+    public void contextFree_DeclaresRuleAndDelegates() {
+        ValidationRule<String> rule = ValidationRule.contextFree((name, value, ctx) ->
+                "ok".equals(value)
+                        ? ValidationResult.success()
+                        : ValidationResult.failure(ValidationError.builder()
+                                .propertyName(name)
+                                .errorMessage("Not ok")
+                                .build()));
+
+        assertThat(rule.isContextFree()).isTrue();
+        assertThat(rule.validate("test", "ok", context).isValid()).isTrue();
+        assertThat(rule.validate("test", "no", context).isValid()).isFalse();
+        assertThat(ValidationRule.contextFree(rule)).isSameAs(rule);
+    }
+
+    @Test
+    public void characteristics_DefaultsToUnknown() {
+        ValidationRule<String> rule = (name, value, ctx) -> ValidationResult.success();
+
+        assertThat(rule.characteristics()).isEqualTo(RuleCharacteristics.UNKNOWN);
+    }
+
+    @Test
+    public void withCharacteristics_DeclaresCharacteristicsAndDelegates() {
+        ValidationRule<String> rule = ValidationRule.<String>alwaysFails("Failed")
+                .withCharacteristics(RuleCharacteristics.BLOCKING_IO);
+
+        assertThat(rule.characteristics()).isEqualTo(RuleCharacteristics.BLOCKING_IO);
+        assertThat(rule.validate("test", "value", context).isValid()).isFalse();
+    }
+
+    @Test
+    public void and_CombinesCharacteristics() {
+        ValidationRule<String> pure = ValidationRule.alwaysValid();
+        ValidationRule<String> io = ValidationRule.<String>alwaysValid()
+                .withCharacteristics(RuleCharacteristics.BLOCKING_IO);
+
+        RuleCharacteristics combined = pure.and(io).characteristics();
+
+        assertThat(pure.and(pure).isContextFree()).isTrue();
+        assertThat(combined.isPure()).isFalse();
+        assertThat(combined.isBlockingIo()).isTrue();
+        assertThat(combined.getCost())
+                .isEqualTo(RuleCharacteristics.COST_CHEAP + RuleCharacteristics.COST_EXPENSIVE);
+    }
+
+    @Test
+    public void or_CombinesCharacteristics() {
+        ValidationRule<String> pure = ValidationRule.alwaysValid();
+        ValidationRule<String> unknown = (name, value, ctx) -> ValidationResult.success();
+
+        assertThat(pure.or(pure).isContextFree()).isTrue();
+        assertThat(pure.or(unknown).isContextFree()).isFalse();
+    }
+
+    @Test
+    public void onlyIf_ReadsContext() {
+        ValidationRule<String> rule = ValidationRule.<String>alwaysValid().onlyIf(ctx -> true);
+
+        assertThat(rule.characteristics().readsContext()).isTrue();
+        assertThat(rule.characteristics().isPure()).isTrue();
+        assertThat(rule.isContextFree()).isFalse();
+    }
 }
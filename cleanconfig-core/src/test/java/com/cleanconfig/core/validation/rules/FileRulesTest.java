@@ -1,6 +1,7 @@
 package com.cleanconfig.core.validation.rules;
 
 import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.validation.RuleCharacteristics;
 import com.cleanconfig.core.validation.ValidationResult;
 import com.cleanconfig.core.validation.ValidationRule;
 import org.junit.Before;
@@ -243,6 +244,15 @@ public class FileRulesTest {
         assertThat(FileRules.isDirectory().validate("v", null, context).isValid()).isTrue();
     }
 
+    // Characteristics tests
+    @Test
+    public void fileSystemRules_DeclareBlockingIo() {
+        assertThat(FileRules.exists().characteristics()).isEqualTo(RuleCharacteristics.BLOCKING_IO);
+        assertThat(FileRules.readable().isContextFree()).isFalse();
+        assertThat(FileRules.fileExists().and(FileRules.readable()).characteristics().isBlockingIo()).isTrue();
+        assertThat(FileRules.hasExtension("txt").isContextFree()).isTrue();
+    }
+
     // Simple test context implementation
     private static class TestPropertyContext implements PropertyContext {
         private final Map<String, String> properties = new HashMap<>();
@@ -1,6 +1,7 @@
 package com.cleanconfig.core.validation.rules;
 
 import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.validation.RuleCharacteristics;
 import com.cleanconfig.core.validation.ValidationResult;
 import com.cleanconfig.core.validation.ValidationRule;
 import org.junit.Before;
@@ -280,6 +281,20 @@ public class GeneralRulesTest {
         assertThat(GeneralRules.custom(x -> x.equals("test"), "msg").validate("v", null, context).isValid()).isTrue();
     }
 
+    // Characteristics tests
+    @Test
+    public void rules_DeclareCharacteristics() {
+        assertThat(GeneralRules.<String>required().isContextFree()).isTrue();
+        assertThat(GeneralRules.oneOf("a", "b").isContextFree()).isTrue();
+
+        RuleCharacteristics custom = GeneralRules.<String>custom(v -> true, "error").characteristics();
+        assertThat(custom.readsContext()).isFalse();
+        assertThat(custom.isPure()).isFalse();
+
+        assertThat(GeneralRules.<String>customWithContext((v, ctx) -> true, "error").characteristics().readsContext())
+                .isTrue();
+    }
+
     // Simple test context implementation
     private static class TestPropertyContext implements PropertyContext {
         private final Map<String, String> properties = new HashMap<>();
@@ -1,6 +1,10 @@
 package com.cleanconfig.core.validation.rules;
 
 import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.validation.DoubleValidationRule;
+import com.cleanconfig.core.validation.IntValidationRule;
+import com.cleanconfig.core.validation.LongValidationRule;
+import com.cleanconfig.core.validation.RuleCharacteristics;
 import com.cleanconfig.core.validation.ValidationResult;
 import com.cleanconfig.core.validation.ValidationRule;
 import org.junit.Before;
@@ -150,6 +154,16 @@ public class NumericRulesTest {
         assertThat(rule.validate("percentage", 1.1, context).isValid()).isFalse();
     }
 
+    @Test
+    public void between_LongsRoundedToBound_ComparesExactly() {
+        // 2^53 + 1 rounds to the bound 2^53 as a double
+        ValidationRule<Long> rule = NumericRules.between(0.0, 9007199254740992.0);
+        assertThat(rule.validate("offset", 9007199254740992L, context).isValid()).isTrue();
+        assertThat(rule.validate("offset", 9007199254740993L, context).isValid()).isFalse();
+        assertThat(NumericRules.<Long>max(0x1p63).validate("offset", Long.MAX_VALUE, context).isValid()).isTrue();
+        assertThat(NumericRules.<Long>lessThan(0x1p63).validate("offset", Long.MAX_VALUE, context).isValid()).isTrue();
+    }
+
     // integerBetween() tests
     @Test
     public void integerBetween_ValidValue_ReturnsSuccess() {
@@ -303,6 +317,42 @@ public class NumericRulesTest {
         assertThat(NumericRules.<Integer>max(10).validate("v", null, context).isValid()).isTrue();
     }
 
+    // doubleBetween() tests
+    @Test
+    public void doubleBetween_ChecksRangeAndRejectsNaN() {
+        DoubleValidationRule rule = NumericRules.doubleBetween(0.0, 1.0);
+
+        assertThat(rule.validateDouble("ratio", 0.5, context).isValid()).isTrue();
+        assertThat(rule.validateDouble("ratio", 1.5, context).isValid()).isFalse();
+        assertThat(rule.validateDouble("ratio", Double.NaN, context).isValid()).isFalse();
+        assertThat(rule.validate("ratio", null, context).isValid()).isTrue();
+    }
+
+    // Primitive specialization tests
+    @Test
+    public void longBetween_ComparesLargeValuesExactly() {
+        LongValidationRule rule = NumericRules.longBetween(9007199254740993L, Long.MAX_VALUE);
+
+        assertThat(rule.validateLong("size", 9007199254740993L, context).isValid()).isTrue();
+        assertThat(rule.validateLong("size", 9007199254740992L, context).isValid()).isFalse();
+    }
+
+    @Test
+    public void intRules_CombineIntoIntRules() {
+        assertThat(NumericRules.port().and(NumericRules.even())).isInstanceOf(IntValidationRule.class);
+        assertThat(NumericRules.even().or(NumericRules.multipleOf(3))).isInstanceOf(IntValidationRule.class);
+        assertThat(NumericRules.port().and(NumericRules.<Integer>positive()))
+                .isNotInstanceOf(IntValidationRule.class);
+    }
+
+    // Characteristics tests
+    @Test
+    public void rules_AreContextFree() {
+        assertThat(NumericRules.<Integer>positive().isContextFree()).isTrue();
+        assertThat(NumericRules.port().characteristics()).isEqualTo(RuleCharacteristics.CONTEXT_FREE);
+        assertThat(NumericRules.<Integer>positive().and(NumericRules.even()).isContextFree()).isTrue();
+    }
+
     // Simple test context implementation
     private static class TestPropertyContext implements PropertyContext {
         private final Map<String, String> properties = new HashMap<>();
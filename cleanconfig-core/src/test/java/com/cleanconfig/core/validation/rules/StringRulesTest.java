@@ -1,6 +1,7 @@
 package com.cleanconfig.core.validation.rules;
 
 import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.validation.RuleCharacteristics;
 import com.cleanconfig.core.validation.ValidationResult;
 import com.cleanconfig.core.validation.ValidationRule;
 import org.junit.Before;
@@ -325,6 +326,18 @@ public class StringRulesTest {
         assertThat(rule.validate("email", "user@example.com", context).isValid()).isFalse(); // Wrong ending
     }
 
+    // Characteristics tests
+    @Test
+    public void rules_AreContextFree() {
+        assertThat(StringRules.notBlank().isContextFree()).isTrue();
+        assertThat(StringRules.lengthBetween(1, 5).characteristics().getCost())
+                .isEqualTo(RuleCharacteristics.COST_CHEAP);
+        assertThat(StringRules.email().isContextFree()).isTrue();
+        assertThat(StringRules.email().characteristics().getCost())
+                .isEqualTo(RuleCharacteristics.COST_MODERATE);
+        assertThat(StringRules.alphanumeric().isContextFree()).isTrue();
+    }
+
     // Simple test context implementation
     private static class TestPropertyContext implements PropertyContext {
         private final Map<String, String> properties = new HashMap<>();
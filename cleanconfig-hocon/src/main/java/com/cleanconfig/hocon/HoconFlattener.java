@@ -1,13 +1,12 @@
 package com.cleanconfig.hocon;
 
+import com.cleanconfig.core.PropertyMap;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigList;
 import com.typesafe.config.ConfigObject;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueType;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -37,6 +36,9 @@ public final class HoconFlattener {
     /**
      * Flattens a resolved {@link Config} into an unmodifiable {@code Map<String, String>}.
      *
+     * <p>The result is a {@link PropertyMap}, which keeps keys in the order they were
+     * flattened and stores large configurations compactly.</p>
+     *
      * @param config the resolved Typesafe Config to flatten (must not be null)
      * @return an unmodifiable map of dot-separated keys to string values
      * @throws NullPointerException if config is null
@@ -44,15 +46,15 @@ public final class HoconFlattener {
     public static Map<String, String> flatten(Config config) {
         Objects.requireNonNull(config, "Config must not be null");
 
-        final Map<String, String> result = new LinkedHashMap<>();
+        final PropertyMap.Builder result = PropertyMap.builder();
         flattenObject(config.root(), "", result);
-        return Collections.unmodifiableMap(result);
+        return result.build();
     }
 
     /**
      * Recursively flattens a {@link ConfigObject} into the result map.
      */
-    private static void flattenObject(ConfigObject obj, String prefix, Map<String, String> result) {
+    private static void flattenObject(ConfigObject obj, String prefix, PropertyMap.Builder result) {
         for (Map.Entry<String, ConfigValue> entry : obj.entrySet()) {
             final String key = prefix.isEmpty() ? entry.getKey() : prefix + "." + entry.getKey();
             flattenValue(entry.getValue(), key, result);
@@ -62,7 +64,7 @@ public final class HoconFlattener {
     /**
      * Flattens a single {@link ConfigValue} into the result map based on its type.
      */
-    private static void flattenValue(ConfigValue value, String key, Map<String, String> result) {
+    private static void flattenValue(ConfigValue value, String key, PropertyMap.Builder result) {
         if (value == null || value.valueType() == ConfigValueType.NULL) {
             return;
         }
@@ -89,7 +91,7 @@ public final class HoconFlattener {
     /**
      * Flattens a {@link ConfigList} by indexing each element numerically.
      */
-    private static void flattenList(ConfigList list, String prefix, Map<String, String> result) {
+    private static void flattenList(ConfigList list, String prefix, PropertyMap.Builder result) {
         for (int i = 0; i < list.size(); i++) {
             final String indexedKey = prefix + "." + i;
             flattenValue(list.get(i), indexedKey, result);
@@ -6,6 +6,8 @@ import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigParseOptions;
 import com.typesafe.config.ConfigResolveOptions;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
 
@@ -24,6 +26,9 @@ import java.util.Objects;
  * // Load a specific resource
  * Map<String, String> props = HoconPropertySource.load("my-config.conf");
  *
+ * // Load a file, resolving includes relative to it
+ * Map<String, String> props = HoconPropertySource.loadFile(Paths.get("/etc/app/app.conf"));
+ *
  * // Parse from a string
  * Map<String, String> props = HoconPropertySource.loadFromString("server.port = 8080");
  * }</pre>
@@ -86,6 +91,32 @@ public final class HoconPropertySource {
         }
     }
 
+    /**
+     * Loads a HOCON file and returns a flattened, unmodifiable map.
+     *
+     * @param file the file to load
+     * @return an unmodifiable map of dot-separated keys to string values
+     * @throws NullPointerException if file is null
+     * @throws HoconLoadException if the file does not exist, or parsing/resolution fails
+     * @since 0.4.0
+     */
+    public static Map<String, String> loadFile(Path file) {
+        Objects.requireNonNull(file, "File must not be null");
+
+        if (!Files.isRegularFile(file)) {
+            throw new HoconLoadException("HOCON file not found: " + file);
+        }
+        try {
+            final Config config = ConfigFactory
+                    .parseFile(file.toFile(), ConfigParseOptions.defaults().setAllowMissing(false))
+                    .resolve(ConfigResolveOptions.defaults());
+            return HoconFlattener.flatten(config);
+        } catch (ConfigException e) {
+            throw new HoconLoadException(
+                    "Failed to load HOCON file '" + file + "': " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Parses HOCON content from a string and returns a flattened, unmodifiable map.
      *
@@ -1,7 +1,12 @@
 package com.cleanconfig.hocon;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -121,4 +126,21 @@ class HoconPropertySourceTest {
         assertNotNull(result.get("timeout"));
         assertFalse(result.get("timeout").isEmpty());
     }
+
+    @Test
+    void loadFile_shouldFlattenAndResolveIncludes(@TempDir Path dir) throws IOException {
+        Files.write(dir.resolve("base.conf"), "server { host = \"filehost\" }".getBytes(StandardCharsets.UTF_8));
+        final Path file = dir.resolve("app.conf");
+        Files.write(file, "include \"base.conf\"\nserver.port = 9000".getBytes(StandardCharsets.UTF_8));
+
+        final Map<String, String> result = HoconPropertySource.loadFile(file);
+
+        assertEquals("filehost", result.get("server.host"));
+        assertEquals("9000", result.get("server.port"));
+    }
+
+    @Test
+    void loadFile_missingFile_shouldThrowHoconLoadException(@TempDir Path dir) {
+        assertThrows(HoconLoadException.class, () -> HoconPropertySource.loadFile(dir.resolve("missing.conf")));
+    }
 }
@@ -1,6 +1,7 @@
 package com.cleanconfig.serialization;
 
 import com.cleanconfig.core.PropertyContext;
+import com.cleanconfig.core.PropertyMap;
 import com.cleanconfig.core.PropertyRegistry;
 import com.cleanconfig.core.converter.TypeConverterRegistry;
 import com.cleanconfig.core.impl.DefaultPropertyContext;
@@ -76,8 +77,8 @@ public class PropertiesSerializer implements PropertySerializer {
         Objects.requireNonNull(writer, "Writer cannot be null");
 
         try {
-            // Add properties to serialize
-            Map<String, String> toSerialize = new HashMap<>(properties);
+            // Properties to serialize; only copied when defaults are added
+            Map<String, String> toSerialize = properties;
 
             // Include default values if requested
             if (options.isIncludeDefaults()) {
@@ -87,15 +88,18 @@ public class PropertiesSerializer implements PropertySerializer {
                         TypeConverterRegistry.getInstance()
                 );
 
+                PropertyMap.Builder withDefaults = PropertyMap.builder(properties.size())
+                        .putAll(properties);
                 registry.getAllProperties().stream()
-                        .filter(def -> !toSerialize.containsKey(def.getName()))
+                        .filter(def -> !properties.containsKey(def.getName()))
                         .forEach(def -> {
                             def.getDefaultValue().ifPresent(conditionalDefault -> {
                                 conditionalDefault.computeDefault(context).ifPresent(value -> {
-                                    toSerialize.put(def.getName(), value.toString());
+                                    withDefaults.put(def.getName(), value.toString());
                                 });
                             });
                         });
+                toSerialize = withDefaults.build();
             }
 
             // Build properties with optional metadata as comments
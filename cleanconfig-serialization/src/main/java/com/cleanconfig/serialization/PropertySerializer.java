@@ -5,6 +5,9 @@ import com.cleanconfig.core.PropertyRegistry;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 
 /**
@@ -76,6 +79,22 @@ public interface PropertySerializer {
      */
     Map<String, String> deserialize(String content) throws SerializationException;
 
+    /**
+     * Deserializes properties from a UTF-8 file.
+     *
+     * <p>The method reference {@code serializer::deserializeFile} can be used as a
+     * {@link com.cleanconfig.core.reload.ConfigFileLoader} to watch files of this format.
+     *
+     * @param file the file to read
+     * @return the deserialized property values
+     * @throws SerializationException if deserialization fails
+     * @throws IOException if the file cannot be read
+     * @since 0.4.0
+     */
+    default Map<String, String> deserializeFile(Path file) throws SerializationException, IOException {
+        return deserialize(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+
     /**
      * Returns the format name for this serializer (e.g., "JSON", "YAML", "Properties").
      *
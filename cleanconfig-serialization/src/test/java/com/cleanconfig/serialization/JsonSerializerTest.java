@@ -4,10 +4,15 @@ import com.cleanconfig.core.PropertyCategory;
 import com.cleanconfig.core.PropertyDefinition;
 import com.cleanconfig.core.PropertyRegistry;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,6 +25,9 @@ import static org.junit.Assert.assertTrue;
  */
 public class JsonSerializerTest {
 
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     private JsonSerializer serializer;
     private PropertyRegistry registry;
     private Map<String, String> properties;
@@ -186,6 +194,16 @@ public class JsonSerializerTest {
         assertEquals("5432", result.get("db.port"));
     }
 
+    @Test
+    public void deserializeFile_shouldReadUtf8Content() throws Exception {
+        File file = tempFolder.newFile("config.json");
+        Files.write(file.toPath(), "{\"app.name\":\"caf\u00e9\"}".getBytes(StandardCharsets.UTF_8));
+
+        Map<String, String> result = serializer.deserializeFile(file.toPath());
+
+        assertEquals("caf\u00e9", result.get("app.name"));
+    }
+
     @Test
     public void deserialize_withPropertiesKey_shouldExtractPropertiesSection() throws Exception {
         String structuredJson = "{\"properties\":{\"db.host\":\"localhost\",\"db.port\":\"5432\"},"
@@ -191,6 +191,15 @@ public class PropertiesSerializerTest {
         assertEquals("5432", result.get("db.port"));
     }
 
+    @Test
+    public void deserialize_shouldReturnMutableMap() throws Exception {
+        Map<String, String> result = serializer.deserialize("db.host=localhost");
+
+        result.put("db.host", "override.internal");
+
+        assertEquals("override.internal", result.get("db.host"));
+    }
+
     @Test
     public void getFormatName_shouldReturnProperties() {
         assertEquals("Properties", serializer.getFormatName());
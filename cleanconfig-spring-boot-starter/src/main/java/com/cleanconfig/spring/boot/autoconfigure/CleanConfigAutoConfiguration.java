@@ -20,7 +20,6 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -133,14 +132,8 @@ public class CleanConfigAutoConfiguration implements ApplicationListener<Context
         PropertyValidator validator = context.getBean(PropertyValidator.class);
         ValidationFormatter formatter = context.getBean(ValidationFormatter.class);
 
-        // Collect all properties
-        Map<String, String> propertyMap = new HashMap<>();
-        for (PropertyDefinition<?> def : registry.getAllProperties()) {
-            String value = environment.getProperty(def.getName());
-            if (value != null) {
-                propertyMap.put(def.getName(), value);
-            }
-        }
+        // Look up only the registered properties
+        Map<String, String> propertyMap = new SpringEnvironmentPropertySource(environment).resolve(registry);
 
         // Validate
         ValidationResult result = validator.validate(propertyMap);
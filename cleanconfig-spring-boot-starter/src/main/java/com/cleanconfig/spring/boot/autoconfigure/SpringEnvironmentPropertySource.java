@@ -0,0 +1,71 @@
+package com.cleanconfig.spring.boot.autoconfigure;
+
+import com.cleanconfig.core.source.PropertySource;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A CleanConfig property source backed by a Spring {@link Environment}.
+ *
+ * <p>Lookups go through {@link Environment#getProperty(String)}, so Spring's own precedence,
+ * placeholder resolution and relaxed binding apply, and only the requested properties are
+ * resolved. Listing names is supported for a {@link ConfigurableEnvironment} and covers its
+ * enumerable property sources.
+ *
+ * @since 0.4.0
+ */
+public final class SpringEnvironmentPropertySource implements PropertySource {
+
+    private final Environment environment;
+
+    /**
+     * Creates a property source over a Spring environment.
+     *
+     * @param environment the environment
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP2",
+            justification = "The environment is a Spring-managed bean read through, not copied"
+    )
+    public SpringEnvironmentPropertySource(Environment environment) {
+        this.environment = Objects.requireNonNull(environment, "Environment cannot be null");
+    }
+
+    @Override
+    public String getName() {
+        return "springEnvironment";
+    }
+
+    @Override
+    public Optional<String> getProperty(String name) {
+        return Optional.ofNullable(environment.getProperty(name));
+    }
+
+    @Override
+    public boolean containsProperty(String name) {
+        return environment.containsProperty(name);
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        if (!(environment instanceof ConfigurableEnvironment)) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (org.springframework.core.env.PropertySource<?> source
+                : ((ConfigurableEnvironment) environment).getPropertySources()) {
+            if (source instanceof EnumerablePropertySource) {
+                Collections.addAll(names, ((EnumerablePropertySource<?>) source).getPropertyNames());
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+}
@@ -0,0 +1,42 @@
+package com.cleanconfig.spring.boot.autoconfigure;
+
+import com.cleanconfig.core.PropertyDefinition;
+import com.cleanconfig.core.PropertyRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SpringEnvironmentPropertySource}.
+ */
+class SpringEnvironmentPropertySourceTest {
+
+    @Test
+    void resolveReadsOnlyRegisteredProperties() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("server.port", "8080")
+                .withProperty("unrelated.key", "value");
+        PropertyRegistry registry = PropertyRegistry.builder()
+                .register(PropertyDefinition.builder(Integer.class).name("server.port").build())
+                .register(PropertyDefinition.builder(String.class).name("server.host").build())
+                .build();
+
+        Map<String, String> properties = new SpringEnvironmentPropertySource(environment).resolve(registry);
+
+        assertThat(properties).containsOnlyKeys("server.port");
+        assertThat(properties.get("server.port")).isEqualTo("8080");
+    }
+
+    @Test
+    void getPropertyNamesListsEnumerableSources() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("server.port", "8080")
+                .withProperty("unrelated.key", "value");
+
+        assertThat(new SpringEnvironmentPropertySource(environment).getPropertyNames())
+                .contains("server.port", "unrelated.key");
+    }
+}